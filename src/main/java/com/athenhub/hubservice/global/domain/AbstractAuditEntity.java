@@ -20,6 +20,9 @@ import org.springframework.data.annotation.LastModifiedBy;
 @Getter
 @MappedSuperclass
 public abstract class AbstractAuditEntity extends AbstractTimeEntity {
+  /** 삭제자 계정이 주어지지 않았을 때 사용하는 기본 계정. */
+  public static final String SYSTEM_USERNAME = "SYSTEM";
+
   /* 등록자 계정 */
   @Column(name = "created_by", nullable = false)
   @CreatedBy
@@ -76,7 +79,19 @@ public abstract class AbstractAuditEntity extends AbstractTimeEntity {
    */
   public void delete(String deleteBy) {
     this.deletedAt = LocalDateTime.now();
-    deleteBy(Objects.isNull(deleteBy) ? "SYSTEM" : deleteBy);
+    deleteBy(resolveDeletedBy(deleteBy));
+  }
+
+  /**
+   * 논리 삭제 시 기록할 삭제자 계정을 결정합니다.
+   *
+   * <p>엔티티를 적재하지 않고 일괄 UPDATE로 논리 삭제하는 경우에도 {@link #delete(String)}와 같은 값을 기록하기 위해 사용합니다.
+   *
+   * @param deleteBy 삭제자 계정
+   * @return 삭제자 계정, 없으면 {@value #SYSTEM_USERNAME}
+   */
+  public static String resolveDeletedBy(String deleteBy) {
+    return Objects.isNull(deleteBy) ? SYSTEM_USERNAME : deleteBy;
   }
 
   @Override
@@ -0,0 +1,98 @@
+package com.athenhub.hubservice.global.infrastructure.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거하는 메모리 캐시.
+ *
+ * <p>접근 순서를 유지하는 {@link LinkedHashMap}을 기반으로 하며, 모든 연산은 인스턴스 단위로 동기화되어 여러 쓰레드에서 안전하게 사용할 수 있다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public final class LruCache<K, V> {
+
+  private final int maxSize;
+  private final LinkedHashMap<K, V> entries;
+  private long evictionCount;
+
+  /**
+   * 지정한 최대 크기의 LRU 캐시를 생성한다.
+   *
+   * @param maxSize 보관할 최대 항목 수
+   * @throws IllegalArgumentException 최대 크기가 1보다 작은 경우
+   */
+  public LruCache(int maxSize) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("캐시 최대 크기는 1 이상이어야 합니다. maxSize: " + maxSize);
+    }
+    this.maxSize = maxSize;
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            if (size() > LruCache.this.maxSize) {
+              evictionCount++;
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  /**
+   * 키에 해당하는 값을 조회한다. 조회된 항목은 가장 최근에 사용된 항목이 된다.
+   *
+   * @param key 조회할 키
+   * @return 캐시된 값. 없으면 {@code Optional.empty()}
+   */
+  public synchronized Optional<V> get(K key) {
+    return Optional.ofNullable(entries.get(key));
+  }
+
+  /**
+   * 값을 저장한다. 최대 크기를 넘으면 가장 오래 사용되지 않은 항목이 제거된다.
+   *
+   * @param key 저장할 키
+   * @param value 저장할 값
+   */
+  public synchronized void put(K key, V value) {
+    entries.put(key, value);
+  }
+
+  /**
+   * 키에 해당하는 항목을 제거한다.
+   *
+   * @param key 제거할 키
+   */
+  public synchronized void remove(K key) {
+    entries.remove(key);
+  }
+
+  /** 모든 항목을 제거한다. */
+  public synchronized void clear() {
+    entries.clear();
+  }
+
+  /**
+   * 현재 보관 중인 항목 수를 반환한다.
+   *
+   * @return 항목 수
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * 최대 크기 초과로 제거된 누적 항목 수를 반환한다.
+   *
+   * @return 누적 제거 수
+   */
+  public synchronized long evictionCount() {
+    return evictionCount;
+  }
+}
@@ -1,8 +1,12 @@
 package com.athenhub.hubservice.global.infrastructure.message;
 
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.AnonymousQueue;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
@@ -44,8 +48,83 @@ public class RabbitConfig {
    * <p>routing key를 통해 어떤 메시지를 수신할지 결정된다.
    */
   @Bean
-  public Binding hubBinding(Queue queue, TopicExchange exchange) {
-    return BindingBuilder.bind(queue).to(exchange).with(rabbitProperties.getRoutingKey());
+  public Binding hubBinding() {
+    return BindingBuilder.bind(hubQueue()).to(hubExchange()).with(rabbitProperties.getRoutingKey());
+  }
+
+  /** 허브 변경 이벤트를 모든 인스턴스에 전달하는 Fanout Exchange. */
+  @Bean
+  public FanoutExchange hubInvalidationExchange() {
+    return new FanoutExchange(rabbitProperties.getInvalidationExchange(), true, false);
+  }
+
+  /**
+   * 허브 Exchange의 변경 이벤트를 Fanout Exchange로 전달하는 Binding.
+   *
+   * <p>캐시된 허브 정보나 검색 색인을 바꾸는 등록, 수정, 삭제, 관리자 변경 이벤트만 전달된다.
+   */
+  @Bean
+  public Declarables hubInvalidationBindings() {
+    return new Declarables(
+        Stream.of("registered", "updated", "deleted", "managerChanged")
+            .map(key -> BindingBuilder.bind(hubInvalidationExchange()).to(hubExchange()).with(key))
+            .toList());
+  }
+
+  /**
+   * 인스턴스마다 생성되는 허브 캐시 무효화 Queue.
+   *
+   * <p>이름이 자동 생성되는 비영속 Queue로, 연결이 끊기면 삭제되므로 종료된 인스턴스의 메시지가 쌓이지 않는다.
+   */
+  @Bean
+  public AnonymousQueue hubInvalidationQueue() {
+    return new AnonymousQueue();
+  }
+
+  /** 인스턴스별 무효화 Queue를 Fanout Exchange에 Binding 한다. */
+  @Bean
+  public Binding hubInvalidationBinding() {
+    return BindingBuilder.bind(hubInvalidationQueue()).to(hubInvalidationExchange());
+  }
+
+  /**
+   * 인스턴스마다 생성되는 허브 경로 변경 Queue.
+   *
+   * <p>모든 인스턴스가 각자의 경로 그래프를 다시 구성해야 하므로 인스턴스별 비영속 Queue로 수신한다.
+   */
+  @Bean
+  public AnonymousQueue hubRouteUpdateQueue() {
+    return new AnonymousQueue();
+  }
+
+  /** 인스턴스별 경로 변경 Queue를 허브 Exchange에 Binding 한다. */
+  @Bean
+  public Binding hubRouteUpdateBinding() {
+    return BindingBuilder.bind(hubRouteUpdateQueue()).to(hubExchange()).with("routeUpdated");
+  }
+
+  /** 회원 서비스가 회원 이벤트를 발행하는 Topic Exchange. */
+  @Bean
+  public TopicExchange memberExchange() {
+    return new TopicExchange(rabbitProperties.getMemberExchange(), true, false);
+  }
+
+  /**
+   * 인스턴스마다 생성되는 회원 상태 변경 이벤트 Queue.
+   *
+   * <p>모든 인스턴스가 각자의 회원 정보 캐시를 무효화해야 하므로 인스턴스별 비영속 Queue로 수신한다.
+   */
+  @Bean
+  public AnonymousQueue memberStatusQueue() {
+    return new AnonymousQueue();
+  }
+
+  /** 회원 상태 변경 이벤트 Queue를 회원 Exchange에 Binding 한다. */
+  @Bean
+  public Binding memberStatusBinding() {
+    return BindingBuilder.bind(memberStatusQueue())
+        .to(memberExchange())
+        .with(rabbitProperties.getMemberStatusRoutingKey());
   }
 
   /** JSON 기반 메시지 직렬화 Converter. */
@@ -14,6 +14,10 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *   <li>{@code exchange} : 허브 관련 이벤트를 발행하는 Exchange 이름
  *   <li>{@code queue} : 허브 이벤트를 수신하는 Queue 이름
  *   <li>{@code routingKey} : Exchange → Queue 바인딩에 사용되는 Routing Key
+ *   <li>{@code invalidationExchange} : 허브 변경 이벤트를 모든 인스턴스에 전달하는 Fanout Exchange 이름
+ *   <li>{@code memberExchange} : 회원 서비스가 회원 이벤트를 발행하는 Exchange 이름
+ *   <li>{@code memberStatusRoutingKey} : 회원 상태 변경 이벤트의 Routing Key
+ *   <li>{@code routeDeltaChunkSize} : 허브 경로 변경 이벤트 메시지 하나에 담을 최대 경로 수
  * </ul>
  *
  * <p>예시:
@@ -24,6 +28,10 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *     exchange: hub.exchange
  *     queue: hub.queue
  *     routing-key: hub.#
+ *     invalidation-exchange: hub.invalidation.exchange
+ *     member-exchange: member.exchange
+ *     member-status-routing-key: member.status.#
+ *     route-delta-chunk-size: 500
  * </pre>
  *
  * @author 김형섭
@@ -40,4 +48,16 @@ public class RabbitProperties {
 
   /** Exchange 와 Queue 를 연결할 Routing Key. */
   private String routingKey;
+
+  /** 허브 캐시 무효화를 위해 변경 이벤트를 모든 인스턴스로 전달할 Fanout Exchange 이름. */
+  private String invalidationExchange;
+
+  /** 회원 서비스가 회원 이벤트를 발행하는 Exchange 이름. */
+  private String memberExchange;
+
+  /** 회원 상태 변경 이벤트를 수신할 Routing Key. */
+  private String memberStatusRoutingKey;
+
+  /** 허브 경로 변경 이벤트 메시지 하나에 담을 최대 경로 수. 이보다 많으면 여러 메시지로 나누어 발행한다. */
+  private int routeDeltaChunkSize = 500;
 }
@@ -0,0 +1,121 @@
+package com.athenhub.hubservice.hub.application.service;
+
+import com.athenhub.hubservice.global.infrastructure.cache.LruCache;
+import com.athenhub.hubservice.hub.domain.dto.HubSummary;
+import com.athenhub.hubservice.hub.domain.vo.HubId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 허브 단건 조회 결과를 보관하는 읽기 전용 메모리 캐시.
+ *
+ * <p>허브 정보는 자주 바뀌지 않으므로 {@link HubId} 단위로 조회한 허브를 {@link LruCache}에 최대 {@code maxSize}개까지 보관한다.
+ * 캐시 항목은 엔티티가 아닌 불변 레코드 {@link HubSummary}이므로 여러 요청이 동시에 같은 항목을 사용해도 안전하다. 수정 대상 허브는 캐시를
+ * 거치지 않고 엔티티로 조회해야 한다.
+ *
+ * <p>허브가 수정, 삭제되거나 관리자가 변경되면 {@link #evict(HubId)}로 항목을 제거한다. 다른 인스턴스의 변경은 RabbitMQ 팬아웃 익스체인지를
+ * 통해 전달된다. 조회 중에 무효화가 일어나면 조회 결과를 저장하지 않아, 무효화 이전에 읽은 값이 캐시에 남지 않도록 한다.
+ *
+ * <p>적중률은 다음 지표로 노출된다.
+ *
+ * <ul>
+ *   <li>{@code hub.cache.requests} — {@code result}(hit, miss) 태그별 조회 수
+ *   <li>{@code hub.cache.hit.ratio} — 누적 조회 대비 적중 비율
+ *   <li>{@code hub.cache.size}, {@code hub.cache.evictions} — 캐시 크기와 최대 크기 초과로 제거된 누적 항목 수
+ *   <li>{@code hub.cache.invalidations} — 허브 변경으로 무효화된 누적 횟수
+ * </ul>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Component
+@EnableConfigurationProperties(HubCacheProperties.class)
+public class HubCache {
+
+  private static final String REQUESTS = "hub.cache.requests";
+
+  private final LruCache<HubId, HubSummary> hubs;
+  private final AtomicLong invalidationCount = new AtomicLong();
+
+  private final Counter hits;
+  private final Counter misses;
+
+  /**
+   * 허브 캐시를 생성한다.
+   *
+   * @param properties 캐시 설정
+   * @param meterRegistry 지표를 등록할 {@link MeterRegistry}
+   */
+  public HubCache(HubCacheProperties properties, MeterRegistry meterRegistry) {
+    this.hubs = new LruCache<>(properties.getMaxSize());
+
+    this.hits = Counter.builder(REQUESTS).tag("result", "hit").register(meterRegistry);
+    this.misses = Counter.builder(REQUESTS).tag("result", "miss").register(meterRegistry);
+
+    Gauge.builder("hub.cache.hit.ratio", this, HubCache::hitRatio)
+        .description("허브 캐시 누적 적중 비율")
+        .register(meterRegistry);
+    Gauge.builder("hub.cache.size", hubs, LruCache::size)
+        .description("허브 캐시 항목 수")
+        .register(meterRegistry);
+    FunctionCounter.builder("hub.cache.evictions", hubs, LruCache::evictionCount)
+        .description("허브 캐시에서 최대 크기 초과로 제거된 누적 항목 수")
+        .register(meterRegistry);
+    FunctionCounter.builder("hub.cache.invalidations", invalidationCount, AtomicLong::get)
+        .description("허브 변경으로 무효화된 누적 횟수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 캐시된 허브를 반환하고, 없으면 조회하여 저장한다.
+   *
+   * @param hubId 허브 식별자
+   * @param loader 캐시 미적중 시 허브를 조회하는 함수
+   * @return 허브
+   */
+  public HubSummary get(HubId hubId, Supplier<HubSummary> loader) {
+    Optional<HubSummary> cached = hubs.get(hubId);
+    if (cached.isPresent()) {
+      hits.increment();
+      return cached.get();
+    }
+    misses.increment();
+
+    long invalidationsBeforeLoad = invalidationCount.get();
+    HubSummary hub = loader.get();
+    synchronized (this) {
+      if (invalidationCount.get() == invalidationsBeforeLoad) {
+        hubs.put(hubId, hub);
+      }
+    }
+    return hub;
+  }
+
+  /**
+   * 허브를 캐시에서 제거한다.
+   *
+   * @param hubId 제거할 허브 식별자
+   */
+  public synchronized void evict(HubId hubId) {
+    invalidationCount.incrementAndGet();
+    hubs.remove(hubId);
+  }
+
+  /** 모든 허브를 캐시에서 제거한다. */
+  public synchronized void clear() {
+    invalidationCount.incrementAndGet();
+    hubs.clear();
+  }
+
+  private double hitRatio() {
+    double requests = hits.count() + misses.count();
+    return requests == 0 ? 0 : hits.count() / requests;
+  }
+}
@@ -0,0 +1,31 @@
+package com.athenhub.hubservice.hub.application.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 허브 단건 조회 캐시 설정 정보를 바인딩하는 Properties 클래스이다.
+ *
+ * <p>주요 설정 값:
+ *
+ * <ul>
+ *   <li>{@code maxSize} : 메모리에 보관할 최대 허브 수. 넘으면 가장 오래 사용되지 않은 허브부터 제거된다.
+ * </ul>
+ *
+ * <p>예시:
+ *
+ * <pre>
+ * hub:
+ *   cache:
+ *     max-size: 1000
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "hub.cache")
+public class HubCacheProperties {
+  /** 메모리에 보관할 최대 허브 수. */
+  private int maxSize = 1000;
+}
@@ -1,9 +1,14 @@
 package com.athenhub.hubservice.hub.application.service;
 
 import com.athenhub.hubservice.hub.domain.Hub;
+import com.athenhub.hubservice.hub.domain.dto.HubCursorOrder;
+import com.athenhub.hubservice.hub.domain.dto.HubCursorPage;
 import com.athenhub.hubservice.hub.domain.dto.HubSearchCondition;
+import com.athenhub.hubservice.hub.domain.dto.HubSummary;
 import com.athenhub.hubservice.hub.domain.vo.HubManagerInfo;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -27,11 +32,25 @@ public interface HubFinder {
   /**
    * 허브를 단건 조회한다.
    *
+   * <p>허브 수정, 삭제처럼 엔티티가 필요한 관리 작업에 사용하므로 자동 완성 사용 점수에 반영하지 않는다.
+   *
    * @param hubId 조회할 허브 식별자
    * @return 조회된 {@link Hub} 엔티티
    */
   Hub find(UUID hubId);
 
+  /**
+   * 허브를 단건 조회하여 {@link HubSummary}로 반환한다.
+   *
+   * <p>조회 응답 생성에만 사용하는 읽기 전용 조회이므로 {@link HubCache}를 거친다. 허브를 수정하려면 {@link #find(UUID)}를 사용한다.
+   *
+   * <p>조회할 때마다 허브의 자동 완성 사용 점수를 1 증가시킨다.
+   *
+   * @param hubId 조회할 허브 식별자
+   * @return 조회된 {@link HubSummary}
+   */
+  HubSummary findSummary(UUID hubId);
+
   /**
    * 활성 상태의 허브를 모두 조회한다.
    *
@@ -39,6 +58,15 @@ public interface HubFinder {
    */
   List<Hub> findAllActive();
 
+  /**
+   * 활성 상태의 허브를 모두 {@link HubSummary} 프로젝션으로 조회한다.
+   *
+   * <p>엔티티를 영속성 컨텍스트에 적재하지 않으므로, 허브 정보를 읽기만 하는 대량 조회에 사용한다.
+   *
+   * @return 조회된 {@link HubSummary} 목록
+   */
+  List<HubSummary> findAllActiveSummaries();
+
   /**
    * 전달받은 {@link HubSearchCondition} 기반으로 허브를 검색한다.
    *
@@ -52,6 +80,49 @@ public interface HubFinder {
    */
   Page<Hub> search(HubSearchCondition searchCondition, Pageable pageable);
 
+  /**
+   * 전달받은 {@link HubSearchCondition} 기반으로 허브를 검색하여 {@link HubSummary} 목록으로 반환한다.
+   *
+   * <p>{@code hub.search.mode=memory}이면 메모리 상의 검색 색인을 사용하며, 초성 키워드 검색을 지원한다. 그 외에는 {@link
+   * #search(HubSearchCondition, Pageable)}와 같은 조건으로 응답에 필요한 컬럼만 조회한다.
+   *
+   * @param searchCondition 허브 검색 조건 객체
+   * @param pageable 페이징 및 정렬 정보
+   * @return 조건에 맞는 {@link HubSummary} 목록을 포함하는 페이지 결과
+   */
+  Page<HubSummary> searchSummaries(HubSearchCondition searchCondition, Pageable pageable);
+
+  /**
+   * 전달받은 {@link HubSearchCondition} 기반으로 허브를 커서 방식으로 검색한다.
+   *
+   * <p>OFFSET과 전체 개수 조회 없이, 커서가 가리키는 위치 이후의 허브를 {@code size}건 조회한다. 커서가 주어지면 커서에 담긴 정렬 기준을
+   * 사용하고, {@code order}는 첫 페이지를 조회할 때만 사용된다.
+   *
+   * <p>{@code hub.search.mode}와 관계없이 키워드가 주어질 때만 키워드 조건을 붙인 쿼리로 조회하므로, 키워드 검색은 {@code pg_trgm}
+   * 인덱스를, 목록 조회는 정렬 인덱스를 사용할 수 있다. 메모리 색인은 커서 검색에 사용하지 않는다.
+   *
+   * @param searchCondition 허브 검색 조건 객체
+   * @param order 첫 페이지의 정렬 기준
+   * @param cursor 이전 페이지 응답의 커서, 첫 페이지라면 {@code null} 또는 빈 문자열
+   * @param size 조회할 최대 건수
+   * @return 조회된 허브 목록과 다음 페이지 커서
+   * @throws IllegalArgumentException 커서가 올바르지 않거나 {@code size}가 허용 범위를 벗어난 경우
+   */
+  HubCursorPage searchByCursor(
+      HubSearchCondition searchCondition, HubCursorOrder order, String cursor, int size);
+
+  /**
+   * 허브명 또는 기본 주소의 단어가 접두사로 시작하는 활성 허브를 자동 완성 후보로 조회한다.
+   *
+   * <p>메모리 상의 접두사 트라이를 사용하므로 데이터베이스에 접근하지 않으며, {@link #findSummary(UUID)}로 조회가 많았던 허브부터 반환한다.
+   *
+   * @param prefix 접두사, 대소문자를 구분하지 않는다.
+   * @param size 조회할 최대 건수
+   * @return 자동 완성 후보 {@link HubSummary} 목록
+   * @throws IllegalArgumentException {@code size}가 허용 범위를 벗어난 경우
+   */
+  List<HubSummary> suggest(String prefix, int size);
+
   /**
    * 허브의 관리자 정보를 조회한다.
    *
@@ -59,4 +130,14 @@ public interface HubFinder {
    * @return HubId에 해당하는 허브의 관리자 정보
    */
   HubManagerInfo findManager(UUID hubId);
+
+  /**
+   * 여러 관리자의 정보를 한 번에 조회한다.
+   *
+   * <p>중복된 관리자는 한 번만 조회하며, 존재하지 않거나 조회에 실패한 관리자는 결과에서 제외된다.
+   *
+   * @param managerIds 조회할 관리자 ID 목록
+   * @return 관리자 ID별 관리자 정보
+   */
+  Map<UUID, HubManagerInfo> findManagers(Collection<UUID> managerIds);
 }
@@ -31,6 +31,9 @@ import org.springframework.validation.annotation.Validated;
  *   <li>허브 삭제 처리
  * </ul>
  *
+ * <p>변경 이벤트는 {@link HubMessagePublisher}로 같은 트랜잭션 안에서 아웃박스에 기록되어 커밋 이후 메시지 브로커로 발행되며, 애플리케이션
+ * 이벤트로도 발행되어 커밋 이후 후속 처리가 수행된다.
+ *
  * <p>{@link Validated} 애너테이션을 통해 메서드 파라미터에 대한 Bean Validation 검증이 수행되며, 서비스 계층에서도 유효성 검사 규칙을 강제한다.
  *
  * <p>생성자 주입은 {@link RequiredArgsConstructor}에 의해 자동 생성된다.
@@ -48,6 +51,7 @@ public class HubManageService implements HubRegister, HubManager {
   private final HubFinder hubFinder;
   private final PermissionChecker permissionChecker;
   private final MemberExistenceChecker memberExistenceChecker;
+  private final HubMessagePublisher hubMessagePublisher;
   private final ApplicationEventPublisher eventPublisher;
 
   @Override
@@ -56,7 +60,9 @@ public class HubManageService implements HubRegister, HubManager {
 
     hub = hubRepository.save(hub);
 
-    eventPublisher.publishEvent(HubRegistered.from(hub, requestUsername));
+    HubRegistered event = HubRegistered.from(hub, requestUsername);
+    hubMessagePublisher.publish(event);
+    eventPublisher.publishEvent(event);
 
     return hub;
   }
@@ -70,7 +76,9 @@ public class HubManageService implements HubRegister, HubManager {
 
     hub = hubRepository.save(hub);
 
-    eventPublisher.publishEvent(HubUpdated.from(hub, requestUsername));
+    HubUpdated event = HubUpdated.from(hub, requestUsername);
+    hubMessagePublisher.publish(event);
+    eventPublisher.publishEvent(event);
 
     return hub;
   }
@@ -83,7 +91,9 @@ public class HubManageService implements HubRegister, HubManager {
 
     hub = hubRepository.save(hub);
 
-    eventPublisher.publishEvent(HubDeleted.from(hub, requestUsername));
+    HubDeleted event = HubDeleted.from(hub, requestUsername);
+    hubMessagePublisher.publish(event);
+    eventPublisher.publishEvent(event);
 
     return hub;
   }
@@ -97,6 +107,8 @@ public class HubManageService implements HubRegister, HubManager {
 
     hub = hubRepository.save(hub);
 
-    eventPublisher.publishEvent(HubManagerChanged.from(hub, oldManagerId, requestUsername));
+    HubManagerChanged event = HubManagerChanged.from(hub, oldManagerId, requestUsername);
+    hubMessagePublisher.publish(event);
+    eventPublisher.publishEvent(event);
   }
 }
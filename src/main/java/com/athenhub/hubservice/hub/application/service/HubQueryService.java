@@ -2,17 +2,27 @@ package com.athenhub.hubservice.hub.application.service;
 
 import com.athenhub.hubservice.hub.domain.Hub;
 import com.athenhub.hubservice.hub.domain.HubRepository;
+import com.athenhub.hubservice.hub.domain.dto.HubCursor;
+import com.athenhub.hubservice.hub.domain.dto.HubCursorOrder;
+import com.athenhub.hubservice.hub.domain.dto.HubCursorPage;
 import com.athenhub.hubservice.hub.domain.dto.HubSearchCondition;
+import com.athenhub.hubservice.hub.domain.dto.HubSummary;
 import com.athenhub.hubservice.hub.domain.service.HubManagerInfoFinder;
 import com.athenhub.hubservice.hub.domain.vo.HubId;
+import com.athenhub.hubservice.hub.domain.vo.HubManagerId;
 import com.athenhub.hubservice.hub.domain.vo.HubManagerInfo;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -24,8 +34,8 @@ import org.springframework.transaction.annotation.Transactional;
  * <h2>역할</h2>
  *
  * <ul>
- *   <li>허브 단건 조회
- *   <li>허브 검색
+ *   <li>허브 단건 조회 (응답용 {@link HubSummary} 조회는 {@link HubCache}를 거쳐 조회)
+ *   <li>허브 검색 ({@code hub.search.mode} 설정에 따라 LIKE 또는 트라이그램 인덱스용 쿼리 사용)
  *   <li>조회 시 필요한 부가 검증 또는 예외 처리 수행
  * </ul>
  *
@@ -38,17 +48,32 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
+@EnableConfigurationProperties(HubSearchProperties.class)
 public class HubQueryService implements HubFinder {
 
+  /** 커서 검색 한 번에 조회할 수 있는 최대 건수. */
+  private static final int MAX_CURSOR_SIZE = 1000;
+
+  /** 자동 완성 한 번에 조회할 수 있는 최대 건수. */
+  private static final int MAX_SUGGEST_SIZE = 50;
+
   private final HubRepository hubRepository;
   private final HubManagerInfoFinder hubManagerInfoFinder;
+  private final HubSearchProperties searchProperties;
+  private final HubSearchIndexService hubSearchIndexService;
+  private final HubCache hubCache;
 
   @Override
   public Hub find(UUID hubId) {
-    return hubRepository
-        .findById(HubId.of(hubId))
-        .orElseThrow(
-            () -> new IllegalArgumentException("허브 정보를 찾을수 없습니다. id: " + hubId.toString()));
+    return load(hubId);
+  }
+
+  @Override
+  public HubSummary findSummary(UUID hubId) {
+    HubSummary hub = hubCache.get(HubId.of(hubId), () -> loadSummary(hubId));
+
+    hubSearchIndexService.recordUsage(hubId);
+    return hub;
   }
 
   @Override
@@ -56,18 +81,118 @@ public class HubQueryService implements HubFinder {
     return hubRepository.findAllByDeletedAtIsNull();
   }
 
+  @Override
+  public List<HubSummary> findAllActiveSummaries() {
+    return hubRepository.findAllActiveSummaries();
+  }
+
   @Override
   public Page<Hub> search(HubSearchCondition searchCondition, Pageable pageable) {
-    String keyword =
-        Objects.isNull(searchCondition.keyword()) ? null : searchCondition.keyword().toUpperCase();
+    String keyword = toUpperKeyword(searchCondition);
+
+    boolean includeDeleted = searchCondition.includeDeleted();
+
+    if (searchProperties.getMode() == HubSearchProperties.Mode.LIKE) {
+      return hubRepository.search(keyword, includeDeleted, pageable);
+    }
+
+    return Objects.isNull(keyword)
+        ? hubRepository.findAllForSearch(includeDeleted, pageable)
+        : hubRepository.searchByKeyword(keyword, includeDeleted, pageable);
+  }
+
+  @Override
+  public Page<HubSummary> searchSummaries(HubSearchCondition searchCondition, Pageable pageable) {
+    if (searchProperties.getMode() == HubSearchProperties.Mode.MEMORY) {
+      return hubSearchIndexService.search(searchCondition, pageable);
+    }
+
+    String keyword = toUpperKeyword(searchCondition);
+    boolean includeDeleted = searchCondition.includeDeleted();
+
+    if (searchProperties.getMode() == HubSearchProperties.Mode.LIKE) {
+      return hubRepository.searchSummaries(keyword, includeDeleted, pageable);
+    }
+
+    return Objects.isNull(keyword)
+        ? hubRepository.findAllSummariesForSearch(includeDeleted, pageable)
+        : hubRepository.searchSummariesByKeyword(keyword, includeDeleted, pageable);
+  }
+
+  @Override
+  public HubCursorPage searchByCursor(
+      HubSearchCondition searchCondition, HubCursorOrder order, String cursor, int size) {
+    if (size < 1 || size > MAX_CURSOR_SIZE) {
+      throw new IllegalArgumentException(
+          "조회 건수는 1 이상 " + MAX_CURSOR_SIZE + " 이하여야 합니다. size: " + size);
+    }
+
+    String keyword = toUpperKeyword(searchCondition);
+    boolean includeDeleted = searchCondition.includeDeleted();
+    HubCursor after = Objects.isNull(cursor) || cursor.isBlank() ? null : HubCursor.decode(cursor);
+    HubCursorOrder effectiveOrder =
+        Objects.isNull(after)
+            ? Objects.requireNonNullElse(order, HubCursorOrder.NAME)
+            : after.order();
+    // 다음 페이지 존재 여부를 COUNT 없이 확인하기 위해 한 건 더 조회한다.
+    List<HubSummary> hubs =
+        hubRepository.findByCursor(keyword, includeDeleted, effectiveOrder, after, size + 1);
+
+    List<HubSummary> content = hubs.size() > size ? hubs.subList(0, size) : hubs;
+    String nextCursor =
+        hubs.size() > size ? HubCursor.of(effectiveOrder, content.getLast()).encode() : null;
+
+    return new HubCursorPage(content, nextCursor);
+  }
+
+  @Override
+  public List<HubSummary> suggest(String prefix, int size) {
+    if (size < 1 || size > MAX_SUGGEST_SIZE) {
+      throw new IllegalArgumentException(
+          "조회 건수는 1 이상 " + MAX_SUGGEST_SIZE + " 이하여야 합니다. size: " + size);
+    }
 
-    return hubRepository.search(keyword, searchCondition.includeDeleted(), pageable);
+    return hubSearchIndexService.suggest(prefix, size);
   }
 
   @Override
   public HubManagerInfo findManager(UUID hubId) {
-    Hub hub = find(hubId);
+    HubSummary hub = findSummary(hubId);
+
+    return hubManagerInfoFinder.find(HubManagerId.of(hub.managerId()));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>원격 조회만 수행하므로 조회하는 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행한다.
+   */
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public Map<UUID, HubManagerInfo> findManagers(Collection<UUID> managerIds) {
+    List<HubManagerId> ids = managerIds.stream().map(HubManagerId::of).toList();
+
+    return hubManagerInfoFinder.findAll(ids).entrySet().stream()
+        .collect(Collectors.toMap(entry -> entry.getKey().toUuid(), Map.Entry::getValue));
+  }
+
+  private Hub load(UUID hubId) {
+    return hubRepository
+        .findById(HubId.of(hubId))
+        .orElseThrow(
+            () -> new IllegalArgumentException("허브 정보를 찾을수 없습니다. id: " + hubId.toString()));
+  }
+
+  private HubSummary loadSummary(UUID hubId) {
+    return hubRepository
+        .findSummaryById(HubId.of(hubId))
+        .orElseThrow(
+            () -> new IllegalArgumentException("허브 정보를 찾을수 없습니다. id: " + hubId.toString()));
+  }
 
-    return hub.getManagerInfo(hubManagerInfoFinder);
+  private static String toUpperKeyword(HubSearchCondition searchCondition) {
+    return Objects.isNull(searchCondition.keyword())
+        ? null
+        : searchCondition.keyword().toUpperCase();
   }
 }
@@ -0,0 +1,158 @@
+package com.athenhub.hubservice.hub.application.service;
+
+import com.athenhub.hubservice.hub.domain.HubRoute;
+import com.athenhub.hubservice.hub.domain.HubRouteChange;
+import com.athenhub.hubservice.hub.domain.HubRouteChangeRepository;
+import com.athenhub.hubservice.hub.domain.HubRouteRepository;
+import com.athenhub.hubservice.hub.domain.HubRouteVersion;
+import com.athenhub.hubservice.hub.domain.HubRouteVersionRepository;
+import com.athenhub.hubservice.hub.domain.dto.HubRouteChangeSummary;
+import com.athenhub.hubservice.hub.domain.dto.HubRouteChanges;
+import com.athenhub.hubservice.hub.domain.dto.HubRouteSummary;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 허브 경로 버전과 변경 로그를 관리하는 서비스.
+ *
+ * <p>경로를 변경하는 트랜잭션은 먼저 {@link #nextVersion()}으로 새 경로 버전을 받은 뒤, 같은 트랜잭션 안에서 변경된 경로를 {@link
+ * #recordUpserts(long, Collection)} 또는 {@link #recordDeletes(long, Collection)}로 기록한다. 버전 행의 쓰기 잠금이
+ * 커밋까지 유지되므로 경로 변경은 버전 순서대로 커밋되고, 클라이언트는 {@link #findSince(long)}로 마지막으로 반영한 버전 이후의 변경만 받아 갈 수
+ * 있다.
+ *
+ * <p>변경 로그는 최근 {@code route.changes.retained-versions}개 버전만 남기고 정리한다. 정리된 버전을 기준으로 조회하면
+ * 현재 활성 경로 전체를 스냅샷으로 응답한다.
+ *
+ * <p>생성자 주입은 {@link RequiredArgsConstructor}에 의해 자동으로 수행된다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@EnableConfigurationProperties(RouteChangeLogProperties.class)
+public class HubRouteChangeLog {
+  private final HubRouteVersionRepository hubRouteVersionRepository;
+  private final HubRouteChangeRepository hubRouteChangeRepository;
+  private final HubRouteRepository hubRouteRepository;
+  private final RouteChangeLogProperties properties;
+
+  /**
+   * 경로 버전을 하나 올리고 올린 버전을 반환한다.
+   *
+   * <p>버전 행을 쓰기 잠금으로 조회하므로 호출한 트랜잭션이 끝날 때까지 다른 경로 변경 트랜잭션은 대기한다. 보관 기간을 넘은 변경 로그는 이때 함께 정리한다.
+   *
+   * @return 새 경로 버전
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public long nextVersion() {
+    HubRouteVersion routeVersion =
+        hubRouteVersionRepository
+            .findByIdForUpdate(HubRouteVersion.SINGLETON_ID)
+            .orElseGet(() -> hubRouteVersionRepository.save(HubRouteVersion.initial()));
+
+    long version = routeVersion.increment();
+    if (routeVersion.compact(properties.getRetainedVersions())) {
+      int removed = hubRouteChangeRepository.deleteAllThrough(routeVersion.getCompactedThrough());
+      log.debug(
+          "경로 변경 로그 정리. compactedThrough: {}, removed: {}",
+          routeVersion.getCompactedThrough(),
+          removed);
+    }
+    return version;
+  }
+
+  /**
+   * 현재 경로 버전을 반환한다.
+   *
+   * @return 현재 경로 버전. 경로가 한 번도 변경되지 않았다면 0
+   */
+  @Transactional(readOnly = true)
+  public long currentVersion() {
+    return hubRouteVersionRepository
+        .findById(HubRouteVersion.SINGLETON_ID)
+        .map(HubRouteVersion::getVersion)
+        .orElse(0L);
+  }
+
+  /**
+   * 추가되었거나 확정된 경로를 변경 로그에 기록한다.
+   *
+   * @param version {@link #nextVersion()}으로 받은 경로 버전
+   * @param routes 추가되었거나 확정된 경로 목록
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordUpserts(long version, Collection<HubRoute> routes) {
+    hubRouteChangeRepository.saveAll(
+        routes.stream().map(route -> HubRouteChange.upsert(version, route)).toList());
+  }
+
+  /**
+   * 논리 삭제된 경로를 변경 로그에 기록한다.
+   *
+   * @param version {@link #nextVersion()}으로 받은 경로 버전
+   * @param routes 삭제 직전의 경로 목록
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordDeletes(long version, Collection<HubRouteSummary> routes) {
+    hubRouteChangeRepository.saveAll(
+        routes.stream().map(route -> HubRouteChange.delete(version, route)).toList());
+  }
+
+  /**
+   * 지정한 버전 이후의 경로 변경을 조회한다.
+   *
+   * <p>같은 구간이 여러 번 변경되었다면 마지막 변경만 남긴다. 지정한 버전이 이미 정리되었거나 현재 버전보다 크면(예: 데이터베이스 복원) 증분을 만들 수 없으므로
+   * 현재 활성 경로 전체를 스냅샷으로 반환한다. 버전과 변경 목록을 같은 데이터베이스 스냅샷에서 읽도록 {@code REPEATABLE_READ}로 조회한다.
+   *
+   * @param since 클라이언트가 마지막으로 반영한 경로 버전
+   * @return 현재 경로 버전과 변경 목록
+   */
+  @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+  public HubRouteChanges findSince(long since) {
+    HubRouteVersion routeVersion =
+        hubRouteVersionRepository
+            .findById(HubRouteVersion.SINGLETON_ID)
+            .orElseGet(HubRouteVersion::initial);
+    long current = routeVersion.getVersion();
+
+    if (since < routeVersion.getCompactedThrough() || since > current || since < 0) {
+      List<HubRouteChangeSummary> routes =
+          hubRouteRepository.findAllActiveSummaries().stream()
+              .map(HubRouteChangeSummary::upsert)
+              .toList();
+      return new HubRouteChanges(current, true, routes);
+    }
+    if (since == current) {
+      return new HubRouteChanges(current, false, List.of());
+    }
+
+    Map<RouteSection, HubRouteChangeSummary> latest = new LinkedHashMap<>();
+    for (HubRouteChangeSummary change : hubRouteChangeRepository.findAllAfter(since)) {
+      RouteSection section = new RouteSection(change.sourceHubId(), change.targetHubId());
+      latest.remove(section);
+      latest.put(section, change);
+    }
+    return new HubRouteChanges(current, false, new ArrayList<>(latest.values()));
+  }
+
+  /**
+   * 출발 허브와 도착 허브로 구분되는 경로 구간.
+   *
+   * @param source 출발 허브 식별자
+   * @param target 도착 허브 식별자
+   */
+  private record RouteSection(UUID source, UUID target) {}
+}
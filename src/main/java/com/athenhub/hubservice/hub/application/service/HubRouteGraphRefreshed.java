@@ -0,0 +1,17 @@
+package com.athenhub.hubservice.hub.application.service;
+
+import com.athenhub.hubservice.hub.domain.graph.HubRouteGraph;
+import com.athenhub.hubservice.hub.domain.graph.HubRouteMatrix;
+
+/**
+ * 경로 그래프 스냅샷이 교체되었음을 알리는 애플리케이션 이벤트.
+ *
+ * <p>{@link HubRouteGraphService#refresh()}가 새 스냅샷을 반영한 직후 같은 스레드에서 발행하며, 경로 그래프로부터 만든 파생 데이터(직렬화된
+ * 응답 등)를 다시 만드는 데 사용한다.
+ *
+ * @param graph 새로 반영된 경로 그래프 스냅샷
+ * @param matrix 새 경로 그래프로 계산한 경로 행렬 스냅샷
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record HubRouteGraphRefreshed(HubRouteGraph graph, HubRouteMatrix matrix) {}
@@ -0,0 +1,177 @@
+package com.athenhub.hubservice.hub.application.service;
+
+import com.athenhub.hubservice.hub.domain.HubRouteRepository;
+import com.athenhub.hubservice.hub.domain.dto.HubRouteSummary;
+import com.athenhub.hubservice.hub.domain.graph.HubRouteEdge;
+import com.athenhub.hubservice.hub.domain.graph.HubRouteGraph;
+import com.athenhub.hubservice.hub.domain.graph.HubRouteMatrix;
+import com.athenhub.hubservice.hub.domain.graph.HubRoutePath;
+import com.athenhub.hubservice.hub.domain.graph.RouteMetric;
+import com.athenhub.hubservice.hub.domain.vo.HubId;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+/**
+ * 메모리 상의 허브 경로 그래프를 관리하고 경로 조회를 제공하는 서비스.
+ *
+ * <p>활성 허브 경로 전체를 CSR 형식의 {@link HubRouteGraph} 스냅샷으로 보관하며, 모든 경로 조회는 데이터베이스에 접근하지 않고 스냅샷만 사용한다.
+ * 경로가 변경되면 {@link #refresh()}를 통해 새로운 스냅샷을 만들어 원자적으로 교체한다.
+ *
+ * <p>스냅샷을 교체한 뒤에는 {@link HubRouteGraphRefreshed}를 발행하여, 스냅샷으로부터 만든 파생 데이터를 다시 만들 수 있게 한다.
+ *
+ * <p>전체 허브 간 거리·소요 시간 행렬({@link HubRouteMatrix})도 스냅샷을 교체할 때 함께 미리 계산해 두어, 행렬 조회 요청마다 다시 만들지 않는다.
+ *
+ * <p>스냅샷은 인스턴스마다 따로 유지된다. 경로를 변경한 인스턴스는 로컬 이벤트로, 나머지 인스턴스는 메시지 브로커로 전달된 경로 변경 이벤트로 스냅샷을
+ * 교체한다. 스냅샷에는 구성 시점의 경로 버전({@link HubRouteChangeLog})을 함께 기록하여, 이미 반영한 버전의 이벤트를 다시 받으면 {@link
+ * #refreshIfBehind(long)}가 재구성을 생략한다.
+ *
+ * <h2>주요 역할</h2>
+ *
+ * <ul>
+ *   <li>활성 허브 경로로부터 경로 그래프 스냅샷 생성 및 교체
+ *   <li>출발 허브 기준 경로 목록 및 전체 경로 목록 조회
+ *   <li>전체 허브 간 거리·소요 시간 행렬 조회
+ *   <li>소요 시간 또는 거리 기준의 허브 간 최단 경로 조회
+ * </ul>
+ *
+ * <p>생성자 주입은 {@link RequiredArgsConstructor}에 의해 자동으로 수행된다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+public class HubRouteGraphService {
+  private final HubRouteRepository hubRouteRepository;
+  private final HubRouteChangeLog hubRouteChangeLog;
+  private final ApplicationEventPublisher eventPublisher;
+
+  private volatile HubRouteGraph graph;
+  private volatile HubRouteMatrix matrix;
+  private volatile long version = -1;
+
+  /**
+   * 활성 허브 경로를 다시 읽어 경로 그래프와 경로 행렬 스냅샷을 교체한다.
+   *
+   * <p>{@link #refreshIfBehind(long)}, {@link #getGraph()}, {@link #getMatrix()}가 같은 객체 안에서 호출하여
+   * 프록시를 거치지 않으므로, 트랜잭션 없이 경로 버전과 활성 경로를 각각의 조회로 읽는다. 버전을 먼저 읽으므로 두 조회 사이에 커밋된 경로 변경은 기록된 버전보다 큰
+   * 버전을 가진다. 따라서 스냅샷은 기록된 버전까지의 변경을 모두 담으며, 그 사이 변경의 이벤트가 도착하면 {@link #refreshIfBehind(long)}가 한 번
+   * 더 재구성할 뿐이다.
+   */
+  public synchronized void refresh() {
+    // 버전을 경로보다 먼저 읽어, 스냅샷이 기록된 버전보다 오래된 경로를 담지 않게 한다.
+    long currentVersion = hubRouteChangeLog.currentVersion();
+    List<HubRouteSummary> routes = hubRouteRepository.findAllActiveSummaries();
+
+    HubRouteGraph.Builder builder = HubRouteGraph.builder();
+    routes.forEach(
+        route ->
+            builder.add(
+                HubId.of(route.sourceHubId()),
+                HubId.of(route.targetHubId()),
+                route.distanceKm(),
+                route.durationMinutes(),
+                route.provisional()));
+
+    HubRouteGraph built = builder.build();
+    HubRouteMatrix builtMatrix = built.toMatrix();
+    matrix = builtMatrix;
+    graph = built;
+    version = currentVersion;
+    eventPublisher.publishEvent(new HubRouteGraphRefreshed(built, builtMatrix));
+  }
+
+  /**
+   * 현재 스냅샷이 주어진 경로 버전을 반영하지 않았을 때만 스냅샷을 교체한다.
+   *
+   * @param version 변경이 반영된 경로 버전
+   * @return 스냅샷을 교체했으면 {@code true}
+   */
+  public synchronized boolean refreshIfBehind(long version) {
+    if (graph != null && version <= this.version) {
+      return false;
+    }
+    refresh();
+    return true;
+  }
+
+  /**
+   * 현재 경로 그래프 스냅샷을 반환한다.
+   *
+   * <p>기동 직후 아직 스냅샷이 구성되지 않았다면 즉시 구성한다.
+   *
+   * @return 경로 그래프 스냅샷
+   */
+  public HubRouteGraph getGraph() {
+    HubRouteGraph current = graph;
+    if (current != null) {
+      return current;
+    }
+    synchronized (this) {
+      if (graph == null) {
+        refresh();
+      }
+      return graph;
+    }
+  }
+
+  /**
+   * 현재 경로 행렬 스냅샷을 반환한다.
+   *
+   * <p>행렬은 경로 그래프 스냅샷을 교체할 때 함께 다시 계산된다.
+   *
+   * @return 경로 행렬 스냅샷
+   */
+  public HubRouteMatrix getMatrix() {
+    HubRouteMatrix current = matrix;
+    if (current != null) {
+      return current;
+    }
+    synchronized (this) {
+      if (matrix == null) {
+        refresh();
+      }
+      return matrix;
+    }
+  }
+
+  /**
+   * 지정한 허브가 출발 허브인 모든 허브 경로를 조회한다.
+   *
+   * @param hubId 출발 허브의 식별자
+   * @return 조회된 허브 경로 목록
+   */
+  public List<HubRouteEdge> findAllSourceBy(UUID hubId) {
+    return getGraph().outgoing(HubId.of(hubId));
+  }
+
+  /**
+   * 활성 상태의 모든 허브 경로를 조회한다.
+   *
+   * @return 조회된 허브 경로 목록
+   */
+  public List<HubRouteEdge> findAll() {
+    return getGraph().edges();
+  }
+
+  /**
+   * 두 허브 사이의 최단 경로를 조회한다.
+   *
+   * @param sourceHubId 출발 허브 식별자
+   * @param targetHubId 도착 허브 식별자
+   * @param metric 가중치 기준
+   * @return 최단 경로
+   * @throws IllegalArgumentException 두 허브를 잇는 경로가 없을 경우 발생
+   */
+  public HubRoutePath findShortestPath(UUID sourceHubId, UUID targetHubId, RouteMetric metric) {
+    return getGraph()
+        .findShortestPath(HubId.of(sourceHubId), HubId.of(targetHubId), metric)
+        .orElseThrow(
+            () ->
+                new IllegalArgumentException(
+                    "허브 간 경로를 찾을수 없습니다. source: " + sourceHubId + ", target: " + targetHubId));
+  }
+}
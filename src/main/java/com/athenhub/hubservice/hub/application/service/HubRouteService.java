@@ -1,17 +1,37 @@
 package com.athenhub.hubservice.hub.application.service;
 
-import com.athenhub.hubservice.hub.domain.Hub;
+import com.athenhub.hubservice.global.domain.AbstractAuditEntity;
 import com.athenhub.hubservice.hub.domain.HubRoute;
 import com.athenhub.hubservice.hub.domain.HubRouteRepository;
+import com.athenhub.hubservice.hub.domain.dto.HubRouteSummary;
+import com.athenhub.hubservice.hub.domain.dto.HubSummary;
+import com.athenhub.hubservice.hub.domain.dto.RouteQuery;
 import com.athenhub.hubservice.hub.domain.dto.RouteResponse;
+import com.athenhub.hubservice.hub.domain.event.HubRouteDelta;
 import com.athenhub.hubservice.hub.domain.event.HubRouteUpdated;
-import com.athenhub.hubservice.hub.domain.service.RouteCalculator;
+import com.athenhub.hubservice.hub.domain.service.ProvisionalRouteCalculator;
+import com.athenhub.hubservice.hub.domain.service.RouteBatchCalculator;
+import com.athenhub.hubservice.hub.domain.vo.Coordinate;
 import com.athenhub.hubservice.hub.domain.vo.HubId;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 허브 간 경로 계산 및 관리를 담당하는 서비스.
@@ -21,103 +41,477 @@ import org.springframework.transaction.annotation.Transactional;
  * <h2>주요 역할</h2>
  *
  * <ul>
- *   <li>신규 허브 등록 시 기존 허브와의 양방향 경로 계산 및 저장
+ *   <li>신규 허브 등록 직후 직선 거리 기반의 임시 경로 저장
+ *   <li>신규 허브 등록 시 기존 허브와의 양방향 경로 계산 및 저장(임시 경로 확정)
+ *   <li>확정되지 못하고 남은 오래된 임시 경로 재확정
  *   <li>허브 비활성화 시 관련 허브 경로 삭제 처리
  * </ul>
  *
+ * <p>경로를 변경하는 트랜잭션은 {@link HubRouteChangeLog}에서 새 경로 버전을 받아 변경된 경로를 변경 로그에 기록한다. 발행되는 {@link
+ * HubRouteUpdated}에는 이 버전과 함께 추가·확정 또는 비활성화된 경로가 담긴다.
+ *
+ * <p>경로가 변경되면 같은 트랜잭션 안에서 {@link HubMessagePublisher}로 메시지를 아웃박스에 기록하고, {@link
+ * HubRouteUpdated}를 애플리케이션 이벤트로도 발행하여 메모리 상의 경로 그래프가 커밋 이후 갱신되도록 한다.
+ *
  * <p>생성자 주입은 {@link RequiredArgsConstructor}에 의해 자동으로 수행된다.
  *
  * @author 김형섭
  * @since 1.0.0
  */
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
+@EnableConfigurationProperties(RoutePipelineProperties.class)
 public class HubRouteService {
   private final HubFinder hubFinder;
   private final HubRouteRepository hubRouteRepository;
-  private final RouteCalculator routeCalculator;
+  private final RouteBatchCalculator routeBatchCalculator;
+  private final ProvisionalRouteCalculator provisionalRouteCalculator;
   private final HubMessagePublisher hubMessagePublisher;
+  private final HubRouteChangeLog hubRouteChangeLog;
+  private final ApplicationEventPublisher eventPublisher;
+  private final PlatformTransactionManager transactionManager;
+  private final AuditorAware<String> auditorAware;
+  private final RoutePipelineProperties pipelineProperties;
 
   /**
-   * 신규 허브 등록 시 기존 모든 활성 허브와의 경로를 계산하여 저장한다.
+   * 신규 허브와 기존 모든 활성 허브 간의 임시 경로를 저장한다.
+   *
+   * <p>{@link ProvisionalRouteCalculator}로 외부 API 호출 없이 거리와 소요 시간을 추정하므로, 신규 허브를 즉시 경로 탐색에 사용할 수
+   * 있다. 임시 경로는 이후 {@link #calculateRoutesForNewHub(UUID)}에서 외부 경로 API 결과로 확정된다.
    *
    * @param hubId 신규 허브의 식별자
    */
-  public void calculateRoutesForNewHub(UUID hubId) {
-    Hub newHub = hubFinder.find(hubId);
-    HubId newHubId = newHub.getId();
-
-    List<Hub> hubs = hubFinder.findAllActive();
+  public void createProvisionalRoutes(UUID hubId) {
+    RouteTargets targets = loadRouteTargets(hubId);
+    List<RouteQuery> queries = createBidirectionalQueries(targets.hubs(), targets.newHub());
 
-    // 새로운 hub와 다른 hub 간의 모든 경로 생성
-    List<HubRoute> newRoutes =
-        hubs.stream()
-            .filter(hub -> !hub.getId().equals(newHubId))
-            .flatMap(hub -> createBidirectionalRoutes(hub, newHub).stream())
+    List<RouteResponse> responses =
+        queries.stream()
+            .map(query -> provisionalRouteCalculator.getRoute(query.source(), query.target()))
             .toList();
 
-    hubRouteRepository.saveAll(newRoutes);
+    List<HubRoute> routes =
+        createBidirectionalRoutes(targets.hubs(), targets.newHub(), responses, true);
+    long version = hubRouteChangeLog.nextVersion();
+    hubRouteRepository.saveAll(routes);
+    hubRouteChangeLog.recordUpserts(version, routes);
 
-    hubMessagePublisher.publish(HubRouteUpdated.of(hubId));
+    HubRouteUpdated event =
+        HubRouteUpdated.of(
+            hubId, version, routes.stream().map(HubRouteDelta::from).toList(), List.of());
+    hubMessagePublisher.publish(event);
+    eventPublisher.publishEvent(event);
   }
 
   /**
-   * 지정한 허브가 출발 허브인 모든 허브 경로를 조회한다.
+   * 신규 허브 등록 시 기존 모든 활성 허브와의 경로를 계산하여 저장한다.
    *
-   * @param hubId 대상 허브의 식별자
-   * @return 조회된 허브 경로 목록
+   * <p>외부 경로 API를 호출하는 동안 데이터베이스 커넥션을 점유하지 않도록 다음 세 단계로 나누어 처리한다. 이 메서드 자체는 트랜잭션을 시작하지 않으며,
+   * 호출자에게 이미 트랜잭션이 있다면 각 단계는 해당 트랜잭션에 참여한다.
+   *
+   * <ol>
+   *   <li>짧은 읽기 전용 트랜잭션에서 신규 허브와 활성 허브 목록을 조회한다.
+   *   <li>트랜잭션 없이 허브 쌍마다 양방향 경로 계산 요청을 만들어 {@link RouteBatchCalculator}에 한 번에 전달한다. 외부 경로 API
+   *       호출은 호출 한도 안에서 동시에 처리된다.
+   *   <li>계산된 경로를 {@code route.pipeline.persist-batch-size} 단위로 나누어 각각 짧은 쓰기 트랜잭션에서
+   *       저장한다. 같은 구간의 임시 경로가 있으면 새로 만들지 않고 계산된 값으로 확정한다. 배치마다 새 경로 버전을 받아 변경 로그에
+   *       기록하고, 해당 배치의 경로만 담은 {@link HubRouteUpdated}를 같은 트랜잭션에서 메시지로 기록한다.
+   * </ol>
+   *
+   * <p>1단계 이후 허브가 삭제되었거나 임시 경로가 이미 확정될 수 있으므로, 3단계의 각 배치는 버전 행 잠금을 잡은 뒤 허브와 임시 경로 상태를 다시
+   * 확인한다. 신규 허브가 더 이상 활성 상태가 아니면 남은 배치를 저장하지 않는다. 출발 또는 도착 허브가 활성 상태가 아닌 구간과, 1단계에서 찾은 임시
+   * 경로가 그 사이 확정되었거나 비활성화된 구간은 건너뛴다.
+   *
+   * <p>배치 하나의 저장이 실패해도 이미 커밋된 배치는 되돌리지 않고 나머지 배치를 계속 저장한다. 실패한 배치의 구간은 임시 경로로 남으며 로그로 남긴다.
+   * 모든 배치를 처리한 뒤 커밋된 배치의 경로만 담아 {@link HubRouteUpdated}를 애플리케이션 이벤트로 발행하므로, 일부 배치가 실패해도 메모리 상의
+   * 경로 그래프에는 커밋된 경로가 반영된다.
+   *
+   * @param hubId 신규 허브의 식별자
    */
-  @Transactional(readOnly = true)
-  public List<HubRoute> findAllSourceBy(UUID hubId) {
-    return hubRouteRepository.findAllByHubId(HubId.of(hubId)).stream()
-        .filter(route -> route.getSourceHubId().toUuid().equals(hubId))
-        .toList();
+  @Transactional(propagation = Propagation.SUPPORTS)
+  public void calculateRoutesForNewHub(UUID hubId) {
+    // 1단계: 허브 조회 (읽기 전용 트랜잭션)
+    TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+    readOnlyTransaction.setReadOnly(true);
+    RouteTargets targets = readOnlyTransaction.execute(status -> loadRouteTargets(hubId));
+
+    // 2단계: 새로운 hub와 다른 hub 간의 모든 경로 계산 (트랜잭션 없음)
+    List<RouteResponse> responses =
+        routeBatchCalculator.getRoutes(
+            createBidirectionalQueries(targets.hubs(), targets.newHub()));
+    List<HubRoute> newRoutes =
+        createBidirectionalRoutes(targets.hubs(), targets.newHub(), responses, false);
+
+    // 3단계: 배치 단위 저장 (짧은 쓰기 트랜잭션)
+    TransactionTemplate writeTransaction = new TransactionTemplate(transactionManager);
+    int batchSize = pipelineProperties.getPersistBatchSize();
+    Long version = null;
+    List<HubRouteDelta> inserted = new ArrayList<>(newRoutes.size());
+    int failedRoutes = 0;
+    for (int from = 0; from < newRoutes.size(); from += batchSize) {
+      List<HubRoute> batch = newRoutes.subList(from, Math.min(from + batchSize, newRoutes.size()));
+      try {
+        HubRouteUpdated committed =
+            writeTransaction.execute(status -> persistBatch(hubId, batch, targets));
+        if (committed == null) {
+          log.info("신규 허브가 비활성화되어 남은 경로를 저장하지 않습니다. hubId: {}", hubId);
+          break;
+        }
+        version = committed.version();
+        inserted.addAll(committed.inserted());
+      } catch (RuntimeException e) {
+        failedRoutes += batch.size();
+        log.error("신규 허브 경로 배치 저장에 실패했습니다. hubId: {}, routes: {}", hubId, batch.size(), e);
+      }
+    }
+    if (failedRoutes > 0) {
+      log.warn(
+          "신규 허브 경로 일부를 저장하지 못해 임시 경로로 남습니다. hubId: {}, failed: {}, saved: {}",
+          hubId,
+          failedRoutes,
+          inserted.size());
+    }
+    if (version == null) {
+      version = hubRouteChangeLog.currentVersion();
+    }
+
+    eventPublisher.publishEvent(HubRouteUpdated.of(hubId, version, inserted, List.of()));
   }
 
   /**
-   * 활성상태의 모든 허브 경로를 조회한다.
+   * 지정한 일시 이전에 생성되어 아직 확정되지 않은 임시 경로를 외부 경로 API 결과로 확정한다.
+   *
+   * <p>{@link #calculateRoutesForNewHub(UUID)}에서 외부 경로 API 호출이나 배치 저장이 실패한 구간은 임시 경로로 남는다. 이 메서드는
+   * 그런 임시 경로를 오래된 순으로 최대 {@code limit}개 조회하여 같은 세 단계로 확정한다.
+   *
+   * <ol>
+   *   <li>짧은 읽기 전용 트랜잭션에서 임시 경로와 활성 허브 좌표를 조회한다. 출발 또는 도착 허브가 활성 상태가 아닌 경로는 건너뛴다.
+   *   <li>트랜잭션 없이 경로 계산 요청을 {@link RouteBatchCalculator}에 한 번에 전달한다.
+   *   <li>하나의 쓰기 트랜잭션에서 새 경로 버전을 받은 뒤, 그 사이 확정되거나 비활성화되지 않은 경로만 확정하여 변경 로그와 메시지를
+   *       기록한다.
+   * </ol>
    *
-   * @return 조회된 허브 경로 목록
+   * <p>여러 인스턴스가 동시에 실행하면 같은 구간의 외부 경로 API 호출이 중복될 수 있지만, 확정 여부는 버전 행 잠금을 잡은 뒤 다시 확인하므로 한
+   * 번만 반영된다. 발행되는 {@link HubRouteUpdated}는 특정 허브를 기준으로 하지 않으므로 {@code requestId}가 {@code null}이다.
+   *
+   * @param createdBefore 이 일시 이전에 생성된 임시 경로만 확정한다
+   * @param limit 한 번에 확정할 최대 경로 수
+   * @return 확정한 경로 수
    */
-  @Transactional(readOnly = true)
-  public List<HubRoute> findAllByActive() {
-    return hubRouteRepository.findAllByDeletedAtIsNull();
+  @Transactional(propagation = Propagation.SUPPORTS)
+  public int confirmProvisionalRoutes(LocalDateTime createdBefore, int limit) {
+    // 1단계: 임시 경로 조회 (읽기 전용 트랜잭션)
+    TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+    readOnlyTransaction.setReadOnly(true);
+    List<StaleRoute> staleRoutes =
+        readOnlyTransaction.execute(status -> loadStaleRoutes(createdBefore, limit));
+    if (staleRoutes.isEmpty()) {
+      return 0;
+    }
+
+    // 2단계: 임시 경로 구간의 경로 계산 (트랜잭션 없음)
+    List<RouteResponse> responses =
+        routeBatchCalculator.getRoutes(staleRoutes.stream().map(StaleRoute::query).toList());
+    Map<Long, RouteResponse> responsesByRouteId = new HashMap<>();
+    for (int i = 0; i < staleRoutes.size(); i++) {
+      responsesByRouteId.put(staleRoutes.get(i).routeId(), responses.get(i));
+    }
+
+    // 3단계: 임시 경로 확정 (짧은 쓰기 트랜잭션)
+    TransactionTemplate writeTransaction = new TransactionTemplate(transactionManager);
+    HubRouteUpdated event =
+        writeTransaction.execute(status -> confirmStaleRoutes(responsesByRouteId));
+    eventPublisher.publishEvent(event);
+    return event.inserted().size();
   }
 
   /**
    * 지정한 허브와 관련된 모든 허브 경로를 비활성화 처리한다.
    *
+   * <p>경로 엔티티를 적재하지 않고 하나의 UPDATE 문으로 논리 삭제한다. 변경 로그에 기록할 경로는 삭제 전에 프로젝션으로 조회하며, 버전 행 잠금을 먼저
+   * 잡으므로 조회와 삭제 사이에 다른 경로 변경이 끼어들지 않는다. 삭제자와 삭제 일시는 {@link
+   * AbstractAuditEntity#delete(String)}와 같은 규칙으로 기록되며, 수정자와 수정 일시는 엔티티 감사 기능과 같은 값으로 기록된다.
+   *
+   * <p>UPDATE 문이 논리 삭제한 행 수가 조회한 경로 수와 다르면 잠금을 거치지 않은 경로 변경이 있었다는 뜻이므로 경고를 남긴다. 허브는 이미 삭제되었으므로
+   * 경로 비활성화는 되돌리지 않는다.
+   *
    * @param hubId 대상 허브의 식별자
    * @param deletedBy 삭제 처리 수행자
    */
   public void deactivateRoutesForHub(UUID hubId, String deletedBy) {
-    List<HubRoute> routes = hubRouteRepository.findAllByHubId(HubId.of(hubId));
-    routes.forEach(route -> route.delete(deletedBy));
+    long version = hubRouteChangeLog.nextVersion();
+    List<HubRouteSummary> deletedRoutes =
+        hubRouteRepository.findAllActiveSummariesByHubId(HubId.of(hubId));
+    int deletedCount =
+        hubRouteRepository.softDeleteAllByHubId(
+            HubId.of(hubId),
+            AbstractAuditEntity.resolveDeletedBy(deletedBy),
+            auditorAware.getCurrentAuditor().orElse(AbstractAuditEntity.SYSTEM_USERNAME),
+            LocalDateTime.now());
+    if (deletedCount != deletedRoutes.size()) {
+      log.warn(
+          "논리 삭제한 경로 수가 변경 로그에 기록할 경로 수와 다릅니다. hubId: {}, deleted: {}, recorded: {}",
+          hubId,
+          deletedCount,
+          deletedRoutes.size());
+    }
+    hubRouteChangeLog.recordDeletes(version, deletedRoutes);
 
-    hubRouteRepository.saveAll(routes);
+    HubRouteUpdated event =
+        HubRouteUpdated.of(
+            hubId, version, List.of(), deletedRoutes.stream().map(HubRouteDelta::from).toList());
+    hubMessagePublisher.publish(event);
+    eventPublisher.publishEvent(event);
+  }
+
+  /**
+   * 신규 허브와 경로를 계산할 기존 활성 허브 목록과 신규 허브의 임시 경로를 조회한다.
+   *
+   * <p>경로 계산에는 허브 식별자와 좌표만 필요하므로 엔티티 대신 {@link HubSummary} 프로젝션으로 조회한다.
+   *
+   * @param hubId 신규 허브의 식별자
+   * @return 신규 허브와 신규 허브를 제외한 활성 허브 목록, 구간별 임시 경로 식별자
+   * @throws IllegalArgumentException 신규 허브가 활성 상태가 아닌 경우
+   */
+  private RouteTargets loadRouteTargets(UUID hubId) {
+    List<HubSummary> activeHubs = hubFinder.findAllActiveSummaries();
+
+    HubSummary newHub =
+        activeHubs.stream()
+            .filter(hub -> hub.hubId().equals(hubId))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("허브 정보를 찾을수 없습니다. id: " + hubId));
+    HubId newHubId = HubId.of(hubId);
+
+    List<HubSummary> hubs = activeHubs.stream().filter(hub -> hub != newHub).toList();
+
+    Map<RouteSection, Long> provisionalRouteIds = new HashMap<>();
+    for (HubRoute route : hubRouteRepository.findAllByHubId(newHubId)) {
+      if (route.isProvisional()) {
+        provisionalRouteIds.put(RouteSection.of(route), route.getId());
+      }
+    }
+
+    return new RouteTargets(newHub, hubs, provisionalRouteIds);
+  }
+
+  /**
+   * 계산된 경로 배치 하나를 저장하고 변경 로그와 메시지를 기록한다.
+   *
+   * <p>허브 삭제 후 경로 비활성화도 버전 행 잠금을 잡으므로, 잠금을 잡은 뒤 활성 허브를 다시 조회하여 그 사이 삭제된 허브의 경로를 되살리지 않는다.
+   * 저장하거나 확정한 경로가 없으면 메시지를 기록하지 않는다.
+   *
+   * @param hubId 신규 허브의 식별자
+   * @param batch 저장할 경로 배치
+   * @param targets 경로 계산 대상 허브
+   * @return 아웃박스에 기록한 배치의 {@link HubRouteUpdated}, 신규 허브가 활성 상태가 아니라면 {@code null}
+   */
+  private HubRouteUpdated persistBatch(UUID hubId, List<HubRoute> batch, RouteTargets targets) {
+    long version = hubRouteChangeLog.nextVersion();
+    Set<HubId> activeHubIds =
+        hubFinder.findAllActiveSummaries().stream()
+            .map(hub -> HubId.of(hub.hubId()))
+            .collect(Collectors.toSet());
+    if (!activeHubIds.contains(HubId.of(hubId))) {
+      return null;
+    }
+
+    List<HubRoute> changed = saveOrConfirm(batch, targets.provisionalRouteIds(), activeHubIds);
+    hubRouteChangeLog.recordUpserts(version, changed);
+    List<HubRouteDelta> deltas = changed.stream().map(HubRouteDelta::from).toList();
+    HubRouteUpdated event = HubRouteUpdated.of(hubId, version, deltas, List.of());
+    if (!deltas.isEmpty()) {
+      hubMessagePublisher.publish(event);
+    }
+    return event;
+  }
+
+  /**
+   * 지정한 일시 이전에 생성된 활성 임시 경로와 경로 계산 요청을 조회한다.
+   *
+   * @param createdBefore 생성 일시 상한
+   * @param limit 조회할 최대 경로 수
+   * @return 출발 허브와 도착 허브가 모두 활성 상태인 임시 경로 목록
+   */
+  private List<StaleRoute> loadStaleRoutes(LocalDateTime createdBefore, int limit) {
+    List<HubRoute> routes =
+        hubRouteRepository.findAllProvisionalCreatedBefore(createdBefore, Limit.of(limit));
+    if (routes.isEmpty()) {
+      return List.of();
+    }
+
+    Map<UUID, Coordinate> coordinates = new HashMap<>();
+    for (HubSummary hub : hubFinder.findAllActiveSummaries()) {
+      coordinates.put(hub.hubId(), hub.coordinate());
+    }
 
-    hubMessagePublisher.publish(HubRouteUpdated.of(hubId));
+    List<StaleRoute> staleRoutes = new ArrayList<>(routes.size());
+    for (HubRoute route : routes) {
+      Coordinate source = coordinates.get(route.getSourceHubId().toUuid());
+      Coordinate target = coordinates.get(route.getTargetHubId().toUuid());
+      if (source != null && target != null) {
+        staleRoutes.add(new StaleRoute(route.getId(), RouteQuery.of(source, target)));
+      }
+    }
+    return staleRoutes;
   }
 
   /**
-   * 두 허브 간의 양방향 경로를 생성한다.
+   * 계산된 값으로 임시 경로를 확정하고 변경 로그와 메시지를 기록한다.
    *
-   * @param hub1 허브 1
-   * @param hub2 허브 2
-   * @return 두 허브 간의 양방향 {@link HubRoute} 리스트
+   * <p>버전 행 잠금을 잡은 뒤 경로를 다시 조회하므로, 조회 이후 확정되었거나 비활성화된 경로는 건너뛴다.
+   *
+   * @param responsesByRouteId 경로 식별자별 경로 계산 결과
+   * @return 아웃박스에 기록한 {@link HubRouteUpdated}
    */
-  private List<HubRoute> createBidirectionalRoutes(Hub hub1, Hub hub2) {
-    RouteResponse routeTo = routeCalculator.getRoute(hub1.getCoordinate(), hub2.getCoordinate());
-    HubRoute route1 =
-        HubRoute.create(
-            hub1.getId(), hub2.getId(), routeTo.distanceKm(), routeTo.durationMinutes());
-
-    RouteResponse routeFrom = routeCalculator.getRoute(hub2.getCoordinate(), hub1.getCoordinate());
-    HubRoute route2 =
-        HubRoute.create(
-            hub2.getId(), hub1.getId(), routeFrom.distanceKm(), routeFrom.durationMinutes());
-
-    return List.of(route1, route2);
+  private HubRouteUpdated confirmStaleRoutes(Map<Long, RouteResponse> responsesByRouteId) {
+    long version = hubRouteChangeLog.nextVersion();
+    List<HubRoute> confirmed = new ArrayList<>(responsesByRouteId.size());
+    for (HubRoute route : hubRouteRepository.findAllById(responsesByRouteId.keySet())) {
+      if (route.isProvisional() && route.getDeletedAt() == null) {
+        RouteResponse response = responsesByRouteId.get(route.getId());
+        route.confirm(response.distanceKm(), response.durationMinutes());
+        confirmed.add(route);
+      }
+    }
+    hubRouteChangeLog.recordUpserts(version, confirmed);
+    HubRouteUpdated event =
+        HubRouteUpdated.of(
+            null, version, confirmed.stream().map(HubRouteDelta::from).toList(), List.of());
+    hubMessagePublisher.publish(event);
+    return event;
+  }
+
+  /**
+   * 기존 허브 각각과 신규 허브 간의 양방향 경로 계산 요청을 생성한다.
+   *
+   * @param hubs 기존 허브 목록
+   * @param newHub 신규 허브
+   * @return 기존 허브 → 신규 허브, 신규 허브 → 기존 허브 순서의 {@link RouteQuery} 리스트
+   */
+  private List<RouteQuery> createBidirectionalQueries(List<HubSummary> hubs, HubSummary newHub) {
+    Coordinate newHubCoordinate = newHub.coordinate();
+    List<RouteQuery> queries = new ArrayList<>(hubs.size() * 2);
+    for (HubSummary hub : hubs) {
+      Coordinate coordinate = hub.coordinate();
+      queries.add(RouteQuery.of(coordinate, newHubCoordinate));
+      queries.add(RouteQuery.of(newHubCoordinate, coordinate));
+    }
+    return queries;
+  }
+
+  /**
+   * 기존 허브 각각과 신규 허브 간의 양방향 경로를 생성한다.
+   *
+   * @param hubs 기존 허브 목록
+   * @param newHub 신규 허브
+   * @param responses {@link #createBidirectionalQueries(List, HubSummary)} 순서의 경로 계산 결과
+   * @param provisional 임시 경로 여부
+   * @return 기존 허브 → 신규 허브, 신규 허브 → 기존 허브 순서의 {@link HubRoute} 리스트
+   */
+  private List<HubRoute> createBidirectionalRoutes(
+      List<HubSummary> hubs,
+      HubSummary newHub,
+      List<RouteResponse> responses,
+      boolean provisional) {
+    HubId newHubId = HubId.of(newHub.hubId());
+    List<HubRoute> routes = new ArrayList<>(responses.size());
+    for (int i = 0; i < hubs.size(); i++) {
+      HubId hubId = HubId.of(hubs.get(i).hubId());
+      routes.add(createRoute(hubId, newHubId, responses.get(i * 2), provisional));
+      routes.add(createRoute(newHubId, hubId, responses.get(i * 2 + 1), provisional));
+    }
+    return routes;
+  }
+
+  private HubRoute createRoute(
+      HubId source, HubId target, RouteResponse response, boolean provisional) {
+    return provisional
+        ? HubRoute.createProvisional(
+            source, target, response.distanceKm(), response.durationMinutes())
+        : HubRoute.create(source, target, response.distanceKm(), response.durationMinutes());
+  }
+
+  /**
+   * 계산된 경로를 저장한다. 같은 구간의 임시 경로가 있으면 새로 저장하지 않고 해당 경로를 확정한다.
+   *
+   * <p>임시 경로를 조회했던 구간은 그 경로가 여전히 활성 임시 경로일 때만 확정하며, 그 사이 확정되었거나 비활성화되었다면 새 경로를 만들지 않고
+   * 건너뛴다. 그렇지 않으면 삭제된 허브의 경로가 되살아나거나 같은 구간의 경로가 중복된다.
+   *
+   * @param routes 계산된 경로 목록
+   * @param provisionalRouteIds 구간별 임시 경로 식별자
+   * @param activeHubIds 활성 허브 식별자, 출발 또는 도착 허브가 포함되지 않은 구간은 건너뛴다
+   * @return 새로 저장되었거나 확정된 경로 목록
+   */
+  private List<HubRoute> saveOrConfirm(
+      List<HubRoute> routes, Map<RouteSection, Long> provisionalRouteIds, Set<HubId> activeHubIds) {
+    List<Long> ids = new ArrayList<>();
+    for (HubRoute route : routes) {
+      Long id = provisionalRouteIds.get(RouteSection.of(route));
+      if (id != null) {
+        ids.add(id);
+      }
+    }
+
+    Map<RouteSection, HubRoute> provisionalRoutes = new HashMap<>();
+    if (!ids.isEmpty()) {
+      for (HubRoute route : hubRouteRepository.findAllById(ids)) {
+        if (route.isProvisional() && route.getDeletedAt() == null) {
+          provisionalRoutes.put(RouteSection.of(route), route);
+        }
+      }
+    }
+
+    List<HubRoute> newRoutes = new ArrayList<>(routes.size());
+    List<HubRoute> changedRoutes = new ArrayList<>(routes.size());
+    for (HubRoute route : routes) {
+      RouteSection section = RouteSection.of(route);
+      if (!activeHubIds.contains(section.source()) || !activeHubIds.contains(section.target())) {
+        continue;
+      }
+      HubRoute provisional = provisionalRoutes.get(section);
+      if (provisional != null) {
+        provisional.confirm(route.getDistanceKm(), route.getDurationMinutes());
+        changedRoutes.add(provisional);
+      } else if (!provisionalRouteIds.containsKey(section)) {
+        newRoutes.add(route);
+        changedRoutes.add(route);
+      }
+    }
+    hubRouteRepository.saveAll(newRoutes);
+    return changedRoutes;
+  }
+
+  /**
+   * 경로 계산 대상 허브.
+   *
+   * @param newHub 신규 허브
+   * @param hubs 신규 허브를 제외한 활성 허브 목록
+   * @param provisionalRouteIds 신규 허브와 연결된 구간별 임시 경로 식별자
+   */
+  private record RouteTargets(
+      HubSummary newHub, List<HubSummary> hubs, Map<RouteSection, Long> provisionalRouteIds) {}
+
+  /**
+   * 확정할 임시 경로.
+   *
+   * @param routeId 임시 경로 식별자
+   * @param query 임시 경로 구간의 경로 계산 요청
+   */
+  private record StaleRoute(Long routeId, RouteQuery query) {}
+
+  /**
+   * 출발 허브와 도착 허브로 구분되는 경로 구간.
+   *
+   * @param source 출발 허브 식별자
+   * @param target 도착 허브 식별자
+   */
+  private record RouteSection(HubId source, HubId target) {
+
+    static RouteSection of(HubRoute route) {
+      return new RouteSection(route.getSourceHubId(), route.getTargetHubId());
+    }
   }
 }
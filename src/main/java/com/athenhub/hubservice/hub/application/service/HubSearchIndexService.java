@@ -0,0 +1,162 @@
+package com.athenhub.hubservice.hub.application.service;
+
+import com.athenhub.hubservice.hub.domain.HubRepository;
+import com.athenhub.hubservice.hub.domain.dto.HubSearchCondition;
+import com.athenhub.hubservice.hub.domain.dto.HubSummary;
+import com.athenhub.hubservice.hub.domain.search.HubPrefixTrie;
+import com.athenhub.hubservice.hub.domain.search.HubSearchIndex;
+import com.athenhub.hubservice.hub.domain.vo.HubId;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 메모리 상의 허브 검색 색인({@link HubSearchIndex})과 자동 완성용 접두사 트라이({@link HubPrefixTrie})를 관리하고 검색을 제공하는
+ * 서비스.
+ *
+ * <p>기동 시 전체 허브를 읽어 색인을 구성하고, 이후에는 허브 등록, 수정, 삭제, 관리자 변경 이벤트가 커밋된 뒤 해당 허브만 다시 읽어 색인을 갱신한다. 검색은
+ * 데이터베이스에 접근하지 않는다.
+ *
+ * <p>자동 완성 결과는 허브 조회 응답 횟수(사용 점수)가 높은 순으로 정렬된다. 관리 작업을 위한 엔티티 조회는 사용 점수에 반영하지 않는다. 사용 점수는 인스턴스
+ * 메모리에만 보관된다.
+ *
+ * <p>색인은 인스턴스마다 따로 유지된다. 다른 인스턴스에서 변경된 허브는 메시지 브로커로 전달된 변경 이벤트를 받아 갱신하므로, 커밋 직후의 변경은 잠시 반영되지
+ * 않을 수 있다.
+ *
+ * <p>전체 재구성과 허브 단위 갱신은 같은 잠금 안에서 실행된다. 재구성이 전체 허브를 읽은 뒤 색인을 교체하기 전에 갱신이 끼어들면 그 갱신이 교체로 사라지므로,
+ * 갱신은 재구성이 끝날 때까지 기다렸다가 최신 허브를 다시 읽는다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HubSearchIndexService {
+  private final HubRepository hubRepository;
+
+  private final HubSearchIndex index = new HubSearchIndex();
+  private final HubPrefixTrie trie = new HubPrefixTrie();
+  private final Map<UUID, LongAdder> usageScores = new ConcurrentHashMap<>();
+
+  private volatile boolean loaded;
+
+  /** 전체 허브를 다시 읽어 색인을 재구성한다. */
+  @Transactional(readOnly = true)
+  public synchronized void rebuild() {
+    List<HubSummary> hubs = hubRepository.findAllSummaries();
+    index.replaceAll(hubs);
+    trie.clear();
+    hubs.stream().filter(hub -> !hub.isDeleted()).forEach(this::putSuggestion);
+    loaded = true;
+    log.info("허브 검색 색인 구성 완료. hubs: {}", hubs.size());
+  }
+
+  /**
+   * 특정 허브를 다시 읽어 색인을 갱신한다. 허브가 존재하지 않으면 색인에서 제거한다.
+   *
+   * @param hubId 갱신할 허브 식별자
+   */
+  @Transactional(readOnly = true)
+  public synchronized void reindex(UUID hubId) {
+    Optional<HubSummary> hub = hubRepository.findSummaryById(HubId.of(hubId));
+    hub.ifPresentOrElse(index::put, () -> index.remove(hubId));
+
+    if (hub.isPresent() && !hub.get().isDeleted()) {
+      putSuggestion(hub.get());
+    } else {
+      trie.remove(hubId);
+      usageScores.remove(hubId);
+    }
+  }
+
+  /**
+   * 색인에서 허브를 검색한다.
+   *
+   * <p>기동 직후 아직 색인이 구성되지 않았다면 즉시 구성한다.
+   *
+   * @param searchCondition 허브 검색 조건
+   * @param pageable 페이징 및 정렬 정보
+   * @return 검색 결과 페이지
+   */
+  public Page<HubSummary> search(HubSearchCondition searchCondition, Pageable pageable) {
+    ensureLoaded();
+    return index.search(searchCondition.keyword(), searchCondition.includeDeleted(), pageable);
+  }
+
+  /**
+   * 허브명 또는 기본 주소의 단어가 접두사로 시작하는 활성 허브를 사용 점수가 높은 순으로 조회한다.
+   *
+   * @param prefix 접두사
+   * @param size 조회할 최대 건수
+   * @return 자동 완성 후보 허브 목록
+   */
+  public List<HubSummary> suggest(String prefix, int size) {
+    ensureLoaded();
+    Set<UUID> hubIds = trie.findByPrefix(prefix);
+
+    Comparator<Candidate> ranking =
+        Comparator.comparingLong(Candidate::score)
+            .reversed()
+            .thenComparing(candidate -> candidate.hub().name());
+
+    // 후보 전체를 정렬하지 않고 크기가 size인 힙으로 상위 후보만 골라낸다.
+    PriorityQueue<Candidate> top = new PriorityQueue<>(size + 1, ranking.reversed());
+    for (UUID hubId : hubIds) {
+      index.find(hubId).ifPresent(hub -> top.offer(new Candidate(hub, usageScore(hubId))));
+      if (top.size() > size) {
+        top.poll();
+      }
+    }
+    return top.stream().sorted(ranking).map(Candidate::hub).toList();
+  }
+
+  /**
+   * 허브의 사용 점수를 1 증가시킨다.
+   *
+   * @param hubId 사용된 허브 식별자
+   */
+  public void recordUsage(UUID hubId) {
+    usageScores.computeIfAbsent(hubId, key -> new LongAdder()).increment();
+  }
+
+  private long usageScore(UUID hubId) {
+    LongAdder score = usageScores.get(hubId);
+    return score == null ? 0 : score.sum();
+  }
+
+  private void putSuggestion(HubSummary hub) {
+    trie.put(hub.hubId(), Arrays.asList(hub.name(), hub.streetAddress()));
+  }
+
+  private void ensureLoaded() {
+    if (!loaded) {
+      synchronized (this) {
+        if (!loaded) {
+          rebuild();
+        }
+      }
+    }
+  }
+
+  /**
+   * 자동 완성 후보. 정렬 중 점수가 바뀌지 않도록 조회 시점의 사용 점수를 함께 보관한다.
+   *
+   * @param hub 허브 요약 정보
+   * @param score 사용 점수
+   */
+  private record Candidate(HubSummary hub, long score) {}
+}
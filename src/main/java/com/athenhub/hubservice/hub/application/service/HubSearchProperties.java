@@ -0,0 +1,50 @@
+package com.athenhub.hubservice.hub.application.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 허브 키워드 검색 설정 정보를 바인딩하는 Properties 클래스이다.
+ *
+ * <p>주요 설정 값:
+ *
+ * <ul>
+ *   <li>{@code mode} : 키워드 검색 방식 ({@code like}, {@code trigram}, {@code memory})
+ * </ul>
+ *
+ * <p>예시:
+ *
+ * <pre>
+ * hub:
+ *   search:
+ *     mode: trigram
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "hub.search")
+public class HubSearchProperties {
+  /** 키워드 검색 방식. */
+  private Mode mode = Mode.LIKE;
+
+  /** 허브 키워드 검색 방식. */
+  public enum Mode {
+    /** 키워드 유무를 하나의 쿼리에서 분기하는 기본 LIKE 검색. 인덱스를 사용하지 않는다. */
+    LIKE,
+
+    /**
+     * PostgreSQL {@code pg_trgm} GIN 인덱스를 사용할 수 있는 형태의 LIKE 검색. 키워드 유무에 따라 쿼리를 분리하며,
+     * 인덱스가 없는 데이터베이스(H2 등)에서도 같은 결과를 반환한다.
+     */
+    TRIGRAM,
+
+    /**
+     * 메모리 상의 n-gram 역색인({@code HubSearchIndex})을 사용하는 검색. 데이터베이스에 접근하지 않으며, 초성 키워드(예: "ㅅㅇ")도
+     * 검색할 수 있다. 요약 정보 검색({@code HubFinder#searchSummaries})에만 적용되며, 커서 검색은 모드와 관계없이 같은 쿼리를
+     * 사용한다.
+     */
+    MEMORY
+  }
+}
@@ -0,0 +1,31 @@
+package com.athenhub.hubservice.hub.application.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 허브 경로 변경 로그 설정 정보를 바인딩하는 Properties 클래스이다.
+ *
+ * <p>주요 설정 값:
+ *
+ * <ul>
+ *   <li>{@code retainedVersions} : 변경 로그에 남겨 둘 최근 경로 버전 수. 이보다 오래된 버전을 기준으로 한 변경 조회는 전체 스냅샷으로 응답한다.
+ * </ul>
+ *
+ * <p>예시:
+ *
+ * <pre>
+ * route:
+ *   changes:
+ *     retained-versions: 10000
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "route.changes")
+public class RouteChangeLogProperties {
+  /** 변경 로그에 남겨 둘 최근 경로 버전 수. */
+  private long retainedVersions = 10_000;
+}
@@ -0,0 +1,31 @@
+package com.athenhub.hubservice.hub.application.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 신규 허브 경로 계산 파이프라인 설정 정보를 바인딩하는 Properties 클래스이다.
+ *
+ * <p>주요 설정 값:
+ *
+ * <ul>
+ *   <li>{@code persistBatchSize} : 계산된 경로를 저장할 때 하나의 쓰기 트랜잭션에서 저장할 최대 경로 수
+ * </ul>
+ *
+ * <p>예시:
+ *
+ * <pre>
+ * route:
+ *   pipeline:
+ *     persist-batch-size: 500
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "route.pipeline")
+public class RoutePipelineProperties {
+  /** 하나의 쓰기 트랜잭션에서 저장할 최대 경로 수. */
+  private int persistBatchSize = 500;
+}
@@ -0,0 +1,36 @@
+package com.athenhub.hubservice.hub.domain;
+
+import com.athenhub.hubservice.hub.domain.dto.HubCursor;
+import com.athenhub.hubservice.hub.domain.dto.HubCursorOrder;
+import com.athenhub.hubservice.hub.domain.dto.HubSummary;
+import java.util.List;
+
+/**
+ * 허브 커서 검색 저장소 인터페이스.
+ *
+ * <p>{@link HubRepository}가 상속하는 Spring Data 저장소 조각(fragment)으로, 구현은 {@code
+ * HubCursorRepositoryImpl}이 담당한다. 키워드, 삭제 여부, 커서 위치, 정렬 기준에 따라 필요한 조건만 붙인 쿼리 하나로 조회하므로 검색 모드나 정렬
+ * 기준마다 쿼리를 따로 두지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public interface HubCursorRepository {
+
+  /**
+   * 커서 위치 이후의 허브를 정렬 기준에 따라 {@link HubSummary} 프로젝션으로 조회한다.
+   *
+   * <p>키워드가 주어지면 허브명, 기본 주소, 상세 주소에 대한 부분 일치 조건을 붙이고, 키워드가 없으면 조건 없이 조회한다. 커서가 주어지면 정렬 키와 허브
+   * 식별자가 커서 이후인 허브만 조회하므로 {@code (name, id)} 또는 {@code (created_at, id)} 인덱스를 커서 위치부터 범위 탐색한다. 전체
+   * 개수는 조회하지 않는다.
+   *
+   * @param keyword 대문자로 변환된 부분 검색 키워드 (null 허용 — 조건 미적용)
+   * @param includeDeleted 삭제된 허브를 포함해 검색할지 여부
+   * @param order 정렬 기준. 허브명은 오름차순, 생성 일시는 내림차순이며 같은 값은 허브 식별자로 정렬한다.
+   * @param after 마지막으로 조회한 허브의 커서, 첫 페이지라면 {@code null}
+   * @param limit 조회할 최대 건수
+   * @return 정렬 기준에 따른 {@link HubSummary} 목록
+   */
+  List<HubSummary> findByCursor(
+      String keyword, boolean includeDeleted, HubCursorOrder order, HubCursor after, int limit);
+}
@@ -0,0 +1,69 @@
+package com.athenhub.hubservice.hub.domain;
+
+import com.athenhub.hubservice.hub.domain.dto.HubCursor;
+import com.athenhub.hubservice.hub.domain.dto.HubCursorOrder;
+import com.athenhub.hubservice.hub.domain.dto.HubSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link HubCursorRepository}의 JPQL 구현체.
+ *
+ * <p>{@link HubQueries}의 프로젝션과 검색 조건 조각에 주어진 인자에 필요한 조건만 이어 붙여 쿼리를 만든다. 키워드나 삭제 여부 조건을 {@code
+ * :keyword IS NULL OR ...} 형태로 남겨 두지 않으므로 PostgreSQL은 키워드 검색에 {@code pg_trgm} GIN 인덱스를, 목록 조회에 정렬
+ * 인덱스를 사용할 수 있다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+class HubCursorRepositoryImpl implements HubCursorRepository {
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  public List<HubSummary> findByCursor(
+      String keyword, boolean includeDeleted, HubCursorOrder order, HubCursor after, int limit) {
+    List<String> conditions = new ArrayList<>();
+    if (Objects.nonNull(keyword)) {
+      conditions.add(HubQueries.KEYWORD_MATCHES);
+    }
+    if (!includeDeleted) {
+      conditions.add(HubQueries.NOT_DELETED);
+    }
+    if (Objects.nonNull(after)) {
+      conditions.add(
+          switch (order) {
+            case NAME -> "(h.name, h.id.id) > (:name, :hubId)\n";
+            case CREATED_AT -> "(h.createdAt, h.id.id) < (:createdAt, :hubId)\n";
+          });
+    }
+
+    StringBuilder jpql = new StringBuilder(HubQueries.SELECT_SUMMARY);
+    if (!conditions.isEmpty()) {
+      jpql.append("WHERE ").append(String.join("AND ", conditions));
+    }
+    jpql.append(
+        switch (order) {
+          case NAME -> "ORDER BY h.name ASC, h.id.id ASC";
+          case CREATED_AT -> "ORDER BY h.createdAt DESC, h.id.id DESC";
+        });
+
+    TypedQuery<HubSummary> query =
+        entityManager.createQuery(jpql.toString(), HubSummary.class).setMaxResults(limit);
+    if (Objects.nonNull(keyword)) {
+      query.setParameter("keyword", keyword);
+    }
+    if (Objects.nonNull(after)) {
+      query.setParameter("hubId", after.hubId());
+      switch (order) {
+        case NAME -> query.setParameter("name", after.name());
+        case CREATED_AT -> query.setParameter("createdAt", after.createdAt());
+      }
+    }
+    return query.getResultList();
+  }
+}
@@ -0,0 +1,52 @@
+package com.athenhub.hubservice.hub.domain;
+
+/**
+ * 허브 조회 쿼리에서 공통으로 사용하는 JPQL 조각.
+ *
+ * <p>{@link HubRepository}의 {@code @Query}와 {@link HubCursorRepositoryImpl}의 동적 쿼리가 같은 프로젝션과 검색 조건을
+ * 사용하도록 한 곳에 모아 둔다. 모든 조각은 허브 엔티티의 별칭을 {@code h}로 가정한다. 컴파일 시점 상수이므로 애너테이션 값에서도 이어 붙여 사용할 수
+ * 있다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+final class HubQueries {
+
+  /** {@link com.athenhub.hubservice.hub.domain.dto.HubSummary} 프로젝션으로 조회하는 SELECT, FROM 절. */
+  static final String SELECT_SUMMARY =
+      """
+      SELECT new com.athenhub.hubservice.hub.domain.dto.HubSummary(
+        h.id.id, h.name, h.address.street, h.address.detail,
+        h.coordinate.latitude, h.coordinate.longitude, h.managerId.id, h.createdAt, h.deletedAt
+      )
+      FROM Hub h
+      """;
+
+  /**
+   * 허브명, 기본 주소, 상세 주소 중 하나에 {@code :keyword}가 포함되는 조건.
+   *
+   * <p>{@code :keyword IS NULL} 분기가 없으므로 PostgreSQL에서는 {@code upper(컬럼)}에 대한 {@code pg_trgm} GIN
+   * 인덱스로 처리할 수 있다.
+   */
+  static final String KEYWORD_MATCHES =
+      """
+      (
+        upper(h.name) LIKE CONCAT('%', :keyword, '%')
+        OR upper(h.address.street) LIKE CONCAT('%', :keyword, '%')
+        OR upper(h.address.detail) LIKE CONCAT('%', :keyword, '%')
+      )
+      """;
+
+  /** {@code :keyword}가 {@code null}이면 적용되지 않는 {@link #KEYWORD_MATCHES}. */
+  static final String KEYWORD_MATCHES_IF_PRESENT =
+      "(:keyword IS NULL OR " + KEYWORD_MATCHES + ")\n";
+
+  /** 삭제되지 않은 허브만 조회하는 조건. */
+  static final String NOT_DELETED = "h.deletedAt IS NULL\n";
+
+  /** {@code :includeDeleted}가 {@code false}이면 삭제되지 않은 허브만 조회하는 조건. */
+  static final String NOT_DELETED_UNLESS_INCLUDED =
+      "(:includeDeleted = TRUE OR h.deletedAt IS NULL)\n";
+
+  private HubQueries() {}
+}
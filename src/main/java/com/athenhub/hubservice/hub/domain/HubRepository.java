@@ -1,5 +1,6 @@
 package com.athenhub.hubservice.hub.domain;
 
+import com.athenhub.hubservice.hub.domain.dto.HubSummary;
 import com.athenhub.hubservice.hub.domain.vo.HubId;
 import java.util.List;
 import java.util.Optional;
@@ -22,12 +23,13 @@ import org.springframework.data.repository.query.Param;
  *   <li>식별자를 기반으로 한 단건 조회
  * </ul>
  *
- * <p>도메인 계층에서는 해당 저장소를 통해 영속성 레이어에 접근하며, Spring Data 구현체는 런타임 시 자동 생성된다.
+ * <p>도메인 계층에서는 해당 저장소를 통해 영속성 레이어에 접근하며, Spring Data 구현체는 런타임 시 자동 생성된다. 조회 쿼리의 프로젝션과 검색
+ * 조건은 {@code HubQueries}의 조각을 이어 붙여 만들고, 커서 검색은 {@link HubCursorRepository} 조각이 담당한다.
  *
  * @author 김형섭
  * @since 1.0.0
  */
-public interface HubRepository extends Repository<Hub, HubId> {
+public interface HubRepository extends Repository<Hub, HubId>, HubCursorRepository {
 
   /**
    * 허브 엔티티를 저장한다.
@@ -54,6 +56,23 @@ public interface HubRepository extends Repository<Hub, HubId> {
    */
   List<Hub> findAllByDeletedAtIsNull();
 
+  /**
+   * 삭제된 허브를 포함한 모든 허브를 {@link HubSummary} 프로젝션으로 조회한다.
+   *
+   * @return 조회된 {@link HubSummary} 목록
+   */
+  @Query(HubQueries.SELECT_SUMMARY)
+  List<HubSummary> findAllSummaries();
+
+  /**
+   * 식별자를 기준으로 허브를 {@link HubSummary} 프로젝션으로 조회한다. 삭제된 허브도 조회된다.
+   *
+   * @param id 허브 식별자
+   * @return 조회된 {@link HubSummary}(Optional)
+   */
+  @Query(HubQueries.SELECT_SUMMARY + "WHERE h.id = :id")
+  Optional<HubSummary> findSummaryById(@Param("id") HubId id);
+
   /**
    * 다양한 조건을 기반으로 {@link Hub} 엔티티를 검색한다.
    *
@@ -74,19 +93,118 @@ public interface HubRepository extends Repository<Hub, HubId> {
    * @return 검색 조건을 적용한 {@link Hub} 페이지 결과
    */
   @Query(
-      """
-          SELECT h FROM Hub h
-          WHERE (
-             :keyword IS NULL OR (
-               upper(h.name) LIKE %:keyword%
-               OR upper(h.address.street) LIKE %:keyword%
-               OR upper(h.address.detail) LIKE %:keyword%
-             )
-          )
-          AND (:includeDeleted = TRUE OR h.deletedAt IS NULL)
-      """)
+      "SELECT h FROM Hub h WHERE "
+          + HubQueries.KEYWORD_MATCHES_IF_PRESENT
+          + "AND "
+          + HubQueries.NOT_DELETED_UNLESS_INCLUDED)
   Page<Hub> search(
       @Param("keyword") String keyword,
       @Param("includeDeleted") boolean includeDeleted,
       Pageable pageable);
+
+  /**
+   * 키워드로 {@link Hub} 엔티티를 검색한다.
+   *
+   * <p>{@link #search(String, boolean, Pageable)}와 같은 조건이지만 키워드가 반드시 주어지는 경우에만 사용한다.
+   * {@code :keyword IS NULL} 분기가 없으므로 PostgreSQL에서는 {@code upper(컬럼)}에 대한 {@code pg_trgm} GIN 인덱스로
+   * 처리할 수 있다.
+   *
+   * @param keyword 대문자로 변환된 부분 검색 키워드 (null 불가)
+   * @param includeDeleted 삭제된 허브를 포함해 검색할지 여부
+   * @param pageable 페이징 및 정렬 정보
+   * @return 검색 조건을 적용한 {@link Hub} 페이지 결과
+   */
+  @Query(
+      "SELECT h FROM Hub h WHERE "
+          + HubQueries.KEYWORD_MATCHES
+          + "AND "
+          + HubQueries.NOT_DELETED_UNLESS_INCLUDED)
+  Page<Hub> searchByKeyword(
+      @Param("keyword") String keyword,
+      @Param("includeDeleted") boolean includeDeleted,
+      Pageable pageable);
+
+  /**
+   * 키워드 없이 {@link Hub} 엔티티를 조회한다.
+   *
+   * @param includeDeleted 삭제된 허브를 포함해 조회할지 여부
+   * @param pageable 페이징 및 정렬 정보
+   * @return 삭제 여부 조건을 적용한 {@link Hub} 페이지 결과
+   */
+  @Query("SELECT h FROM Hub h WHERE " + HubQueries.NOT_DELETED_UNLESS_INCLUDED)
+  Page<Hub> findAllForSearch(@Param("includeDeleted") boolean includeDeleted, Pageable pageable);
+
+  /**
+   * 삭제되지 않은 허브를 전부 {@link HubSummary} 프로젝션으로 조회한다.
+   *
+   * @return 조회된 {@link HubSummary} 목록
+   */
+  @Query(HubQueries.SELECT_SUMMARY + "WHERE " + HubQueries.NOT_DELETED)
+  List<HubSummary> findAllActiveSummaries();
+
+  /**
+   * {@link #search(String, boolean, Pageable)}와 같은 조건으로 허브를 검색하여 {@link HubSummary} 프로젝션으로 조회한다.
+   *
+   * <p>응답에 필요한 컬럼만 조회하며 엔티티를 영속성 컨텍스트에 적재하지 않는다.
+   *
+   * @param keyword 허브 이름 또는 주소 기반 부분 검색 키워드 (null 허용 — 조건 미적용)
+   * @param includeDeleted 삭제된 허브를 포함해 검색할지 여부
+   * @param pageable 페이징 및 정렬 정보
+   * @return 검색 조건을 적용한 {@link HubSummary} 페이지 결과
+   */
+  @Query(
+      value =
+          HubQueries.SELECT_SUMMARY
+              + "WHERE "
+              + HubQueries.KEYWORD_MATCHES_IF_PRESENT
+              + "AND "
+              + HubQueries.NOT_DELETED_UNLESS_INCLUDED,
+      countQuery =
+          "SELECT count(h) FROM Hub h WHERE "
+              + HubQueries.KEYWORD_MATCHES_IF_PRESENT
+              + "AND "
+              + HubQueries.NOT_DELETED_UNLESS_INCLUDED)
+  Page<HubSummary> searchSummaries(
+      @Param("keyword") String keyword,
+      @Param("includeDeleted") boolean includeDeleted,
+      Pageable pageable);
+
+  /**
+   * {@link #searchByKeyword(String, boolean, Pageable)}와 같은 조건으로 허브를 검색하여 {@link HubSummary} 프로젝션으로
+   * 조회한다.
+   *
+   * @param keyword 대문자로 변환된 부분 검색 키워드 (null 불가)
+   * @param includeDeleted 삭제된 허브를 포함해 검색할지 여부
+   * @param pageable 페이징 및 정렬 정보
+   * @return 검색 조건을 적용한 {@link HubSummary} 페이지 결과
+   */
+  @Query(
+      value =
+          HubQueries.SELECT_SUMMARY
+              + "WHERE "
+              + HubQueries.KEYWORD_MATCHES
+              + "AND "
+              + HubQueries.NOT_DELETED_UNLESS_INCLUDED,
+      countQuery =
+          "SELECT count(h) FROM Hub h WHERE "
+              + HubQueries.KEYWORD_MATCHES
+              + "AND "
+              + HubQueries.NOT_DELETED_UNLESS_INCLUDED)
+  Page<HubSummary> searchSummariesByKeyword(
+      @Param("keyword") String keyword,
+      @Param("includeDeleted") boolean includeDeleted,
+      Pageable pageable);
+
+  /**
+   * 키워드 없이 허브를 {@link HubSummary} 프로젝션으로 조회한다.
+   *
+   * @param includeDeleted 삭제된 허브를 포함해 조회할지 여부
+   * @param pageable 페이징 및 정렬 정보
+   * @return 삭제 여부 조건을 적용한 {@link HubSummary} 페이지 결과
+   */
+  @Query(
+      value = HubQueries.SELECT_SUMMARY + "WHERE " + HubQueries.NOT_DELETED_UNLESS_INCLUDED,
+      countQuery = "SELECT count(h) FROM Hub h WHERE " + HubQueries.NOT_DELETED_UNLESS_INCLUDED)
+  Page<HubSummary> findAllSummariesForSearch(
+      @Param("includeDeleted") boolean includeDeleted, Pageable pageable);
 }
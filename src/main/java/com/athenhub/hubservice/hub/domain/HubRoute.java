@@ -9,12 +9,14 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.util.Objects;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.proxy.HibernateProxy;
 
 /**
@@ -33,6 +35,8 @@ import org.hibernate.proxy.HibernateProxy;
  *   <li>{@code targetHubId} — 도착 허브의 식별자
  *   <li>{@code distanceKm} — 허브 간 거리(km 단위)
  *   <li>{@code durationMinutes} — 이동 예상 소요 시간(분 단위)
+ *   <li>{@code provisional} — 임시 경로 여부. 직선 거리 기반 추정치로 먼저 저장된 경로는 {@code true}이며, 외부 경로 API로 계산한
+ *       값으로 확정되면 {@code false}가 된다.
  * </ul>
  *
  * @author 김형섭
@@ -45,8 +49,10 @@ import org.hibernate.proxy.HibernateProxy;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class HubRoute extends AbstractAuditEntity {
 
+  /* 경로 식별자. 시퀀스 값을 50개 단위로 미리 할당받아 JDBC 배치 INSERT가 가능하다. */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hub_route_seq")
+  @SequenceGenerator(name = "hub_route_seq", sequenceName = "p_hub_route_seq", allocationSize = 50)
   private Long id;
 
   @Embedded
@@ -61,6 +67,10 @@ public class HubRoute extends AbstractAuditEntity {
 
   private Integer durationMinutes;
 
+  @ColumnDefault("false")
+  @Column(nullable = false)
+  private boolean provisional;
+
   /**
    * 출발 허브와 도착 허브 간의 경로 정보를 기반으로 {@link HubRoute} 엔티티를 생성한다.
    *
@@ -86,6 +96,39 @@ public class HubRoute extends AbstractAuditEntity {
     return route;
   }
 
+  /**
+   * 추정치로 계산한 임시 경로 엔티티를 생성한다.
+   *
+   * <p>외부 경로 API 호출이 끝나기 전에 신규 허브를 경로 탐색에 바로 사용할 수 있도록 저장하며, 이후 {@link #confirm(Double, Integer)}로
+   * 확정된다.
+   *
+   * @param source 출발 허브 ID (null 불가)
+   * @param target 도착 허브 ID (null 불가)
+   * @param distanceKm 추정 거리(km). null 불가
+   * @param durationMinutes 추정 소요 시간(분). null 불가
+   * @return 생성된 임시 {@link HubRoute} 엔티티
+   * @throws NullPointerException 제공된 파라미터 중 하나라도 null일 경우 발생
+   */
+  public static HubRoute createProvisional(
+      HubId source, HubId target, Double distanceKm, Integer durationMinutes) {
+    HubRoute route = create(source, target, distanceKm, durationMinutes);
+    route.provisional = true;
+    return route;
+  }
+
+  /**
+   * 외부 경로 API로 계산한 값으로 경로를 확정한다.
+   *
+   * @param distanceKm 허브 간 거리(km). null 불가
+   * @param durationMinutes 허브 간 예상 소요 시간(분). null 불가
+   * @throws NullPointerException 제공된 파라미터 중 하나라도 null일 경우 발생
+   */
+  public void confirm(Double distanceKm, Integer durationMinutes) {
+    this.distanceKm = Objects.requireNonNull(distanceKm);
+    this.durationMinutes = Objects.requireNonNull(durationMinutes);
+    this.provisional = false;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
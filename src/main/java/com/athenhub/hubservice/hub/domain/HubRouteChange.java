@@ -0,0 +1,125 @@
+package com.athenhub.hubservice.hub.domain;
+
+import com.athenhub.hubservice.hub.domain.dto.HubRouteSummary;
+import com.athenhub.hubservice.hub.domain.vo.HubId;
+import com.athenhub.hubservice.hub.domain.vo.HubRouteChangeType;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 허브 경로 변경 로그 엔티티.
+ *
+ * <p>경로를 추가, 확정 또는 논리 삭제한 트랜잭션마다 {@link HubRouteVersion}에서 받은 경로 버전과 함께 변경된 구간을 한 행씩 기록한다. 하위
+ * 서비스는 마지막으로 반영한 버전 이후의 변경만 조회해 경로 목록을 갱신할 수 있다. 버전 순으로 조회하므로 {@code version} 컬럼에 인덱스를 둔다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Table(
+    name = "p_hub_route_change",
+    indexes = @Index(name = "idx_hub_route_change_version", columnList = "version"))
+@Entity
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HubRouteChange {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hub_route_change_seq")
+  @SequenceGenerator(
+      name = "hub_route_change_seq",
+      sequenceName = "p_hub_route_change_seq",
+      allocationSize = 50)
+  private Long id;
+
+  @Column(nullable = false)
+  private long version;
+
+  @Embedded
+  @AttributeOverride(name = "id", column = @Column(name = "source_hub_id", nullable = false))
+  private HubId sourceHubId;
+
+  @Embedded
+  @AttributeOverride(name = "id", column = @Column(name = "target_hub_id", nullable = false))
+  private HubId targetHubId;
+
+  private Double distanceKm;
+
+  private Integer durationMinutes;
+
+  @Column(nullable = false)
+  private boolean provisional;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 10)
+  private HubRouteChangeType type;
+
+  /**
+   * 경로의 현재 값으로 추가/갱신 변경을 생성한다.
+   *
+   * @param version 변경이 속한 경로 버전
+   * @param route 추가되었거나 확정된 경로
+   * @return 생성된 {@link HubRouteChange}
+   */
+  public static HubRouteChange upsert(long version, HubRoute route) {
+    return of(
+        version,
+        route.getSourceHubId(),
+        route.getTargetHubId(),
+        route.getDistanceKm(),
+        route.getDurationMinutes(),
+        route.isProvisional(),
+        HubRouteChangeType.UPSERT);
+  }
+
+  /**
+   * 논리 삭제된 경로의 삭제 변경을 생성한다.
+   *
+   * @param version 변경이 속한 경로 버전
+   * @param route 삭제 직전의 경로
+   * @return 생성된 {@link HubRouteChange}
+   */
+  public static HubRouteChange delete(long version, HubRouteSummary route) {
+    return of(
+        version,
+        HubId.of(route.sourceHubId()),
+        HubId.of(route.targetHubId()),
+        route.distanceKm(),
+        route.durationMinutes(),
+        route.provisional(),
+        HubRouteChangeType.DELETE);
+  }
+
+  private static HubRouteChange of(
+      long version,
+      HubId source,
+      HubId target,
+      Double distanceKm,
+      Integer durationMinutes,
+      boolean provisional,
+      HubRouteChangeType type) {
+    HubRouteChange change = new HubRouteChange();
+    change.version = version;
+    change.sourceHubId = source;
+    change.targetHubId = target;
+    change.distanceKm = distanceKm;
+    change.durationMinutes = durationMinutes;
+    change.provisional = provisional;
+    change.type = type;
+    return change;
+  }
+}
@@ -0,0 +1,55 @@
+package com.athenhub.hubservice.hub.domain;
+
+import com.athenhub.hubservice.hub.domain.dto.HubRouteChangeSummary;
+import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+/**
+ * 허브 경로 변경 로그(HubRouteChange) 엔티티에 대한 저장 및 조회 기능을 제공하는 리포지토리 인터페이스.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public interface HubRouteChangeRepository extends Repository<HubRouteChange, Long> {
+
+  /**
+   * 여러 개의 경로 변경을 일괄 저장한다.
+   *
+   * @param changes 저장할 HubRouteChange 엔티티 목록
+   * @param <S> HubRouteChange의 서브타입
+   * @return 저장된 엔티티 목록
+   */
+  <S extends HubRouteChange> List<S> saveAll(Iterable<S> changes);
+
+  /**
+   * 지정한 버전 이후의 경로 변경을 기록 순서대로 {@link HubRouteChangeSummary} 프로젝션으로 조회한다.
+   *
+   * <p>{@code idx_hub_route_change_version} 인덱스 범위 탐색으로 처리된다.
+   *
+   * @param version 기준 버전. 이 버전은 포함하지 않는다.
+   * @return 조회된 {@link HubRouteChangeSummary} 목록
+   */
+  @Query(
+      """
+        SELECT new com.athenhub.hubservice.hub.domain.dto.HubRouteChangeSummary(
+          c.sourceHubId.id, c.targetHubId.id, c.distanceKm, c.durationMinutes, c.provisional,
+          c.type
+        )
+        FROM HubRouteChange c
+        WHERE c.version > :version
+        ORDER BY c.version, c.id
+      """)
+  List<HubRouteChangeSummary> findAllAfter(long version);
+
+  /**
+   * 지정한 버전 이하의 경로 변경을 하나의 DELETE 문으로 삭제한다.
+   *
+   * @param version 삭제할 마지막 버전
+   * @return 삭제된 변경 수
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("DELETE FROM HubRouteChange c WHERE c.version <= :version")
+  int deleteAllThrough(long version);
+}
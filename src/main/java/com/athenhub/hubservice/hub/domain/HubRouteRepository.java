@@ -1,8 +1,13 @@
 package com.athenhub.hubservice.hub.domain;
 
+import com.athenhub.hubservice.hub.domain.dto.HubRouteSummary;
+import com.athenhub.hubservice.hub.domain.dto.RouteCalibrationSample;
 import com.athenhub.hubservice.hub.domain.vo.HubId;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 
@@ -48,6 +53,14 @@ public interface HubRouteRepository extends Repository<HubRoute, Long> {
    */
   Optional<HubRoute> findById(Long id);
 
+  /**
+   * ID 목록에 해당하는 허브 경로를 조회한다.
+   *
+   * @param ids 경로 식별자 목록
+   * @return 조회된 {@link HubRoute} 목록
+   */
+  List<HubRoute> findAllById(Iterable<Long> ids);
+
   /**
    * 특정 허브가 출발지 또는 도착지로 포함된 모든 경로를 조회한다.
    *
@@ -68,9 +81,114 @@ public interface HubRouteRepository extends Repository<HubRoute, Long> {
   List<HubRoute> findAllByHubId(HubId hubId);
 
   /**
-   * 활성 상태의 모든 허브 경로를 조회한다.
+   * 특정 허브가 출발지 또는 도착지로 포함된 모든 활성 경로를 하나의 UPDATE 문으로 논리 삭제한다.
+   *
+   * <p>엔티티를 영속성 컨텍스트에 적재하지 않으며, 실행 전에 영속성 컨텍스트를 flush하고 실행 후에는 비워서 이미 적재된 엔티티와 데이터베이스 상태가
+   * 어긋나지 않도록 한다. 감사 필드는 엔티티 감사 기능을 거치지 않으므로 호출자가 직접 전달해야 한다.
    *
+   * @param hubId 대상 허브 ID
+   * @param deletedBy 삭제자 계정
+   * @param updatedBy 수정자 계정
+   * @param deletedAt 삭제 일시. 수정 일시로도 기록된다.
+   * @return 논리 삭제된 경로 수
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      """
+        UPDATE HubRoute r
+        SET r.deletedAt = :deletedAt,
+          r.deletedBy = :deletedBy,
+          r.updatedAt = :deletedAt,
+          r.updatedBy = :updatedBy
+        WHERE (
+          r.sourceHubId = :hubId
+          OR r.targetHubId = :hubId
+        )
+        AND r.deletedAt IS NULL
+      """)
+  int softDeleteAllByHubId(
+      HubId hubId, String deletedBy, String updatedBy, LocalDateTime deletedAt);
+
+  /**
+   * 활성 상태의 모든 허브 경로를 {@link HubRouteSummary} 프로젝션으로 조회한다.
+   *
+   * <p>엔티티를 적재하지 않으므로 메모리 상의 경로 그래프 구성처럼 대량의 경로를 읽을 때 사용한다.
+   *
+   * @return 조회된 {@link HubRouteSummary} 목록
+   */
+  @Query(
+      """
+        SELECT new com.athenhub.hubservice.hub.domain.dto.HubRouteSummary(
+          r.sourceHubId.id, r.targetHubId.id, r.distanceKm, r.durationMinutes, r.provisional
+        )
+        FROM HubRoute r
+        WHERE r.deletedAt IS NULL
+      """)
+  List<HubRouteSummary> findAllActiveSummaries();
+
+  /**
+   * 특정 허브가 출발지 또는 도착지로 포함된 모든 활성 경로를 {@link HubRouteSummary} 프로젝션으로 조회한다.
+   *
+   * <p>허브 비활성화 시 논리 삭제할 경로를 변경 로그에 기록하는 데 사용된다.
+   *
+   * @param hubId 조회 기준이 되는 허브 ID
+   * @return 해당 허브와 연결된 활성 {@link HubRouteSummary} 목록
+   */
+  @Query(
+      """
+        SELECT new com.athenhub.hubservice.hub.domain.dto.HubRouteSummary(
+          r.sourceHubId.id, r.targetHubId.id, r.distanceKm, r.durationMinutes, r.provisional
+        )
+        FROM HubRoute r
+        WHERE (
+          r.sourceHubId = :hubId
+          OR r.targetHubId = :hubId
+        )
+        AND r.deletedAt IS NULL
+      """)
+  List<HubRouteSummary> findAllActiveSummariesByHubId(HubId hubId);
+
+  /**
+   * 확정된 활성 허브 경로를 출발/도착 허브 좌표와 함께 최근 수정 순으로 조회한다.
+   *
+   * <p>임시 경로 추정에 사용하는 도로 거리 비율과 평균 속도를 보정하는 데 사용된다.
+   *
+   * @param limit 조회할 최대 경로 수
+   * @return 조회된 {@link RouteCalibrationSample} 목록
+   */
+  @Query(
+      """
+        SELECT new com.athenhub.hubservice.hub.domain.dto.RouteCalibrationSample(
+          s.coordinate.latitude, s.coordinate.longitude,
+          t.coordinate.latitude, t.coordinate.longitude,
+          r.distanceKm, r.durationMinutes
+        )
+        FROM HubRoute r, Hub s, Hub t
+        WHERE r.sourceHubId.id = s.id.id
+        AND r.targetHubId.id = t.id.id
+        AND r.deletedAt IS NULL
+        AND r.provisional = false
+        ORDER BY r.updatedAt DESC
+      """)
+  List<RouteCalibrationSample> findCalibrationSamples(Limit limit);
+
+  /**
+   * 지정한 시각 이전에 생성된 활성 임시 경로를 오래된 순으로 조회한다.
+   *
+   * <p>외부 경로 API 호출이나 저장이 실패하여 확정되지 못하고 남은 임시 경로를 다시 확정하는 데 사용된다.
+   *
+   * @param createdBefore 생성 일시 상한
+   * @param limit 조회할 최대 경로 수
    * @return 조회된 {@link HubRoute} 목록
    */
-  List<HubRoute> findAllByDeletedAtIsNull();
+  @Query(
+      """
+        SELECT r
+        FROM HubRoute r
+        WHERE r.provisional = true
+        AND r.deletedAt IS NULL
+        AND r.createdAt < :createdBefore
+        ORDER BY r.createdAt, r.id
+      """)
+  List<HubRoute> findAllProvisionalCreatedBefore(LocalDateTime createdBefore, Limit limit);
 }
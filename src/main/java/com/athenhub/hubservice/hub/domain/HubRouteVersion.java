@@ -0,0 +1,75 @@
+package com.athenhub.hubservice.hub.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 허브 경로 전체의 버전을 보관하는 단일 행 엔티티.
+ *
+ * <p>경로를 변경하는 트랜잭션은 이 행을 쓰기 잠금으로 조회한 뒤 버전을 하나 올리므로, 경로 변경 트랜잭션은 버전 순서대로 커밋된다. 따라서 어떤 버전까지의
+ * 변경을 조회한 클라이언트가 그보다 작은 버전의 변경을 나중에 놓치는 일이 없다.
+ *
+ * <p>{@code compactedThrough}는 변경 로그에서 정리(compaction)된 마지막 버전이다. 이 버전 이하의 변경은 더 이상 조회할 수 없다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Table(name = "p_hub_route_version")
+@Entity
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HubRouteVersion {
+
+  /** 단일 행의 식별자. */
+  public static final Long SINGLETON_ID = 1L;
+
+  @Id private Long id;
+
+  @Column(nullable = false)
+  private long version;
+
+  @Column(nullable = false)
+  private long compactedThrough;
+
+  /**
+   * 버전 0의 초기 행을 생성한다.
+   *
+   * @return 생성된 {@link HubRouteVersion}
+   */
+  public static HubRouteVersion initial() {
+    HubRouteVersion routeVersion = new HubRouteVersion();
+    routeVersion.id = SINGLETON_ID;
+    return routeVersion;
+  }
+
+  /**
+   * 버전을 하나 올린다.
+   *
+   * @return 올린 뒤의 버전
+   */
+  public long increment() {
+    return ++version;
+  }
+
+  /**
+   * 최근 {@code retainedVersions}개의 버전만 남기도록 정리 기준 버전을 올린다.
+   *
+   * @param retainedVersions 변경 로그에 남길 버전 수
+   * @return 정리 기준 버전이 올라갔으면 {@code true}
+   */
+  public boolean compact(long retainedVersions) {
+    long threshold = version - retainedVersions;
+    if (threshold <= compactedThrough) {
+      return false;
+    }
+    compactedThrough = threshold;
+    return true;
+  }
+}
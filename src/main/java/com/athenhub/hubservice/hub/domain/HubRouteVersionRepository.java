@@ -0,0 +1,44 @@
+package com.athenhub.hubservice.hub.domain;
+
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+/**
+ * 허브 경로 버전(HubRouteVersion) 엔티티에 대한 저장 및 조회 기능을 제공하는 리포지토리 인터페이스.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public interface HubRouteVersionRepository extends Repository<HubRouteVersion, Long> {
+
+  /**
+   * 경로 버전 행을 저장한다.
+   *
+   * @param version 저장할 {@link HubRouteVersion} 엔티티
+   * @return 저장된 엔티티
+   */
+  HubRouteVersion save(HubRouteVersion version);
+
+  /**
+   * 경로 버전 행을 조회한다.
+   *
+   * @param id 행 식별자
+   * @return 조회된 {@link HubRouteVersion}. 존재하지 않을 경우 {@code Optional.empty()}
+   */
+  Optional<HubRouteVersion> findById(Long id);
+
+  /**
+   * 경로 버전 행을 쓰기 잠금({@code SELECT ... FOR UPDATE})으로 조회한다.
+   *
+   * <p>잠금은 트랜잭션이 끝날 때까지 유지되므로, 경로를 변경하는 트랜잭션은 이 메서드를 호출한 순서대로 직렬화된다.
+   *
+   * @param id 행 식별자
+   * @return 조회된 {@link HubRouteVersion}. 존재하지 않을 경우 {@code Optional.empty()}
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT v FROM HubRouteVersion v WHERE v.id = :id")
+  Optional<HubRouteVersion> findByIdForUpdate(Long id);
+}
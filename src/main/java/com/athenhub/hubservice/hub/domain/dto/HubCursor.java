@@ -0,0 +1,76 @@
+package com.athenhub.hubservice.hub.domain.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 허브 커서 페이지네이션에서 마지막으로 조회한 허브의 위치를 나타내는 커서.
+ *
+ * <p>정렬 기준과 마지막 허브의 정렬 키, 식별자를 담으며, 클라이언트에는 {@link #encode()}로 만든 불투명한(opaque) 문자열로 전달된다. 다음 페이지는
+ * 이 위치 이후의 허브만 인덱스 범위 탐색으로 조회하므로, OFFSET 방식과 달리 페이지 깊이와 관계없이 조회 비용이 일정하다.
+ *
+ * @param order 정렬 기준
+ * @param hubId 마지막 허브 식별자
+ * @param name 마지막 허브명, {@link HubCursorOrder#NAME} 기준일 때 사용
+ * @param createdAt 마지막 허브 생성 일시, {@link HubCursorOrder#CREATED_AT} 기준일 때 사용
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record HubCursor(HubCursorOrder order, UUID hubId, String name, LocalDateTime createdAt) {
+
+  private static final String DELIMITER = "|";
+
+  /**
+   * 정렬 기준에 따라 허브의 위치를 나타내는 커서를 생성한다.
+   *
+   * @param order 정렬 기준
+   * @param hub 마지막으로 조회한 허브
+   * @return 생성된 {@link HubCursor}
+   */
+  public static HubCursor of(HubCursorOrder order, HubSummary hub) {
+    return switch (order) {
+      case NAME -> new HubCursor(order, hub.hubId(), hub.name(), null);
+      case CREATED_AT -> new HubCursor(order, hub.hubId(), null, hub.createdAt());
+    };
+  }
+
+  /**
+   * 커서를 URL에 그대로 사용할 수 있는 불투명한 문자열로 변환한다.
+   *
+   * @return Base64(URL-safe)로 인코딩된 커서 문자열
+   */
+  public String encode() {
+    String key = order == HubCursorOrder.NAME ? name : createdAt.toString();
+    String raw = String.join(DELIMITER, order.name(), hubId.toString(), key);
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * {@link #encode()}로 만든 문자열을 커서로 변환한다.
+   *
+   * @param token 커서 문자열
+   * @return 변환된 {@link HubCursor}
+   * @throws IllegalArgumentException 올바른 커서 문자열이 아닌 경우
+   */
+  public static HubCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\" + DELIMITER, 3);
+      HubCursorOrder order = HubCursorOrder.valueOf(parts[0]);
+      UUID hubId = UUID.fromString(parts[1]);
+      String key = Objects.requireNonNull(parts[2]);
+
+      return switch (order) {
+        case NAME -> new HubCursor(order, hubId, key, null);
+        case CREATED_AT -> new HubCursor(order, hubId, null, LocalDateTime.parse(key));
+      };
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("올바르지 않은 커서입니다. cursor: " + token, e);
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package com.athenhub.hubservice.hub.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.Locale;
+
+/**
+ * 허브 커서 페이지네이션의 정렬 기준.
+ *
+ * <p>정렬 키가 같은 허브는 허브 식별자로 순서를 정하므로, 커서는 항상 (정렬 키, 허브 식별자) 쌍으로 표현된다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public enum HubCursorOrder {
+  /** 허브명 오름차순. */
+  NAME,
+
+  /** 생성 일시 내림차순(최신순). */
+  CREATED_AT;
+
+  /**
+   * 대소문자를 구분하지 않고 정렬 기준을 찾는다.
+   *
+   * <p>요청 파라미터에서는 {@code name}, {@code created_at}처럼 소문자로 전달되므로 상수 이름과 대소문자가 달라도 같은 정렬 기준으로 본다.
+   *
+   * @param value 정렬 기준 문자열
+   * @return 정렬 기준
+   * @throws IllegalArgumentException 지원하지 않는 정렬 기준일 경우 발생
+   */
+  @JsonCreator
+  public static HubCursorOrder from(String value) {
+    try {
+      return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다. order: " + value, e);
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package com.athenhub.hubservice.hub.domain.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 허브 커서 페이지네이션의 조회 결과.
+ *
+ * <p>전체 개수를 계산하지 않으며, 다음 페이지가 있으면 다음 페이지 조회에 사용할 커서 문자열을 함께 반환한다.
+ *
+ * @param content 조회된 허브 목록
+ * @param nextCursor 다음 페이지 커서, 마지막 페이지라면 {@code null}
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record HubCursorPage(List<HubSummary> content, String nextCursor) {
+
+  /**
+   * 다음 페이지가 있는지 확인한다.
+   *
+   * @return 다음 페이지가 있다면 {@code true}
+   */
+  public boolean hasNext() {
+    return !Objects.isNull(nextCursor);
+  }
+}
@@ -0,0 +1,41 @@
+package com.athenhub.hubservice.hub.domain.dto;
+
+import com.athenhub.hubservice.hub.domain.vo.HubRouteChangeType;
+import java.util.UUID;
+
+/**
+ * 허브 경로 변경 한 건의 조회 프로젝션.
+ *
+ * @param sourceHubId 출발 허브 식별자
+ * @param targetHubId 도착 허브 식별자
+ * @param distanceKm 거리(km)
+ * @param durationMinutes 소요 시간(분)
+ * @param provisional 임시 경로 여부
+ * @param type 변경 유형
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record HubRouteChangeSummary(
+    UUID sourceHubId,
+    UUID targetHubId,
+    Double distanceKm,
+    Integer durationMinutes,
+    boolean provisional,
+    HubRouteChangeType type) {
+
+  /**
+   * 활성 경로를 추가/갱신 변경으로 변환한다.
+   *
+   * @param route 활성 경로
+   * @return {@link HubRouteChangeType#UPSERT} 변경
+   */
+  public static HubRouteChangeSummary upsert(HubRouteSummary route) {
+    return new HubRouteChangeSummary(
+        route.sourceHubId(),
+        route.targetHubId(),
+        route.distanceKm(),
+        route.durationMinutes(),
+        route.provisional(),
+        HubRouteChangeType.UPSERT);
+  }
+}
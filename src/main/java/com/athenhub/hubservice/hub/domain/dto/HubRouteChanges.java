@@ -0,0 +1,18 @@
+package com.athenhub.hubservice.hub.domain.dto;
+
+import java.util.List;
+
+/**
+ * 특정 경로 버전 이후의 변경 조회 결과.
+ *
+ * <p>{@code snapshot}이 {@code true}이면 요청한 버전의 변경이 이미 정리되어 증분을 만들 수 없으므로, {@code changes}에는 현재 활성 경로
+ * 전체가 추가/갱신 변경으로 담긴다. 이 경우 클라이언트는 보관 중인 경로를 모두 버리고 {@code changes}로 대체해야 한다.
+ *
+ * @param version 결과에 반영된 현재 경로 버전. 다음 조회의 기준 버전으로 사용한다.
+ * @param snapshot 전체 스냅샷 여부
+ * @param changes 구간별 마지막 변경 목록
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record HubRouteChanges(
+    long version, boolean snapshot, List<HubRouteChangeSummary> changes) {}
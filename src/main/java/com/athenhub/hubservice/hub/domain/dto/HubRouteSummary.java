@@ -0,0 +1,23 @@
+package com.athenhub.hubservice.hub.domain.dto;
+
+import java.util.UUID;
+
+/**
+ * 허브 경로의 출발/도착 허브와 거리, 소요 시간, 임시 경로 여부만 담는 조회 전용 프로젝션.
+ *
+ * <p>엔티티를 영속성 컨텍스트에 적재하지 않고 필요한 컬럼만 조회하기 위해 사용된다.
+ *
+ * @param sourceHubId 출발 허브 식별자
+ * @param targetHubId 도착 허브 식별자
+ * @param distanceKm 허브 간 거리(km)
+ * @param durationMinutes 허브 간 예상 소요 시간(분)
+ * @param provisional 임시 경로 여부
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record HubRouteSummary(
+    UUID sourceHubId,
+    UUID targetHubId,
+    Double distanceKm,
+    Integer durationMinutes,
+    boolean provisional) {}
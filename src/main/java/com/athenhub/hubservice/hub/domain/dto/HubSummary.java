@@ -0,0 +1,73 @@
+package com.athenhub.hubservice.hub.domain.dto;
+
+import com.athenhub.hubservice.hub.domain.Hub;
+import com.athenhub.hubservice.hub.domain.vo.Coordinate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 허브의 조회 응답에 필요한 컬럼만 담는 조회 전용 프로젝션.
+ *
+ * <p>엔티티를 영속성 컨텍스트에 적재하지 않고 허브 목록을 조회하거나, 메모리 상의 검색 색인에 보관하기 위해 사용된다.
+ *
+ * @param hubId 허브 식별자
+ * @param name 허브명
+ * @param streetAddress 기본 주소
+ * @param detailAddress 상세 주소
+ * @param latitude 위도
+ * @param longitude 경도
+ * @param managerId 허브 관리자 ID
+ * @param createdAt 생성 일시
+ * @param deletedAt 삭제 일시, 삭제되지 않았다면 {@code null}
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record HubSummary(
+    UUID hubId,
+    String name,
+    String streetAddress,
+    String detailAddress,
+    Double latitude,
+    Double longitude,
+    UUID managerId,
+    LocalDateTime createdAt,
+    LocalDateTime deletedAt) {
+
+  /**
+   * 주어진 {@link Hub} 엔티티로부터 {@code HubSummary}를 생성한다.
+   *
+   * @param hub 허브 엔티티
+   * @return 생성된 {@link HubSummary}
+   */
+  public static HubSummary from(Hub hub) {
+    return new HubSummary(
+        hub.getId().toUuid(),
+        hub.getName(),
+        hub.getAddress().getStreet(),
+        hub.getAddress().getDetail(),
+        hub.getCoordinate().getLatitude(),
+        hub.getCoordinate().getLongitude(),
+        hub.getManagerId().toUuid(),
+        hub.getCreatedAt(),
+        hub.getDeletedAt());
+  }
+
+  /**
+   * 허브 좌표를 반환한다.
+   *
+   * @return 위도, 경도로 생성한 {@link Coordinate}
+   */
+  public Coordinate coordinate() {
+    return Coordinate.of(latitude, longitude);
+  }
+
+  /**
+   * 삭제된 허브인지 확인한다.
+   *
+   * @return 삭제되었다면 {@code true}
+   */
+  public boolean isDeleted() {
+    return !Objects.isNull(deletedAt);
+  }
+}
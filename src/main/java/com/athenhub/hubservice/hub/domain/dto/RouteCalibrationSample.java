@@ -0,0 +1,23 @@
+package com.athenhub.hubservice.hub.domain.dto;
+
+/**
+ * 확정된 허브 경로의 출발/도착 허브 좌표와 실제 거리, 소요 시간을 담는 조회 전용 프로젝션.
+ *
+ * <p>직선 거리 대비 도로 거리 비율과 평균 이동 속도를 보정하는 데 사용된다.
+ *
+ * @param sourceLatitude 출발 허브 위도
+ * @param sourceLongitude 출발 허브 경도
+ * @param targetLatitude 도착 허브 위도
+ * @param targetLongitude 도착 허브 경도
+ * @param distanceKm 허브 간 거리(km)
+ * @param durationMinutes 허브 간 예상 소요 시간(분)
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record RouteCalibrationSample(
+    Double sourceLatitude,
+    Double sourceLongitude,
+    Double targetLatitude,
+    Double targetLongitude,
+    Double distanceKm,
+    Integer durationMinutes) {}
@@ -0,0 +1,25 @@
+package com.athenhub.hubservice.hub.domain.dto;
+
+import com.athenhub.hubservice.hub.domain.vo.Coordinate;
+
+/**
+ * 경로 계산을 요청할 출발지와 도착지 좌표 쌍.
+ *
+ * @param source 출발지 좌표
+ * @param target 도착지 좌표
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record RouteQuery(Coordinate source, Coordinate target) {
+
+  /**
+   * 출발지와 도착지 좌표로 경로 계산 요청을 생성한다.
+   *
+   * @param source 출발지 좌표
+   * @param target 도착지 좌표
+   * @return 생성된 {@link RouteQuery}
+   */
+  public static RouteQuery of(Coordinate source, Coordinate target) {
+    return new RouteQuery(source, target);
+  }
+}
@@ -0,0 +1,52 @@
+package com.athenhub.hubservice.hub.domain.event;
+
+import com.athenhub.hubservice.hub.domain.HubRoute;
+import com.athenhub.hubservice.hub.domain.dto.HubRouteSummary;
+import java.util.UUID;
+
+/**
+ * {@link HubRouteUpdated}에 담기는 변경된 허브 경로 한 건.
+ *
+ * @param sourceHubId 출발 허브 ID
+ * @param targetHubId 도착 허브 ID
+ * @param distanceKm 거리(km)
+ * @param durationMinutes 소요 시간(분)
+ * @param provisional 외부 경로 API로 확정되지 않은 직선 거리 기반 임시 경로 여부
+ */
+public record HubRouteDelta(
+    UUID sourceHubId,
+    UUID targetHubId,
+    Double distanceKm,
+    Integer durationMinutes,
+    boolean provisional) {
+
+  /**
+   * 허브 경로 엔티티로부터 경로 변경 정보를 생성한다.
+   *
+   * @param route 추가되었거나 확정된 허브 경로
+   * @return 생성된 {@link HubRouteDelta}
+   */
+  public static HubRouteDelta from(HubRoute route) {
+    return new HubRouteDelta(
+        route.getSourceHubId().toUuid(),
+        route.getTargetHubId().toUuid(),
+        route.getDistanceKm(),
+        route.getDurationMinutes(),
+        route.isProvisional());
+  }
+
+  /**
+   * 허브 경로 조회 프로젝션으로부터 경로 변경 정보를 생성한다.
+   *
+   * @param route 비활성화된 허브 경로
+   * @return 생성된 {@link HubRouteDelta}
+   */
+  public static HubRouteDelta from(HubRouteSummary route) {
+    return new HubRouteDelta(
+        route.sourceHubId(),
+        route.targetHubId(),
+        route.distanceKm(),
+        route.durationMinutes(),
+        route.provisional());
+  }
+}
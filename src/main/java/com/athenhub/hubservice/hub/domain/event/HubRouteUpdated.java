@@ -1,16 +1,110 @@
 package com.athenhub.hubservice.hub.domain.event;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
-/** 허브 경로가 변경되었음을 나타내는 도메인 이벤트. */
-public record HubRouteUpdated(UUID requestId) {
+/**
+ * 허브 경로가 변경되었음을 나타내는 도메인 이벤트.
+ *
+ * <p>추가 또는 확정된 경로와 비활성화된 경로를 함께 담으므로, 수신 측은 전체 경로를 다시 조회하지 않고 보관 중인 경로에 변경분만 반영할 수 있다. 같은
+ * 구간의 경로는 {@code inserted}의 값으로 대체하고, {@code deactivated}에 담긴 구간은 제거한다.
+ *
+ * <p>변경된 경로가 많으면 {@link #chunks(int)}로 나누어 여러 메시지로 발행한다. 나뉜 이벤트는 같은 {@code requestId}와 {@code
+ * version}을 가지며 {@code chunk}(0부터 시작)와 {@code chunkCount}로 순서를 나타낸다. 각 조각은 독립적으로 반영할 수 있다.
+ *
+ * @param requestId 경로 변경의 기준이 된 허브 ID. 특정 허브와 관계없이 남은 임시 경로를 확정한 경우 {@code null}
+ * @param affectedRoutes 추가, 확정 또는 비활성화된 경로 수. 나뉜 이벤트에서도 전체 경로 수를 나타낸다.
+ * @param version 변경이 반영된 경로 버전. 수신 측은 이 버전을 기준으로 {@code GET /v1/routes/changes}를 조회할 수 있다.
+ * @param inserted 추가되었거나 확정된 경로 목록
+ * @param deactivated 비활성화된 경로 목록
+ * @param chunk 나뉜 이벤트의 순번(0부터 시작)
+ * @param chunkCount 나뉜 이벤트의 전체 개수
+ */
+public record HubRouteUpdated(
+    UUID requestId,
+    int affectedRoutes,
+    long version,
+    List<HubRouteDelta> inserted,
+    List<HubRouteDelta> deactivated,
+    int chunk,
+    int chunkCount) {
 
   /**
-   * 주어진 요청자 ID로 이벤트 객체를 생성한다.
+   * 주어진 허브 ID와 경로 버전, 변경된 경로로 이벤트 객체를 생성한다.
    *
+   * @param requestId 경로 변경의 기준이 된 허브 ID, 특정 허브와 관계없는 변경이면 {@code null}
+   * @param version 변경이 반영된 경로 버전
+   * @param inserted 추가되었거나 확정된 경로 목록
+   * @param deactivated 비활성화된 경로 목록
    * @return 생성된 {@link HubRouteUpdated} 이벤트 객체
    */
-  public static HubRouteUpdated of(UUID requestId) {
-    return new HubRouteUpdated(requestId);
+  public static HubRouteUpdated of(
+      UUID requestId,
+      long version,
+      List<HubRouteDelta> inserted,
+      List<HubRouteDelta> deactivated) {
+    return new HubRouteUpdated(
+        requestId,
+        inserted.size() + deactivated.size(),
+        version,
+        List.copyOf(inserted),
+        List.copyOf(deactivated),
+        0,
+        1);
+  }
+
+  /**
+   * 확정된 경로가 추가, 확정 또는 비활성화되었는지 확인한다.
+   *
+   * <p>임시 경로만 추가되거나 비활성화된 변경은 확정 경로에 영향을 주지 않는다.
+   *
+   * @return 확정된 경로가 하나라도 변경되었으면 {@code true}
+   */
+  public boolean changesConfirmedRoutes() {
+    return inserted.stream().anyMatch(route -> !route.provisional())
+        || deactivated.stream().anyMatch(route -> !route.provisional());
+  }
+
+  /**
+   * 변경된 경로가 최대 {@code maxRoutes}개씩 담기도록 이벤트를 나눈다.
+   *
+   * <p>{@code inserted}를 먼저, {@code deactivated}를 나중에 나누어 담는다. 변경된 경로가 없으면 이 이벤트 하나만 반환한다.
+   *
+   * @param maxRoutes 이벤트 하나에 담을 최대 경로 수
+   * @return 순서대로 나뉜 이벤트 목록
+   * @throws IllegalArgumentException {@code maxRoutes}가 1보다 작은 경우
+   */
+  public List<HubRouteUpdated> chunks(int maxRoutes) {
+    if (maxRoutes < 1) {
+      throw new IllegalArgumentException("maxRoutes는 1 이상이어야 합니다. maxRoutes: " + maxRoutes);
+    }
+    int total = inserted.size() + deactivated.size();
+    if (total <= maxRoutes) {
+      return List.of(this);
+    }
+
+    int count = (total + maxRoutes - 1) / maxRoutes;
+    List<HubRouteUpdated> chunks = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int from = i * maxRoutes;
+      int to = Math.min(from + maxRoutes, total);
+      chunks.add(
+          new HubRouteUpdated(
+              requestId,
+              affectedRoutes,
+              version,
+              slice(inserted, from, to),
+              slice(deactivated, from - inserted.size(), to - inserted.size()),
+              i,
+              count));
+    }
+    return chunks;
+  }
+
+  private static List<HubRouteDelta> slice(List<HubRouteDelta> routes, int from, int to) {
+    int start = Math.max(0, from);
+    int end = Math.min(routes.size(), to);
+    return start < end ? List.copyOf(routes.subList(start, end)) : List.of();
   }
 }
@@ -8,11 +8,12 @@ import java.util.UUID;
  *
  * <p>업체의 이름 등이 변경되었을 때 발행된다.
  *
+ * @param hubId 수정된 허브 ID
  * @param hubName 변경된 허브명
  * @param hubManagerId 허브 관리자 ID
  * @param requestUsername 요청을 수행한 관리자 계정명
  */
-public record HubUpdated(String hubName, UUID hubManagerId, String requestUsername) {
+public record HubUpdated(UUID hubId, String hubName, UUID hubManagerId, String requestUsername) {
 
   /**
    * 주어진 {@link Hub} 엔티티로부터 {@code HubUpdated} 이벤트 객체를 생성한다.
@@ -22,6 +23,7 @@ public record HubUpdated(String hubName, UUID hubManagerId, String requestUserna
    * @return 생성된 {@link HubUpdated} 이벤트 객체
    */
   public static HubUpdated from(Hub hub, String requestUsername) {
-    return new HubUpdated(hub.getName(), hub.getManagerId().toUuid(), requestUsername);
+    return new HubUpdated(
+        hub.getId().toUuid(), hub.getName(), hub.getManagerId().toUuid(), requestUsername);
   }
 }
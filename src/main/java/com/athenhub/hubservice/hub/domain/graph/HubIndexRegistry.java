@@ -0,0 +1,86 @@
+package com.athenhub.hubservice.hub.domain.graph;
+
+import com.athenhub.hubservice.hub.domain.vo.HubId;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link HubId}(UUID)와 0부터 시작하는 연속된 정수 인덱스를 서로 변환하는 레지스트리.
+ *
+ * <p>경로 그래프는 허브를 UUID 대신 정수 인덱스로 다루어 원시 타입 배열로 인접 정보를 보관한다. 이 레지스트리는 그래프 스냅샷과 함께 생성되며, 생성 이후에는
+ * 변경되지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public final class HubIndexRegistry {
+
+  /** 등록되지 않은 허브를 조회했을 때 반환되는 인덱스. */
+  public static final int NOT_FOUND = -1;
+
+  private final Map<HubId, Integer> indexes;
+  private final HubId[] hubIds;
+
+  private HubIndexRegistry(Map<HubId, Integer> indexes, HubId[] hubIds) {
+    this.indexes = indexes;
+    this.hubIds = hubIds;
+  }
+
+  /**
+   * 허브 식별자에 해당하는 인덱스를 반환한다.
+   *
+   * @param hubId 허브 식별자
+   * @return 정수 인덱스, 등록되지 않은 허브면 {@link #NOT_FOUND}
+   */
+  public int indexOf(HubId hubId) {
+    return indexes.getOrDefault(hubId, NOT_FOUND);
+  }
+
+  /**
+   * 인덱스에 해당하는 허브 식별자를 반환한다.
+   *
+   * @param index 정수 인덱스
+   * @return 허브 식별자
+   */
+  public HubId hubIdAt(int index) {
+    return hubIds[index];
+  }
+
+  /**
+   * 등록된 허브 수를 반환한다.
+   *
+   * @return 허브 수
+   */
+  public int size() {
+    return hubIds.length;
+  }
+
+  /** 허브를 등록 순서대로 인덱싱하는 빌더. */
+  static final class Builder {
+    private final Map<HubId, Integer> indexes = new HashMap<>();
+    private HubId[] hubIds = new HubId[16];
+
+    int register(HubId hubId) {
+      Integer index = indexes.get(hubId);
+      if (index != null) {
+        return index;
+      }
+      int next = indexes.size();
+      if (next == hubIds.length) {
+        hubIds = Arrays.copyOf(hubIds, next * 2);
+      }
+      hubIds[next] = hubId;
+      indexes.put(hubId, next);
+      return next;
+    }
+
+    int size() {
+      return indexes.size();
+    }
+
+    HubIndexRegistry build() {
+      return new HubIndexRegistry(Map.copyOf(indexes), Arrays.copyOf(hubIds, indexes.size()));
+    }
+  }
+}
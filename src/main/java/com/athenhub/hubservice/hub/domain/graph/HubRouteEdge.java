@@ -0,0 +1,53 @@
+package com.athenhub.hubservice.hub.domain.graph;
+
+import com.athenhub.hubservice.hub.domain.HubRoute;
+import com.athenhub.hubservice.hub.domain.vo.HubId;
+
+/**
+ * 경로 그래프의 단방향 간선(허브 경로 구간).
+ *
+ * <p>영속성 컨텍스트와 분리된 읽기 전용 값으로, 메모리 상의 {@link HubRouteGraph} 구성 및 경로 조회 결과 표현에 사용된다.
+ *
+ * @param sourceHubId 출발 허브 식별자
+ * @param targetHubId 도착 허브 식별자
+ * @param distanceKm 허브 간 거리(km)
+ * @param durationMinutes 허브 간 예상 소요 시간(분)
+ * @param provisional 임시 경로 여부. 외부 경로 API로 확정되기 전의 추정치이면 {@code true}
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record HubRouteEdge(
+    HubId sourceHubId,
+    HubId targetHubId,
+    double distanceKm,
+    int durationMinutes,
+    boolean provisional) {
+
+  /**
+   * 확정된 경로 간선을 생성한다.
+   *
+   * @param sourceHubId 출발 허브 식별자
+   * @param targetHubId 도착 허브 식별자
+   * @param distanceKm 허브 간 거리(km)
+   * @param durationMinutes 허브 간 예상 소요 시간(분)
+   */
+  public HubRouteEdge(
+      HubId sourceHubId, HubId targetHubId, double distanceKm, int durationMinutes) {
+    this(sourceHubId, targetHubId, distanceKm, durationMinutes, false);
+  }
+
+  /**
+   * {@link HubRoute} 엔티티로부터 간선을 생성한다.
+   *
+   * @param route 허브 경로 엔티티
+   * @return 생성된 {@link HubRouteEdge}
+   */
+  public static HubRouteEdge from(HubRoute route) {
+    return new HubRouteEdge(
+        route.getSourceHubId(),
+        route.getTargetHubId(),
+        route.getDistanceKm(),
+        route.getDurationMinutes(),
+        route.isProvisional());
+  }
+}
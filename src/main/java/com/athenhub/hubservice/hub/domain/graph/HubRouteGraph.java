@@ -0,0 +1,445 @@
+package com.athenhub.hubservice.hub.domain.graph;
+
+import com.athenhub.hubservice.hub.domain.HubRoute;
+import com.athenhub.hubservice.hub.domain.vo.HubId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 활성 허브 경로로 구성된 메모리 상의 방향 그래프.
+ *
+ * <p>허브를 정점, 허브 경로를 간선으로 하는 불변 스냅샷이며, 한 번 생성된 뒤에는 변경되지 않으므로 여러 쓰레드에서 동시에 조회해도 안전하다. 경로가 변경되면
+ * 새로운 스냅샷을 생성하여 교체하는 방식으로 사용한다.
+ *
+ * <h2>저장 구조</h2>
+ *
+ * <p>간선은 CSR(Compressed Sparse Row) 형식의 원시 타입 배열에 보관된다. 허브는 {@link HubIndexRegistry}를 통해 연속된 정수
+ * 인덱스로 변환되며, 허브 {@code i}에서 출발하는 간선은 {@code offsets[i]}부터 {@code offsets[i + 1]} 직전까지의 구간에 위치한다.
+ *
+ * <ul>
+ *   <li>{@code offsets} — 허브별 간선 시작 위치 ({@code int}, 허브 수 + 1)
+ *   <li>{@code targets} — 도착 허브 인덱스 ({@code int})
+ *   <li>{@code distances} — 거리(km) ({@code float})
+ *   <li>{@code durations} — 소요 시간(분) ({@code int})
+ *   <li>{@code provisional} — 임시 경로 여부 ({@link BitSet}, 간선당 1비트)
+ * </ul>
+ *
+ * <p>간선 하나당 12바이트와 1비트만 사용하므로, 간선마다 {@code HubId}/UUID 래퍼와 박싱된 거리·시간, 감사(audit) 필드를 가지는 {@link
+ * HubRoute} 엔티티 목록에 비해 메모리 사용량이 크게 줄어든다. 거리는 {@code float}로 보관하며, 조회 시 미터 단위(소수점 셋째 자리)로
+ * 반올림하여 반환한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public final class HubRouteGraph {
+
+  private static final HubRouteGraph EMPTY = builder().build();
+
+  private final HubIndexRegistry registry;
+  private final int[] offsets;
+  private final int[] targets;
+  private final float[] distances;
+  private final int[] durations;
+  private final BitSet provisional;
+
+  private HubRouteGraph(
+      HubIndexRegistry registry,
+      int[] offsets,
+      int[] targets,
+      float[] distances,
+      int[] durations,
+      BitSet provisional) {
+    this.registry = registry;
+    this.offsets = offsets;
+    this.targets = targets;
+    this.distances = distances;
+    this.durations = durations;
+    this.provisional = provisional;
+  }
+
+  /**
+   * 간선이 없는 빈 그래프를 반환한다.
+   *
+   * @return 빈 {@link HubRouteGraph}
+   */
+  public static HubRouteGraph empty() {
+    return EMPTY;
+  }
+
+  /**
+   * 그래프 빌더를 생성한다.
+   *
+   * @return 새로운 {@link Builder}
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * 허브 경로 엔티티 목록으로부터 그래프를 생성한다.
+   *
+   * @param routes 활성 허브 경로 목록
+   * @return 생성된 {@link HubRouteGraph}
+   */
+  public static HubRouteGraph from(List<HubRoute> routes) {
+    Builder builder = builder();
+    routes.forEach(
+        route ->
+            builder.add(
+                route.getSourceHubId(),
+                route.getTargetHubId(),
+                route.getDistanceKm(),
+                route.getDurationMinutes(),
+                route.isProvisional()));
+    return builder.build();
+  }
+
+  /**
+   * 허브 식별자와 정수 인덱스 간 변환 레지스트리를 반환한다.
+   *
+   * @return {@link HubIndexRegistry}
+   */
+  public HubIndexRegistry registry() {
+    return registry;
+  }
+
+  /**
+   * 그래프에 포함된 허브 수를 반환한다.
+   *
+   * @return 정점 수
+   */
+  public int hubCount() {
+    return registry.size();
+  }
+
+  /**
+   * 그래프에 포함된 경로 수를 반환한다.
+   *
+   * @return 간선 수
+   */
+  public int edgeCount() {
+    return targets.length;
+  }
+
+  /**
+   * 그래프를 구성하는 배열이 차지하는 대략적인 힙 사용량을 반환한다.
+   *
+   * <p>배열 헤더와 원소 크기만 합산한 값이며, {@link HubIndexRegistry}의 UUID 보관 비용은 포함하지 않는다.
+   *
+   * @return 배열 사용량(byte)
+   */
+  public long footprintBytes() {
+    return arrayBytes(offsets.length, Integer.BYTES)
+        + arrayBytes(targets.length, Integer.BYTES)
+        + arrayBytes(distances.length, Float.BYTES)
+        + arrayBytes(durations.length, Integer.BYTES)
+        + arrayBytes(provisional.size() / Long.SIZE, Long.BYTES);
+  }
+
+  private static long arrayBytes(int length, int elementBytes) {
+    return 16L + (long) length * elementBytes;
+  }
+
+  /**
+   * 지정한 허브에서 출발하는 모든 경로를 반환한다.
+   *
+   * @param source 출발 허브 식별자
+   * @return 출발 경로 목록, 그래프에 없는 허브면 빈 목록
+   */
+  public List<HubRouteEdge> outgoing(HubId source) {
+    int index = registry.indexOf(source);
+    if (index == HubIndexRegistry.NOT_FOUND) {
+      return List.of();
+    }
+
+    List<HubRouteEdge> edges = new ArrayList<>(offsets[index + 1] - offsets[index]);
+    for (int edge = offsets[index]; edge < offsets[index + 1]; edge++) {
+      edges.add(edgeAt(index, edge));
+    }
+    return edges;
+  }
+
+  /**
+   * 그래프의 모든 경로를 출발 허브 순서대로 반환한다.
+   *
+   * @return 전체 경로 목록
+   */
+  public List<HubRouteEdge> edges() {
+    List<HubRouteEdge> edges = new ArrayList<>(targets.length);
+    for (int source = 0; source < registry.size(); source++) {
+      for (int edge = offsets[source]; edge < offsets[source + 1]; edge++) {
+        edges.add(edgeAt(source, edge));
+      }
+    }
+    return edges;
+  }
+
+  /**
+   * 거리를 그래프가 조회 결과로 반환하는 정밀도로 변환한다.
+   *
+   * <p>그래프와 같이 {@code float}로 줄인 뒤 소수점 셋째 자리에서 반올림하므로, 그래프를 거치지 않고 데이터베이스에서 읽은 거리도 그래프 조회 결과와
+   * 같은 값으로 응답할 수 있다.
+   *
+   * @param distanceKm 거리(km)
+   * @return 그래프 정밀도로 반올림한 거리(km)
+   */
+  public static double roundDistanceKm(double distanceKm) {
+    return Math.round((float) distanceKm * 1000d) / 1000d;
+  }
+
+  private HubRouteEdge edgeAt(int source, int edge) {
+    return new HubRouteEdge(
+        registry.hubIdAt(source),
+        registry.hubIdAt(targets[edge]),
+        roundDistanceKm(distances[edge]),
+        durations[edge],
+        provisional.get(edge));
+  }
+
+  /**
+   * 모든 허브 쌍의 직접 경로를 담은 조밀 행렬을 생성한다.
+   *
+   * <p>행과 열의 순서는 그래프의 허브 인덱스 순서와 같다. 같은 허브 쌍에 경로가 여러 개면 마지막 경로가 남는다.
+   *
+   * @return 생성된 {@link HubRouteMatrix}
+   */
+  public HubRouteMatrix toMatrix() {
+    HubRouteMatrix matrix = HubRouteMatrix.empty(registry);
+    for (int source = 0; source < registry.size(); source++) {
+      for (int edge = offsets[source]; edge < offsets[source + 1]; edge++) {
+        matrix.set(source, targets[edge], distances[edge], durations[edge]);
+      }
+    }
+    return matrix;
+  }
+
+  /**
+   * 두 허브 사이의 최단 경로를 탐색한다.
+   *
+   * <p>가중치는 {@link RouteMetric}에 따라 소요 시간 또는 거리가 사용되며, 도착 허브가 확정되는 즉시 탐색을 종료한다. 탐색은 정수 인덱스 기반의
+   * 우선순위 큐를 사용하므로 탐색 중 객체 할당이 발생하지 않는다.
+   *
+   * @param source 출발 허브 식별자
+   * @param target 도착 허브 식별자
+   * @param metric 가중치 기준
+   * @return 최단 경로, 두 허브가 연결되어 있지 않거나 그래프에 없으면 {@link Optional#empty()}
+   */
+  public Optional<HubRoutePath> findShortestPath(HubId source, HubId target, RouteMetric metric) {
+    int from = registry.indexOf(source);
+    int to = registry.indexOf(target);
+    if (from == HubIndexRegistry.NOT_FOUND || to == HubIndexRegistry.NOT_FOUND) {
+      return Optional.empty();
+    }
+
+    int hubCount = registry.size();
+    double[] weights = new double[hubCount];
+    Arrays.fill(weights, Double.POSITIVE_INFINITY);
+    int[] previousHub = new int[hubCount];
+    int[] previousEdge = new int[hubCount];
+    IndexedMinHeap heap = new IndexedMinHeap(hubCount);
+
+    weights[from] = 0;
+    heap.upsert(from, 0);
+
+    while (!heap.isEmpty()) {
+      int current = heap.poll();
+      if (current == to) {
+        break;
+      }
+
+      for (int edge = offsets[current]; edge < offsets[current + 1]; edge++) {
+        int next = targets[edge];
+        double weight =
+            weights[current] + (metric == RouteMetric.DURATION ? durations[edge] : distances[edge]);
+        if (weight < weights[next]) {
+          weights[next] = weight;
+          previousHub[next] = current;
+          previousEdge[next] = edge;
+          heap.upsert(next, weight);
+        }
+      }
+    }
+
+    if (Double.isInfinite(weights[to])) {
+      return Optional.empty();
+    }
+
+    List<HubRouteEdge> legs = new ArrayList<>();
+    for (int index = to; index != from; index = previousHub[index]) {
+      legs.add(edgeAt(previousHub[index], previousEdge[index]));
+    }
+    Collections.reverse(legs);
+
+    return Optional.of(new HubRoutePath(source, target, metric, List.copyOf(legs)));
+  }
+
+  /** 정점 인덱스를 키로 하는 이진 최소 힙. 이미 포함된 정점은 가중치만 갱신한다. */
+  private static final class IndexedMinHeap {
+    private final int[] heap;
+    private final int[] positions;
+    private final double[] keys;
+    private int size;
+
+    IndexedMinHeap(int capacity) {
+      heap = new int[capacity];
+      positions = new int[capacity];
+      keys = new double[capacity];
+      Arrays.fill(positions, -1);
+    }
+
+    boolean isEmpty() {
+      return size == 0;
+    }
+
+    void upsert(int index, double key) {
+      keys[index] = key;
+      if (positions[index] == -1) {
+        heap[size] = index;
+        positions[index] = size;
+        size++;
+      }
+      siftUp(positions[index]);
+    }
+
+    int poll() {
+      int min = heap[0];
+      size--;
+      swap(0, size);
+      positions[min] = -1;
+      if (size > 0) {
+        siftDown(0);
+      }
+      return min;
+    }
+
+    private void siftUp(int position) {
+      while (position > 0) {
+        int parent = (position - 1) / 2;
+        if (keys[heap[parent]] <= keys[heap[position]]) {
+          return;
+        }
+        swap(parent, position);
+        position = parent;
+      }
+    }
+
+    private void siftDown(int position) {
+      while (true) {
+        int left = position * 2 + 1;
+        if (left >= size) {
+          return;
+        }
+        int right = left + 1;
+        int smallest = right < size && keys[heap[right]] < keys[heap[left]] ? right : left;
+        if (keys[heap[position]] <= keys[heap[smallest]]) {
+          return;
+        }
+        swap(position, smallest);
+        position = smallest;
+      }
+    }
+
+    private void swap(int a, int b) {
+      int first = heap[a];
+      int second = heap[b];
+      heap[a] = second;
+      heap[b] = first;
+      positions[second] = a;
+      positions[first] = b;
+    }
+  }
+
+  /**
+   * 간선을 누적한 뒤 CSR 배열로 변환하여 {@link HubRouteGraph}를 생성하는 빌더.
+   *
+   * <p>간선은 입력 순서대로 원시 타입 배열에 임시 보관되며, {@link #build()} 시 출발 허브 기준으로 정렬(계수 정렬)된다.
+   */
+  public static final class Builder {
+    private final HubIndexRegistry.Builder registry = new HubIndexRegistry.Builder();
+    private int[] sources = new int[64];
+    private int[] targets = new int[64];
+    private float[] distances = new float[64];
+    private int[] durations = new int[64];
+    private final BitSet provisional = new BitSet();
+    private int size;
+
+    private Builder() {}
+
+    /**
+     * 확정된 경로(간선)를 추가한다.
+     *
+     * @param source 출발 허브 식별자
+     * @param target 도착 허브 식별자
+     * @param distanceKm 거리(km)
+     * @param durationMinutes 소요 시간(분)
+     * @return 현재 빌더
+     */
+    public Builder add(HubId source, HubId target, double distanceKm, int durationMinutes) {
+      return add(source, target, distanceKm, durationMinutes, false);
+    }
+
+    /**
+     * 경로(간선)를 추가한다.
+     *
+     * @param source 출발 허브 식별자
+     * @param target 도착 허브 식별자
+     * @param distanceKm 거리(km)
+     * @param durationMinutes 소요 시간(분)
+     * @param provisional 임시 경로 여부
+     * @return 현재 빌더
+     */
+    public Builder add(
+        HubId source, HubId target, double distanceKm, int durationMinutes, boolean provisional) {
+      if (size == sources.length) {
+        int capacity = size * 2;
+        sources = Arrays.copyOf(sources, capacity);
+        targets = Arrays.copyOf(targets, capacity);
+        distances = Arrays.copyOf(distances, capacity);
+        durations = Arrays.copyOf(durations, capacity);
+      }
+      sources[size] = registry.register(source);
+      targets[size] = registry.register(target);
+      distances[size] = (float) distanceKm;
+      durations[size] = durationMinutes;
+      this.provisional.set(size, provisional);
+      size++;
+      return this;
+    }
+
+    /**
+     * 누적된 간선으로 CSR 그래프를 생성한다.
+     *
+     * @return 생성된 {@link HubRouteGraph}
+     */
+    public HubRouteGraph build() {
+      int hubCount = registry.size();
+      int[] offsets = new int[hubCount + 1];
+      for (int edge = 0; edge < size; edge++) {
+        offsets[sources[edge] + 1]++;
+      }
+      for (int hub = 0; hub < hubCount; hub++) {
+        offsets[hub + 1] += offsets[hub];
+      }
+
+      int[] cursor = Arrays.copyOf(offsets, hubCount);
+      int[] csrTargets = new int[size];
+      float[] csrDistances = new float[size];
+      int[] csrDurations = new int[size];
+      BitSet csrProvisional = new BitSet(size);
+      for (int edge = 0; edge < size; edge++) {
+        int position = cursor[sources[edge]]++;
+        csrTargets[position] = targets[edge];
+        csrDistances[position] = distances[edge];
+        csrDurations[position] = durations[edge];
+        csrProvisional.set(position, provisional.get(edge));
+      }
+
+      return new HubRouteGraph(
+          registry.build(), offsets, csrTargets, csrDistances, csrDurations, csrProvisional);
+    }
+  }
+}
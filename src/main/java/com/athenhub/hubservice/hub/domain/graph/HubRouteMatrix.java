@@ -0,0 +1,117 @@
+package com.athenhub.hubservice.hub.domain.graph;
+
+import com.athenhub.hubservice.hub.domain.vo.HubId;
+import java.util.Arrays;
+
+/**
+ * 모든 허브 쌍의 거리와 소요 시간을 담은 조밀(dense) 행렬 스냅샷.
+ *
+ * <p>{@link HubRouteGraph}의 허브 인덱스 순서를 그대로 행과 열의 순서로 사용하며, 출발 허브 {@code i}에서 도착 허브 {@code j}로 가는
+ * 경로는 {@code i * hubCount + j} 위치에 보관된다. 자기 자신으로 가는 경로는 거리와 소요 시간이 0이며, 직접 연결된 경로가 없으면 {@link
+ * #NO_ROUTE}로 표시한다.
+ *
+ * <p>허브 1,000개 기준 거리({@code float})와 소요 시간({@code int}) 배열은 각각 약 4MB로, 경로마다 허브 식별자 두 개를 반복하는 목록
+ * 표현보다 작고 그대로 직렬화할 수 있다. 경로 그래프와 마찬가지로 생성 이후에는 변경되지 않는 불변 스냅샷이다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public final class HubRouteMatrix {
+
+  /** 직접 연결된 경로가 없는 칸의 거리와 소요 시간. */
+  public static final int NO_ROUTE = -1;
+
+  private final HubIndexRegistry registry;
+  private final float[] distances;
+  private final int[] durations;
+
+  HubRouteMatrix(HubIndexRegistry registry, float[] distances, int[] durations) {
+    this.registry = registry;
+    this.distances = distances;
+    this.durations = durations;
+  }
+
+  /**
+   * 빈 행렬을 생성한다.
+   *
+   * @param registry 허브 인덱스 레지스트리
+   * @return 대각선만 0이고 나머지는 {@link #NO_ROUTE}인 행렬
+   */
+  static HubRouteMatrix empty(HubIndexRegistry registry) {
+    int hubCount = registry.size();
+    float[] distances = new float[Math.multiplyExact(hubCount, hubCount)];
+    int[] durations = new int[distances.length];
+    Arrays.fill(distances, NO_ROUTE);
+    Arrays.fill(durations, NO_ROUTE);
+    for (int hub = 0; hub < hubCount; hub++) {
+      distances[hub * hubCount + hub] = 0;
+      durations[hub * hubCount + hub] = 0;
+    }
+    return new HubRouteMatrix(registry, distances, durations);
+  }
+
+  void set(int source, int target, float distanceKm, int durationMinutes) {
+    int cell = source * registry.size() + target;
+    distances[cell] = distanceKm;
+    durations[cell] = durationMinutes;
+  }
+
+  /**
+   * 행렬에 포함된 허브 수를 반환한다.
+   *
+   * @return 행(열) 수
+   */
+  public int hubCount() {
+    return registry.size();
+  }
+
+  /**
+   * 지정한 행(열)의 허브 식별자를 반환한다.
+   *
+   * @param index 행(열) 인덱스
+   * @return 허브 식별자
+   */
+  public HubId hubIdAt(int index) {
+    return registry.hubIdAt(index);
+  }
+
+  /**
+   * 두 허브 사이의 거리를 반환한다.
+   *
+   * @param source 출발 허브 인덱스
+   * @param target 도착 허브 인덱스
+   * @return 거리(km), 직접 연결된 경로가 없으면 {@link #NO_ROUTE}
+   */
+  public float distanceKm(int source, int target) {
+    return distances[source * registry.size() + target];
+  }
+
+  /**
+   * 두 허브 사이의 소요 시간을 반환한다.
+   *
+   * @param source 출발 허브 인덱스
+   * @param target 도착 허브 인덱스
+   * @return 소요 시간(분), 직접 연결된 경로가 없으면 {@link #NO_ROUTE}
+   */
+  public int durationMinutes(int source, int target) {
+    return durations[source * registry.size() + target];
+  }
+
+  /**
+   * 행 우선(row-major) 순서의 거리 배열 복사본을 반환한다.
+   *
+   * @return 거리(km) 배열
+   */
+  public float[] distances() {
+    return distances.clone();
+  }
+
+  /**
+   * 행 우선(row-major) 순서의 소요 시간 배열 복사본을 반환한다.
+   *
+   * @return 소요 시간(분) 배열
+   */
+  public int[] durations() {
+    return durations.clone();
+  }
+}
@@ -0,0 +1,51 @@
+package com.athenhub.hubservice.hub.domain.graph;
+
+import com.athenhub.hubservice.hub.domain.vo.HubId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 두 허브 사이의 최단 경로 탐색 결과.
+ *
+ * <p>출발 허브에서 도착 허브까지 거쳐가는 구간({@link HubRouteEdge}) 목록을 순서대로 보관한다. 출발 허브와 도착 허브가 같으면 구간 목록은 비어 있다.
+ *
+ * @param source 출발 허브 식별자
+ * @param target 도착 허브 식별자
+ * @param metric 탐색에 사용된 가중치 기준
+ * @param legs 출발 허브부터 도착 허브까지의 구간 목록
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record HubRoutePath(
+    HubId source, HubId target, RouteMetric metric, List<HubRouteEdge> legs) {
+
+  /**
+   * 경로 상의 허브 식별자를 출발 허브부터 순서대로 반환한다.
+   *
+   * @return 경유 허브를 포함한 허브 식별자 목록
+   */
+  public List<HubId> hubIds() {
+    List<HubId> hubIds = new ArrayList<>(legs.size() + 1);
+    hubIds.add(source);
+    legs.forEach(leg -> hubIds.add(leg.targetHubId()));
+    return hubIds;
+  }
+
+  /**
+   * 경로 전체 이동 거리를 반환한다.
+   *
+   * @return 전체 거리(km)
+   */
+  public double totalDistanceKm() {
+    return legs.stream().mapToDouble(HubRouteEdge::distanceKm).sum();
+  }
+
+  /**
+   * 경로 전체 예상 소요 시간을 반환한다.
+   *
+   * @return 전체 소요 시간(분)
+   */
+  public int totalDurationMinutes() {
+    return legs.stream().mapToInt(HubRouteEdge::durationMinutes).sum();
+  }
+}
@@ -0,0 +1,33 @@
+package com.athenhub.hubservice.hub.domain.graph;
+
+import java.util.Arrays;
+
+/**
+ * 허브 간 최단 경로 탐색 시 사용할 가중치 기준.
+ *
+ * <ul>
+ *   <li>{@link #DURATION} — 예상 소요 시간(분)이 가장 짧은 경로
+ *   <li>{@link #DISTANCE} — 이동 거리(km)가 가장 짧은 경로
+ * </ul>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public enum RouteMetric {
+  DURATION,
+  DISTANCE;
+
+  /**
+   * 대소문자 구분 없이 문자열로부터 경로 기준을 생성한다.
+   *
+   * @param value 경로 기준 문자열 (예: {@code duration}, {@code distance})
+   * @return 변환된 {@link RouteMetric}
+   * @throws IllegalArgumentException 지원하지 않는 기준일 경우 발생
+   */
+  public static RouteMetric from(String value) {
+    return Arrays.stream(values())
+        .filter(metric -> metric.name().equalsIgnoreCase(value))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 경로 기준입니다. metric: " + value));
+  }
+}
@@ -0,0 +1,63 @@
+package com.athenhub.hubservice.hub.domain.search;
+
+/**
+ * 한글 음절의 초성(chosung) 변환을 담당하는 유틸리티 클래스.
+ *
+ * <p>"서울 허브"는 "ㅅㅇ ㅎㅂ"으로 변환되며, 한글 음절이 아닌 문자는 그대로 유지된다. 초성은 호환용 자모(U+3131~U+314E)로 표현한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public final class Chosung {
+
+  private static final char[] CHOSUNG = {
+    'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+  };
+
+  private static final char SYLLABLE_BEGIN = '가';
+  private static final char SYLLABLE_END = '힣';
+
+  /** 초성 하나에 속하는 음절 수 (중성 21 x 종성 28). */
+  private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+
+  private static final char JAMO_BEGIN = 'ㄱ';
+  private static final char JAMO_END = 'ㅎ';
+
+  private Chosung() {}
+
+  /**
+   * 문자열의 한글 음절을 초성으로 변환한다.
+   *
+   * @param text 변환할 문자열
+   * @return 초성으로 변환된 문자열
+   */
+  public static String of(String text) {
+    char[] chars = text.toCharArray();
+    for (int i = 0; i < chars.length; i++) {
+      char c = chars[i];
+      if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+        chars[i] = CHOSUNG[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSUNG];
+      }
+    }
+    return new String(chars);
+  }
+
+  /**
+   * 문자열이 공백을 제외하고 초성 자음으로만 이루어져 있는지 확인한다.
+   *
+   * @param text 확인할 문자열
+   * @return 초성 자음이 하나 이상 있고 그 외의 문자가 공백뿐이라면 {@code true}
+   */
+  public static boolean isChosungOnly(String text) {
+    boolean hasJamo = false;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c >= JAMO_BEGIN && c <= JAMO_END) {
+        hasJamo = true;
+      } else if (!Character.isWhitespace(c)) {
+        return false;
+      }
+    }
+    return hasJamo;
+  }
+}
@@ -0,0 +1,254 @@
+package com.athenhub.hubservice.hub.domain.search;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 허브명과 주소의 접두사 검색을 위한 압축 트라이(radix trie).
+ *
+ * <p>허브마다 대문자로 정규화한 검색어를 등록하며, 검색어는 원문 전체와 공백으로 구분된 각 단어에서 시작하는 접미 문자열이다. 예를 들어 "서울특별시 송파구"는
+ * "서울특별시 송파구", "송파구"로 등록되어 "송파"로도 찾을 수 있다. 자식이 하나뿐인 노드는 간선 레이블을 합쳐 저장하므로 노드 수가 검색어 수에 비례한다.
+ *
+ * <p>읽기는 동시에 수행될 수 있으며, 갱신은 {@link ReadWriteLock}으로 직렬화된다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public class HubPrefixTrie {
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private final Node root = new Node("");
+  private final Map<UUID, Set<String>> keysByHub = new HashMap<>();
+
+  /**
+   * 허브의 검색어를 등록한다. 이미 등록된 허브라면 이전 검색어를 제거하고 새로 등록한다.
+   *
+   * @param hubId 허브 식별자
+   * @param texts 검색 대상 문자열 (허브명, 주소 등), {@code null}은 무시한다.
+   */
+  public void put(UUID hubId, Collection<String> texts) {
+    Set<String> keys = keysOf(texts);
+
+    lock.writeLock().lock();
+    try {
+      removeKeys(hubId);
+      keys.forEach(key -> insert(key, hubId));
+      keysByHub.put(hubId, keys);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 허브의 검색어를 모두 제거한다.
+   *
+   * @param hubId 허브 식별자
+   */
+  public void remove(UUID hubId) {
+    lock.writeLock().lock();
+    try {
+      removeKeys(hubId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** 등록된 검색어를 모두 제거한다. */
+  public void clear() {
+    lock.writeLock().lock();
+    try {
+      root.children.clear();
+      root.hubIds.clear();
+      keysByHub.clear();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 접두사로 시작하는 검색어를 가진 허브를 조회한다.
+   *
+   * @param prefix 접두사, 대소문자를 구분하지 않는다.
+   * @return 일치하는 허브 식별자 집합, 접두사가 비어 있으면 빈 집합
+   */
+  public Set<UUID> findByPrefix(String prefix) {
+    String key = normalize(prefix);
+    if (key.isEmpty()) {
+      return Set.of();
+    }
+
+    lock.readLock().lock();
+    try {
+      Node node = find(key);
+      return node == null ? Set.of() : collect(node);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 등록된 허브 수를 반환한다.
+   *
+   * @return 등록된 허브 수
+   */
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return keysByHub.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** 접두사가 끝나는 위치를 포함하는 노드를 찾는다. 접두사가 간선 레이블 중간에서 끝나면 그 간선의 자식 노드를 반환한다. */
+  private Node find(String key) {
+    Node node = root;
+    int offset = 0;
+    while (offset < key.length()) {
+      Node child = node.children.get(key.charAt(offset));
+      if (child == null) {
+        return null;
+      }
+      int common = commonPrefixLength(child.label, key, offset);
+      if (offset + common == key.length()) {
+        return child;
+      }
+      if (common < child.label.length()) {
+        return null;
+      }
+      offset += common;
+      node = child;
+    }
+    return node;
+  }
+
+  private void insert(String key, UUID hubId) {
+    Node node = root;
+    int offset = 0;
+    while (offset < key.length()) {
+      char first = key.charAt(offset);
+      Node child = node.children.get(first);
+      if (child == null) {
+        Node leaf = new Node(key.substring(offset));
+        leaf.hubIds.add(hubId);
+        node.children.put(first, leaf);
+        return;
+      }
+
+      int common = commonPrefixLength(child.label, key, offset);
+      if (common < child.label.length()) {
+        // 간선 레이블 중간에서 갈라지므로 공통 부분을 새 노드로 분리한다.
+        Node split = new Node(child.label.substring(0, common));
+        child.label = child.label.substring(common);
+        split.children.put(child.label.charAt(0), child);
+        node.children.put(first, split);
+        child = split;
+      }
+      offset += common;
+      node = child;
+    }
+    node.hubIds.add(hubId);
+  }
+
+  private void removeKeys(UUID hubId) {
+    Set<String> keys = keysByHub.remove(hubId);
+    if (keys != null) {
+      keys.forEach(key -> delete(key, hubId));
+    }
+  }
+
+  private void delete(String key, UUID hubId) {
+    Deque<Node> path = new ArrayDeque<>();
+    Node node = root;
+    int offset = 0;
+    while (offset < key.length()) {
+      Node child = node.children.get(key.charAt(offset));
+      if (child == null || !key.startsWith(child.label, offset)) {
+        return;
+      }
+      path.push(node);
+      offset += child.label.length();
+      node = child;
+    }
+    node.hubIds.remove(hubId);
+
+    // 빈 노드를 제거하고, 자식이 하나만 남은 노드는 자식과 합친다.
+    while (!path.isEmpty()) {
+      Node parent = path.pop();
+      if (node.hubIds.isEmpty() && node.children.isEmpty()) {
+        parent.children.remove(node.label.charAt(0));
+      } else if (node.hubIds.isEmpty() && node.children.size() == 1) {
+        Node only = node.children.values().iterator().next();
+        only.label = node.label + only.label;
+        parent.children.put(only.label.charAt(0), only);
+      } else {
+        return;
+      }
+      node = parent;
+    }
+  }
+
+  private static Set<UUID> collect(Node node) {
+    Set<UUID> hubIds = new HashSet<>();
+    Deque<Node> stack = new ArrayDeque<>();
+    stack.push(node);
+    while (!stack.isEmpty()) {
+      Node current = stack.pop();
+      hubIds.addAll(current.hubIds);
+      current.children.values().forEach(stack::push);
+    }
+    return hubIds;
+  }
+
+  private static int commonPrefixLength(String label, String key, int offset) {
+    int max = Math.min(label.length(), key.length() - offset);
+    int i = 0;
+    while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+      i++;
+    }
+    return i;
+  }
+
+  /** 원문 전체와 공백 다음 단어에서 시작하는 접미 문자열을 검색어로 만든다. */
+  private static Set<String> keysOf(Collection<String> texts) {
+    Set<String> keys = new HashSet<>();
+    for (String text : texts) {
+      if (text == null) {
+        continue;
+      }
+      String normalized = normalize(text);
+      for (int i = 0; i < normalized.length(); i++) {
+        boolean wordStart = i == 0 || Character.isWhitespace(normalized.charAt(i - 1));
+        if (wordStart && !Character.isWhitespace(normalized.charAt(i))) {
+          keys.add(normalized.substring(i));
+        }
+      }
+    }
+    return keys;
+  }
+
+  private static String normalize(String text) {
+    return text == null ? "" : text.strip().toUpperCase(Locale.ROOT);
+  }
+
+  /** 트라이 노드. {@code label}은 부모로부터 이 노드까지의 간선 문자열이다. */
+  private static final class Node {
+    private String label;
+    private final Map<Character, Node> children = new HashMap<>();
+    private final Set<UUID> hubIds = new HashSet<>(1);
+
+    private Node(String label) {
+      this.label = label;
+    }
+  }
+}
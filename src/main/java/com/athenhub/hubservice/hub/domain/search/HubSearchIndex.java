@@ -0,0 +1,327 @@
+package com.athenhub.hubservice.hub.domain.search;
+
+import com.athenhub.hubservice.hub.domain.dto.HubSummary;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 허브명과 주소(기본/상세)에 대한 메모리 상의 n-gram 역색인.
+ *
+ * <p>각 필드를 대문자로 정규화한 문자열의 1-gram, 2-gram과, 한글 음절을 초성으로 바꾼 문자열({@link Chosung})의 1-gram, 2-gram을 각각
+ * 포스팅 목록으로 보관한다. 검색 시 키워드의 gram 중 포스팅 목록이 가장 짧은 것을 후보로 삼고, 후보 허브의 필드에 키워드가 실제로 포함되는지 확인한다. 따라서
+ * 결과는 {@code upper(컬럼) LIKE '%키워드%'} 검색과 같으며, 키워드가 초성으로만 이루어져 있다면 초성 문자열을 대상으로 같은 방식으로 검색한다.
+ *
+ * <p>읽기는 동시에 수행될 수 있으며, 갱신은 {@link ReadWriteLock}으로 직렬화된다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public class HubSearchIndex {
+
+  private static final int GRAM_SIZE = 2;
+
+  private static final Map<String, Comparator<HubSummary>> SORTABLE_PROPERTIES =
+      Map.of(
+          "name", nullsLast(HubSummary::name),
+          "createdAt", nullsLast(HubSummary::createdAt));
+
+  private static final Comparator<HubSummary> DEFAULT_ORDER =
+      nullsLast(HubSummary::name).thenComparing(HubSummary::hubId);
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private final Map<UUID, Document> documents = new HashMap<>();
+  private final Map<String, Set<UUID>> textPostings = new HashMap<>();
+  private final Map<String, Set<UUID>> chosungPostings = new HashMap<>();
+
+  /**
+   * 색인 전체를 주어진 허브 목록으로 교체한다.
+   *
+   * @param hubs 색인할 허브 목록
+   */
+  public void replaceAll(Collection<HubSummary> hubs) {
+    lock.writeLock().lock();
+    try {
+      documents.clear();
+      textPostings.clear();
+      chosungPostings.clear();
+      hubs.forEach(this::add);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 허브를 색인에 추가하거나, 이미 있다면 새 값으로 교체한다.
+   *
+   * @param hub 색인할 허브
+   */
+  public void put(HubSummary hub) {
+    lock.writeLock().lock();
+    try {
+      removeDocument(hub.hubId());
+      add(hub);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 허브를 색인에서 제거한다.
+   *
+   * @param hubId 제거할 허브 식별자
+   */
+  public void remove(UUID hubId) {
+    lock.writeLock().lock();
+    try {
+      removeDocument(hubId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 키워드로 허브를 검색한다.
+   *
+   * <p>정렬은 {@code name}, {@code createdAt} 속성을 지원하며, 정렬 조건이 없으면 허브명 순으로 반환한다.
+   *
+   * @param keyword 부분 검색 키워드, {@code null} 또는 공백이면 전체 허브 대상
+   * @param includeDeleted 삭제된 허브를 포함할지 여부
+   * @param pageable 페이징 및 정렬 정보
+   * @return 검색 결과 페이지
+   * @throws IllegalArgumentException 지원하지 않는 정렬 속성이 주어진 경우
+   */
+  public Page<HubSummary> search(String keyword, boolean includeDeleted, Pageable pageable) {
+    Comparator<HubSummary> order = toComparator(pageable.getSort());
+
+    List<HubSummary> matches;
+    lock.readLock().lock();
+    try {
+      matches = findMatches(normalize(keyword), includeDeleted);
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    if (pageable.isUnpaged()) {
+      matches.sort(order);
+      return new PageImpl<>(matches, pageable, matches.size());
+    }
+
+    long end = pageable.getOffset() + pageable.getPageSize();
+    List<HubSummary> head = firstOf(matches, order, (int) Math.min(end, matches.size()));
+    int from = (int) Math.min(pageable.getOffset(), head.size());
+    return new PageImpl<>(List.copyOf(head.subList(from, head.size())), pageable, matches.size());
+  }
+
+  /**
+   * 색인된 허브를 조회한다.
+   *
+   * @param hubId 허브 식별자
+   * @return 색인된 허브(Optional)
+   */
+  public Optional<HubSummary> find(UUID hubId) {
+    lock.readLock().lock();
+    try {
+      return Optional.ofNullable(documents.get(hubId)).map(Document::hub);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 색인된 허브 수를 반환한다.
+   *
+   * @return 색인된 허브 수
+   */
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return documents.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private List<HubSummary> findMatches(String keyword, boolean includeDeleted) {
+    Predicate<HubSummary> visible = hub -> includeDeleted || !hub.isDeleted();
+
+    if (keyword.isEmpty()) {
+      List<HubSummary> all = new ArrayList<>(documents.size());
+      documents.values().stream().map(Document::hub).filter(visible).forEach(all::add);
+      return all;
+    }
+
+    boolean chosung = Chosung.isChosungOnly(keyword);
+    Set<UUID> candidates = rarestPosting(keyword, chosung ? chosungPostings : textPostings);
+
+    List<HubSummary> matches = new ArrayList<>();
+    for (UUID hubId : candidates) {
+      Document document = documents.get(hubId);
+      if (visible.test(document.hub()) && document.contains(keyword, chosung)) {
+        matches.add(document.hub());
+      }
+    }
+    return matches;
+  }
+
+  /**
+   * 정렬 순서상 앞쪽 {@code limit}개를 정렬해 반환한다. 전체를 정렬하지 않고 크기가 {@code limit}인 힙으로 골라내므로, 검색 결과가 많아도 요청한
+   * 페이지까지만 비교한다.
+   */
+  private static List<HubSummary> firstOf(
+      List<HubSummary> matches, Comparator<HubSummary> order, int limit) {
+    if (limit >= matches.size()) {
+      matches.sort(order);
+      return matches;
+    }
+
+    PriorityQueue<HubSummary> heap = new PriorityQueue<>(limit + 1, order.reversed());
+    for (HubSummary hub : matches) {
+      heap.offer(hub);
+      if (heap.size() > limit) {
+        heap.poll();
+      }
+    }
+    List<HubSummary> head = new ArrayList<>(heap);
+    head.sort(order);
+    return head;
+  }
+
+  private static Set<UUID> rarestPosting(String keyword, Map<String, Set<UUID>> postings) {
+    Set<UUID> rarest = null;
+    for (String gram : grams(keyword)) {
+      Set<UUID> posting = postings.getOrDefault(gram, Set.of());
+      if (rarest == null || posting.size() < rarest.size()) {
+        rarest = posting;
+      }
+      if (rarest.isEmpty()) {
+        break;
+      }
+    }
+    return rarest;
+  }
+
+  private void add(HubSummary hub) {
+    Document document = Document.of(hub);
+    documents.put(hub.hubId(), document);
+    document.texts().forEach(text -> addPostings(textPostings, text, hub.hubId()));
+    document.chosungs().forEach(text -> addPostings(chosungPostings, text, hub.hubId()));
+  }
+
+  private void removeDocument(UUID hubId) {
+    Document document = documents.remove(hubId);
+    if (document == null) {
+      return;
+    }
+    document.texts().forEach(text -> removePostings(textPostings, text, hubId));
+    document.chosungs().forEach(text -> removePostings(chosungPostings, text, hubId));
+  }
+
+  private static void addPostings(Map<String, Set<UUID>> postings, String text, UUID hubId) {
+    for (String gram : indexGrams(text)) {
+      postings.computeIfAbsent(gram, key -> new HashSet<>()).add(hubId);
+    }
+  }
+
+  private static void removePostings(Map<String, Set<UUID>> postings, String text, UUID hubId) {
+    for (String gram : indexGrams(text)) {
+      Set<UUID> posting = postings.get(gram);
+      if (posting != null && posting.remove(hubId) && posting.isEmpty()) {
+        postings.remove(gram);
+      }
+    }
+  }
+
+  /** 색인 대상 gram. 한 글자 키워드도 검색할 수 있도록 1-gram과 2-gram을 모두 만든다. */
+  private static Set<String> indexGrams(String text) {
+    Set<String> grams = new HashSet<>();
+    for (int i = 0; i < text.length(); i++) {
+      grams.add(text.substring(i, i + 1));
+      if (i + GRAM_SIZE <= text.length()) {
+        grams.add(text.substring(i, i + GRAM_SIZE));
+      }
+    }
+    return grams;
+  }
+
+  /** 검색 키워드의 gram. 두 글자 이상이면 2-gram, 한 글자면 1-gram을 사용한다. */
+  private static List<String> grams(String keyword) {
+    if (keyword.length() < GRAM_SIZE) {
+      return List.of(keyword);
+    }
+    List<String> grams = new ArrayList<>(keyword.length() - GRAM_SIZE + 1);
+    for (int i = 0; i + GRAM_SIZE <= keyword.length(); i++) {
+      grams.add(keyword.substring(i, i + GRAM_SIZE));
+    }
+    return grams;
+  }
+
+  private static String normalize(String text) {
+    return Objects.isNull(text) ? "" : text.toUpperCase(Locale.ROOT);
+  }
+
+  private static Comparator<HubSummary> toComparator(Sort sort) {
+    if (sort.isUnsorted()) {
+      return DEFAULT_ORDER;
+    }
+
+    Comparator<HubSummary> comparator = null;
+    for (Sort.Order order : sort) {
+      Comparator<HubSummary> property = SORTABLE_PROPERTIES.get(order.getProperty());
+      if (property == null) {
+        throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다. property: " + order.getProperty());
+      }
+      property = order.isAscending() ? property : property.reversed();
+      comparator = comparator == null ? property : comparator.thenComparing(property);
+    }
+    return comparator.thenComparing(HubSummary::hubId);
+  }
+
+  private static <T extends Comparable<? super T>> Comparator<HubSummary> nullsLast(
+      Function<HubSummary, T> extractor) {
+    return Comparator.comparing(extractor, Comparator.nullsLast(Comparator.naturalOrder()));
+  }
+
+  /**
+   * 색인된 허브와 검색 대상 문자열.
+   *
+   * @param hub 허브 요약 정보
+   * @param texts 대문자로 정규화한 허브명, 기본 주소, 상세 주소
+   * @param chosungs {@code texts}의 초성 변환 결과
+   */
+  private record Document(HubSummary hub, List<String> texts, List<String> chosungs) {
+
+    static Document of(HubSummary hub) {
+      List<String> texts =
+          Stream.of(hub.name(), hub.streetAddress(), hub.detailAddress())
+              .filter(Objects::nonNull)
+              .map(text -> text.toUpperCase(Locale.ROOT))
+              .toList();
+      return new Document(hub, texts, texts.stream().map(Chosung::of).toList());
+    }
+
+    boolean contains(String keyword, boolean chosung) {
+      return (chosung ? chosungs : texts).stream().anyMatch(text -> text.contains(keyword));
+    }
+  }
+}
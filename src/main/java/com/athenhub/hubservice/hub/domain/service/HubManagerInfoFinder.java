@@ -2,6 +2,8 @@ package com.athenhub.hubservice.hub.domain.service;
 
 import com.athenhub.hubservice.hub.domain.vo.HubManagerId;
 import com.athenhub.hubservice.hub.domain.vo.HubManagerInfo;
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * 허브 관리자(HubManager) 정보를 조회하는 기능을 제공하는 조회 전용 인터페이스.
@@ -12,6 +14,7 @@ import com.athenhub.hubservice.hub.domain.vo.HubManagerInfo;
  *
  * <ul>
  *   <li>관리자 ID를 기반으로 관리자 정보를 조회
+ *   <li>여러 관리자 ID의 관리자 정보를 한 번에 조회
  * </ul>
  *
  * @author 김형섭
@@ -25,4 +28,14 @@ public interface HubManagerInfoFinder {
    * @return 조회된 {@link HubManagerInfo} 정보
    */
   HubManagerInfo find(HubManagerId managerId);
+
+  /**
+   * 여러 관리자 ID에 해당하는 허브 관리자 정보를 한 번에 조회한다.
+   *
+   * <p>중복된 ID는 한 번만 조회하며, 존재하지 않거나 조회에 실패한 관리자는 결과에서 제외된다.
+   *
+   * @param managerIds 조회할 관리자 ID 목록
+   * @return 관리자 ID별 {@link HubManagerInfo} 정보
+   */
+  Map<HubManagerId, HubManagerInfo> findAll(Collection<HubManagerId> managerIds);
 }
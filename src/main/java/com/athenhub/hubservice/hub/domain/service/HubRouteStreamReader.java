@@ -0,0 +1,23 @@
+package com.athenhub.hubservice.hub.domain.service;
+
+import com.athenhub.hubservice.hub.domain.dto.HubRouteSummary;
+import java.util.function.Consumer;
+
+/**
+ * 활성 허브 경로 전체를 목록으로 만들지 않고 한 건씩 읽어 전달하는 기능을 제공하는 인터페이스.
+ *
+ * <p>구현체는 저장소의 순방향 커서처럼 일부 행만 메모리에 두는 방식으로 조회해야 하며, 경로 수가 늘어나도 사용하는 메모리가 일정하게 유지되어야 한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public interface HubRouteStreamReader {
+  /**
+   * 활성 허브 경로를 한 건씩 읽어 전달한다.
+   *
+   * <p>모든 경로를 전달한 뒤에 반환하며, {@code consumer}에서 발생한 예외는 조회를 중단하고 그대로 전파된다.
+   *
+   * @param consumer 읽은 경로를 받을 함수
+   */
+  void readAllActive(Consumer<HubRouteSummary> consumer);
+}
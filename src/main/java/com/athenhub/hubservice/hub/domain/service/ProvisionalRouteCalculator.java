@@ -0,0 +1,20 @@
+package com.athenhub.hubservice.hub.domain.service;
+
+/**
+ * 외부 경로 API를 호출하지 않고 두 좌표 간의 경로를 즉시 추정하는 {@link RouteCalculator}.
+ *
+ * <p>신규 허브 등록 직후 외부 경로 API 계산이 끝나기 전까지 사용할 임시 경로를 만드는 데 사용된다. 추정치는 호출 한도나 네트워크 지연 없이 계산되어야 하며,
+ * 이후 외부 경로 API 결과로 확정된다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public interface ProvisionalRouteCalculator extends RouteCalculator {
+
+  /**
+   * 확정된 경로가 변경되었을 때 추정 모델을 다시 보정한다.
+   *
+   * <p>보정이 필요 없는 구현체는 아무 작업도 하지 않는다.
+   */
+  default void calibrate() {}
+}
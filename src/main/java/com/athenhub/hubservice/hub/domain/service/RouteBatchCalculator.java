@@ -0,0 +1,23 @@
+package com.athenhub.hubservice.hub.domain.service;
+
+import com.athenhub.hubservice.hub.domain.dto.RouteQuery;
+import com.athenhub.hubservice.hub.domain.dto.RouteResponse;
+import java.util.List;
+
+/**
+ * 여러 좌표 쌍의 경로 정보를 한 번에 계산하는 기능을 제공하는 인터페이스.
+ *
+ * <p>구현체는 외부 경로 계산 API의 호출 한도를 지키면서 요청을 동시에 처리할 수 있으며, 상위 도메인은 호출 방식과 무관하게 결과 목록만 사용한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public interface RouteBatchCalculator {
+  /**
+   * 주어진 좌표 쌍 목록의 경로를 계산한다.
+   *
+   * @param queries 경로 계산 요청 목록
+   * @return 요청 목록과 같은 순서의 {@link RouteResponse} 목록
+   */
+  List<RouteResponse> getRoutes(List<RouteQuery> queries);
+}
@@ -0,0 +1,15 @@
+package com.athenhub.hubservice.hub.domain.vo;
+
+/**
+ * 허브 경로 변경 로그의 변경 유형.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public enum HubRouteChangeType {
+  /** 경로가 추가되었거나 거리·소요 시간·임시 여부가 바뀌었다. 같은 구간의 기존 값을 대체한다. */
+  UPSERT,
+
+  /** 경로가 논리 삭제되었다. */
+  DELETE
+}
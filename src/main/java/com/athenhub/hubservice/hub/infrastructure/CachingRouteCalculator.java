@@ -0,0 +1,195 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import com.athenhub.hubservice.global.infrastructure.cache.LruCache;
+import com.athenhub.hubservice.hub.domain.dto.RouteResponse;
+import com.athenhub.hubservice.hub.domain.service.RouteCalculator;
+import com.athenhub.hubservice.hub.domain.vo.Coordinate;
+import com.athenhub.hubservice.hub.infrastructure.cache.RouteCacheEntry;
+import com.athenhub.hubservice.hub.infrastructure.cache.RouteCacheEntryRepository;
+import com.athenhub.hubservice.hub.infrastructure.cache.RouteCacheKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 경로 API 조회 결과를 캐시하는 {@link RouteCalculator} 데코레이터.
+ *
+ * <p>경로 계산 결과는 두 좌표에만 의존하므로, 허브가 삭제 후 재등록되거나 정보가 수정되어 경로를 다시 계산할 때 이전 결과를 그대로 재사용한다. 캐시는 두
+ * 단계로 구성된다.
+ *
+ * <ul>
+ *   <li>메모리 캐시 — {@link LruCache}로 최근 사용한 항목을 {@code memoryMaxSize}개까지 보관한다.
+ *   <li>데이터베이스 캐시 — {@link RouteCacheEntry}로 영속화하여 재시작 이후와 다른 인스턴스에서도 재사용한다.
+ * </ul>
+ *
+ * <p>캐시 키는 격자에 맞춰 보정한 좌표 쌍({@link RouteCacheKey})이다. TTL이 지난 항목은 다시 조회하여 갱신하며, 갱신에 실패하면 만료된 값을
+ * 그대로 반환한다. 캐시가 없는 상태에서의 실패는 호출자에게 전파된다. 경로가 없는 결과(거리 또는 소요 시간이 {@code null})는 캐시하지 않는다.
+ *
+ * <p>외부 API 호출 속도 제한은 위임 대상인 {@link RateLimitedRouteCalculator}가 담당하므로, 캐시에서 응답하는 조회는 대기 없이 반환된다.
+ *
+ * <p>적중률은 다음 지표로 Prometheus에 노출된다.
+ *
+ * <ul>
+ *   <li>{@code route.cache.requests} — {@code tier}(memory, database), {@code result}(hit,
+ *       miss) 태그별 조회 수
+ *   <li>{@code route.cache.refreshes} — {@code result}(success, failure) 태그별 만료 항목 갱신 수
+ *   <li>{@code route.cache.memory.size}, {@code route.cache.memory.evictions} — 메모리 캐시 크기와 누적
+ *       제거 수
+ * </ul>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+@Primary
+@Component
+@EnableConfigurationProperties(RouteCacheProperties.class)
+public class CachingRouteCalculator implements RouteCalculator {
+
+  private static final String REQUESTS = "route.cache.requests";
+  private static final String REFRESHES = "route.cache.refreshes";
+
+  private final RouteCalculator delegate;
+  private final RouteCacheEntryRepository repository;
+  private final RouteCacheProperties properties;
+  private final LruCache<RouteCacheKey, CachedRoute> memory;
+
+  private final Counter memoryHits;
+  private final Counter memoryMisses;
+  private final Counter databaseHits;
+  private final Counter databaseMisses;
+  private final Counter refreshSuccesses;
+  private final Counter refreshFailures;
+
+  /**
+   * 경로 캐시 데코레이터를 생성한다.
+   *
+   * @param delegate 캐시 미적중 시 사용할 {@link RouteCalculator}(호출 속도가 제한된 네이버 Directions API 구현체)
+   * @param repository 데이터베이스 캐시 리포지토리
+   * @param properties 캐시 설정
+   * @param meterRegistry 지표를 등록할 {@link MeterRegistry}
+   */
+  public CachingRouteCalculator(
+      @Qualifier("rateLimitedRouteCalculator") RouteCalculator delegate,
+      RouteCacheEntryRepository repository,
+      RouteCacheProperties properties,
+      MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.repository = repository;
+    this.properties = properties;
+    this.memory = new LruCache<>(properties.getMemoryMaxSize());
+
+    this.memoryHits = counter(meterRegistry, REQUESTS, "tier", "memory", "result", "hit");
+    this.memoryMisses = counter(meterRegistry, REQUESTS, "tier", "memory", "result", "miss");
+    this.databaseHits = counter(meterRegistry, REQUESTS, "tier", "database", "result", "hit");
+    this.databaseMisses = counter(meterRegistry, REQUESTS, "tier", "database", "result", "miss");
+    this.refreshSuccesses = counter(meterRegistry, REFRESHES, "result", "success");
+    this.refreshFailures = counter(meterRegistry, REFRESHES, "result", "failure");
+
+    Gauge.builder("route.cache.memory.size", memory, LruCache::size)
+        .description("메모리 경로 캐시 항목 수")
+        .register(meterRegistry);
+    FunctionCounter.builder("route.cache.memory.evictions", memory, LruCache::evictionCount)
+        .description("메모리 경로 캐시에서 제거된 누적 항목 수")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public RouteResponse getRoute(Coordinate source, Coordinate target) {
+    RouteCacheKey key = RouteCacheKey.of(source, target, properties.getGridDegrees());
+    Duration ttl = properties.getTtl();
+
+    Optional<CachedRoute> inMemory = memory.get(key);
+    if (inMemory.isPresent() && inMemory.get().isFresh(ttl)) {
+      memoryHits.increment();
+      return inMemory.get().route();
+    }
+    memoryMisses.increment();
+
+    // 다른 인스턴스가 먼저 갱신했을 수 있으므로 메모리 항목이 만료된 경우에도 데이터베이스를 확인한다.
+    Optional<RouteCacheEntry> stored = repository.findById(key.value());
+    if (stored.isPresent()) {
+      CachedRoute cached = CachedRoute.from(stored.get());
+      if (cached.isFresh(ttl)) {
+        databaseHits.increment();
+        memory.put(key, cached);
+        return cached.route();
+      }
+    }
+    databaseMisses.increment();
+
+    CachedRoute stale = stored.map(CachedRoute::from).or(() -> inMemory).orElse(null);
+    return fetch(key, source, target, stored.orElse(null), stale);
+  }
+
+  private RouteResponse fetch(
+      RouteCacheKey key,
+      Coordinate source,
+      Coordinate target,
+      RouteCacheEntry stored,
+      CachedRoute stale) {
+    RouteResponse route;
+    try {
+      route = delegate.getRoute(source, target);
+    } catch (RuntimeException e) {
+      if (stale == null) {
+        throw e;
+      }
+      refreshFailures.increment();
+      log.warn("만료된 경로 캐시 갱신에 실패하여 기존 값을 반환합니다. key: {}", key.value(), e);
+      return stale.route();
+    }
+
+    if (stale != null) {
+      refreshSuccesses.increment();
+    }
+    if (route.distanceKm() == null || route.durationMinutes() == null) {
+      return route;
+    }
+
+    LocalDateTime fetchedAt = LocalDateTime.now();
+    memory.put(key, new CachedRoute(route, fetchedAt));
+    try {
+      if (stored == null) {
+        repository.save(RouteCacheEntry.of(key, route, fetchedAt));
+      } else {
+        stored.refresh(route, fetchedAt);
+        repository.save(stored);
+      }
+    } catch (DataAccessException e) {
+      log.warn("경로 캐시 저장에 실패했습니다. key: {}", key.value(), e);
+    }
+    return route;
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String name, String... tags) {
+    return Counter.builder(name).tags(tags).register(meterRegistry);
+  }
+
+  /**
+   * 메모리 캐시에 보관하는 경로 조회 결과.
+   *
+   * @param route 경로 조회 결과
+   * @param fetchedAt 조회 시각
+   */
+  private record CachedRoute(RouteResponse route, LocalDateTime fetchedAt) {
+
+    static CachedRoute from(RouteCacheEntry entry) {
+      return new CachedRoute(entry.toRouteResponse(), entry.getFetchedAt());
+    }
+
+    boolean isFresh(Duration ttl) {
+      return fetchedAt.plus(ttl).isAfter(LocalDateTime.now());
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import com.athenhub.hubservice.hub.domain.dto.RouteQuery;
+import com.athenhub.hubservice.hub.domain.dto.RouteResponse;
+import com.athenhub.hubservice.hub.domain.service.RouteBatchCalculator;
+import com.athenhub.hubservice.hub.domain.service.RouteCalculator;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 쓰레드를 이용해 여러 경로를 동시에 계산하는 {@link RouteBatchCalculator} 구현체.
+ *
+ * <p>단건 경로 계산은 {@link RouteCalculator}(캐시를 거치는 네이버 Directions API 구현체)에 위임하며, {@link Semaphore}로
+ * 동시 진행 요청 수를 {@code maxInFlight}개까지 제한한 채 요청을 병렬로 처리한다. 외부 API의 초당 호출 한도는 캐시 미적중 시에만 호출되는
+ * {@link RateLimitedRouteCalculator}가 지키므로, 캐시에서 응답하는 경로는 속도 제한 없이 계산된다.
+ *
+ * <p>진행 상황은 전체 요청의 10% 단위로 로그에 기록되며, 완료 시 소요 시간과 완료 시각을 기록한다. 요청 중 하나라도 실패하면 남은 요청을 취소하고 예외를
+ * 전파한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(RouteComputationProperties.class)
+public class ConcurrentRouteCalculator implements RouteBatchCalculator {
+
+  private static final int PROGRESS_STEPS = 10;
+
+  private final RouteCalculator routeCalculator;
+  private final RouteComputationProperties properties;
+
+  /**
+   * 경로 동시 계산기를 생성한다.
+   *
+   * @param routeCalculator 단건 경로 계산에 사용할 {@link RouteCalculator}
+   * @param properties 동시 계산 설정
+   */
+  public ConcurrentRouteCalculator(
+      RouteCalculator routeCalculator, RouteComputationProperties properties) {
+    this.routeCalculator = routeCalculator;
+    this.properties = properties;
+  }
+
+  @Override
+  public List<RouteResponse> getRoutes(List<RouteQuery> queries) {
+    int total = queries.size();
+    if (total == 0) {
+      return List.of();
+    }
+
+    Instant startedAt = Instant.now();
+    Semaphore inFlight = new Semaphore(properties.getMaxInFlight());
+    AtomicInteger completed = new AtomicInteger();
+    int reportEvery = Math.max(1, total / PROGRESS_STEPS);
+
+    log.info("경로 계산 시작. total: {}, maxInFlight: {}", total, properties.getMaxInFlight());
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      List<Future<RouteResponse>> futures = new ArrayList<>(total);
+      for (RouteQuery query : queries) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  inFlight.acquire();
+                  try {
+                    return routeCalculator.getRoute(query.source(), query.target());
+                  } finally {
+                    inFlight.release();
+                    reportProgress(completed.incrementAndGet(), total, reportEvery, startedAt);
+                  }
+                }));
+      }
+
+      List<RouteResponse> routes = new ArrayList<>(total);
+      try {
+        for (Future<RouteResponse> future : futures) {
+          routes.add(future.get());
+        }
+      } catch (InterruptedException e) {
+        executor.shutdownNow();
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("경로 계산이 중단되었습니다.", e);
+      } catch (ExecutionException e) {
+        executor.shutdownNow();
+        throw e.getCause() instanceof RuntimeException cause
+            ? cause
+            : new IllegalStateException("경로 계산에 실패했습니다.", e.getCause());
+      }
+
+      Instant completedAt = Instant.now();
+      log.info(
+          "경로 계산 완료. total: {}, elapsed: {}ms, completedAt: {}",
+          total,
+          Duration.between(startedAt, completedAt).toMillis(),
+          completedAt);
+      return routes;
+    }
+  }
+
+  private void reportProgress(int done, int total, int reportEvery, Instant startedAt) {
+    if (done % reportEvery == 0 || done == total) {
+      log.info(
+          "경로 계산 진행 중. {}/{} ({}%), elapsed: {}ms",
+          done,
+          total,
+          done * 100 / total,
+          Duration.between(startedAt, Instant.now()).toMillis());
+    }
+  }
+}
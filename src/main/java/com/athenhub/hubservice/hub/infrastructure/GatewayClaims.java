@@ -0,0 +1,28 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 게이트웨이가 서명하여 전달한 요청자 클레임.
+ *
+ * @param userId 요청자 회원 식별자
+ * @param roles 요청자 역할 목록
+ * @param status 요청자 계정 상태
+ * @param issuedAt 게이트웨이가 클레임을 발급한 시각
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record GatewayClaims(
+    UUID userId, Set<MemberRole> roles, MemberStatus status, Instant issuedAt) {
+
+  /**
+   * 활성 상태의 Master Manager인지 확인한다.
+   *
+   * @return 활성 Master Manager이면 {@code true}
+   */
+  public boolean isActiveMasterManager() {
+    return roles.contains(MemberRole.MASTER_MANAGER) && status == MemberStatus.ACTIVATED;
+  }
+}
@@ -0,0 +1,161 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 게이트웨이가 서명한 요청자 클레임 헤더를 검증하는 클래스.
+ *
+ * <p>게이트웨이는 인증된 요청에 다음 헤더를 추가하고, 값을 {@code |}로 이어 붙인 문자열에 HMAC-SHA256 서명을 붙여 전달한다.
+ *
+ * <pre>
+ * X-User-Id, X-User-Roles(쉼표 구분), X-User-Status, X-Claims-Issued-At(epoch 밀리초)
+ * X-Claims-Signature = base64url(HMAC-SHA256(secret, "userId|roles|status|issuedAt"))
+ * </pre>
+ *
+ * <p>서명이 맞지 않거나, 헤더가 빠졌거나, 발급 후 {@code maxClaimAge}가 지난 클레임은 사용하지 않는다. 서명 비교는 시간 차 공격을 막기 위해 상수
+ * 시간으로 수행한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+public class GatewayClaimsVerifier {
+
+  static final String HEADER_USER_ID = "X-User-Id";
+  static final String HEADER_ROLES = "X-User-Roles";
+  static final String HEADER_STATUS = "X-User-Status";
+  static final String HEADER_ISSUED_AT = "X-Claims-Issued-At";
+  static final String HEADER_SIGNATURE = "X-Claims-Signature";
+
+  private static final String ALGORITHM = "HmacSHA256";
+
+  private final SecretKeySpec key;
+  private final Duration maxClaimAge;
+  private final Clock clock;
+
+  /**
+   * 클레임 검증기를 생성한다.
+   *
+   * @param secret 게이트웨이와 공유하는 HMAC 키
+   * @param maxClaimAge 클레임을 신뢰하는 최대 기간
+   * @param clock 클레임 경과 시간 계산에 사용할 시계
+   * @throws IllegalArgumentException 키가 비어 있는 경우
+   */
+  public GatewayClaimsVerifier(String secret, Duration maxClaimAge, Clock clock) {
+    if (!StringUtils.hasText(secret)) {
+      throw new IllegalArgumentException("게이트웨이 클레임 서명 키가 설정되지 않았습니다.");
+    }
+    this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    this.maxClaimAge = maxClaimAge;
+    this.clock = clock;
+  }
+
+  /**
+   * 현재 HTTP 요청의 클레임 헤더를 검증한다.
+   *
+   * @return 검증된 클레임. 요청 밖이거나 검증에 실패하면 {@code Optional.empty()}
+   */
+  public Optional<GatewayClaims> verifyCurrentRequest() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+      return Optional.empty();
+    }
+    return verify(servletAttributes.getRequest());
+  }
+
+  /**
+   * 요청의 클레임 헤더를 검증한다.
+   *
+   * @param request HTTP 요청
+   * @return 검증된 클레임. 헤더가 없거나 검증에 실패하면 {@code Optional.empty()}
+   */
+  public Optional<GatewayClaims> verify(HttpServletRequest request) {
+    String userId = request.getHeader(HEADER_USER_ID);
+    String roles = request.getHeader(HEADER_ROLES);
+    String status = request.getHeader(HEADER_STATUS);
+    String issuedAt = request.getHeader(HEADER_ISSUED_AT);
+    String signature = request.getHeader(HEADER_SIGNATURE);
+    if (!allHaveText(userId, roles, status, issuedAt, signature)) {
+      return Optional.empty();
+    }
+
+    byte[] expected = sign(String.join("|", userId, roles, status, issuedAt));
+    byte[] actual;
+    try {
+      actual = Base64.getUrlDecoder().decode(signature);
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+    if (!MessageDigest.isEqual(expected, actual)) {
+      log.warn("게이트웨이 클레임 서명이 일치하지 않습니다. userId: {}", userId);
+      return Optional.empty();
+    }
+
+    try {
+      Instant issued = Instant.ofEpochMilli(Long.parseLong(issuedAt));
+      if (issued.plus(maxClaimAge).isBefore(clock.instant())) {
+        return Optional.empty();
+      }
+      return Optional.of(
+          new GatewayClaims(
+              UUID.fromString(userId), parseRoles(roles), MemberStatus.valueOf(status), issued));
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * 클레임 값에 대한 서명을 만든다. 게이트웨이와 같은 방식으로 서명하며, 테스트와 벤치마크에서도 사용한다.
+   *
+   * @param payload {@code userId|roles|status|issuedAt} 형식의 문자열
+   * @return base64url로 인코딩한 서명
+   */
+  public String signature(String payload) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(sign(payload));
+  }
+
+  private byte[] sign(String payload) {
+    try {
+      Mac mac = Mac.getInstance(ALGORITHM);
+      mac.init(key);
+      return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("게이트웨이 클레임 서명을 계산할 수 없습니다.", e);
+    }
+  }
+
+  /** 이 서비스가 알지 못하는 역할은 권한 판단에 영향이 없으므로 무시한다. */
+  private static Set<MemberRole> parseRoles(String roles) {
+    Set<MemberRole> parsed = EnumSet.noneOf(MemberRole.class);
+    for (String role : roles.split(",")) {
+      Arrays.stream(MemberRole.values())
+          .filter(candidate -> candidate.name().equals(role.trim()))
+          .findFirst()
+          .ifPresent(parsed::add);
+    }
+    return parsed;
+  }
+
+  private static boolean allHaveText(String... values) {
+    return Arrays.stream(values).allMatch(StringUtils::hasText);
+  }
+}
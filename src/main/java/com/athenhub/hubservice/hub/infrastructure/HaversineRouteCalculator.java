@@ -0,0 +1,135 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import com.athenhub.hubservice.hub.domain.HubRouteRepository;
+import com.athenhub.hubservice.hub.domain.dto.RouteCalibrationSample;
+import com.athenhub.hubservice.hub.domain.dto.RouteResponse;
+import com.athenhub.hubservice.hub.domain.service.ProvisionalRouteCalculator;
+import com.athenhub.hubservice.hub.domain.vo.Coordinate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대권(great-circle) 거리와 도로 보정 모델로 경로를 추정하는 {@link ProvisionalRouteCalculator} 구현체.
+ *
+ * <p>두 좌표의 하버사인(haversine) 거리에 도로 거리 비율(road factor)을 곱해 도로 거리를 추정하고, 평균 이동 속도로 소요 시간을 계산한다. 외부
+ * API를 호출하지 않으므로 신규 허브 등록 직후 임시 경로를 즉시 만들 수 있다.
+ *
+ * <p>도로 거리 비율과 평균 속도는 최근 확정된 {@code HubRoute}로부터 보정한다.
+ *
+ * <ul>
+ *   <li>도로 거리 비율 = 확정 경로 거리 합 / 직선 거리 합
+ *   <li>평균 속도 = 확정 경로 거리 합 / 소요 시간 합
+ * </ul>
+ *
+ * <p>보정 값은 처음 사용할 때 계산되며, 경로가 변경될 때 {@link #calibrate()}로 다시 계산한다. 표본이 {@code
+ * minCalibrationSamples}보다 적으면 설정된 기본값을 사용한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(ProvisionalRouteProperties.class)
+public class HaversineRouteCalculator implements ProvisionalRouteCalculator {
+
+  private static final double EARTH_RADIUS_KM = 6371.0088;
+
+  /** 직선 거리가 이보다 짧은 표본은 비율 오차가 커서 보정에서 제외한다. */
+  private static final double MIN_SAMPLE_DISTANCE_KM = 1.0;
+
+  private final HubRouteRepository hubRouteRepository;
+  private final ProvisionalRouteProperties properties;
+
+  private volatile RoadModel model;
+
+  @Override
+  public RouteResponse getRoute(Coordinate source, Coordinate target) {
+    RoadModel current = model();
+    double distanceKm = greatCircleKm(source, target) * current.roadFactor();
+    int durationMinutes = (int) Math.ceil(distanceKm / current.speedKmh() * 60);
+
+    return new RouteResponse(Math.round(distanceKm * 1000d) / 1000d, durationMinutes);
+  }
+
+  /** 최근 확정된 허브 경로로 도로 거리 비율과 평균 속도를 다시 계산한다. */
+  @Override
+  public void calibrate() {
+    List<RouteCalibrationSample> samples =
+        hubRouteRepository.findCalibrationSamples(
+            Limit.of(properties.getCalibrationSampleSize()));
+
+    double roadKm = 0;
+    double straightKm = 0;
+    long minutes = 0;
+    int used = 0;
+    for (RouteCalibrationSample sample : samples) {
+      double greatCircleKm =
+          greatCircleKm(
+              sample.sourceLatitude(),
+              sample.sourceLongitude(),
+              sample.targetLatitude(),
+              sample.targetLongitude());
+      if (greatCircleKm < MIN_SAMPLE_DISTANCE_KM || sample.durationMinutes() <= 0) {
+        continue;
+      }
+      roadKm += sample.distanceKm();
+      straightKm += greatCircleKm;
+      minutes += sample.durationMinutes();
+      used++;
+    }
+
+    RoadModel calibrated =
+        used < properties.getMinCalibrationSamples()
+            ? new RoadModel(properties.getDefaultRoadFactor(), properties.getDefaultSpeedKmh())
+            : new RoadModel(Math.max(1.0, roadKm / straightKm), roadKm / (minutes / 60.0));
+
+    model = calibrated;
+    log.info(
+        "임시 경로 모델 보정 완료. samples: {}, roadFactor: {}, speedKmh: {}",
+        used,
+        calibrated.roadFactor(),
+        calibrated.speedKmh());
+  }
+
+  private RoadModel model() {
+    RoadModel current = model;
+    if (current == null) {
+      calibrate();
+      current = model;
+    }
+    return current;
+  }
+
+  static double greatCircleKm(Coordinate source, Coordinate target) {
+    return greatCircleKm(
+        source.getLatitude(), source.getLongitude(), target.getLatitude(), target.getLongitude());
+  }
+
+  private static double greatCircleKm(
+      double sourceLatitude,
+      double sourceLongitude,
+      double targetLatitude,
+      double targetLongitude) {
+    double latitudeDelta = Math.toRadians(targetLatitude - sourceLatitude);
+    double longitudeDelta = Math.toRadians(targetLongitude - sourceLongitude);
+    double a =
+        Math.pow(Math.sin(latitudeDelta / 2), 2)
+            + Math.cos(Math.toRadians(sourceLatitude))
+                * Math.cos(Math.toRadians(targetLatitude))
+                * Math.pow(Math.sin(longitudeDelta / 2), 2);
+    return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+  }
+
+  /**
+   * 임시 경로 추정 모델.
+   *
+   * @param roadFactor 직선 거리 대비 도로 거리 비율
+   * @param speedKmh 평균 이동 속도(km/h)
+   */
+  private record RoadModel(double roadFactor, double speedKmh) {}
+}
@@ -0,0 +1,103 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import com.athenhub.hubservice.hub.application.service.HubCache;
+import com.athenhub.hubservice.hub.application.service.HubSearchIndexService;
+import com.athenhub.hubservice.hub.domain.vo.HubId;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.listener.AsyncConsumerStartedEvent;
+import org.springframework.amqp.rabbit.listener.ListenerContainerConsumerFailedEvent;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 인스턴스에서 발생한 허브 변경 이벤트를 수신하여 {@link HubCache}를 무효화하고 {@link HubSearchIndexService}의 검색 색인을 갱신하는
+ * 리스너.
+ *
+ * <p>허브 등록, 수정, 삭제, 관리자 변경 이벤트는 허브 Exchange에서 Fanout Exchange로 전달되고, 인스턴스마다 생성된 무효화 Queue로 복제된다.
+ * 이벤트 종류와 관계없이 허브 식별자만 사용하므로 메시지는 {@link HubChangedMessage}로 변환한다.
+ *
+ * <p>브로커 연결이 끊긴 동안에는 무효화 메시지를 받을 수 없으므로, 이 리스너의 소비자가 실패한 뒤 다시 시작되면 캐시 전체를 비우고 검색 색인을 한 번
+ * 다시 구성한다. 다른 리스너 컨테이너의 실패나 재시작 시도마다 반복되는 실패 이벤트로는 캐시를 비우지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class HubCacheInvalidationListener {
+
+  static final String LISTENER_ID = "hubCacheInvalidationListener";
+
+  private final HubCache hubCache;
+  private final HubSearchIndexService hubSearchIndexService;
+  private final ListenerContainerRecovery recovery;
+
+  /**
+   * 허브 캐시 무효화 리스너를 생성한다.
+   *
+   * @param hubCache 허브 캐시
+   * @param hubSearchIndexService 허브 검색 색인 서비스
+   * @param registry 이 리스너의 컨테이너를 조회할 {@link RabbitListenerEndpointRegistry}
+   */
+  public HubCacheInvalidationListener(
+      HubCache hubCache,
+      HubSearchIndexService hubSearchIndexService,
+      RabbitListenerEndpointRegistry registry) {
+    this.hubCache = hubCache;
+    this.hubSearchIndexService = hubSearchIndexService;
+    this.recovery = new ListenerContainerRecovery(registry, LISTENER_ID);
+  }
+
+  /**
+   * 허브 변경 메시지 처리.
+   *
+   * @param message 변경된 허브 식별자를 담은 메시지
+   */
+  @RabbitListener(id = LISTENER_ID, queues = "#{hubInvalidationQueue.name}")
+  public void onHubChanged(HubChangedMessage message) {
+    hubCache.evict(HubId.of(message.hubId()));
+    hubSearchIndexService.reindex(message.hubId());
+  }
+
+  /**
+   * 무효화 Queue 소비자 실패 이벤트 처리.
+   *
+   * <p>이 리스너의 컨테이너에서 발생한 첫 실패만 기록하며, 캐시와 검색 색인은 소비자가 다시 시작된 뒤 {@link
+   * #onConsumerStarted(AsyncConsumerStartedEvent)}에서 보정한다.
+   *
+   * @param event {@link ListenerContainerConsumerFailedEvent} 이벤트 객체
+   */
+  @EventListener
+  public void onConsumerFailed(ListenerContainerConsumerFailedEvent event) {
+    if (recovery.failed(event)) {
+      log.warn("허브 캐시 무효화 메시지 수신에 실패했습니다. 복구 후 캐시를 비웁니다. reason: {}", event.getReason());
+    }
+  }
+
+  /**
+   * 무효화 Queue 소비자 시작 이벤트 처리.
+   *
+   * <p>실패 이후 다시 시작된 경우, 연결이 복구되기 전까지 놓친 무효화가 있을 수 있으므로 캐시 전체를 비우고 검색 색인을 다시 구성한다.
+   *
+   * @param event {@link AsyncConsumerStartedEvent} 이벤트 객체
+   */
+  @EventListener
+  public void onConsumerStarted(AsyncConsumerStartedEvent event) {
+    if (recovery.recovered(event)) {
+      log.info("허브 캐시 무효화 메시지 수신이 복구되어 캐시를 비우고 검색 색인을 다시 구성합니다.");
+      hubCache.clear();
+      hubSearchIndexService.rebuild();
+    }
+  }
+
+  /**
+   * 허브 변경 이벤트({@code HubRegistered}, {@code HubUpdated}, {@code HubDeleted}, {@code
+   * HubManagerChanged})의 공통 필드.
+   *
+   * @param hubId 변경된 허브 식별자
+   */
+  record HubChangedMessage(UUID hubId) {}
+}
@@ -1,12 +1,19 @@
 package com.athenhub.hubservice.hub.infrastructure;
 
-import com.athenhub.hubservice.hub.application.service.HubMessagePublisher;
+import com.athenhub.hubservice.hub.application.service.HubCache;
+import com.athenhub.hubservice.hub.application.service.HubRouteGraphService;
 import com.athenhub.hubservice.hub.application.service.HubRouteService;
+import com.athenhub.hubservice.hub.application.service.HubSearchIndexService;
 import com.athenhub.hubservice.hub.domain.event.HubDeleted;
 import com.athenhub.hubservice.hub.domain.event.HubManagerChanged;
 import com.athenhub.hubservice.hub.domain.event.HubRegistered;
+import com.athenhub.hubservice.hub.domain.event.HubRouteUpdated;
 import com.athenhub.hubservice.hub.domain.event.HubUpdated;
+import com.athenhub.hubservice.hub.domain.service.ProvisionalRouteCalculator;
+import com.athenhub.hubservice.hub.domain.vo.HubId;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -25,14 +32,21 @@ import org.springframework.transaction.event.TransactionalEventListener;
  *   <li>{@code @Async} 적용으로 이벤트 처리 로직은 별도 쓰레드에서 실행되며, 본 트랜잭션과 독립적으로 처리된다.
  * </ul>
  *
- * <p>생성자 주입은 {@link RequiredArgsConstructor}를 통해 자동 생성되며, 내부적으로 경로 계산 서비스와 이벤트 발행기를 사용한다.
+ * <p>메시지 브로커 발행은 이벤트를 발행한 트랜잭션 안에서 아웃박스에 기록되므로 이 핸들러에서 수행하지 않는다.
+ *
+ * <p>생성자 주입은 {@link RequiredArgsConstructor}를 통해 자동 생성되며, 내부적으로 경로 계산 서비스를 사용한다.
  *
  * @see HubRegistered
  * @see HubUpdated
  * @see HubDeleted
  * @see HubManagerChanged
+ * @see HubRouteUpdated
  * @see HubRouteService
- * @see HubMessagePublisher
+ * @see HubRouteGraphService
+ * @see HubRouteGraphRefresher
+ * @see ProvisionalRouteCalculator
+ * @see HubSearchIndexService
+ * @see HubCache
  * @author 김형섭
  * @since 1.0.0
  */
@@ -41,59 +55,107 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class HubEventHandler {
 
   private final HubRouteService hubRouteService;
-  private final HubMessagePublisher hubMessagePublisher;
+  private final HubRouteGraphService hubRouteGraphService;
+  private final HubRouteGraphRefresher hubRouteGraphRefresher;
+  private final ProvisionalRouteCalculator provisionalRouteCalculator;
+  private final HubSearchIndexService hubSearchIndexService;
+  private final HubCache hubCache;
+
+  /**
+   * 애플리케이션 기동 완료 이벤트 처리.
+   *
+   * <p>요청을 받기 전에 활성 허브 경로를 읽어 메모리 상의 경로 그래프를 구성한다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadRouteGraph() {
+    hubRouteGraphService.refresh();
+  }
+
+  /**
+   * 애플리케이션 기동 완료 이벤트 처리.
+   *
+   * <p>요청을 받기 전에 전체 허브를 읽어 메모리 상의 검색 색인을 구성한다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadSearchIndex() {
+    hubSearchIndexService.rebuild();
+  }
 
   /**
    * 허브 등록 이벤트 처리.
    *
-   * <p>신규 허브 등록 시 허브 간 경로 데이터를 계산하고, 등록 이벤트를 메시지 브로커에 발행한다.
+   * <p>신규 허브를 검색 색인에 추가하고, 직선 거리 기반의 임시 경로를 먼저 저장하여 신규 허브를 즉시 경로 탐색에 사용할 수 있게 한 뒤, 외부 경로 API로 허브 간
+   * 경로 데이터를 계산하여 임시 경로를 확정한다.
    *
    * @param event {@link HubRegistered} 이벤트 객체, 등록된 허브의 ID를 포함
    */
   @Async
   @TransactionalEventListener(HubRegistered.class)
   public void handleHubRegistered(HubRegistered event) {
+    hubSearchIndexService.reindex(event.hubId());
+    hubRouteService.createProvisionalRoutes(event.hubId());
     hubRouteService.calculateRoutesForNewHub(event.hubId());
-    hubMessagePublisher.publish(event);
   }
 
   /**
    * 허브 정보 수정 이벤트 처리.
    *
-   * <p>허브 정보가 수정될 경우 해당 이벤트를 메시지 브로커에 발행한다.
+   * <p>허브 정보가 수정될 경우 허브 캐시를 무효화하고 검색 색인을 갱신한다. 다른 인스턴스의 캐시는 아웃박스를 거쳐 발행된 이벤트로 무효화된다.
    *
    * @param event {@link HubUpdated} 이벤트 객체
    */
   @Async
   @TransactionalEventListener(HubUpdated.class)
   public void handleHubUpdated(HubUpdated event) {
-    hubMessagePublisher.publish(event);
+    hubCache.evict(HubId.of(event.hubId()));
+    hubSearchIndexService.reindex(event.hubId());
   }
 
   /**
    * 허브 삭제 이벤트 처리.
    *
-   * <p>허브가 삭제될 경우 관련 경로 데이터를 비활성화하고, 이벤트를 메시지 브로커에 발행한다.
+   * <p>허브가 삭제될 경우 허브 캐시를 무효화하고 검색 색인에 삭제 상태를 반영하며 관련 경로 데이터를 비활성화한다.
    *
    * @param event {@link HubDeleted} 이벤트 객체, 삭제 대상 허브 ID와 요청자 정보를 포함
    */
   @Async
   @TransactionalEventListener(HubDeleted.class)
   public void handleHubDeleted(HubDeleted event) {
+    hubCache.evict(HubId.of(event.hubId()));
+    hubSearchIndexService.reindex(event.hubId());
     hubRouteService.deactivateRoutesForHub(event.hubId(), event.requestUsername());
-    hubMessagePublisher.publish(event);
   }
 
   /**
    * 허브 관리자 변경 이벤트 처리.
    *
-   * <p>허브 관리자 변경 시 변경 이벤트를 메시지 브로커에 발행한다.
+   * <p>허브 관리자 변경 시 허브 캐시를 무효화하고 검색 색인을 갱신한다.
    *
    * @param event {@link HubManagerChanged} 이벤트 객체
    */
   @Async
   @TransactionalEventListener(HubManagerChanged.class)
   public void handleHubManagerChanged(HubManagerChanged event) {
-    hubMessagePublisher.publish(event);
+    hubCache.evict(HubId.of(event.hubId()));
+    hubSearchIndexService.reindex(event.hubId());
+  }
+
+  /**
+   * 허브 경로 변경 이벤트 처리.
+   *
+   * <p>허브 경로가 추가되거나 비활성화된 트랜잭션이 커밋되면 메모리 상의 경로 그래프 재구성을 {@link HubRouteGraphRefresher}에 요청한다. 신규 허브
+   * 경로 계산처럼 배치 단위 트랜잭션을 모두 커밋한 뒤 트랜잭션 밖에서 발행된 이벤트도 처리하며, 짧은 시간 안에 이어진 변경은 한 번의 재구성으로 합쳐진다. 확정된 경로가
+   * 추가, 확정 또는 비활성화된 경우에만 임시 경로 추정 모델을 다시 보정한다. 다른 인스턴스의 경로 그래프는 아웃박스를 거쳐 발행된 이벤트를 {@link
+   * HubRouteUpdateListener}가 받아 갱신한다.
+   *
+   * @param event {@link HubRouteUpdated} 이벤트 객체
+   */
+  @Async
+  @TransactionalEventListener(classes = HubRouteUpdated.class, fallbackExecution = true)
+  public void handleHubRouteUpdated(HubRouteUpdated event) {
+    hubRouteGraphRefresher.request(event.version());
+    if (event.changesConfirmedRoutes()) {
+      provisionalRouteCalculator.calibrate();
+    }
   }
 }
@@ -4,9 +4,22 @@ import com.athenhub.hubservice.hub.application.service.HubManager;
 import com.athenhub.hubservice.hub.domain.service.HubManagerInfoFinder;
 import com.athenhub.hubservice.hub.domain.vo.HubManagerId;
 import com.athenhub.hubservice.hub.domain.vo.HubManagerInfo;
-import com.athenhub.hubservice.hub.infrastructure.client.MemberServiceClient;
-import lombok.RequiredArgsConstructor;
+import com.athenhub.hubservice.hub.infrastructure.dto.MemberInfo;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 /**
  * 허브 관리자(HubManager) 정보를 조회하는 서비스 구현체.
@@ -23,19 +36,85 @@ import org.springframework.stereotype.Component;
  *
  * <p>구현체는 {@link HubManagerInfoFinder} 인터페이스를 통해 사용되며, 허브 관리자 관련 기능에서 조회 책임을 담당한다.
  *
- * <p>{@link RequiredArgsConstructor}를 사용하여 필요한 의존성은 생성자 주입으로 관리된다.
+ * <p>여러 관리자를 한 번에 조회할 때는 중복을 제거한 관리자 ID를 가상 스레드에서 동시에 조회한다. 회원 서비스로 동시에 나가는 요청 수는 {@code
+ * member.cache.max-concurrency}로 제한하며, 관리자마다의 결과는 회원 정보 캐시와 요청 범위 조회 결과를 그대로 재사용한다. 조회 스레드에는 호출한
+ * 요청의 요청 속성을 전달해 인증 헤더 전달과 요청 범위 조회 결과가 동일하게 동작하도록 한다.
  *
  * @author 김형섭
  * @since 1.0.0
  */
+@Slf4j
 @Component
-@RequiredArgsConstructor
+@EnableConfigurationProperties(MemberCacheProperties.class)
 public class HubManagerInfoFindService implements HubManagerInfoFinder {
 
-  private final MemberServiceClient memberServiceClient;
+  private final MemberInfoLoader memberInfoLoader;
+  private final Semaphore permits;
+
+  /**
+   * 허브 관리자 정보 조회 서비스를 생성한다.
+   *
+   * @param memberInfoLoader 회원 정보 조회기
+   * @param properties 회원 정보 조회 설정
+   */
+  public HubManagerInfoFindService(
+      MemberInfoLoader memberInfoLoader, MemberCacheProperties properties) {
+    this.memberInfoLoader = memberInfoLoader;
+    this.permits = new Semaphore(properties.getMaxConcurrency());
+  }
 
   @Override
   public HubManagerInfo find(HubManagerId managerId) {
-    return memberServiceClient.getMemberInfo(managerId.toUuid()).toHubManagerInfo();
+    return memberInfoLoader
+        .find(managerId.toUuid())
+        .map(MemberInfo::toHubManagerInfo)
+        .orElseThrow(
+            () -> new IllegalArgumentException("회원 정보를 찾을수 없습니다. id: " + managerId.toUuid()));
+  }
+
+  @Override
+  public Map<HubManagerId, HubManagerInfo> findAll(Collection<HubManagerId> managerIds) {
+    Set<HubManagerId> distinctIds = new LinkedHashSet<>(managerIds);
+    Map<HubManagerId, HubManagerInfo> managers = new ConcurrentHashMap<>(distinctIds.size());
+    if (distinctIds.isEmpty()) {
+      return managers;
+    }
+
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      List<CompletableFuture<Void>> lookups =
+          distinctIds.stream()
+              .map(
+                  managerId ->
+                      CompletableFuture.runAsync(
+                          () -> load(managerId, attributes, managers), executor))
+              .toList();
+      CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new)).join();
+    }
+    return managers;
+  }
+
+  private void load(
+      HubManagerId managerId,
+      RequestAttributes attributes,
+      Map<HubManagerId, HubManagerInfo> managers) {
+    RequestContextHolder.setRequestAttributes(attributes);
+    try {
+      permits.acquire();
+      try {
+        memberInfoLoader
+            .find(managerId.toUuid())
+            .map(MemberInfo::toHubManagerInfo)
+            .ifPresent(manager -> managers.put(managerId, manager));
+      } finally {
+        permits.release();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (RuntimeException e) {
+      log.warn("허브 관리자 정보 조회 실패. id: {}", managerId.toUuid(), e);
+    } finally {
+      RequestContextHolder.resetRequestAttributes();
+    }
   }
 }
@@ -0,0 +1,86 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import com.athenhub.hubservice.hub.application.service.HubRouteGraphService;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경로 변경 이벤트에 따른 경로 그래프 재구성 요청을 모아 한 번에 처리한다.
+ *
+ * <p>그래프 재구성은 활성 경로 전체를 다시 읽고 경로 행렬까지 새로 계산하므로 비용이 크다. 신규 허브 경로 계산처럼 여러 배치 트랜잭션이 연달아 커밋되면 배치마다 경로
+ * 변경 메시지가 발행되고, 경로를 변경한 인스턴스는 로컬 이벤트도 함께 받는다. 이 클래스는 요청된 경로 버전 중 가장 큰 값만 기록해 두고 {@code
+ * route.graph.refresh-delay}가 지난 뒤 한 번만 {@link HubRouteGraphService#refreshIfBehind(long)}를 호출하여, 그
+ * 사이 도착한 요청을 하나의 재구성으로 합친다.
+ *
+ * <p>재구성은 전용 스레드 하나에서만 실행되므로 요청한 스레드(비동기 이벤트 처리 스레드, 메시지 리스너 스레드)를 막지 않는다. 재구성에 실패하면 같은 지연 뒤에 다시
+ * 시도한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(RouteGraphProperties.class)
+public class HubRouteGraphRefresher {
+
+  private final HubRouteGraphService hubRouteGraphService;
+  private final long refreshDelayMillis;
+  private final ScheduledExecutorService executor =
+      Executors.newSingleThreadScheduledExecutor(
+          Thread.ofPlatform().name("route-graph-refresher").daemon().factory());
+
+  private final AtomicLong requestedVersion = new AtomicLong(-1);
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+
+  /**
+   * 경로 그래프 재구성 요청 처리기를 생성한다.
+   *
+   * @param hubRouteGraphService 경로 그래프 서비스
+   * @param properties 경로 그래프 갱신 설정
+   */
+  public HubRouteGraphRefresher(
+      HubRouteGraphService hubRouteGraphService, RouteGraphProperties properties) {
+    this.hubRouteGraphService = hubRouteGraphService;
+    this.refreshDelayMillis = properties.getRefreshDelay().toMillis();
+  }
+
+  /**
+   * 주어진 경로 버전을 반영하도록 그래프 재구성을 요청한다.
+   *
+   * <p>이미 예약된 재구성이 있으면 새로 예약하지 않고 요청 버전만 갱신한다.
+   *
+   * @param version 변경이 반영된 경로 버전
+   */
+  public void request(long version) {
+    requestedVersion.accumulateAndGet(version, Math::max);
+    if (scheduled.compareAndSet(false, true)) {
+      executor.schedule(this::refresh, refreshDelayMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void refresh() {
+    // 재구성 중에 도착한 요청이 다음 재구성을 예약할 수 있도록 먼저 해제한다.
+    scheduled.set(false);
+    long version = requestedVersion.get();
+    try {
+      if (hubRouteGraphService.refreshIfBehind(version)) {
+        log.debug("경로 변경을 경로 그래프에 반영했습니다. version: {}", version);
+      }
+    } catch (RuntimeException e) {
+      log.warn("경로 그래프 재구성에 실패했습니다. 잠시 후 다시 시도합니다. version: {}", version, e);
+      request(version);
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,105 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import com.athenhub.hubservice.hub.application.service.HubRouteGraphService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.listener.AsyncConsumerStartedEvent;
+import org.springframework.amqp.rabbit.listener.ListenerContainerConsumerFailedEvent;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 인스턴스에서 발생한 허브 경로 변경 이벤트를 수신하여 메모리 상의 경로 그래프를 다시 구성하는 리스너.
+ *
+ * <p>경로 변경 이벤트({@code routeUpdated})는 인스턴스마다 생성된 경로 변경 Queue로 복제된다. 이벤트를 발행한 인스턴스는 로컬 이벤트로 이미
+ * 그래프를 갱신하지만, 나머지 인스턴스는 이 메시지를 받아야 최단 경로, 경로 행렬, 경로 목록 응답이 최신 경로를 반영한다.
+ *
+ * <p>하나의 트랜잭션에서 발행된 이벤트는 여러 메시지로 나뉘어 같은 순서로 전달되므로, 마지막 메시지를 받았을 때 한 번만 그래프 재구성을 {@link
+ * HubRouteGraphRefresher}에 요청한다. 연달아 커밋된 여러 트랜잭션의 메시지는 한 번의 재구성으로 합쳐지고, 그래프가 이미 해당 경로 버전을
+ * 반영했다면 다시 구성하지 않는다.
+ *
+ * <p>브로커 연결이 끊긴 동안에는 경로 변경 메시지를 받을 수 없으므로, 이 리스너의 소비자가 실패한 뒤 다시 시작되면 버전과 관계없이 그래프를 한 번
+ * 다시 구성한다. 다른 리스너 컨테이너의 실패나 재시작 시도마다 반복되는 실패 이벤트로는 그래프를 다시 구성하지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class HubRouteUpdateListener {
+
+  static final String LISTENER_ID = "hubRouteUpdateListener";
+
+  private final HubRouteGraphService hubRouteGraphService;
+  private final HubRouteGraphRefresher hubRouteGraphRefresher;
+  private final ListenerContainerRecovery recovery;
+
+  /**
+   * 경로 변경 리스너를 생성한다.
+   *
+   * @param hubRouteGraphService 경로 그래프 서비스
+   * @param hubRouteGraphRefresher 경로 그래프 재구성 요청 처리기
+   * @param registry 이 리스너의 컨테이너를 조회할 {@link RabbitListenerEndpointRegistry}
+   */
+  public HubRouteUpdateListener(
+      HubRouteGraphService hubRouteGraphService,
+      HubRouteGraphRefresher hubRouteGraphRefresher,
+      RabbitListenerEndpointRegistry registry) {
+    this.hubRouteGraphService = hubRouteGraphService;
+    this.hubRouteGraphRefresher = hubRouteGraphRefresher;
+    this.recovery = new ListenerContainerRecovery(registry, LISTENER_ID);
+  }
+
+  /**
+   * 허브 경로 변경 메시지 처리.
+   *
+   * @param message 경로 그래프 버전과 분할 정보를 담은 메시지
+   */
+  @RabbitListener(id = LISTENER_ID, queues = "#{hubRouteUpdateQueue.name}")
+  public void onHubRouteUpdated(HubRouteUpdatedMessage message) {
+    if (message.chunk() < message.chunkCount() - 1) {
+      return;
+    }
+    hubRouteGraphRefresher.request(message.version());
+  }
+
+  /**
+   * 경로 변경 Queue 소비자 실패 이벤트 처리.
+   *
+   * <p>이 리스너의 컨테이너에서 발생한 첫 실패만 기록하며, 그래프는 소비자가 다시 시작된 뒤 {@link
+   * #onConsumerStarted(AsyncConsumerStartedEvent)}에서 다시 구성한다.
+   *
+   * @param event {@link ListenerContainerConsumerFailedEvent} 이벤트 객체
+   */
+  @EventListener
+  public void onConsumerFailed(ListenerContainerConsumerFailedEvent event) {
+    if (recovery.failed(event)) {
+      log.warn("허브 경로 변경 메시지 수신에 실패했습니다. 복구 후 경로 그래프를 다시 구성합니다. reason: {}", event.getReason());
+    }
+  }
+
+  /**
+   * 경로 변경 Queue 소비자 시작 이벤트 처리.
+   *
+   * <p>실패 이후 다시 시작된 경우, 연결이 복구되기 전까지 놓친 경로 변경이 있을 수 있으므로 경로 그래프를 다시 구성한다.
+   *
+   * @param event {@link AsyncConsumerStartedEvent} 이벤트 객체
+   */
+  @EventListener
+  public void onConsumerStarted(AsyncConsumerStartedEvent event) {
+    if (recovery.recovered(event)) {
+      log.info("허브 경로 변경 메시지 수신이 복구되어 경로 그래프를 다시 구성합니다.");
+      hubRouteGraphService.refresh();
+    }
+  }
+
+  /**
+   * 허브 경로 변경 이벤트({@code HubRouteUpdated})에서 그래프 갱신에 필요한 필드.
+   *
+   * @param version 변경이 반영된 경로 그래프 버전
+   * @param chunk 분할된 메시지 중 현재 메시지의 순번
+   * @param chunkCount 분할된 메시지의 총 개수
+   */
+  record HubRouteUpdatedMessage(long version, int chunk, int chunkCount) {}
+}
@@ -0,0 +1,135 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import com.athenhub.hubservice.hub.application.service.HubSearchProperties;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 트라이그램 검색 모드에서 허브 검색용 인덱스를 생성하는 컴포넌트.
+ *
+ * <p>{@code hub.search.mode=trigram}이면 애플리케이션 기동 완료 후 {@code pg_trgm} 확장과 허브 이름, 주소 컬럼의 GIN 인덱스를
+ * 생성한다. 확장 생성 권한이 필요하므로 기본 스키마 스크립트와 분리되어 있으며, PostgreSQL이 아닌 데이터베이스에서는 아무 작업도 하지 않는다.
+ *
+ * <p>인덱스는 {@code CREATE INDEX CONCURRENTLY}로 생성하므로 생성하는 동안에도 {@code p_hub}에 대한 쓰기가 막히지 않는다.
+ * {@code CONCURRENTLY}는 트랜잭션 블록 안에서 실행할 수 없으므로 자동 커밋 커넥션에서 문장마다 따로 실행한다. 여러 인스턴스가 동시에 기동해도 권고
+ * 잠금(advisory lock)을 얻은 인스턴스 하나만 생성하며, 이전 생성이 중단되어 남은 유효하지 않은 인덱스는 다시 생성하기 전에 삭제한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HubSearchIndexInitializer {
+
+  private static final String SCRIPT = "db/trigram/schema-postgresql.sql";
+
+  /** 인덱스 생성을 한 인스턴스에서만 수행하기 위한 권고 잠금 키. */
+  private static final String LOCK_KEY = "hashtext('hub-service.trigram-index')";
+
+  private static final String INVALID_INDEXES =
+      """
+      SELECT c.relname
+      FROM pg_index i
+      JOIN pg_class c ON c.oid = i.indexrelid
+      WHERE NOT i.indisvalid
+      AND c.relname LIKE 'idx\\_hub\\_%\\_trgm'
+      """;
+
+  private final DataSource dataSource;
+  private final HubSearchProperties searchProperties;
+
+  /** 기동 완료 시 트라이그램 모드이면 검색 인덱스를 생성한다. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    if (searchProperties.getMode() == HubSearchProperties.Mode.TRIGRAM) {
+      createIndexes();
+    }
+  }
+
+  /**
+   * PostgreSQL인 경우 트라이그램 검색 인덱스를 생성한다. 스크립트는 {@code IF NOT EXISTS}로 작성되어 있어 반복 실행해도 안전하다.
+   *
+   * @return 인덱스 생성 스크립트를 실행했으면 {@code true}, 다른 인스턴스가 생성 중이거나 PostgreSQL이 아니면 {@code false}
+   */
+  public boolean createIndexes() {
+    if (!isPostgreSql()) {
+      log.info("트라이그램 인덱스를 지원하지 않는 데이터베이스입니다. LIKE 검색으로 동작합니다.");
+      return false;
+    }
+
+    Boolean created =
+        new JdbcTemplate(dataSource)
+            .execute((ConnectionCallback<Boolean>) this::createIndexesLocked);
+    if (Boolean.TRUE.equals(created)) {
+      log.info("허브 트라이그램 검색 인덱스 생성 완료.");
+      return true;
+    }
+    log.info("다른 인스턴스가 허브 트라이그램 검색 인덱스를 생성하고 있어 생략합니다.");
+    return false;
+  }
+
+  private boolean createIndexesLocked(Connection connection) throws SQLException {
+    // CREATE INDEX CONCURRENTLY는 트랜잭션 블록 안에서 실행할 수 없다.
+    connection.setAutoCommit(true);
+    try (Statement statement = connection.createStatement()) {
+      if (!queryBoolean(statement, "SELECT pg_try_advisory_lock(" + LOCK_KEY + ")")) {
+        return false;
+      }
+      try {
+        for (String index : findInvalidIndexes(statement)) {
+          log.warn("생성이 중단된 트라이그램 인덱스를 삭제합니다. index: {}", index);
+          statement.execute("DROP INDEX CONCURRENTLY IF EXISTS " + index);
+        }
+        ScriptUtils.executeSqlScript(connection, new ClassPathResource(SCRIPT));
+        return true;
+      } finally {
+        queryBoolean(statement, "SELECT pg_advisory_unlock(" + LOCK_KEY + ")");
+      }
+    }
+  }
+
+  private static List<String> findInvalidIndexes(Statement statement) throws SQLException {
+    List<String> indexes = new ArrayList<>();
+    try (ResultSet resultSet = statement.executeQuery(INVALID_INDEXES)) {
+      while (resultSet.next()) {
+        indexes.add(resultSet.getString(1));
+      }
+    }
+    return indexes;
+  }
+
+  private static boolean queryBoolean(Statement statement, String sql) throws SQLException {
+    try (ResultSet resultSet = statement.executeQuery(sql)) {
+      return resultSet.next() && resultSet.getBoolean(1);
+    }
+  }
+
+  private boolean isPostgreSql() {
+    try {
+      String product =
+          JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+      return product.toLowerCase().contains("postgresql");
+    } catch (MetaDataAccessException e) {
+      log.warn("데이터베이스 종류 확인 실패.", e);
+      return false;
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import com.athenhub.hubservice.hub.domain.dto.HubRouteSummary;
+import com.athenhub.hubservice.hub.domain.service.HubRouteStreamReader;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 순방향 JDBC 커서로 활성 허브 경로를 읽는 {@link HubRouteStreamReader} 구현체.
+ *
+ * <p>엔티티를 만들지 않고 필요한 컬럼만 읽어 {@link HubRouteSummary}로 전달하며, 커서는 {@code route.stream.fetch-size} 행씩
+ * 가져온다. PostgreSQL 드라이버는 자동 커밋이 꺼져 있을 때만 fetch size 단위로 가져오므로, 조회는 읽기 전용 트랜잭션 안에서 수행한다. 이미
+ * 진행 중인 트랜잭션이 있으면 참여한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Component
+@EnableConfigurationProperties(RouteStreamProperties.class)
+public class JdbcHubRouteStreamReader implements HubRouteStreamReader {
+
+  private static final String ACTIVE_ROUTES_SQL =
+      "SELECT source_hub_id, target_hub_id, distance_km, duration_minutes, provisional"
+          + " FROM p_hub_route WHERE deleted_at IS NULL";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final RouteStreamProperties properties;
+
+  /**
+   * 허브 경로 스트리밍 조회기를 생성한다.
+   *
+   * @param jdbcTemplate JDBC 템플릿
+   * @param transactionManager 읽기 전용 트랜잭션을 시작할 트랜잭션 매니저
+   * @param properties 스트리밍 조회 설정
+   */
+  public JdbcHubRouteStreamReader(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      RouteStreamProperties properties) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.properties = properties;
+  }
+
+  @Override
+  public void readAllActive(Consumer<HubRouteSummary> consumer) {
+    RowCallbackHandler handler = resultSet -> consumer.accept(toSummary(resultSet));
+
+    transactionTemplate.executeWithoutResult(
+        status ->
+            jdbcTemplate.query(
+                connection -> {
+                  PreparedStatement statement =
+                      connection.prepareStatement(
+                          ACTIVE_ROUTES_SQL,
+                          ResultSet.TYPE_FORWARD_ONLY,
+                          ResultSet.CONCUR_READ_ONLY);
+                  statement.setFetchSize(properties.getFetchSize());
+                  return statement;
+                },
+                handler));
+  }
+
+  private static HubRouteSummary toSummary(ResultSet resultSet) throws SQLException {
+    return new HubRouteSummary(
+        resultSet.getObject("source_hub_id", UUID.class),
+        resultSet.getObject("target_hub_id", UUID.class),
+        resultSet.getObject("distance_km", Double.class),
+        resultSet.getObject("duration_minutes", Integer.class),
+        resultSet.getBoolean("provisional"));
+  }
+}
@@ -0,0 +1,59 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.amqp.rabbit.listener.AsyncConsumerStartedEvent;
+import org.springframework.amqp.rabbit.listener.ListenerContainerConsumerFailedEvent;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 특정 {@code @RabbitListener} 컨테이너의 소비자 실패와 복구를 추적한다.
+ *
+ * <p>{@link ListenerContainerConsumerFailedEvent}와 {@link AsyncConsumerStartedEvent}는 모든 리스너 컨테이너에서
+ * 발행되고, 브로커가 내려가 있는 동안에는 재시작을 시도할 때마다 실패 이벤트가 반복된다. 이 클래스는 이벤트의 발행자가 추적 대상 컨테이너인지 확인하고,
+ * 실패 이후 소비자가 다시 시작되었을 때 한 번만 복구로 판단하여 놓친 메시지를 보정하는 작업이 재시도마다 반복되지 않도록 한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+class ListenerContainerRecovery {
+
+  private final RabbitListenerEndpointRegistry registry;
+  private final String listenerId;
+  private final AtomicBoolean failed = new AtomicBoolean();
+
+  /**
+   * 소비자 복구 추적기를 생성한다.
+   *
+   * @param registry 리스너 컨테이너를 조회할 {@link RabbitListenerEndpointRegistry}
+   * @param listenerId 추적할 {@code @RabbitListener}의 {@code id}
+   */
+  ListenerContainerRecovery(RabbitListenerEndpointRegistry registry, String listenerId) {
+    this.registry = registry;
+    this.listenerId = listenerId;
+  }
+
+  /**
+   * 소비자 실패를 기록한다.
+   *
+   * @param event 소비자 실패 이벤트
+   * @return 추적 대상 컨테이너의 첫 실패라면 {@code true}, 다른 컨테이너의 실패이거나 이미 실패 상태라면 {@code false}
+   */
+  boolean failed(ListenerContainerConsumerFailedEvent event) {
+    return isTracked(event) && failed.compareAndSet(false, true);
+  }
+
+  /**
+   * 소비자 시작을 기록한다.
+   *
+   * @param event 소비자 시작 이벤트
+   * @return 추적 대상 컨테이너가 실패 이후 다시 시작되었다면 {@code true}
+   */
+  boolean recovered(AsyncConsumerStartedEvent event) {
+    return isTracked(event) && failed.compareAndSet(true, false);
+  }
+
+  private boolean isTracked(ApplicationEvent event) {
+    return event.getSource() == registry.getListenerContainer(listenerId);
+  }
+}
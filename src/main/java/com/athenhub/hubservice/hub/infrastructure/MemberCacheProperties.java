@@ -0,0 +1,47 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 회원 정보 조회 캐시에 사용하는 설정 정보를 바인딩하는 Properties 클래스이다.
+ *
+ * <p>주요 설정 값:
+ *
+ * <ul>
+ *   <li>{@code ttl} : 조회된 회원 정보를 다시 조회하기 전까지 유지하는 기간
+ *   <li>{@code negativeTtl} : 존재하지 않는 회원의 조회 결과를 유지하는 기간
+ *   <li>{@code maxSize} : 메모리에 보관할 최대 회원 수
+ *   <li>{@code maxConcurrency} : 여러 회원을 한 번에 조회할 때 회원 서비스로 동시에 보내는 최대 요청 수
+ * </ul>
+ *
+ * <p>예시:
+ *
+ * <pre>
+ * member:
+ *   cache:
+ *     ttl: 30s
+ *     negative-ttl: 5s
+ *     max-size: 10000
+ *     max-concurrency: 8
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "member.cache")
+public class MemberCacheProperties {
+  /** 조회된 회원 정보를 다시 조회하기 전까지 유지하는 기간. 권한 변경이 늦게 반영될 수 있으므로 짧게 유지한다. */
+  private Duration ttl = Duration.ofSeconds(30);
+
+  /** 존재하지 않는 회원의 조회 결과를 유지하는 기간. */
+  private Duration negativeTtl = Duration.ofSeconds(5);
+
+  /** 메모리에 보관할 최대 회원 수. */
+  private int maxSize = 10_000;
+
+  /** 여러 회원을 한 번에 조회할 때 회원 서비스로 동시에 보내는 최대 요청 수. */
+  private int maxConcurrency = 8;
+}
@@ -1,9 +1,8 @@
 package com.athenhub.hubservice.hub.infrastructure;
 
 import com.athenhub.hubservice.hub.domain.service.MemberExistenceChecker;
-import com.athenhub.hubservice.hub.infrastructure.client.MemberServiceClient;
 import com.athenhub.hubservice.hub.infrastructure.dto.MemberInfo;
-import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -11,20 +10,28 @@ import org.springframework.stereotype.Component;
 /**
  * 회원 존재 여부를 확인하는 서비스 구현체.
  *
- * <p>이 서비스는 {@link MemberServiceClient}를 통해 외부 회원 서비스에 회원 정보를 조회하고, 회원이 실제 존재하며 삭제되지 않은 상태인지 판단한다.
+ * <p>이 서비스는 {@link MemberInfoLoader}를 통해 외부 회원 서비스에 회원 정보를 조회하고, 회원이 실제 존재하며 삭제되지 않은 상태인지 판단한다.
  *
- * <p>도메인 계층에서 정의한 {@link MemberServiceClient} 인터페이스의 구현체로, 애플리케이션 또는 도메인 서비스 계층에서 회원 유효성 검증을 위해
+ * <p>{@code hub.permission.mode}가 {@code local}이고 확인 대상이 요청자 본인이면, 게이트웨이가 서명한 상태 클레임({@link
+ * RequesterClaimsResolver})으로 회원 서비스 호출 없이 판단한다.
+ *
+ * <p>도메인 계층에서 정의한 {@link MemberExistenceChecker} 인터페이스의 구현체로, 애플리케이션 또는 도메인 서비스 계층에서 회원 유효성 검증을 위해
  * 사용된다.
  */
 @Component
 @RequiredArgsConstructor
 public class MemberExistenceCheckService implements MemberExistenceChecker {
 
-  private final MemberServiceClient memberServiceClient;
+  private final MemberInfoLoader memberInfoLoader;
+  private final RequesterClaimsResolver requesterClaimsResolver;
 
   @Override
   public boolean hasMember(UUID memberId) {
-    MemberInfo member = memberServiceClient.getMemberInfo(memberId);
-    return Objects.nonNull(member) && member.isActivated();
+    Optional<GatewayClaims> claims = requesterClaimsResolver.resolve(memberId);
+    if (claims.isPresent()) {
+      return claims.get().status() == MemberStatus.ACTIVATED;
+    }
+
+    return memberInfoLoader.find(memberId).filter(MemberInfo::isActivated).isPresent();
   }
 }
@@ -0,0 +1,179 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import com.athenhub.hubservice.global.infrastructure.cache.LruCache;
+import com.athenhub.hubservice.hub.infrastructure.client.MemberServiceClient;
+import com.athenhub.hubservice.hub.infrastructure.dto.MemberInfo;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link MemberServiceClient} 조회 결과를 짧은 기간 보관하는 회원 정보 캐시.
+ *
+ * <p>권한 검증, 회원 존재 여부 확인, 허브 관리자 조회는 모두 같은 회원 정보를 사용하므로, 한 요청 안에서나 짧은 간격으로 반복되는 원격 호출을 하나로 줄인다.
+ *
+ * <ul>
+ *   <li>TTL — 조회된 회원 정보는 {@code ttl} 동안 재사용한다.
+ *   <li>네거티브 캐시 — 회원 서비스가 404 또는 빈 응답을 반환하면 {@code negativeTtl} 동안 없는 회원으로 기억한다.
+ *   <li>단일 비행(single-flight) — 같은 회원을 동시에 조회하면 먼저 시작한 한 번의 원격 호출 결과를 함께 사용한다. 원격 호출이 실패하면 기다리던
+ *       호출자 모두에게 같은 예외가 전파되며, 실패는 캐시하지 않는다.
+ * </ul>
+ *
+ * <p>회원 상태가 바뀌면 {@link #evict(UUID)}로 항목을 제거한다. 조회 중에 무효화가 일어나면 조회 결과를 저장하지 않는다.
+ *
+ * <p>적중률은 다음 지표로 노출된다.
+ *
+ * <ul>
+ *   <li>{@code member.cache.requests} — {@code result}(hit, miss, coalesced) 태그별 조회 수
+ *   <li>{@code member.cache.size}, {@code member.cache.evictions} — 캐시 크기와 최대 크기 초과로 제거된 누적 항목 수
+ * </ul>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Component
+@EnableConfigurationProperties(MemberCacheProperties.class)
+public class MemberInfoCache implements MemberInfoLoader {
+
+  private static final String REQUESTS = "member.cache.requests";
+
+  private final MemberServiceClient memberServiceClient;
+  private final MemberCacheProperties properties;
+  private final LruCache<UUID, CachedMember> members;
+  private final ConcurrentMap<UUID, CompletableFuture<Optional<MemberInfo>>> inFlight =
+      new ConcurrentHashMap<>();
+  private final AtomicLong invalidationCount = new AtomicLong();
+
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter coalesced;
+
+  /**
+   * 회원 정보 캐시를 생성한다.
+   *
+   * @param memberServiceClient 캐시 미적중 시 사용할 회원 서비스 클라이언트
+   * @param properties 캐시 설정
+   * @param meterRegistry 지표를 등록할 {@link MeterRegistry}
+   */
+  public MemberInfoCache(
+      MemberServiceClient memberServiceClient,
+      MemberCacheProperties properties,
+      MeterRegistry meterRegistry) {
+    this.memberServiceClient = memberServiceClient;
+    this.properties = properties;
+    this.members = new LruCache<>(properties.getMaxSize());
+
+    this.hits = Counter.builder(REQUESTS).tag("result", "hit").register(meterRegistry);
+    this.misses = Counter.builder(REQUESTS).tag("result", "miss").register(meterRegistry);
+    this.coalesced = Counter.builder(REQUESTS).tag("result", "coalesced").register(meterRegistry);
+
+    Gauge.builder("member.cache.size", members, LruCache::size)
+        .description("회원 정보 캐시 항목 수")
+        .register(meterRegistry);
+    FunctionCounter.builder("member.cache.evictions", members, LruCache::evictionCount)
+        .description("회원 정보 캐시에서 최대 크기 초과로 제거된 누적 항목 수")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Optional<MemberInfo> find(UUID memberId) {
+    Optional<CachedMember> cached = members.get(memberId);
+    if (cached.isPresent() && cached.get().isFresh()) {
+      hits.increment();
+      return cached.get().member();
+    }
+
+    CompletableFuture<Optional<MemberInfo>> call = new CompletableFuture<>();
+    CompletableFuture<Optional<MemberInfo>> running = inFlight.putIfAbsent(memberId, call);
+    if (running != null) {
+      coalesced.increment();
+      return await(running);
+    }
+    misses.increment();
+
+    try {
+      long invalidationsBeforeLoad = invalidationCount.get();
+      Optional<MemberInfo> member = load(memberId);
+      store(memberId, member, invalidationsBeforeLoad);
+      call.complete(member);
+      return member;
+    } catch (RuntimeException | Error e) {
+      call.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(memberId, call);
+    }
+  }
+
+  /**
+   * 회원 정보를 캐시에서 제거한다. 진행 중인 조회의 결과도 저장되지 않는다.
+   *
+   * @param memberId 제거할 회원 식별자
+   */
+  public synchronized void evict(UUID memberId) {
+    invalidationCount.incrementAndGet();
+    inFlight.remove(memberId);
+    members.remove(memberId);
+  }
+
+  /** 모든 회원 정보를 캐시에서 제거한다. */
+  public synchronized void clear() {
+    invalidationCount.incrementAndGet();
+    inFlight.clear();
+    members.clear();
+  }
+
+  private Optional<MemberInfo> load(UUID memberId) {
+    try {
+      return Optional.ofNullable(memberServiceClient.getMemberInfo(memberId));
+    } catch (FeignException.NotFound e) {
+      return Optional.empty();
+    }
+  }
+
+  private synchronized void store(
+      UUID memberId, Optional<MemberInfo> member, long invalidationsBeforeLoad) {
+    if (invalidationCount.get() != invalidationsBeforeLoad) {
+      return;
+    }
+    Duration ttl = member.isPresent() ? properties.getTtl() : properties.getNegativeTtl();
+    members.put(memberId, new CachedMember(member, LocalDateTime.now().plus(ttl)));
+  }
+
+  private static Optional<MemberInfo> await(CompletableFuture<Optional<MemberInfo>> running) {
+    try {
+      return running.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * 캐시에 보관하는 회원 정보 조회 결과.
+   *
+   * @param member 회원 정보. 없는 회원이면 {@code Optional.empty()}
+   * @param expiresAt 만료 시각
+   */
+  private record CachedMember(Optional<MemberInfo> member, LocalDateTime expiresAt) {
+
+    boolean isFresh() {
+      return expiresAt.isAfter(LocalDateTime.now());
+    }
+  }
+}
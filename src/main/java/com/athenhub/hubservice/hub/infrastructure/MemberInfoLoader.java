@@ -0,0 +1,26 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import com.athenhub.hubservice.hub.infrastructure.dto.MemberInfo;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 회원 정보를 조회하는 인터페이스.
+ *
+ * <p>권한 검증, 회원 존재 여부 확인, 허브 관리자 조회 구현체가 공유하며, 원격 호출을 줄이기 위한 캐시 계층이 이 인터페이스를 구현한다.
+ *
+ * @see MemberInfoCache
+ * @see RequestScopedMemberInfoLoader
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public interface MemberInfoLoader {
+
+  /**
+   * 회원 정보를 조회한다.
+   *
+   * @param memberId 회원 식별자
+   * @return 회원 정보. 회원 서비스에 없는 회원이면 {@code Optional.empty()}
+   */
+  Optional<MemberInfo> find(UUID memberId);
+}
@@ -0,0 +1,92 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.listener.AsyncConsumerStartedEvent;
+import org.springframework.amqp.rabbit.listener.ListenerContainerConsumerFailedEvent;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 서비스의 회원 상태 변경 이벤트를 수신하여 {@link MemberInfoCache}를 무효화하는 리스너.
+ *
+ * <p>회원의 승인, 비활성화, 역할 변경은 권한 검증 결과를 바꾸므로 TTL 만료를 기다리지 않고 해당 회원의 캐시 항목을 즉시 제거한다. 이벤트는 인스턴스마다
+ * 생성된 Queue로 수신되어 모든 인스턴스의 캐시가 함께 무효화된다.
+ *
+ * <p>브로커 연결이 끊긴 동안에는 상태 변경을 받을 수 없으므로, 이 리스너의 소비자가 실패한 뒤 다시 시작되면 캐시 전체를 한 번 비운다. 다른 리스너
+ * 컨테이너의 실패나 재시작 시도마다 반복되는 실패 이벤트로는 캐시를 비우지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class MemberStatusChangedListener {
+
+  static final String LISTENER_ID = "memberStatusChangedListener";
+
+  private final MemberInfoCache memberInfoCache;
+  private final ListenerContainerRecovery recovery;
+
+  /**
+   * 회원 상태 변경 리스너를 생성한다.
+   *
+   * @param memberInfoCache 회원 정보 캐시
+   * @param registry 이 리스너의 컨테이너를 조회할 {@link RabbitListenerEndpointRegistry}
+   */
+  public MemberStatusChangedListener(
+      MemberInfoCache memberInfoCache, RabbitListenerEndpointRegistry registry) {
+    this.memberInfoCache = memberInfoCache;
+    this.recovery = new ListenerContainerRecovery(registry, LISTENER_ID);
+  }
+
+  /**
+   * 회원 상태 변경 메시지 처리.
+   *
+   * @param message 상태가 변경된 회원 식별자를 담은 메시지
+   */
+  @RabbitListener(id = LISTENER_ID, queues = "#{memberStatusQueue.name}")
+  public void onMemberStatusChanged(MemberStatusChangedMessage message) {
+    memberInfoCache.evict(message.memberId());
+  }
+
+  /**
+   * 회원 상태 변경 Queue 소비자 실패 이벤트 처리.
+   *
+   * <p>이 리스너의 컨테이너에서 발생한 첫 실패만 기록하며, 캐시는 소비자가 다시 시작된 뒤 {@link
+   * #onConsumerStarted(AsyncConsumerStartedEvent)}에서 비운다.
+   *
+   * @param event {@link ListenerContainerConsumerFailedEvent} 이벤트 객체
+   */
+  @EventListener
+  public void onConsumerFailed(ListenerContainerConsumerFailedEvent event) {
+    if (recovery.failed(event)) {
+      log.warn("회원 상태 변경 메시지 수신에 실패했습니다. 복구 후 회원 정보 캐시를 비웁니다. reason: {}", event.getReason());
+    }
+  }
+
+  /**
+   * 회원 상태 변경 Queue 소비자 시작 이벤트 처리.
+   *
+   * <p>실패 이후 다시 시작된 경우, 연결이 복구되기 전까지 놓친 상태 변경이 있을 수 있으므로 캐시 전체를 비운다.
+   *
+   * @param event {@link AsyncConsumerStartedEvent} 이벤트 객체
+   */
+  @EventListener
+  public void onConsumerStarted(AsyncConsumerStartedEvent event) {
+    if (recovery.recovered(event)) {
+      log.info("회원 상태 변경 메시지 수신이 복구되어 회원 정보 캐시를 비웁니다.");
+      memberInfoCache.clear();
+    }
+  }
+
+  /**
+   * 회원 상태 변경 이벤트의 공통 필드.
+   *
+   * @param memberId 상태가 변경된 회원 식별자
+   */
+  record MemberStatusChangedMessage(@JsonAlias("id") UUID memberId) {}
+}
@@ -1,8 +1,8 @@
 package com.athenhub.hubservice.hub.infrastructure;
 
 import com.athenhub.hubservice.hub.domain.service.PermissionChecker;
-import com.athenhub.hubservice.hub.infrastructure.client.MemberServiceClient;
 import com.athenhub.hubservice.hub.infrastructure.dto.MemberInfo;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -19,10 +19,13 @@ import org.springframework.stereotype.Component;
  *   <li>Master Manager 또는 해당 허브의 Hub Manager인지 확인
  * </ul>
  *
+ * <p>{@code hub.permission.mode}가 {@code local}이면 게이트웨이가 서명한 요청자 클레임({@link
+ * RequesterClaimsResolver})으로 회원 서비스 호출 없이 판단하고, 클레임을 사용할 수 없으면 회원 서비스로 확인한다.
+ *
  * <p>외부 시스템 의존:
  *
  * <ul>
- *   <li>{@link MemberServiceClient} — 요청자의 회원 정보 조회
+ *   <li>{@link MemberInfoLoader} — 요청자의 회원 정보 조회
  * </ul>
  *
  * <p>생성자 주입은 {@link RequiredArgsConstructor}를 통해 자동 처리된다.
@@ -34,13 +37,17 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class PermissionCheckService implements PermissionChecker {
 
-  private final MemberServiceClient memberServiceClient;
+  private final MemberInfoLoader memberInfoLoader;
+  private final RequesterClaimsResolver requesterClaimsResolver;
 
   @Override
   public boolean hasManagePermission(UUID requestId) {
-    MemberInfo member = memberServiceClient.getMemberInfo(requestId);
+    Optional<GatewayClaims> claims = requesterClaimsResolver.resolve(requestId);
+    if (claims.isPresent()) {
+      return claims.get().isActiveMasterManager();
+    }
 
-    return isActiveMasterManager(member);
+    return memberInfoLoader.find(requestId).filter(this::isActiveMasterManager).isPresent();
   }
 
   /**
@@ -0,0 +1,54 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 허브 관리 권한 검증 방식 설정 정보를 바인딩하는 Properties 클래스이다.
+ *
+ * <p>주요 설정 값:
+ *
+ * <ul>
+ *   <li>{@code mode} : 권한 검증 방식 ({@code remote}, {@code local})
+ *   <li>{@code claimSecret} : 게이트웨이가 사용자 클레임 헤더에 서명할 때 사용하는 HMAC 키
+ *   <li>{@code maxClaimAge} : 서명된 클레임을 신뢰하는 최대 기간. 지나면 회원 서비스로 확인한다.
+ * </ul>
+ *
+ * <p>예시:
+ *
+ * <pre>
+ * hub:
+ *   permission:
+ *     mode: local
+ *     claim-secret: ${GATEWAY_CLAIM_SECRET}
+ *     max-claim-age: 30s
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "hub.permission")
+public class PermissionProperties {
+  /** 권한 검증 방식. */
+  private Mode mode = Mode.REMOTE;
+
+  /** 게이트웨이 클레임 서명 검증에 사용하는 HMAC 키. */
+  private String claimSecret;
+
+  /** 서명된 클레임을 신뢰하는 최대 기간. */
+  private Duration maxClaimAge = Duration.ofSeconds(30);
+
+  /** 허브 관리 권한 검증 방식. */
+  public enum Mode {
+    /** 매 요청마다 회원 서비스에서 역할과 상태를 조회한다. */
+    REMOTE,
+
+    /**
+     * 게이트웨이가 서명한 역할, 상태 클레임 헤더로 판단한다. 클레임이 없거나, 서명이 맞지 않거나, {@code maxClaimAge}보다 오래되었거나,
+     * 요청자가 아닌 회원의 권한을 확인하는 경우에는 회원 서비스로 확인한다.
+     */
+    LOCAL
+  }
+}
@@ -0,0 +1,58 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import com.athenhub.hubservice.hub.application.service.HubRouteService;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 확정되지 못하고 남은 임시 경로를 주기적으로 다시 확정하는 스케줄러.
+ *
+ * <p>신규 허브 경로 계산 중 외부 경로 API 호출이나 저장이 실패하면 해당 구간은 임시 경로로 남는다. {@code
+ * route.provisional.confirm-interval}마다 생성된 지 {@code confirm-after}가 지난 임시 경로를 최대 {@code
+ * confirm-batch-size}개씩 {@link HubRouteService#confirmProvisionalRoutes(LocalDateTime, int)}로 확정한다.
+ * 실패하면 로그를 남기고 다음 주기에 다시 시도한다.
+ *
+ * <p>스케줄러는 모든 인스턴스에서 실행된다. 같은 임시 경로에 대한 외부 경로 API 호출이 중복될 수 있지만 확정은 한 번만 반영된다.
+ *
+ * <p>생성자 주입은 {@link RequiredArgsConstructor}에 의해 자동으로 수행된다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "route.provisional",
+    name = "confirm-enabled",
+    matchIfMissing = true)
+@EnableConfigurationProperties(ProvisionalRouteProperties.class)
+public class ProvisionalRouteConfirmScheduler {
+
+  private final HubRouteService hubRouteService;
+  private final ProvisionalRouteProperties properties;
+
+  /** 생성된 지 오래된 임시 경로를 한 배치 확정한다. 실패하면 다음 주기에 다시 시도한다. */
+  @Scheduled(
+      initialDelayString = "${route.provisional.confirm-interval:5m}",
+      fixedDelayString = "${route.provisional.confirm-interval:5m}")
+  public void confirmStaleRoutes() {
+    try {
+      LocalDateTime createdBefore = LocalDateTime.now().minus(properties.getConfirmAfter());
+      int confirmed =
+          hubRouteService.confirmProvisionalRoutes(createdBefore, properties.getConfirmBatchSize());
+      if (confirmed > 0) {
+        log.info("남아 있던 임시 경로를 확정했습니다. confirmed: {}", confirmed);
+      }
+    } catch (RuntimeException e) {
+      log.warn("임시 경로 재확정 실패. 다음 주기에 다시 시도합니다.", e);
+    }
+  }
+}
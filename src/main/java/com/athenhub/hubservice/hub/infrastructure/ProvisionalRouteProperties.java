@@ -0,0 +1,67 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 임시 경로 추정에 사용하는 설정 정보를 바인딩하는 Properties 클래스이다.
+ *
+ * <p>주요 설정 값:
+ *
+ * <ul>
+ *   <li>{@code defaultRoadFactor} : 보정 표본이 부족할 때 사용하는 직선 거리 대비 도로 거리 비율
+ *   <li>{@code defaultSpeedKmh} : 보정 표본이 부족할 때 사용하는 평균 이동 속도(km/h)
+ *   <li>{@code calibrationSampleSize} : 보정에 사용할 최근 확정 경로 수
+ *   <li>{@code minCalibrationSamples} : 보정 값을 사용하기 위한 최소 표본 수
+ *   <li>{@code confirmEnabled} : 확정되지 못하고 남은 임시 경로의 주기적 재확정 여부
+ *   <li>{@code confirmInterval} : 임시 경로 재확정 주기
+ *   <li>{@code confirmAfter} : 생성 후 이 시간이 지나도록 확정되지 않은 임시 경로를 재확정 대상으로 본다
+ *   <li>{@code confirmBatchSize} : 재확정 주기마다 확정할 최대 임시 경로 수
+ * </ul>
+ *
+ * <p>예시:
+ *
+ * <pre>
+ * route:
+ *   provisional:
+ *     default-road-factor: 1.3
+ *     default-speed-kmh: 60
+ *     calibration-sample-size: 1000
+ *     min-calibration-samples: 10
+ *     confirm-enabled: true
+ *     confirm-interval: 5m
+ *     confirm-after: 30m
+ *     confirm-batch-size: 200
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "route.provisional")
+public class ProvisionalRouteProperties {
+  /** 보정 표본이 부족할 때 사용하는 직선 거리 대비 도로 거리 비율. */
+  private double defaultRoadFactor = 1.3;
+
+  /** 보정 표본이 부족할 때 사용하는 평균 이동 속도(km/h). */
+  private double defaultSpeedKmh = 60;
+
+  /** 보정에 사용할 최근 확정 경로 수. */
+  private int calibrationSampleSize = 1000;
+
+  /** 보정 값을 사용하기 위한 최소 표본 수. */
+  private int minCalibrationSamples = 10;
+
+  /** 확정되지 못하고 남은 임시 경로의 주기적 재확정 여부. */
+  private boolean confirmEnabled = true;
+
+  /** 임시 경로 재확정 주기. */
+  private Duration confirmInterval = Duration.ofMinutes(5);
+
+  /** 생성 후 이 시간이 지나도록 확정되지 않은 임시 경로를 재확정 대상으로 본다. */
+  private Duration confirmAfter = Duration.ofMinutes(30);
+
+  /** 재확정 주기마다 확정할 최대 임시 경로 수. */
+  private int confirmBatchSize = 200;
+}
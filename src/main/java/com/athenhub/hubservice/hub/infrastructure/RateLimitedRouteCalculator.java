@@ -0,0 +1,50 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import com.athenhub.hubservice.hub.domain.dto.RouteResponse;
+import com.athenhub.hubservice.hub.domain.service.RouteCalculator;
+import com.athenhub.hubservice.hub.domain.vo.Coordinate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 경로 API 호출 속도를 제한하는 {@link RouteCalculator} 데코레이터.
+ *
+ * <p>{@link CachingRouteCalculator}가 캐시 미적중 시에만 이 구현체를 호출하므로, 캐시에서 응답하는 조회는 토큰을 소비하지 않는다. 속도
+ * 제한기는 빈 단위로 공유되므로 동시에 진행되는 여러 배치 계산과 만료 항목 갱신에 함께 적용된다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Component
+@EnableConfigurationProperties(RouteComputationProperties.class)
+public class RateLimitedRouteCalculator implements RouteCalculator {
+
+  private final RouteCalculator delegate;
+  private final TokenBucketRateLimiter rateLimiter;
+
+  /**
+   * 호출 속도 제한 데코레이터를 생성한다.
+   *
+   * @param delegate 속도 제한 후 호출할 {@link RouteCalculator}(네이버 Directions API 구현체)
+   * @param properties 호출 속도 제한 설정
+   */
+  public RateLimitedRouteCalculator(
+      @Qualifier("naverRouteCalculator") RouteCalculator delegate,
+      RouteComputationProperties properties) {
+    this.delegate = delegate;
+    this.rateLimiter =
+        new TokenBucketRateLimiter(properties.getPermitsPerSecond(), properties.getBurst());
+  }
+
+  @Override
+  public RouteResponse getRoute(Coordinate source, Coordinate target) {
+    try {
+      rateLimiter.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("경로 계산이 중단되었습니다.", e);
+    }
+    return delegate.getRoute(source, target);
+  }
+}
@@ -0,0 +1,98 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import com.athenhub.hubservice.hub.infrastructure.dto.MemberInfo;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 한 요청 또는 트랜잭션 안에서 회원 정보를 회원마다 한 번만 조회하는 {@link MemberInfoLoader} 데코레이터.
+ *
+ * <p>허브 등록이나 관리자 변경처럼 한 번의 쓰기 작업에서 권한 검증과 회원 존재 여부 확인이 같은 회원을 연달아 조회하는 경우, 캐시 항목이 그 사이에 만료되거나
+ * 무효화되더라도 원격 호출은 한 번만 일어나고 두 검증이 같은 회원 정보를 기준으로 판단한다.
+ *
+ * <p>조회 결과는 다음 범위에 보관된다.
+ *
+ * <ul>
+ *   <li>HTTP 요청 처리 중 — 요청 속성에 보관하며 요청이 끝나면 함께 사라진다.
+ *   <li>요청 밖의 트랜잭션(비동기 이벤트 처리 등) — 트랜잭션 리소스로 보관하며 트랜잭션이 완료되면 제거된다.
+ *   <li>둘 다 없는 경우 — 보관하지 않고 매번 위임한다.
+ * </ul>
+ *
+ * <p>조회 실패는 보관하지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Primary
+@Component
+public class RequestScopedMemberInfoLoader implements MemberInfoLoader {
+
+  private static final String MEMO_ATTRIBUTE =
+      RequestScopedMemberInfoLoader.class.getName() + ".MEMO";
+
+  private final MemberInfoLoader delegate;
+
+  /**
+   * 요청 범위 회원 정보 조회기를 생성한다.
+   *
+   * @param delegate 요청 안에서 처음 조회하는 회원에 사용할 {@link MemberInfoLoader}(회원 정보 캐시)
+   */
+  public RequestScopedMemberInfoLoader(@Qualifier("memberInfoCache") MemberInfoLoader delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public Optional<MemberInfo> find(UUID memberId) {
+    Map<UUID, Optional<MemberInfo>> memo = currentMemo();
+    if (memo == null) {
+      return delegate.find(memberId);
+    }
+
+    Optional<MemberInfo> member = memo.get(memberId);
+    if (member == null) {
+      member = delegate.find(memberId);
+      memo.put(memberId, member);
+    }
+    return member;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<UUID, Optional<MemberInfo>> currentMemo() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes != null) {
+      Object memo = attributes.getAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+      if (memo == null) {
+        memo = new ConcurrentHashMap<UUID, Optional<MemberInfo>>();
+        attributes.setAttribute(MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+      }
+      return (Map<UUID, Optional<MemberInfo>>) memo;
+    }
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      Object memo = TransactionSynchronizationManager.getResource(MEMO_ATTRIBUTE);
+      if (memo == null) {
+        memo = new ConcurrentHashMap<UUID, Optional<MemberInfo>>();
+        TransactionSynchronizationManager.bindResource(MEMO_ATTRIBUTE, memo);
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+              @Override
+              public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(MEMO_ATTRIBUTE);
+              }
+            });
+      }
+      return (Map<UUID, Optional<MemberInfo>>) memo;
+    }
+
+    return null;
+  }
+}
@@ -0,0 +1,64 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import java.time.Clock;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@code hub.permission.mode}가 {@code local}일 때 현재 요청자의 서명된 게이트웨이 클레임을 제공하는 컴포넌트.
+ *
+ * <p>권한 검증과 회원 존재 여부 확인이 회원 서비스를 호출하기 전에 사용한다. 다음 경우에는 클레임을 제공하지 않으며, 호출자는 회원 서비스로 확인해야 한다.
+ *
+ * <ul>
+ *   <li>{@code remote} 모드인 경우
+ *   <li>HTTP 요청 밖이거나 클레임 헤더가 없는 경우
+ *   <li>서명이 맞지 않거나 {@code maxClaimAge}가 지난 경우
+ *   <li>확인하려는 회원이 요청자 본인이 아닌 경우
+ * </ul>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Component
+@EnableConfigurationProperties(PermissionProperties.class)
+public class RequesterClaimsResolver {
+
+  private final PermissionProperties properties;
+  private final GatewayClaimsVerifier verifier;
+
+  /**
+   * 요청자 클레임 제공자를 생성한다.
+   *
+   * @param properties 권한 검증 설정
+   * @throws IllegalStateException {@code local} 모드인데 클레임 서명 키가 없는 경우
+   */
+  public RequesterClaimsResolver(PermissionProperties properties) {
+    this.properties = properties;
+
+    if (StringUtils.hasText(properties.getClaimSecret())) {
+      this.verifier =
+          new GatewayClaimsVerifier(
+              properties.getClaimSecret(), properties.getMaxClaimAge(), Clock.systemUTC());
+    } else if (properties.getMode() == PermissionProperties.Mode.LOCAL) {
+      throw new IllegalStateException("local 권한 검증 모드에는 hub.permission.claim-secret 설정이 필요합니다.");
+    } else {
+      this.verifier = null;
+    }
+  }
+
+  /**
+   * 회원이 현재 요청자라면 검증된 클레임을 반환한다.
+   *
+   * @param memberId 확인하려는 회원 식별자
+   * @return 검증된 요청자 클레임. 사용할 수 없으면 {@code Optional.empty()}
+   */
+  public Optional<GatewayClaims> resolve(UUID memberId) {
+    if (properties.getMode() != PermissionProperties.Mode.LOCAL || verifier == null) {
+      return Optional.empty();
+    }
+    return verifier.verifyCurrentRequest().filter(claims -> claims.userId().equals(memberId));
+  }
+}
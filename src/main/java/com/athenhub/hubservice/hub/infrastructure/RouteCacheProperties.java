@@ -0,0 +1,42 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 경로 조회 결과 캐시에 사용하는 설정 정보를 바인딩하는 Properties 클래스이다.
+ *
+ * <p>주요 설정 값:
+ *
+ * <ul>
+ *   <li>{@code gridDegrees} : 캐시 키를 만들 때 좌표를 보정하는 격자 크기(도 단위)
+ *   <li>{@code ttl} : 캐시 항목을 다시 조회하기 전까지 유지하는 기간
+ *   <li>{@code memoryMaxSize} : 메모리 캐시에 보관할 최대 항목 수
+ * </ul>
+ *
+ * <p>예시:
+ *
+ * <pre>
+ * route:
+ *   cache:
+ *     grid-degrees: 0.0001
+ *     ttl: 30d
+ *     memory-max-size: 10000
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "route.cache")
+public class RouteCacheProperties {
+  /** 캐시 키를 만들 때 좌표를 보정하는 격자 크기(도 단위). 0.0001도는 약 11m이다. */
+  private double gridDegrees = 0.0001;
+
+  /** 캐시 항목을 다시 조회하기 전까지 유지하는 기간. */
+  private Duration ttl = Duration.ofDays(30);
+
+  /** 메모리 캐시에 보관할 최대 항목 수. */
+  private int memoryMaxSize = 10_000;
+}
@@ -0,0 +1,41 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 허브 경로 동시 계산에 사용하는 설정 정보를 바인딩하는 Properties 클래스이다.
+ *
+ * <p>주요 설정 값:
+ *
+ * <ul>
+ *   <li>{@code maxInFlight} : 동시에 진행할 수 있는 최대 경로 계산 요청 수
+ *   <li>{@code permitsPerSecond} : 초당 허용되는 외부 경로 API 호출 수
+ *   <li>{@code burst} : 순간적으로 허용되는 최대 호출 수 (토큰 버킷 용량)
+ * </ul>
+ *
+ * <p>예시:
+ *
+ * <pre>
+ * route:
+ *   computation:
+ *     max-in-flight: 8
+ *     permits-per-second: 10
+ *     burst: 10
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "route.computation")
+public class RouteComputationProperties {
+  /** 동시에 진행할 수 있는 최대 경로 계산 요청 수. */
+  private int maxInFlight = 8;
+
+  /** 초당 허용되는 외부 경로 API 호출 수. */
+  private double permitsPerSecond = 10;
+
+  /** 순간적으로 허용되는 최대 호출 수. */
+  private int burst = 10;
+}
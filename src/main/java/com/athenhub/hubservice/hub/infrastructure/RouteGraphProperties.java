@@ -0,0 +1,32 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 메모리 상의 허브 경로 그래프 갱신 설정 정보를 바인딩하는 Properties 클래스이다.
+ *
+ * <p>주요 설정 값:
+ *
+ * <ul>
+ *   <li>{@code refreshDelay} : 경로 변경 이벤트를 받은 뒤 그래프를 다시 구성하기까지 기다리는 시간
+ * </ul>
+ *
+ * <p>예시:
+ *
+ * <pre>
+ * route:
+ *   graph:
+ *     refresh-delay: 200ms
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "route.graph")
+public class RouteGraphProperties {
+  /** 그래프를 다시 구성하기까지 기다리는 시간. 이 시간 안에 도착한 경로 변경 이벤트는 한 번의 재구성으로 합친다. */
+  private Duration refreshDelay = Duration.ofMillis(200);
+}
@@ -0,0 +1,31 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 허브 경로 스트리밍 조회에 사용하는 설정 정보를 바인딩하는 Properties 클래스이다.
+ *
+ * <p>주요 설정 값:
+ *
+ * <ul>
+ *   <li>{@code fetchSize} : 커서에서 한 번에 가져올 행 수
+ * </ul>
+ *
+ * <p>예시:
+ *
+ * <pre>
+ * route:
+ *   stream:
+ *     fetch-size: 1000
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "route.stream")
+public class RouteStreamProperties {
+  /** 커서에서 한 번에 가져올 행 수. 조회 중 메모리에 올라가는 최대 행 수이기도 하다. */
+  private int fetchSize = 1000;
+}
@@ -0,0 +1,58 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷 알고리즘 기반의 호출 속도 제한기.
+ *
+ * <p>버킷은 초당 {@code permitsPerSecond}개의 속도로 최대 {@code capacity}개까지 토큰을 채운다. {@link #acquire()}는 토큰을
+ * 하나 예약하고, 토큰이 부족하면 예약한 토큰이 채워질 때까지 호출한 쓰레드를 대기시킨다. 대기는 잠금 밖에서 이루어지므로 가상 쓰레드에서 사용해도 캐리어
+ * 쓰레드를 점유하지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public class TokenBucketRateLimiter {
+
+  private final double permitsPerNano;
+  private final double capacity;
+  private double tokens;
+  private long refilledAt;
+
+  /**
+   * 토큰 버킷을 생성한다. 생성 직후 버킷은 가득 찬 상태이다.
+   *
+   * @param permitsPerSecond 초당 허용 호출 수 (0보다 커야 함)
+   * @param capacity 버킷 용량 (1 이상이어야 함)
+   */
+  public TokenBucketRateLimiter(double permitsPerSecond, int capacity) {
+    if (permitsPerSecond <= 0 || capacity < 1) {
+      throw new IllegalArgumentException(
+          "잘못된 호출 제한 설정입니다. permitsPerSecond: " + permitsPerSecond + ", capacity: " + capacity);
+    }
+    this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+    this.capacity = capacity;
+    this.tokens = capacity;
+    this.refilledAt = System.nanoTime();
+  }
+
+  /**
+   * 토큰 하나를 획득한다. 토큰이 없으면 채워질 때까지 대기한다.
+   *
+   * @throws InterruptedException 대기 중 인터럽트가 발생한 경우
+   */
+  public void acquire() throws InterruptedException {
+    long waitNanos = reserve();
+    if (waitNanos > 0) {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+  }
+
+  private synchronized long reserve() {
+    long now = System.nanoTime();
+    tokens = Math.min(capacity, tokens + (now - refilledAt) * permitsPerNano);
+    refilledAt = now;
+    tokens -= 1;
+    return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / permitsPerNano);
+  }
+}
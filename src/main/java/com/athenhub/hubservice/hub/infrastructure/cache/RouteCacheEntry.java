@@ -0,0 +1,79 @@
+package com.athenhub.hubservice.hub.infrastructure.cache;
+
+import com.athenhub.hubservice.hub.domain.dto.RouteResponse;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 외부 경로 API 조회 결과를 좌표 쌍 단위로 저장하는 캐시 엔티티.
+ *
+ * <p>키는 격자에 맞춰 보정된 출발/도착 좌표로 만들어지며({@link RouteCacheKey}), 조회 시각을 함께 저장하여 TTL 만료 여부를 판단한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Table(name = "p_route_cache")
+@Entity
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RouteCacheEntry {
+
+  @Id
+  @Column(name = "cache_key", length = 100)
+  private String cacheKey;
+
+  @Column(nullable = false)
+  private Double distanceKm;
+
+  @Column(nullable = false)
+  private Integer durationMinutes;
+
+  @Column(nullable = false)
+  private LocalDateTime fetchedAt;
+
+  /**
+   * 경로 조회 결과로 캐시 엔티티를 생성한다.
+   *
+   * @param key 캐시 키
+   * @param route 경로 조회 결과
+   * @param fetchedAt 조회 시각
+   * @return 생성된 {@link RouteCacheEntry}
+   */
+  public static RouteCacheEntry of(
+      RouteCacheKey key, RouteResponse route, LocalDateTime fetchedAt) {
+    RouteCacheEntry entry = new RouteCacheEntry();
+    entry.cacheKey = key.value();
+    entry.refresh(route, fetchedAt);
+    return entry;
+  }
+
+  /**
+   * 새로 조회한 경로로 값을 갱신한다.
+   *
+   * @param route 경로 조회 결과
+   * @param fetchedAt 조회 시각
+   */
+  public void refresh(RouteResponse route, LocalDateTime fetchedAt) {
+    this.distanceKm = Objects.requireNonNull(route.distanceKm());
+    this.durationMinutes = Objects.requireNonNull(route.durationMinutes());
+    this.fetchedAt = Objects.requireNonNull(fetchedAt);
+  }
+
+  /**
+   * 저장된 값을 {@link RouteResponse}로 변환한다.
+   *
+   * @return 경로 조회 결과
+   */
+  public RouteResponse toRouteResponse() {
+    return new RouteResponse(distanceKm, durationMinutes);
+  }
+}
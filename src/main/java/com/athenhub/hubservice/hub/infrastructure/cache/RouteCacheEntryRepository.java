@@ -0,0 +1,29 @@
+package com.athenhub.hubservice.hub.infrastructure.cache;
+
+import java.util.Optional;
+import org.springframework.data.repository.Repository;
+
+/**
+ * 경로 캐시 엔티티({@link RouteCacheEntry})의 저장 및 조회 기능을 제공하는 리포지토리 인터페이스.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public interface RouteCacheEntryRepository extends Repository<RouteCacheEntry, String> {
+
+  /**
+   * 경로 캐시 엔티티를 저장한다.
+   *
+   * @param entry 저장할 {@link RouteCacheEntry}
+   * @return 저장된 엔티티
+   */
+  RouteCacheEntry save(RouteCacheEntry entry);
+
+  /**
+   * 캐시 키로 경로 캐시 엔티티를 조회한다.
+   *
+   * @param cacheKey 캐시 키 문자열
+   * @return 조회된 {@link RouteCacheEntry}. 존재하지 않을 경우 {@code Optional.empty()}
+   */
+  Optional<RouteCacheEntry> findById(String cacheKey);
+}
@@ -0,0 +1,48 @@
+package com.athenhub.hubservice.hub.infrastructure.cache;
+
+import com.athenhub.hubservice.hub.domain.vo.Coordinate;
+import java.math.BigDecimal;
+
+/**
+ * 격자에 맞춰 보정한 출발/도착 좌표 쌍으로 만든 경로 캐시 키.
+ *
+ * <p>위도와 경도를 격자 크기({@code gridDegrees})로 나눈 뒤 반올림한 격자 번호를 사용하므로, 같은 격자 안의 좌표는 같은 키를 가진다. 격자 크기가
+ * 바뀌면 기존 키와 충돌하지 않도록 키 문자열에 격자 크기를 포함한다.
+ *
+ * @param value 데이터베이스 식별자로 사용하는 키 문자열
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record RouteCacheKey(String value) {
+
+  /**
+   * 출발/도착 좌표를 격자에 맞춰 보정하여 캐시 키를 생성한다.
+   *
+   * @param source 출발 좌표
+   * @param target 도착 좌표
+   * @param gridDegrees 격자 크기(도 단위)
+   * @return 생성된 {@link RouteCacheKey}
+   * @throws IllegalArgumentException 격자 크기가 0 이하인 경우
+   */
+  public static RouteCacheKey of(Coordinate source, Coordinate target, double gridDegrees) {
+    if (gridDegrees <= 0) {
+      throw new IllegalArgumentException("격자 크기는 0보다 커야 합니다. gridDegrees: " + gridDegrees);
+    }
+
+    String grid = BigDecimal.valueOf(gridDegrees).stripTrailingZeros().toPlainString();
+    return new RouteCacheKey(
+        grid
+            + ":"
+            + snap(source.getLatitude(), gridDegrees)
+            + ","
+            + snap(source.getLongitude(), gridDegrees)
+            + ":"
+            + snap(target.getLatitude(), gridDegrees)
+            + ","
+            + snap(target.getLongitude(), gridDegrees));
+  }
+
+  private static long snap(double degrees, double gridDegrees) {
+    return Math.round(degrees / gridDegrees);
+  }
+}
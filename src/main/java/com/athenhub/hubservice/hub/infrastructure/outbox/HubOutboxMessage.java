@@ -0,0 +1,74 @@
+package com.athenhub.hubservice.hub.infrastructure.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 메시지 브로커로 발행할 허브 이벤트 메시지를 보관하는 아웃박스 엔티티.
+ *
+ * <p>허브 또는 허브 경로를 변경하는 트랜잭션 안에서 저장되므로, 변경이 커밋되면 메시지도 반드시 남고 롤백되면 함께 사라진다. {@link HubOutboxRelay}가
+ * 식별자 순서대로 읽어 발행하고, 브로커의 발행 확인(publisher confirm)을 받은 뒤 삭제한다. 여러 인스턴스에서 저장해도 식별자가 저장 순서를 따르도록
+ * 시퀀스 값을 미리 할당하지 않는다({@code allocationSize = 1}). 저장 순서는 커밋 순서와 다를 수 있으므로, 발행 순서는 한 트랜잭션 안의 메시지와
+ * 경로 버전 순서로 직렬화되는 경로 변경 메시지 사이에서만 보장된다.
+ *
+ * <p>본문은 {@code RabbitTemplate}의 메시지 변환기로 미리 직렬화한 JSON이며, 수신 측의 타입 매핑에 필요한 타입 식별자를 함께 보관한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Table(name = "p_hub_outbox")
+@Entity
+@Getter
+@ToString(exclude = "payload")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HubOutboxMessage {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hub_outbox_seq")
+  @SequenceGenerator(
+      name = "hub_outbox_seq",
+      sequenceName = "p_hub_outbox_seq",
+      allocationSize = 1)
+  private Long id;
+
+  @Column(nullable = false, length = 50)
+  private String routingKey;
+
+  @Column(nullable = false)
+  private String typeId;
+
+  @Column(nullable = false, columnDefinition = "text")
+  private String payload;
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  /**
+   * 아웃박스 메시지를 생성한다.
+   *
+   * @param routingKey 발행할 라우팅 키
+   * @param typeId 수신 측 타입 매핑에 사용할 타입 식별자
+   * @param payload 직렬화된 JSON 본문
+   * @param createdAt 생성 일시
+   * @return 생성된 {@link HubOutboxMessage}
+   */
+  public static HubOutboxMessage of(
+      String routingKey, String typeId, String payload, LocalDateTime createdAt) {
+    HubOutboxMessage message = new HubOutboxMessage();
+    message.routingKey = routingKey;
+    message.typeId = typeId;
+    message.payload = payload;
+    message.createdAt = createdAt;
+    return message;
+  }
+}
@@ -0,0 +1,50 @@
+package com.athenhub.hubservice.hub.infrastructure.outbox;
+
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+/**
+ * 아웃박스 메시지({@link HubOutboxMessage})의 저장, 조회, 삭제 기능을 제공하는 리포지토리 인터페이스.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public interface HubOutboxMessageRepository extends Repository<HubOutboxMessage, Long> {
+
+  /**
+   * 아웃박스 메시지를 저장한다.
+   *
+   * @param message 저장할 {@link HubOutboxMessage}
+   * @return 저장된 엔티티
+   */
+  HubOutboxMessage save(HubOutboxMessage message);
+
+  /**
+   * 가장 오래된 아웃박스 메시지부터 쓰기 잠금({@code SELECT ... FOR UPDATE})으로 조회한다.
+   *
+   * <p>릴레이는 {@link HubOutboxRelayLock}으로 한 인스턴스에서만 실행되며, 이 잠금은 릴레이 잠금 없이 메시지를 조회하는 경우에도 같은 메시지가
+   * 동시에 발행되지 않도록 막는다.
+   *
+   * @param limit 조회할 최대 메시지 수
+   * @return 식별자 순으로 정렬된 {@link HubOutboxMessage} 목록
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT m FROM HubOutboxMessage m ORDER BY m.id")
+  List<HubOutboxMessage> findBatchForUpdate(Limit limit);
+
+  /**
+   * 발행이 확인된 아웃박스 메시지를 하나의 DELETE 문으로 삭제한다.
+   *
+   * @param ids 삭제할 메시지 식별자 목록
+   * @return 삭제된 메시지 수
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("DELETE FROM HubOutboxMessage m WHERE m.id IN :ids")
+  int deleteAllByIdIn(Collection<Long> ids);
+}
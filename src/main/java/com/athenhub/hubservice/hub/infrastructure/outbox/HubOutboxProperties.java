@@ -0,0 +1,47 @@
+package com.athenhub.hubservice.hub.infrastructure.outbox;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 허브 이벤트 아웃박스 릴레이 설정 정보를 바인딩하는 Properties 클래스이다.
+ *
+ * <p>주요 설정 값:
+ *
+ * <ul>
+ *   <li>{@code relayEnabled} : 아웃박스 릴레이 실행 여부
+ *   <li>{@code pollInterval} : 이전 실행이 끝난 뒤 다음 아웃박스 조회까지의 대기 시간
+ *   <li>{@code batchSize} : 한 번에 조회해 발행할 최대 메시지 수
+ *   <li>{@code confirmTimeout} : 한 배치의 발행 확인(publisher confirm)을 기다릴 최대 시간
+ * </ul>
+ *
+ * <p>예시:
+ *
+ * <pre>
+ * hub:
+ *   outbox:
+ *     relay-enabled: true
+ *     poll-interval: 1s
+ *     batch-size: 100
+ *     confirm-timeout: 5s
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "hub.outbox")
+public class HubOutboxProperties {
+  /** 아웃박스 릴레이 실행 여부. */
+  private boolean relayEnabled = true;
+
+  /** 이전 실행이 끝난 뒤 다음 아웃박스 조회까지의 대기 시간. */
+  private Duration pollInterval = Duration.ofSeconds(1);
+
+  /** 한 번에 조회해 발행할 최대 메시지 수. */
+  private int batchSize = 100;
+
+  /** 한 배치의 발행 확인을 기다릴 최대 시간. */
+  private Duration confirmTimeout = Duration.ofSeconds(5);
+}
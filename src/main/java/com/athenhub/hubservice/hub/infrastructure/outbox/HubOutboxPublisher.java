@@ -0,0 +1,86 @@
+package com.athenhub.hubservice.hub.infrastructure.outbox;
+
+import com.athenhub.hubservice.global.infrastructure.message.RabbitProperties;
+import com.athenhub.hubservice.hub.application.service.HubMessagePublisher;
+import com.athenhub.hubservice.hub.domain.event.HubDeleted;
+import com.athenhub.hubservice.hub.domain.event.HubManagerChanged;
+import com.athenhub.hubservice.hub.domain.event.HubRegistered;
+import com.athenhub.hubservice.hub.domain.event.HubRouteUpdated;
+import com.athenhub.hubservice.hub.domain.event.HubUpdated;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 허브 관련 도메인 이벤트를 아웃박스 테이블에 기록하는 {@link HubMessagePublisher} 구현체.
+ *
+ * <p>이벤트는 호출한 트랜잭션 안에서 {@link HubOutboxMessage}로 저장되며, 실제 메시지 브로커 발행은 커밋 이후 {@link HubOutboxRelay}가
+ * 담당한다. 따라서 허브 변경과 이벤트 기록은 함께 커밋되거나 함께 롤백되고, 발행 전에 인스턴스가 종료되어도 이벤트가 유실되지 않는다. 트랜잭션 밖에서 호출하면
+ * 예외가 발생한다.
+ *
+ * <p>본문은 {@link RabbitTemplate}의 메시지 변환기로 직렬화하므로 브로커에 직접 발행하던 때와 같은 형식으로 전달된다. 라우팅 키는 이벤트
+ * 종류에 따라 구분되며, {@link HubRouteUpdated}는 변경된 경로가 {@code rabbit.hub.route-delta-chunk-size}보다 많으면 여러
+ * 메시지로 나누어 기록한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+@EnableConfigurationProperties(RabbitProperties.class)
+public class HubOutboxPublisher implements HubMessagePublisher {
+
+  private final HubOutboxMessageRepository hubOutboxMessageRepository;
+  private final RabbitTemplate rabbitTemplate;
+  private final RabbitProperties rabbitProperties;
+
+  @Override
+  public void publish(HubRegistered event) {
+    append("registered", event);
+  }
+
+  @Override
+  public void publish(HubUpdated event) {
+    append("updated", event);
+  }
+
+  @Override
+  public void publish(HubDeleted event) {
+    append("deleted", event);
+  }
+
+  @Override
+  public void publish(HubManagerChanged event) {
+    append("managerChanged", event);
+  }
+
+  @Override
+  public void publish(HubRouteUpdated event) {
+    for (HubRouteUpdated chunk : event.chunks(rabbitProperties.getRouteDeltaChunkSize())) {
+      append("routeUpdated", chunk);
+    }
+  }
+
+  private void append(String routingKey, Object event) {
+    Message message =
+        rabbitTemplate.getMessageConverter().toMessage(event, new MessageProperties());
+    String typeId =
+        message.getMessageProperties().getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+
+    hubOutboxMessageRepository.save(
+        HubOutboxMessage.of(
+            routingKey,
+            typeId,
+            new String(message.getBody(), StandardCharsets.UTF_8),
+            LocalDateTime.now()));
+  }
+}
@@ -0,0 +1,187 @@
+package com.athenhub.hubservice.hub.infrastructure.outbox;
+
+import com.athenhub.hubservice.global.infrastructure.message.RabbitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 아웃박스 테이블에 기록된 허브 이벤트 메시지를 메시지 브로커로 발행하는 릴레이.
+ *
+ * <p>{@code hub.outbox.poll-interval}마다 가장 오래된 메시지부터 {@code batch-size}개씩 쓰기 잠금으로 조회하여 하나의 채널에서
+ * 순서대로 발행하고, 배치 전체의 발행 확인(publisher confirm)을 한 번에 기다린다. 확인을 받으면 같은 트랜잭션에서 메시지를 삭제하고, 배치가 가득
+ * 찼다면 아웃박스가 빌 때까지 바로 다음 배치를 발행한다. 발행 확인을 받지 못하면 트랜잭션을 롤백하여 메시지를 남겨 두고 다음 주기에 다시 발행한다. 따라서
+ * 일부 메시지가 중복 발행될 수 있으며(at-least-once), 수신 측은 메시지 ID로 중복을 걸러야 한다.
+ *
+ * <p>릴레이는 모든 인스턴스에서 실행되지만, 배치마다 먼저 {@link HubOutboxRelayLock} 행을 {@code SKIP LOCKED}로 잠가 한 번에 한
+ * 인스턴스만 발행한다. 잠금을 얻지 못한 인스턴스는 기다리지 않고 해당 주기를 건너뛰므로, 발행 확인을 기다리는 동안 다른 인스턴스의 데이터베이스 커넥션이
+ * 묶이지 않는다.
+ *
+ * <p>메시지는 식별자 순서대로 발행된다. 식별자는 커밋 시점이 아니라 저장 시점에 할당되므로, 한 트랜잭션 안에서 기록된 메시지와 경로 버전 행 잠금으로
+ * 직렬화되는 경로 변경 메시지 사이의 순서만 보장된다. 서로 다른 트랜잭션의 허브 변경 메시지는 커밋 순서와 다르게 발행될 수 있으며, 수신 측은 메시지를 받으면
+ * 허브나 경로를 다시 조회하므로 이 순서에 의존하지 않는다.
+ *
+ * <p>발행 확인을 기다리려면 {@code spring.rabbitmq.publisher-confirm-type: simple} 설정이 필요하다.
+ *
+ * <p>처리량과 지연은 다음 지표로 Prometheus에 노출된다.
+ *
+ * <ul>
+ *   <li>{@code hub.outbox.relay.published} — 발행이 확인된 메시지 수
+ *   <li>{@code hub.outbox.relay.failures} — 발행에 실패한 릴레이 실행 수
+ *   <li>{@code hub.outbox.relay.batches} — 배치 하나의 발행과 확인에 걸린 시간
+ *   <li>{@code hub.outbox.relay.delay} — 메시지가 기록된 뒤 발행이 확인되기까지 걸린 시간
+ *   <li>{@code hub.outbox.relay.oldest.age} — 마지막 조회 시점에 가장 오래 대기 중이던 메시지의 대기 시간
+ * </ul>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@EnableScheduling
+@ConditionalOnProperty(prefix = "hub.outbox", name = "relay-enabled", matchIfMissing = true)
+@EnableConfigurationProperties({HubOutboxProperties.class, RabbitProperties.class})
+public class HubOutboxRelay {
+
+  private final HubOutboxMessageRepository hubOutboxMessageRepository;
+  private final HubOutboxRelayLockRepository hubOutboxRelayLockRepository;
+  private final RabbitTemplate rabbitTemplate;
+  private final RabbitProperties rabbitProperties;
+  private final HubOutboxProperties properties;
+  private final TransactionTemplate transactionTemplate;
+
+  private final Counter published;
+  private final Counter failures;
+  private final Timer batches;
+  private final Timer delay;
+  private final AtomicLong oldestAgeMillis = new AtomicLong();
+
+  /**
+   * 아웃박스 릴레이를 생성한다.
+   *
+   * @param hubOutboxMessageRepository 아웃박스 메시지 리포지토리
+   * @param hubOutboxRelayLockRepository 릴레이 잠금 리포지토리
+   * @param rabbitTemplate 메시지를 발행할 {@link RabbitTemplate}
+   * @param rabbitProperties 발행할 Exchange 설정
+   * @param properties 아웃박스 릴레이 설정
+   * @param transactionManager 배치마다 트랜잭션을 시작할 트랜잭션 매니저
+   * @param meterRegistry 지표를 등록할 {@link MeterRegistry}
+   */
+  public HubOutboxRelay(
+      HubOutboxMessageRepository hubOutboxMessageRepository,
+      HubOutboxRelayLockRepository hubOutboxRelayLockRepository,
+      RabbitTemplate rabbitTemplate,
+      RabbitProperties rabbitProperties,
+      HubOutboxProperties properties,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry) {
+    this.hubOutboxMessageRepository = hubOutboxMessageRepository;
+    this.hubOutboxRelayLockRepository = hubOutboxRelayLockRepository;
+    this.rabbitTemplate = rabbitTemplate;
+    this.rabbitProperties = rabbitProperties;
+    this.properties = properties;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+    this.published = Counter.builder("hub.outbox.relay.published").register(meterRegistry);
+    this.failures = Counter.builder("hub.outbox.relay.failures").register(meterRegistry);
+    this.batches = Timer.builder("hub.outbox.relay.batches").register(meterRegistry);
+    this.delay = Timer.builder("hub.outbox.relay.delay").register(meterRegistry);
+    TimeGauge.builder(
+            "hub.outbox.relay.oldest.age", oldestAgeMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+        .register(meterRegistry);
+  }
+
+  /** 아웃박스가 빌 때까지 메시지를 배치 단위로 발행한다. 발행에 실패하면 다음 주기에 다시 시도한다. */
+  @Scheduled(fixedDelayString = "${hub.outbox.poll-interval:1s}")
+  public void relay() {
+    try {
+      while (relayBatch() == properties.getBatchSize()) {
+        // 배치가 가득 찼으면 남은 메시지가 있을 수 있으므로 바로 다음 배치를 발행한다.
+      }
+    } catch (RuntimeException e) {
+      failures.increment();
+      log.warn("아웃박스 메시지 발행 실패. 다음 주기에 다시 발행합니다.", e);
+    }
+  }
+
+  /**
+   * 가장 오래된 메시지부터 한 배치를 발행하고, 발행이 확인되면 삭제한다.
+   *
+   * <p>다른 인스턴스가 릴레이 잠금을 가지고 있으면 발행하지 않는다.
+   *
+   * @return 발행한 메시지 수
+   */
+  int relayBatch() {
+    Integer relayed =
+        transactionTemplate.execute(
+            status -> {
+              if (hubOutboxRelayLockRepository.tryLock(HubOutboxRelayLock.SINGLETON_ID).isEmpty()) {
+                return 0;
+              }
+              List<HubOutboxMessage> batch =
+                  hubOutboxMessageRepository.findBatchForUpdate(
+                      Limit.of(properties.getBatchSize()));
+              oldestAgeMillis.set(
+                  batch.isEmpty()
+                      ? 0
+                      : Duration.between(batch.getFirst().getCreatedAt(), LocalDateTime.now())
+                          .toMillis());
+              if (batch.isEmpty()) {
+                return 0;
+              }
+
+              batches.record(() -> send(batch));
+              hubOutboxMessageRepository.deleteAllByIdIn(
+                  batch.stream().map(HubOutboxMessage::getId).toList());
+
+              LocalDateTime confirmedAt = LocalDateTime.now();
+              batch.forEach(
+                  message -> delay.record(Duration.between(message.getCreatedAt(), confirmedAt)));
+              published.increment(batch.size());
+              return batch.size();
+            });
+    return relayed == null ? 0 : relayed;
+  }
+
+  private void send(List<HubOutboxMessage> batch) {
+    rabbitTemplate.invoke(
+        operations -> {
+          for (HubOutboxMessage message : batch) {
+            operations.send(
+                rabbitProperties.getExchange(), message.getRoutingKey(), toMessage(message));
+          }
+          operations.waitForConfirmsOrDie(properties.getConfirmTimeout().toMillis());
+          return null;
+        });
+  }
+
+  private static Message toMessage(HubOutboxMessage message) {
+    return MessageBuilder.withBody(message.getPayload().getBytes(StandardCharsets.UTF_8))
+        .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+        .setContentEncoding(StandardCharsets.UTF_8.name())
+        .setMessageId(String.valueOf(message.getId()))
+        .setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, message.getTypeId())
+        .build();
+  }
+}
@@ -0,0 +1,32 @@
+package com.athenhub.hubservice.hub.infrastructure.outbox;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 아웃박스 릴레이를 한 인스턴스에서만 실행하기 위한 단일 행 잠금 엔티티.
+ *
+ * <p>{@link HubOutboxRelay}는 배치를 발행하기 전에 이 행을 잠금 대기 없이({@code SKIP LOCKED}) 쓰기 잠금으로 조회한다. 다른 인스턴스가
+ * 이미 잠금을 가지고 있으면 행이 조회되지 않으므로 해당 주기의 발행을 건너뛰며, 발행 확인을 기다리는 동안 다른 인스턴스가 커넥션을 점유한 채 대기하지
+ * 않는다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Table(name = "p_hub_outbox_relay_lock")
+@Entity
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HubOutboxRelayLock {
+
+  /** 단일 행의 식별자. */
+  public static final Long SINGLETON_ID = 1L;
+
+  @Id private Long id;
+}
@@ -0,0 +1,31 @@
+package com.athenhub.hubservice.hub.infrastructure.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+
+/**
+ * 아웃박스 릴레이 잠금({@link HubOutboxRelayLock}) 행을 조회하는 리포지토리 인터페이스.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public interface HubOutboxRelayLockRepository extends Repository<HubOutboxRelayLock, Long> {
+
+  /**
+   * 릴레이 잠금 행을 잠금 대기 없이 쓰기 잠금({@code SELECT ... FOR UPDATE SKIP LOCKED})으로 조회한다.
+   *
+   * <p>다른 트랜잭션이 이미 잠금을 가지고 있으면 기다리지 않고 빈 결과를 반환한다. 잠금은 트랜잭션이 끝날 때까지 유지된다.
+   *
+   * @param id 행 식별자
+   * @return 잠금을 얻은 {@link HubOutboxRelayLock}. 다른 트랜잭션이 잠금을 가지고 있다면 {@code Optional.empty()}
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")) // SKIP LOCKED
+  @Query("SELECT l FROM HubOutboxRelayLock l WHERE l.id = :id")
+  Optional<HubOutboxRelayLock> tryLock(Long id);
+}
@@ -5,16 +5,24 @@ import com.athenhub.hubservice.hub.application.service.HubFinder;
 import com.athenhub.hubservice.hub.application.service.HubManager;
 import com.athenhub.hubservice.hub.application.service.HubRegister;
 import com.athenhub.hubservice.hub.domain.Hub;
+import com.athenhub.hubservice.hub.domain.dto.HubCursorOrder;
+import com.athenhub.hubservice.hub.domain.dto.HubCursorPage;
 import com.athenhub.hubservice.hub.domain.dto.HubRegisterRequest;
 import com.athenhub.hubservice.hub.domain.dto.HubSearchCondition;
+import com.athenhub.hubservice.hub.domain.dto.HubSummary;
 import com.athenhub.hubservice.hub.domain.dto.HubUpdateRequest;
 import com.athenhub.hubservice.hub.domain.vo.HubManagerInfo;
+import com.athenhub.hubservice.hub.webapi.dto.HubCursorResponse;
+import com.athenhub.hubservice.hub.webapi.dto.HubCursorWithManagerResponse;
 import com.athenhub.hubservice.hub.webapi.dto.HubDeleteResponse;
 import com.athenhub.hubservice.hub.webapi.dto.HubFindResponse;
+import com.athenhub.hubservice.hub.webapi.dto.HubFindWithManagerResponse;
 import com.athenhub.hubservice.hub.webapi.dto.HubManagerChangeRequest;
 import com.athenhub.hubservice.hub.webapi.dto.HubManagerInfoResponse;
 import com.athenhub.hubservice.hub.webapi.dto.HubRegisterResponse;
 import com.athenhub.hubservice.hub.webapi.dto.HubUpdateResponse;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -28,6 +36,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -79,7 +88,7 @@ public class HubApi {
   @PreAuthorize("hasAnyRole('MASTER_MANAGER', 'HUB_MANAGER', 'SHIPPING_AGENT', 'VENDOR_AGENT')")
   @GetMapping("/v1/hubs/{hubId}")
   public HubFindResponse find(@PathVariable UUID hubId) {
-    Hub hub = hubFinder.find(hubId);
+    HubSummary hub = hubFinder.findSummary(hubId);
 
     return HubFindResponse.from(hub);
   }
@@ -102,11 +111,114 @@ public class HubApi {
   @GetMapping("/v1/hubs")
   public Page<HubFindResponse> search(
       @ModelAttribute HubSearchCondition searchCondition, Pageable pageable) {
-    Page<Hub> hubs = hubFinder.search(searchCondition, pageable);
+    Page<HubSummary> hubs = hubFinder.searchSummaries(searchCondition, pageable);
 
     return hubs.map(HubFindResponse::from);
   }
 
+  /**
+   * 관리자 정보를 포함한 허브 검색 API.
+   *
+   * <p>{@code includeManager=true}로 요청하면 {@link #search(HubSearchCondition, Pageable)}의 결과에 허브 관리자
+   * 정보를 함께 담아 반환한다. 페이지에 포함된 관리자 ID를 중복 없이 모아 한 번에 조회하므로 같은 관리자가 여러 허브를 맡더라도 회원 서비스 호출은 관리자마다 한
+   * 번이다. 관리자 정보를 조회하지 못한 허브는 {@code manager}가 {@code null}로 반환된다.
+   *
+   * <p>조회 권한은 MASTER_MANAGER, HUB_MANAGER, SHIPPING_AGENT, VENDOR_AGENT가 포함된다.
+   *
+   * @param searchCondition 허브 검색 조건. 쿼리스트링을 통해 전달된 파라미터가 자동으로 바인딩된다.
+   * @param pageable 페이징 및 정렬 정보.
+   * @return 검색 조건에 부합하는 허브 정보를 {@link HubFindWithManagerResponse} 형태로 반환하는 페이지 객체.
+   */
+  @PreAuthorize("hasAnyRole('MASTER_MANAGER', 'HUB_MANAGER', 'SHIPPING_AGENT', 'VENDOR_AGENT')")
+  @GetMapping(
+      value = "/v1/hubs",
+      params = {"includeManager=true", "!cursor"})
+  public Page<HubFindWithManagerResponse> searchWithManager(
+      @ModelAttribute HubSearchCondition searchCondition, Pageable pageable) {
+    Page<HubSummary> hubs = hubFinder.searchSummaries(searchCondition, pageable);
+    Map<UUID, HubManagerInfo> managers =
+        hubFinder.findManagers(hubs.stream().map(HubSummary::managerId).distinct().toList());
+
+    return hubs.map(
+        hub -> HubFindWithManagerResponse.from(hub, managers.get(hub.managerId())));
+  }
+
+  /**
+   * 허브 커서 검색 API.
+   *
+   * <p>{@code cursor} 파라미터가 있으면 OFFSET 페이징 대신 커서 방식으로 허브 목록을 조회한다. 전체 개수를 조회하지 않으며, 페이지 깊이와 관계없이
+   * 조회 비용이 일정하다. 첫 페이지는 빈 {@code cursor}로 요청하고, 이후에는 응답의 {@code nextCursor}를 그대로 전달한다.
+   *
+   * <p>조회 권한은 MASTER_MANAGER, HUB_MANAGER, SHIPPING_AGENT, VENDOR_AGENT가 포함된다.
+   *
+   * @param searchCondition 허브 검색 조건. 쿼리스트링을 통해 전달된 파라미터가 자동으로 바인딩된다.
+   * @param cursor 이전 응답의 다음 페이지 커서, 첫 페이지라면 빈 문자열
+   * @param order 첫 페이지의 정렬 기준({@code name}, {@code created_at}), 이후 페이지는 커서의 정렬 기준을 따른다.
+   * @param size 조회할 최대 건수
+   * @return 조회된 허브 목록과 다음 페이지 커서를 담은 {@link HubCursorResponse}
+   */
+  @PreAuthorize("hasAnyRole('MASTER_MANAGER', 'HUB_MANAGER', 'SHIPPING_AGENT', 'VENDOR_AGENT')")
+  @GetMapping(value = "/v1/hubs", params = "cursor")
+  public HubCursorResponse searchByCursor(
+      @ModelAttribute HubSearchCondition searchCondition,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "NAME") HubCursorOrder order,
+      @RequestParam(defaultValue = "20") int size) {
+    return HubCursorResponse.from(hubFinder.searchByCursor(searchCondition, order, cursor, size));
+  }
+
+  /**
+   * 관리자 정보를 포함한 허브 커서 검색 API.
+   *
+   * <p>{@code cursor}와 함께 {@code includeManager=true}로 요청하면 {@link
+   * #searchByCursor(HubSearchCondition, String, HubCursorOrder, int)}의 결과에 허브 관리자 정보를 함께 담아 반환한다.
+   * 관리자 정보는 {@link #searchWithManager(HubSearchCondition, Pageable)}와 같이 페이지에 포함된 관리자 ID를 중복 없이 모아
+   * 한 번에 조회하며, 조회하지 못한 허브는 {@code manager}가 {@code null}로 반환된다.
+   *
+   * <p>조회 권한은 MASTER_MANAGER, HUB_MANAGER, SHIPPING_AGENT, VENDOR_AGENT가 포함된다.
+   *
+   * @param searchCondition 허브 검색 조건. 쿼리스트링을 통해 전달된 파라미터가 자동으로 바인딩된다.
+   * @param cursor 이전 응답의 다음 페이지 커서, 첫 페이지라면 빈 문자열
+   * @param order 첫 페이지의 정렬 기준({@code name}, {@code created_at}), 이후 페이지는 커서의 정렬 기준을 따른다.
+   * @param size 조회할 최대 건수
+   * @return 관리자 정보를 포함한 허브 목록과 다음 페이지 커서를 담은 {@link HubCursorWithManagerResponse}
+   */
+  @PreAuthorize("hasAnyRole('MASTER_MANAGER', 'HUB_MANAGER', 'SHIPPING_AGENT', 'VENDOR_AGENT')")
+  @GetMapping(
+      value = "/v1/hubs",
+      params = {"cursor", "includeManager=true"})
+  public HubCursorWithManagerResponse searchByCursorWithManager(
+      @ModelAttribute HubSearchCondition searchCondition,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "NAME") HubCursorOrder order,
+      @RequestParam(defaultValue = "20") int size) {
+    HubCursorPage page = hubFinder.searchByCursor(searchCondition, order, cursor, size);
+    Map<UUID, HubManagerInfo> managers =
+        hubFinder.findManagers(
+            page.content().stream().map(HubSummary::managerId).distinct().toList());
+
+    return HubCursorWithManagerResponse.from(page, managers);
+  }
+
+  /**
+   * 허브 자동 완성 API.
+   *
+   * <p>허브명 또는 기본 주소의 단어가 {@code prefix}로 시작하는 활성 허브를 자주 조회된 순으로 반환한다. 입력할 때마다 호출되는 용도로, 페이징과 전체
+   * 개수 조회 없이 메모리 상의 접두사 트라이에서 조회한다.
+   *
+   * <p>조회 권한은 MASTER_MANAGER, HUB_MANAGER, SHIPPING_AGENT, VENDOR_AGENT가 포함된다.
+   *
+   * @param prefix 접두사
+   * @param size 조회할 최대 건수
+   * @return 자동 완성 후보 허브 목록
+   */
+  @PreAuthorize("hasAnyRole('MASTER_MANAGER', 'HUB_MANAGER', 'SHIPPING_AGENT', 'VENDOR_AGENT')")
+  @GetMapping("/v1/hubs/suggest")
+  public List<HubFindResponse> suggest(
+      @RequestParam String prefix, @RequestParam(defaultValue = "10") int size) {
+    return hubFinder.suggest(prefix, size).stream().map(HubFindResponse::from).toList();
+  }
+
   /**
    * 허브 정보를 수정한다.
    *
@@ -0,0 +1,23 @@
+package com.athenhub.hubservice.hub.webapi;
+
+import com.athenhub.hubservice.hub.domain.dto.HubCursorOrder;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 파라미터의 정렬 기준 문자열을 {@link HubCursorOrder}로 변환하는 Converter.
+ *
+ * <p>기본 Enum 변환은 상수 이름과 대소문자까지 같아야 하므로, {@code name}, {@code created_at}처럼 소문자로 전달된 값도 받을 수 있도록
+ * {@link HubCursorOrder#from(String)}으로 변환한다. 스프링 MVC는 빈으로 등록된 Converter를 자동으로 사용한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Component
+public class HubCursorOrderConverter implements Converter<String, HubCursorOrder> {
+
+  @Override
+  public HubCursorOrder convert(String source) {
+    return HubCursorOrder.from(source);
+  }
+}
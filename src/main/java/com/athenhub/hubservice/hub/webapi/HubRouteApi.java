@@ -1,15 +1,36 @@
 package com.athenhub.hubservice.hub.webapi;
 
-import com.athenhub.hubservice.hub.application.service.HubRouteService;
-import com.athenhub.hubservice.hub.domain.HubRoute;
+import com.athenhub.hubservice.hub.application.service.HubRouteChangeLog;
+import com.athenhub.hubservice.hub.application.service.HubRouteGraphService;
+import com.athenhub.hubservice.hub.domain.graph.HubRouteEdge;
+import com.athenhub.hubservice.hub.domain.graph.HubRoutePath;
+import com.athenhub.hubservice.hub.domain.graph.RouteMetric;
+import com.athenhub.hubservice.hub.domain.service.HubRouteStreamReader;
+import com.athenhub.hubservice.hub.webapi.dto.HubRouteChangesResponse;
+import com.athenhub.hubservice.hub.webapi.dto.HubRouteMatrixBinary;
+import com.athenhub.hubservice.hub.webapi.dto.HubRouteMatrixResponse;
+import com.athenhub.hubservice.hub.webapi.dto.HubRoutePathResponse;
 import com.athenhub.hubservice.hub.webapi.dto.HubRouteResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 /**
  * 허브(Hub) 간 경로(Route) 조회를 위한 REST API 컨트롤러.
@@ -20,20 +41,34 @@ import org.springframework.web.bind.annotation.RestController;
  *
  * <ul>
  *   <li>허브 ID를 기준으로 출발지 허브 경로 목록 조회
- *   <li>조회된 도메인 엔티티(HubRoute)를 {@link HubRouteResponse} DTO로 변환하여 반환
+ *   <li>전체 경로 목록 조회 (미리 직렬화·압축한 본문과 ETag 재검증 사용)
+ *   <li>두 허브 간 최단 경로 조회 (메모리 상의 경로 그래프 사용)
+ *   <li>전체 경로 스트리밍 조회 (데이터베이스 커서에서 읽은 경로를 바로 응답에 기록)
+ *   <li>특정 경로 버전 이후의 변경 조회 (변경 로그 사용)
+ *   <li>전체 허브 간 거리·소요 시간 행렬 조회 (JSON 또는 리틀 엔디언 바이너리)
+ *   <li>조회된 경로 그래프 간선({@link HubRouteEdge})을 {@link HubRouteResponse} DTO로 변환하여 반환
  * </ul>
  *
+ * <p>스트리밍 조회와 변경 조회를 제외한 모든 조회는 {@link HubRouteGraphService}가 보관하는 메모리 상의 경로 그래프 스냅샷을 사용한다.
+ *
  * <p>생성자 주입은 {@link RequiredArgsConstructor}에 의해 자동 생성된다.
  *
- * @see HubRouteService
+ * @see HubRouteGraphService
  * @see HubRouteResponse
  * @author 김형섭
  * @since 1.0.0
  */
 @RestController
 @RequiredArgsConstructor
+@EnableConfigurationProperties(HubRouteStreamProperties.class)
 public class HubRouteApi {
-  private final HubRouteService hubRouteService;
+  private final HubRouteGraphService hubRouteGraphService;
+  private final HubRouteStreamReader hubRouteStreamReader;
+  private final HubRouteChangeLog hubRouteChangeLog;
+  private final HubRoutePayloadCache hubRoutePayloadCache;
+  private final HubRouteMatrixCache hubRouteMatrixCache;
+  private final HubRouteStreamProperties streamProperties;
+  private final ObjectMapper objectMapper;
 
   /**
    * 특정 허브의 출발지 허브 경로 목록 조회.
@@ -49,7 +84,7 @@ public class HubRouteApi {
   @PreAuthorize("hasAnyRole('MASTER_MANAGER', 'HUB_MANAGER', 'SHIPPING_AGENT', 'VENDOR_AGENT')")
   @GetMapping("/v1/hubs/{hubId}/routes")
   public List<HubRouteResponse> findAllBy(@PathVariable UUID hubId) {
-    List<HubRoute> routes = hubRouteService.findAllSourceBy(hubId);
+    List<HubRouteEdge> routes = hubRouteGraphService.findAllSourceBy(hubId);
 
     return routes.stream().map(HubRouteResponse::from).toList();
   }
@@ -57,18 +92,161 @@ public class HubRouteApi {
   /**
    * 허브 경로 목록 조회.
    *
-   * <p>활성 상태의 모든 경로 정보를 조회하고, {@link HubRouteResponse} 리스트로 변환하여 반환한다.
+   * <p>활성 상태의 모든 경로 정보를 {@link HubRouteResponse} 목록 JSON으로 반환한다. 본문은 경로가 변경될 때 {@link
+   * HubRoutePayloadCache}에 미리 직렬화·압축해 둔 것을 그대로 사용하며, 클라이언트가 gzip을 허용하면 압축된 본문을 반환한다.
+   *
+   * <p>응답에는 강한 ETag가 포함되며, {@code If-None-Match}가 현재 ETag와 일치하면 본문 없이 {@code 304 Not Modified}로
+   * 응답한다.
    *
    * <p>접근 권한은 {@code MASTER_MANAGER}, {@code HUB_MANAGER}, {@code SHIPPING_AGENT}, {@code
    * VENDOR_AGENT} 역할을 가진 사용자에게 허용된다.
    *
-   * @return 허브 경로 목록을 DTO 형태로 반환
+   * @param acceptEncoding 요청의 {@code Accept-Encoding} 헤더
+   * @return 허브 경로 목록 JSON 본문
    */
   @PreAuthorize("hasAnyRole('MASTER_MANAGER', 'HUB_MANAGER', 'SHIPPING_AGENT', 'VENDOR_AGENT')")
   @GetMapping("/v1/routes")
-  public List<HubRouteResponse> findAll() {
-    List<HubRoute> routes = hubRouteService.findAllByActive();
+  public ResponseEntity<byte[]> findAll(
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+          String acceptEncoding) {
+    HubRoutePayloadCache.Payload payload = hubRoutePayloadCache.get();
+    ResponseEntity.BodyBuilder response =
+        ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .varyBy(HttpHeaders.ACCEPT_ENCODING);
 
-    return routes.stream().map(HubRouteResponse::from).toList();
+    if (acceptsGzip(acceptEncoding)) {
+      return response
+          .eTag(payload.gzipEtag())
+          .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+          .body(payload.gzip());
+    }
+    return response.eTag(payload.etag()).body(payload.json());
+  }
+
+  private static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.trim().split(";");
+      if (parts[0].trim().equalsIgnoreCase("gzip")) {
+        return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 허브 경로 목록 스트리밍 조회.
+   *
+   * <p>{@code stream=true}로 요청하면 활성 경로를 데이터베이스의 순방향 커서에서 한 건씩 읽어 JSON 배열 원소로 바로 기록한다. 응답 형식은 {@link
+   * #findAll(String)}과 같지만 경로 목록을 메모리에 만들지 않으므로, 경로 수와 관계없이 요청이 사용하는 메모리가 일정하다. 거리는 경로 그래프와 같은
+   * 정밀도(소수점 셋째 자리)로 반올림하여 기록한다.
+   *
+   * <p>응답은 별도 스레드에서 기록되며, 클라이언트가 응답을 모두 읽을 때까지 데이터베이스 커넥션 하나와 읽기 전용 트랜잭션을 점유한다. 느린 클라이언트가 커넥션을
+   * 오래 붙잡지 않도록 {@code route.stream.timeout}을 이 요청의 비동기 제한 시간으로 사용하며, 제한 시간을 넘기면 조회를 중단하고 커넥션을
+   * 반환한다. 이미 응답 상태와 일부 본문이 전송된 뒤이므로 클라이언트는 닫히지 않은 JSON 배열을 받게 되며, 이를 실패로 처리해야 한다.
+   *
+   * <p>접근 권한은 {@code MASTER_MANAGER}, {@code HUB_MANAGER}, {@code SHIPPING_AGENT}, {@code
+   * VENDOR_AGENT} 역할을 가진 사용자에게 허용된다.
+   *
+   * @param response 경로 목록을 기록할 응답
+   * @return 허브 경로 목록을 JSON 배열로 기록하는 비동기 작업
+   */
+  @PreAuthorize("hasAnyRole('MASTER_MANAGER', 'HUB_MANAGER', 'SHIPPING_AGENT', 'VENDOR_AGENT')")
+  @GetMapping(
+      value = "/v1/routes",
+      params = "stream=true",
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public WebAsyncTask<Void> streamAll(HttpServletResponse response) {
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    return new WebAsyncTask<>(
+        streamProperties.getTimeout().toMillis(),
+        () -> {
+          try (SequenceWriter writer =
+              objectMapper
+                  .writerFor(HubRouteResponse.class)
+                  .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                  .writeValuesAsArray(response.getOutputStream())) {
+            hubRouteStreamReader.readAllActive(
+                route -> write(writer, HubRouteResponse.from(route)));
+          }
+          return null;
+        });
+  }
+
+  private static void write(SequenceWriter writer, HubRouteResponse route) {
+    try {
+      writer.write(route);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 허브 경로 변경 조회.
+   *
+   * <p>클라이언트가 마지막으로 반영한 경로 버전({@code since}) 이후에 추가, 확정 또는 삭제된 경로만 {@link HubRouteChangesResponse}로
+   * 반환한다. 같은 구간이 여러 번 바뀌었으면 마지막 변경만 담긴다. 처음 조회하거나 {@code since}가 변경 로그 보관 범위를 벗어나면 현재 활성 경로 전체를
+   * 스냅샷({@code snapshot=true})으로 반환한다.
+   *
+   * <p>접근 권한은 {@code MASTER_MANAGER}, {@code HUB_MANAGER}, {@code SHIPPING_AGENT}, {@code
+   * VENDOR_AGENT} 역할을 가진 사용자에게 허용된다.
+   *
+   * @param since 마지막으로 반영한 경로 버전. 생략하면 전체 스냅샷을 반환한다.
+   * @return 현재 경로 버전과 변경 목록
+   */
+  @PreAuthorize("hasAnyRole('MASTER_MANAGER', 'HUB_MANAGER', 'SHIPPING_AGENT', 'VENDOR_AGENT')")
+  @GetMapping("/v1/routes/changes")
+  public HubRouteChangesResponse findChanges(@RequestParam(defaultValue = "-1") long since) {
+    return HubRouteChangesResponse.from(hubRouteChangeLog.findSince(since));
+  }
+
+  /**
+   * 전체 허브 간 거리·소요 시간 행렬 조회.
+   *
+   * <p>경로가 변경될 때 미리 계산해 둔 행렬을 {@link HubRouteMatrixResponse}로 반환한다. 허브 식별자 목록을 한 번만 담고 거리와 소요 시간은
+   * 조밀 배열로 담으므로, 전체 경로를 {@code /v1/routes}로 조회하는 것보다 응답이 훨씬 작다. {@code Accept} 헤더가 {@link
+   * HubRouteMatrixBinary#MEDIA_TYPE_VALUE}이면 리틀 엔디언 바이너리로, 그 밖에는 JSON으로 응답한다.
+   *
+   * <p>응답 객체와 바이너리 본문은 {@link HubRouteMatrixCache}가 스냅샷마다 한 번 만들어 두므로 요청마다 행렬 배열을 복사하지 않는다.
+   *
+   * <p>접근 권한은 {@code MASTER_MANAGER}, {@code HUB_MANAGER}, {@code SHIPPING_AGENT}, {@code
+   * VENDOR_AGENT} 역할을 가진 사용자에게 허용된다.
+   *
+   * @return 허브 간 거리·소요 시간 행렬
+   */
+  @PreAuthorize("hasAnyRole('MASTER_MANAGER', 'HUB_MANAGER', 'SHIPPING_AGENT', 'VENDOR_AGENT')")
+  @GetMapping(
+      value = "/v1/routes/matrix",
+      produces = {MediaType.APPLICATION_JSON_VALUE, HubRouteMatrixBinary.MEDIA_TYPE_VALUE})
+  public HubRouteMatrixResponse findMatrix() {
+    return hubRouteMatrixCache.get().response();
+  }
+
+  /**
+   * 두 허브 간 최단 경로 조회.
+   *
+   * <p>메모리 상의 경로 그래프에서 소요 시간({@code duration}) 또는 거리({@code distance}) 기준의 최단 경로를 탐색하여 {@link
+   * HubRoutePathResponse}로 변환하여 반환한다. 조회 과정에서 데이터베이스에 접근하지 않는다.
+   *
+   * <p>접근 권한은 {@code MASTER_MANAGER}, {@code HUB_MANAGER}, {@code SHIPPING_AGENT}, {@code
+   * VENDOR_AGENT} 역할을 가진 사용자에게 허용된다.
+   *
+   * @param from 출발 허브의 UUID
+   * @param to 도착 허브의 UUID
+   * @param metric 탐색 기준 ({@code duration} 또는 {@code distance}, 기본값 {@code duration})
+   * @return 최단 경로를 DTO 형태로 반환
+   */
+  @PreAuthorize("hasAnyRole('MASTER_MANAGER', 'HUB_MANAGER', 'SHIPPING_AGENT', 'VENDOR_AGENT')")
+  @GetMapping("/v1/routes/path")
+  public HubRoutePathResponse findPath(
+      @RequestParam UUID from,
+      @RequestParam UUID to,
+      @RequestParam(defaultValue = "duration") String metric) {
+    HubRoutePath path = hubRouteGraphService.findShortestPath(from, to, RouteMetric.from(metric));
+
+    return HubRoutePathResponse.from(path);
   }
 }
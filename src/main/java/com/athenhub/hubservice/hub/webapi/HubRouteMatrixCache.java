@@ -0,0 +1,98 @@
+package com.athenhub.hubservice.hub.webapi;
+
+import com.athenhub.hubservice.hub.application.service.HubRouteGraphRefreshed;
+import com.athenhub.hubservice.hub.application.service.HubRouteGraphService;
+import com.athenhub.hubservice.hub.domain.graph.HubRouteMatrix;
+import com.athenhub.hubservice.hub.webapi.dto.HubRouteMatrixBinary;
+import com.athenhub.hubservice.hub.webapi.dto.HubRouteMatrixResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code GET /v1/routes/matrix} 응답을 미리 만들어 보관하는 캐시.
+ *
+ * <p>행렬 응답은 거리와 소요 시간 배열을 복사해 만들므로 허브 1,000개 기준 요청마다 약 8MB를 할당하고, 바이너리 응답은 이를 다시 한 번 복사해
+ * 인코딩한다. 경로 행렬은 {@link HubRouteGraphService}의 스냅샷이 교체될 때만 바뀌므로, 스냅샷이 교체될 때({@link
+ * HubRouteGraphRefreshed}) {@link HubRouteMatrixResponse}와 바이너리 본문을 한 번 만들어 두고 모든 요청에 그대로 사용한다.
+ *
+ * <p>보관한 응답은 어느 행렬로 만들었는지 함께 기록하며, 조회할 때 현재 행렬과 같은 스냅샷인지 확인한다. 기동 직후처럼 아직 만들지 않았거나 다른 스냅샷으로
+ * 만든 응답이라면 그 자리에서 다시 만든다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HubRouteMatrixCache {
+
+  private final HubRouteGraphService hubRouteGraphService;
+
+  private volatile Payload payload;
+
+  /**
+   * 현재 경로 행렬의 응답을 반환한다.
+   *
+   * @return 현재 경로 행렬로 만든 응답
+   */
+  public Payload get() {
+    HubRouteMatrix matrix = hubRouteGraphService.getMatrix();
+    Payload current = payload;
+    if (current != null && current.matrix() == matrix) {
+      return current;
+    }
+    synchronized (this) {
+      matrix = hubRouteGraphService.getMatrix();
+      if (payload == null || payload.matrix() != matrix) {
+        payload = build(matrix);
+      }
+      return payload;
+    }
+  }
+
+  /**
+   * 행렬 응답의 바이너리 본문을 반환한다.
+   *
+   * <p>보관 중인 응답이면 미리 인코딩한 본문을 그대로 반환하고, 그 밖의 응답은 새로 인코딩한다.
+   *
+   * @param response 행렬 응답
+   * @return {@link HubRouteMatrixBinary} 형식의 본문
+   */
+  public byte[] binaryOf(HubRouteMatrixResponse response) {
+    Payload current = payload;
+    if (current != null && current.response() == response) {
+      return current.binary();
+    }
+    return HubRouteMatrixBinary.encode(response);
+  }
+
+  /**
+   * 경로 그래프 스냅샷이 교체되면 행렬 응답을 다시 만든다.
+   *
+   * @param event 경로 그래프 교체 이벤트
+   */
+  @EventListener
+  public synchronized void rebuild(HubRouteGraphRefreshed event) {
+    payload = build(event.matrix());
+    log.info(
+        "경로 행렬 응답 재생성 완료. hubs: {}, binary: {}B",
+        event.matrix().hubCount(),
+        payload.binary().length);
+  }
+
+  private Payload build(HubRouteMatrix matrix) {
+    HubRouteMatrixResponse response = HubRouteMatrixResponse.from(matrix);
+    return new Payload(matrix, response, HubRouteMatrixBinary.encode(response));
+  }
+
+  /**
+   * 미리 만들어 둔 경로 행렬 응답.
+   *
+   * @param matrix 응답을 만든 경로 행렬 스냅샷
+   * @param response JSON 응답 객체
+   * @param binary {@link HubRouteMatrixBinary} 형식으로 인코딩한 본문
+   */
+  public record Payload(HubRouteMatrix matrix, HubRouteMatrixResponse response, byte[] binary) {}
+}
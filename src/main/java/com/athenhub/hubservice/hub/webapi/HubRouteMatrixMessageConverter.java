@@ -0,0 +1,61 @@
+package com.athenhub.hubservice.hub.webapi;
+
+import com.athenhub.hubservice.hub.webapi.dto.HubRouteMatrixBinary;
+import com.athenhub.hubservice.hub.webapi.dto.HubRouteMatrixResponse;
+import java.io.IOException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link HubRouteMatrixResponse}를 {@link HubRouteMatrixBinary} 형식으로 기록하는 메시지 컨버터.
+ *
+ * <p>요청의 {@code Accept} 헤더가 {@link HubRouteMatrixBinary#MEDIA_TYPE}인 경우에만 사용되며, 그 밖의 요청은 JSON으로
+ * 응답한다. {@link HubRouteMatrixCache}에 보관된 응답이면 미리 인코딩한 본문을 그대로 기록한다. 응답 전용이므로 읽기는 지원하지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Component
+public class HubRouteMatrixMessageConverter
+    extends AbstractHttpMessageConverter<HubRouteMatrixResponse> {
+
+  private final HubRouteMatrixCache hubRouteMatrixCache;
+
+  /**
+   * 바이너리 행렬 미디어 타입을 지원하는 컨버터를 생성한다.
+   *
+   * @param hubRouteMatrixCache 미리 인코딩한 본문을 보관하는 경로 행렬 응답 캐시
+   */
+  public HubRouteMatrixMessageConverter(HubRouteMatrixCache hubRouteMatrixCache) {
+    super(HubRouteMatrixBinary.MEDIA_TYPE);
+    this.hubRouteMatrixCache = hubRouteMatrixCache;
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return HubRouteMatrixResponse.class.equals(clazz);
+  }
+
+  @Override
+  public boolean canRead(Class<?> clazz, MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected HubRouteMatrixResponse readInternal(
+      Class<? extends HubRouteMatrixResponse> clazz, HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException("경로 행렬은 읽기를 지원하지 않습니다.", inputMessage);
+  }
+
+  @Override
+  protected void writeInternal(HubRouteMatrixResponse matrix, HttpOutputMessage outputMessage)
+      throws IOException {
+    byte[] body = hubRouteMatrixCache.binaryOf(matrix);
+    outputMessage.getHeaders().setContentLength(body.length);
+    outputMessage.getBody().write(body);
+  }
+}
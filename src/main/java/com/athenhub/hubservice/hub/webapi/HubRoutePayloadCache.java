@@ -0,0 +1,118 @@
+package com.athenhub.hubservice.hub.webapi;
+
+import com.athenhub.hubservice.hub.application.service.HubRouteGraphRefreshed;
+import com.athenhub.hubservice.hub.application.service.HubRouteGraphService;
+import com.athenhub.hubservice.hub.domain.graph.HubRouteGraph;
+import com.athenhub.hubservice.hub.webapi.dto.HubRouteResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code GET /v1/routes} 응답 본문을 미리 직렬화해 보관하는 캐시.
+ *
+ * <p>경로 목록은 {@link HubRouteGraphService}의 스냅샷이 교체될 때만 바뀌므로, 스냅샷이 교체될 때({@link
+ * HubRouteGraphRefreshed}) 경로 목록 JSON과 gzip으로 압축한 사본을 한 번 만들어 두고 모든 요청에 그대로 사용한다. 다시 만드는 작업은 그래프를
+ * 교체한 스레드(경로 변경 이벤트 처리 스레드)에서 수행되므로 요청 처리 경로에 포함되지 않는다. 기동 직후 아직 만들어지지 않았다면 첫 요청에서 만든다.
+ *
+ * <p>각 본문에는 JSON 내용의 SHA-256 해시로 만든 강한(strong) ETag를 붙이므로, 경로가 다시 계산되더라도 내용이 같으면 ETag도 같다. gzip 본문은
+ * 바이트가 다르므로 별도의 ETag({@code -gzip} 접미사)를 사용한다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HubRoutePayloadCache {
+
+  private final HubRouteGraphService hubRouteGraphService;
+  private final ObjectMapper objectMapper;
+
+  private final AtomicLong versions = new AtomicLong();
+  private volatile Payload payload;
+
+  /**
+   * 현재 경로 목록 응답 본문을 반환한다.
+   *
+   * @return 경로 목록 응답 본문
+   */
+  public Payload get() {
+    Payload current = payload;
+    if (current != null) {
+      return current;
+    }
+    synchronized (this) {
+      if (payload == null) {
+        payload = build(hubRouteGraphService.getGraph());
+      }
+      return payload;
+    }
+  }
+
+  /**
+   * 경로 그래프 스냅샷이 교체되면 응답 본문을 다시 만든다.
+   *
+   * @param event 경로 그래프 교체 이벤트
+   */
+  @EventListener
+  public synchronized void rebuild(HubRouteGraphRefreshed event) {
+    payload = build(event.graph());
+    log.info(
+        "경로 목록 응답 본문 재생성 완료. version: {}, json: {}B, gzip: {}B",
+        payload.version(),
+        payload.json().length,
+        payload.gzip().length);
+  }
+
+  private Payload build(HubRouteGraph graph) {
+    try {
+      byte[] json =
+          objectMapper.writeValueAsBytes(
+              graph.edges().stream().map(HubRouteResponse::from).toList());
+      String hash = HexFormat.of().formatHex(Arrays.copyOf(sha256(json), 16));
+      long version = versions.incrementAndGet();
+      return new Payload(version, json, gzip(json), "\"" + hash + "\"", "\"" + hash + "-gzip\"");
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static byte[] gzip(byte[] json) throws IOException {
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(json);
+    }
+    return compressed.toByteArray();
+  }
+
+  private static byte[] sha256(byte[] bytes) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(bytes);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * 미리 직렬화된 경로 목록 응답 본문.
+   *
+   * @param version 본문을 만든 순번
+   * @param json JSON 본문
+   * @param gzip gzip으로 압축한 JSON 본문
+   * @param etag JSON 본문의 ETag
+   * @param gzipEtag gzip 본문의 ETag
+   */
+  public record Payload(long version, byte[] json, byte[] gzip, String etag, String gzipEtag) {}
+}
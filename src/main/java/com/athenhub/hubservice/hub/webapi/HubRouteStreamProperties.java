@@ -0,0 +1,37 @@
+package com.athenhub.hubservice.hub.webapi;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 허브 경로 스트리밍 응답에 사용하는 설정 정보를 바인딩하는 Properties 클래스이다.
+ *
+ * <p>커서 조회 설정({@code route.stream.fetch-size})과 같은 접두사를 사용하며, 이 클래스는 응답 처리에 필요한 값만 바인딩한다.
+ *
+ * <p>주요 설정 값:
+ *
+ * <ul>
+ *   <li>{@code timeout} : 스트리밍 응답 하나를 기록할 수 있는 최대 시간
+ * </ul>
+ *
+ * <p>예시:
+ *
+ * <pre>
+ * route:
+ *   stream:
+ *     timeout: 10m
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "route.stream")
+public class HubRouteStreamProperties {
+  /**
+   * 스트리밍 응답 하나를 기록할 수 있는 최대 시간. 서블릿 컨테이너의 기본 비동기 요청 제한 시간(Tomcat 30초) 대신 사용한다. 이 시간을 넘기면 조회를
+   * 중단하고 데이터베이스 커넥션을 반환한다.
+   */
+  private Duration timeout = Duration.ofMinutes(10);
+}
@@ -0,0 +1,36 @@
+package com.athenhub.hubservice.hub.webapi.dto;
+
+import com.athenhub.hubservice.hub.domain.dto.HubCursorPage;
+import java.util.List;
+
+/**
+ * 허브 커서 검색 응답 DTO.
+ *
+ * <p>커서 방식의 허브 검색 결과로, 전체 개수와 페이지 번호 대신 다음 페이지 조회에 사용할 커서를 포함한다.
+ *
+ * <h2>포함 정보</h2>
+ *
+ * <ul>
+ *   <li>content — 조회된 허브 목록
+ *   <li>nextCursor — 다음 페이지 커서, 마지막 페이지라면 null
+ *   <li>hasNext — 다음 페이지 존재 여부
+ * </ul>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record HubCursorResponse(List<HubFindResponse> content, String nextCursor, boolean hasNext) {
+
+  /**
+   * {@link HubCursorPage}로부터 응답 객체를 생성한다.
+   *
+   * @param page 커서 검색 결과
+   * @return {@link HubCursorResponse} 변환 결과
+   */
+  public static HubCursorResponse from(HubCursorPage page) {
+    return new HubCursorResponse(
+        page.content().stream().map(HubFindResponse::from).toList(),
+        page.nextCursor(),
+        page.hasNext());
+  }
+}
@@ -0,0 +1,45 @@
+package com.athenhub.hubservice.hub.webapi.dto;
+
+import com.athenhub.hubservice.hub.domain.dto.HubCursorPage;
+import com.athenhub.hubservice.hub.domain.vo.HubManagerInfo;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 관리자 정보를 포함한 허브 커서 검색 응답 DTO.
+ *
+ * <p>커서 검색 시 {@code includeManager=true}로 요청하면 반환되는 응답 모델로, {@link HubCursorResponse}의 허브 목록 대신
+ * {@link HubFindWithManagerResponse} 목록을 담는다.
+ *
+ * <h2>포함 정보</h2>
+ *
+ * <ul>
+ *   <li>content — 관리자 정보를 포함한 허브 목록
+ *   <li>nextCursor — 다음 페이지 커서, 마지막 페이지라면 null
+ *   <li>hasNext — 다음 페이지 존재 여부
+ * </ul>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record HubCursorWithManagerResponse(
+    List<HubFindWithManagerResponse> content, String nextCursor, boolean hasNext) {
+
+  /**
+   * {@link HubCursorPage}와 관리자 정보로부터 응답 객체를 생성한다.
+   *
+   * @param page 커서 검색 결과
+   * @param managers 관리자 ID별 관리자 정보, 조회하지 못한 관리자는 포함되지 않는다
+   * @return {@link HubCursorWithManagerResponse} 변환 결과
+   */
+  public static HubCursorWithManagerResponse from(
+      HubCursorPage page, Map<UUID, HubManagerInfo> managers) {
+    return new HubCursorWithManagerResponse(
+        page.content().stream()
+            .map(hub -> HubFindWithManagerResponse.from(hub, managers.get(hub.managerId())))
+            .toList(),
+        page.nextCursor(),
+        page.hasNext());
+  }
+}
@@ -1,6 +1,7 @@
 package com.athenhub.hubservice.hub.webapi.dto;
 
 import com.athenhub.hubservice.hub.domain.Hub;
+import com.athenhub.hubservice.hub.domain.dto.HubSummary;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -22,7 +23,8 @@ import java.util.UUID;
  *   <li>isDeleted - 삭제 여부
  * </ul>
  *
- * <p>정적 메서드 {@link #from(Hub)}를 통해 도메인 엔티티를 쉽게 응답 DTO로 변환할 수 있다.
+ * <p>정적 메서드 {@link #from(Hub)}, {@link #from(HubSummary)}를 통해 도메인 엔티티 또는 조회 프로젝션을 쉽게 응답 DTO로 변환할 수
+ * 있다.
  *
  * @author 김형섭
  * @since 1.0.0
@@ -52,4 +54,21 @@ public record HubFindResponse(
         hub.getCoordinate().getLongitude(),
         !Objects.isNull(hub.getDeletedAt()));
   }
+
+  /**
+   * 조회 프로젝션 {@link HubSummary}로부터 조회 응답 객체를 생성한다.
+   *
+   * @param hub 조회된 허브 요약 정보
+   * @return {@link HubFindResponse} 변환 결과
+   */
+  public static HubFindResponse from(HubSummary hub) {
+    return new HubFindResponse(
+        hub.hubId(),
+        hub.name(),
+        hub.streetAddress(),
+        hub.detailAddress(),
+        hub.latitude(),
+        hub.longitude(),
+        hub.isDeleted());
+  }
 }
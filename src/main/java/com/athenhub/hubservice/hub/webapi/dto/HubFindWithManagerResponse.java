@@ -0,0 +1,52 @@
+package com.athenhub.hubservice.hub.webapi.dto;
+
+import com.athenhub.hubservice.hub.domain.dto.HubSummary;
+import com.athenhub.hubservice.hub.domain.vo.HubManagerInfo;
+import java.util.UUID;
+
+/**
+ * 관리자 정보를 포함한 허브 조회 응답 DTO.
+ *
+ * <p>허브 검색 시 {@code includeManager=true}로 요청하면 반환되는 응답 모델로, {@link HubFindResponse}의 정보에 허브 관리자
+ * 정보를 더한 구조이다.
+ *
+ * <h2>포함 정보</h2>
+ *
+ * <ul>
+ *   <li>hubId, name, streetAddress, detailAddress, latitude, longitude, isDeleted — {@link
+ *       HubFindResponse}와 동일
+ *   <li>manager — 허브 관리자 정보, 관리자 정보를 조회하지 못한 경우 {@code null}
+ * </ul>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record HubFindWithManagerResponse(
+    UUID hubId,
+    String name,
+    String streetAddress,
+    String detailAddress,
+    Double latitude,
+    Double longitude,
+    boolean isDeleted,
+    HubManagerInfoResponse manager) {
+
+  /**
+   * 조회 프로젝션 {@link HubSummary}와 관리자 정보로부터 조회 응답 객체를 생성한다.
+   *
+   * @param hub 조회된 허브 요약 정보
+   * @param manager 허브 관리자 정보, 조회하지 못한 경우 {@code null}
+   * @return {@link HubFindWithManagerResponse} 변환 결과
+   */
+  public static HubFindWithManagerResponse from(HubSummary hub, HubManagerInfo manager) {
+    return new HubFindWithManagerResponse(
+        hub.hubId(),
+        hub.name(),
+        hub.streetAddress(),
+        hub.detailAddress(),
+        hub.latitude(),
+        hub.longitude(),
+        hub.isDeleted(),
+        manager == null ? null : HubManagerInfoResponse.of(manager));
+  }
+}
@@ -0,0 +1,44 @@
+package com.athenhub.hubservice.hub.webapi.dto;
+
+import com.athenhub.hubservice.hub.domain.dto.HubRouteChangeSummary;
+import com.athenhub.hubservice.hub.domain.vo.HubRouteChangeType;
+import java.util.UUID;
+
+/**
+ * 허브 경로 변경 한 건의 응답 DTO.
+ *
+ * <p>{@code type}이 {@code UPSERT}이면 같은 구간의 경로를 이 값으로 추가하거나 대체하고, {@code DELETE}이면 같은 구간의 경로를 제거한다.
+ *
+ * @param sourceHubId 출발 허브 식별자
+ * @param targetHubId 도착 허브 식별자
+ * @param distanceKm 거리(km)
+ * @param durationMinutes 소요 시간(분)
+ * @param provisional 임시 경로 여부
+ * @param type 변경 유형
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record HubRouteChangeResponse(
+    UUID sourceHubId,
+    UUID targetHubId,
+    Double distanceKm,
+    Integer durationMinutes,
+    boolean provisional,
+    HubRouteChangeType type) {
+
+  /**
+   * 변경 조회 프로젝션 {@link HubRouteChangeSummary}로부터 응답 객체를 생성한다.
+   *
+   * @param change 조회된 경로 변경
+   * @return {@link HubRouteChangeResponse} 변환 결과
+   */
+  public static HubRouteChangeResponse from(HubRouteChangeSummary change) {
+    return new HubRouteChangeResponse(
+        change.sourceHubId(),
+        change.targetHubId(),
+        change.distanceKm(),
+        change.durationMinutes(),
+        change.provisional(),
+        change.type());
+  }
+}
@@ -0,0 +1,33 @@
+package com.athenhub.hubservice.hub.webapi.dto;
+
+import com.athenhub.hubservice.hub.domain.dto.HubRouteChanges;
+import java.util.List;
+
+/**
+ * 허브 경로 변경 조회 응답 DTO.
+ *
+ * <p>클라이언트는 {@code version}을 보관해 두었다가 다음 조회의 {@code since}로 전달한다. {@code snapshot}이 {@code true}이면
+ * 보관 중인 경로를 모두 버리고 {@code changes}로 대체해야 한다.
+ *
+ * @param version 응답에 반영된 현재 경로 버전
+ * @param snapshot 전체 스냅샷 여부
+ * @param changes 구간별 마지막 변경 목록
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record HubRouteChangesResponse(
+    long version, boolean snapshot, List<HubRouteChangeResponse> changes) {
+
+  /**
+   * 변경 조회 결과 {@link HubRouteChanges}로부터 응답 객체를 생성한다.
+   *
+   * @param changes 경로 변경 조회 결과
+   * @return {@link HubRouteChangesResponse} 변환 결과
+   */
+  public static HubRouteChangesResponse from(HubRouteChanges changes) {
+    return new HubRouteChangesResponse(
+        changes.version(),
+        changes.snapshot(),
+        changes.changes().stream().map(HubRouteChangeResponse::from).toList());
+  }
+}
@@ -0,0 +1,66 @@
+package com.athenhub.hubservice.hub.webapi.dto;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.UUID;
+import org.springframework.http.MediaType;
+
+/**
+ * {@link HubRouteMatrixResponse}의 리틀 엔디언 바이너리 표현.
+ *
+ * <p>모든 값은 리틀 엔디언으로 기록하며, 배열은 길이 정보 없이 {@code hubCount}로부터 길이를 계산한다.
+ *
+ * <pre>
+ * int32    version           (현재 1)
+ * int32    hubCount          (n)
+ * n × (int64 mostSigBits, int64 leastSigBits)   허브 식별자
+ * n × n × float32            거리(km), 경로가 없으면 -1
+ * n × n × int32              소요 시간(분), 경로가 없으면 -1
+ * </pre>
+ *
+ * <p>허브 1,000개 기준 약 8MB로, 같은 행렬을 경로 목록 JSON으로 표현할 때보다 훨씬 작고 파싱 없이 배열로 바로 읽을 수 있다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public final class HubRouteMatrixBinary {
+
+  /** 바이너리 행렬 응답의 미디어 타입 문자열. */
+  public static final String MEDIA_TYPE_VALUE = "application/vnd.athenhub.route-matrix";
+
+  /** 바이너리 행렬 응답의 미디어 타입. */
+  public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+  /** 바이너리 형식 버전. */
+  public static final int VERSION = 1;
+
+  private HubRouteMatrixBinary() {}
+
+  /**
+   * 행렬 응답을 바이너리로 인코딩한다.
+   *
+   * @param matrix 행렬 응답
+   * @return 인코딩된 바이트 배열
+   */
+  public static byte[] encode(HubRouteMatrixResponse matrix) {
+    int hubCount = matrix.hubIds().size();
+    int cells = matrix.distanceKm().length;
+    ByteBuffer buffer =
+        ByteBuffer.allocate(
+                Math.toIntExact(
+                    2L * Integer.BYTES
+                        + (long) hubCount * 2 * Long.BYTES
+                        + (long) cells * (Float.BYTES + Integer.BYTES)))
+            .order(ByteOrder.LITTLE_ENDIAN);
+
+    buffer.putInt(VERSION).putInt(hubCount);
+    for (UUID hubId : matrix.hubIds()) {
+      buffer.putLong(hubId.getMostSignificantBits()).putLong(hubId.getLeastSignificantBits());
+    }
+    buffer.asFloatBuffer().put(matrix.distanceKm());
+    buffer.position(buffer.position() + cells * Float.BYTES);
+    buffer.asIntBuffer().put(matrix.durationMinutes());
+
+    return buffer.array();
+  }
+}
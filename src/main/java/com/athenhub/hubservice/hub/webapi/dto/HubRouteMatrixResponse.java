@@ -0,0 +1,46 @@
+package com.athenhub.hubservice.hub.webapi.dto;
+
+import com.athenhub.hubservice.hub.domain.graph.HubRouteMatrix;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 전체 허브 간 거리·소요 시간 행렬 조회 응답 DTO.
+ *
+ * <p>경로마다 허브 식별자를 반복하지 않도록, 허브 식별자 목록을 한 번만 담고 거리와 소요 시간은 행 우선(row-major) 순서의 배열로 담는다. 출발 허브
+ * {@code hubIds[i]}에서 도착 허브 {@code hubIds[j]}로 가는 경로는 각 배열의 {@code i * hubIds.size() + j} 위치에 있다.
+ *
+ * <h2>포함 정보</h2>
+ *
+ * <ul>
+ *   <li>hubIds — 행(열) 순서의 허브 식별자 목록
+ *   <li>distanceKm — 거리(km), 직접 연결된 경로가 없으면 {@code -1}
+ *   <li>durationMinutes — 소요 시간(분), 직접 연결된 경로가 없으면 {@code -1}
+ * </ul>
+ *
+ * <p>JSON 외에 {@link HubRouteMatrixBinary#MEDIA_TYPE} 형식의 리틀 엔디언 바이너리로도 응답할 수 있다.
+ *
+ * <p>응답 객체는 경로 행렬 스냅샷마다 한 번만 만들어 모든 요청이 공유하므로, 배열을 수정해서는 안 된다.
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record HubRouteMatrixResponse(
+    List<UUID> hubIds, float[] distanceKm, int[] durationMinutes) {
+
+  /**
+   * 경로 행렬 {@link HubRouteMatrix}로부터 조회 응답 객체를 생성한다.
+   *
+   * @param matrix 경로 행렬 스냅샷
+   * @return {@link HubRouteMatrixResponse} 변환 결과
+   */
+  public static HubRouteMatrixResponse from(HubRouteMatrix matrix) {
+    List<UUID> hubIds = new ArrayList<>(matrix.hubCount());
+    for (int index = 0; index < matrix.hubCount(); index++) {
+      hubIds.add(matrix.hubIdAt(index).toUuid());
+    }
+    return new HubRouteMatrixResponse(
+        List.copyOf(hubIds), matrix.distances(), matrix.durations());
+  }
+}
@@ -0,0 +1,51 @@
+package com.athenhub.hubservice.hub.webapi.dto;
+
+import com.athenhub.hubservice.hub.domain.graph.HubRoutePath;
+import com.athenhub.hubservice.hub.domain.vo.HubId;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 허브 간 최단 경로 조회 응답 DTO.
+ *
+ * <h2>포함 정보</h2>
+ *
+ * <ul>
+ *   <li>sourceHubId — 출발 허브 식별자(UUID)
+ *   <li>targetHubId — 도착 허브 식별자(UUID)
+ *   <li>metric — 탐색 기준 (duration, distance)
+ *   <li>totalDistanceKm — 전체 거리 (Km)
+ *   <li>totalDurationMinutes — 전체 시간 (분)
+ *   <li>hubIds — 출발 허브부터 도착 허브까지 경유하는 허브 식별자 목록
+ *   <li>legs — 구간별 경로 정보
+ * </ul>
+ *
+ * @author 김형섭
+ * @since 1.0.0
+ */
+public record HubRoutePathResponse(
+    UUID sourceHubId,
+    UUID targetHubId,
+    String metric,
+    Double totalDistanceKm,
+    Integer totalDurationMinutes,
+    List<UUID> hubIds,
+    List<HubRouteResponse> legs) {
+
+  /**
+   * 도메인 객체 {@link HubRoutePath}로부터 조회 응답 객체를 생성한다.
+   *
+   * @param path 최단 경로 탐색 결과
+   * @return {@link HubRoutePathResponse} 변환 결과
+   */
+  public static HubRoutePathResponse from(HubRoutePath path) {
+    return new HubRoutePathResponse(
+        path.source().toUuid(),
+        path.target().toUuid(),
+        path.metric().name().toLowerCase(),
+        path.totalDistanceKm(),
+        path.totalDurationMinutes(),
+        path.hubIds().stream().map(HubId::toUuid).toList(),
+        path.legs().stream().map(HubRouteResponse::from).toList());
+  }
+}
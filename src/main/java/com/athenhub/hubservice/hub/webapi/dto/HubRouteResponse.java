@@ -1,6 +1,9 @@
 package com.athenhub.hubservice.hub.webapi.dto;
 
 import com.athenhub.hubservice.hub.domain.HubRoute;
+import com.athenhub.hubservice.hub.domain.dto.HubRouteSummary;
+import com.athenhub.hubservice.hub.domain.graph.HubRouteEdge;
+import com.athenhub.hubservice.hub.domain.graph.HubRouteGraph;
 import java.util.UUID;
 
 /**
@@ -16,6 +19,7 @@ import java.util.UUID;
  *   <li>targetHubId — 도착 허브 식별자(UUID)
  *   <li>distanceKm — 거리 (Km)
  *   <li>durationMinutes — 시간 (분)
+ *   <li>provisional — 임시 경로 여부. 직선 거리 기반 추정치이면 {@code true}
  * </ul>
  *
  * <p>정적 메서드 {@link #from(HubRoute)}를 통해 도메인 엔티티를 쉽게 응답 DTO로 변환할 수 있다.
@@ -24,7 +28,11 @@ import java.util.UUID;
  * @since 1.0.0
  */
 public record HubRouteResponse(
-    UUID sourceHubId, UUID targetHubId, Double distanceKm, Integer durationMinutes) {
+    UUID sourceHubId,
+    UUID targetHubId,
+    Double distanceKm,
+    Integer durationMinutes,
+    boolean provisional) {
 
   /**
    * 도메인 엔티티 {@link HubRoute}로부터 조회 응답 객체를 생성한다.
@@ -37,6 +45,39 @@ public record HubRouteResponse(
         route.getSourceHubId().toUuid(),
         route.getTargetHubId().toUuid(),
         route.getDistanceKm(),
-        route.getDurationMinutes());
+        route.getDurationMinutes(),
+        route.isProvisional());
+  }
+
+  /**
+   * 경로 그래프의 간선 {@link HubRouteEdge}로부터 조회 응답 객체를 생성한다.
+   *
+   * @param edge 경로 그래프의 간선
+   * @return {@link HubRouteResponse} 변환 결과
+   */
+  public static HubRouteResponse from(HubRouteEdge edge) {
+    return new HubRouteResponse(
+        edge.sourceHubId().toUuid(),
+        edge.targetHubId().toUuid(),
+        edge.distanceKm(),
+        edge.durationMinutes(),
+        edge.provisional());
+  }
+
+  /**
+   * 조회 프로젝션 {@link HubRouteSummary}로부터 조회 응답 객체를 생성한다.
+   *
+   * <p>거리는 {@link HubRouteGraph#roundDistanceKm(double)}로 반올림하여, 경로 그래프로 만든 응답과 같은 정밀도로 반환한다.
+   *
+   * @param route 조회된 허브 경로 요약 정보
+   * @return {@link HubRouteResponse} 변환 결과
+   */
+  public static HubRouteResponse from(HubRouteSummary route) {
+    return new HubRouteResponse(
+        route.sourceHubId(),
+        route.targetHubId(),
+        HubRouteGraph.roundDistanceKm(route.distanceKm()),
+        route.durationMinutes(),
+        route.provisional());
   }
 }
@@ -0,0 +1,16 @@
+-- hub.search.mode=trigram 일 때 기동 시 실행된다.
+-- 검색 쿼리는 upper(컬럼) LIKE '%키워드%' 형태이므로 같은 식에 대한 트라이그램 GIN 인덱스를 만든다.
+-- 트라이그램은 세 글자 단위이므로 두 글자 이하의 키워드는 인덱스를 사용하지 못한다.
+-- 인덱스를 만드는 동안 p_hub 쓰기가 막히지 않도록 CONCURRENTLY로 생성한다. 트랜잭션 블록 안에서는 실행할 수 없으므로
+-- HubSearchIndexInitializer가 자동 커밋 커넥션에서 문장마다 따로 실행한다.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_hub_name_trgm
+    ON p_hub USING gin (upper(name) gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_hub_street_address_trgm
+    ON p_hub USING gin (upper(street_address) gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_hub_detail_address_trgm
+    ON p_hub USING gin (upper(detail_address) gin_trgm_ops);
@@ -0,0 +1,16 @@
+-- 기동 시 Hibernate 스키마 생성 이후 실행된다. H2는 부분 인덱스를 지원하지 않고 경로 조회의
+-- 출발/도착 허브 OR 조건에 인덱스를 사용하지 않으므로 활성 경로 인덱스는 PostgreSQL에만 만든다.
+
+CREATE INDEX IF NOT EXISTS idx_hub_name_id ON p_hub (name, id);
+
+CREATE INDEX IF NOT EXISTS idx_hub_created_at_id ON p_hub (created_at, id);
+
+-- 경로 버전은 단일 행으로 관리한다. 경로 변경 트랜잭션이 이 행을 잠그고 버전을 올린다.
+INSERT INTO p_hub_route_version (id, version, compacted_through)
+SELECT 1, 0, 0
+WHERE NOT EXISTS (SELECT 1 FROM p_hub_route_version WHERE id = 1);
+
+-- 아웃박스 릴레이 잠금도 단일 행으로 관리한다. 릴레이는 이 행을 SKIP LOCKED로 잠가 한 인스턴스에서만 발행한다.
+INSERT INTO p_hub_outbox_relay_lock (id)
+SELECT 1
+WHERE NOT EXISTS (SELECT 1 FROM p_hub_outbox_relay_lock WHERE id = 1);
@@ -0,0 +1,36 @@
+-- 기동 시 Hibernate 스키마 갱신(ddl-auto: update) 이후 실행된다. 모든 문은 반복 실행해도 안전해야 한다.
+
+-- p_hub_route 식별자를 IDENTITY에서 시퀀스(allocationSize 50)로 전환하면서,
+-- 기존 행의 식별자와 겹치지 않도록 시퀀스를 최대 식별자 이후로 맞춘다.
+SELECT setval(
+    'p_hub_route_seq',
+    GREATEST(
+        (SELECT COALESCE(MAX(id), 0) FROM p_hub_route) + 50,
+        (SELECT last_value FROM p_hub_route_seq)));
+
+-- 활성 경로를 출발/도착 허브로 조회하는 쿼리용 부분 인덱스.
+-- 그래프 간선에 필요한 컬럼을 INCLUDE하여 프로젝션 조회는 인덱스만으로 처리한다.
+CREATE INDEX IF NOT EXISTS idx_hub_route_source_active
+    ON p_hub_route (source_hub_id)
+    INCLUDE (target_hub_id, distance_km, duration_minutes, provisional)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_hub_route_target_active
+    ON p_hub_route (target_hub_id)
+    INCLUDE (source_hub_id, distance_km, duration_minutes, provisional)
+    WHERE deleted_at IS NULL;
+
+-- 허브 커서 페이지네이션용 인덱스. (정렬 키, id) 튜플 비교를 인덱스 범위 탐색으로 처리한다.
+CREATE INDEX IF NOT EXISTS idx_hub_name_id ON p_hub (name, id);
+
+CREATE INDEX IF NOT EXISTS idx_hub_created_at_id ON p_hub (created_at, id);
+
+-- 경로 버전은 단일 행으로 관리한다. 경로 변경 트랜잭션이 이 행을 잠그고 버전을 올린다.
+INSERT INTO p_hub_route_version (id, version, compacted_through)
+SELECT 1, 0, 0
+WHERE NOT EXISTS (SELECT 1 FROM p_hub_route_version WHERE id = 1);
+
+-- 아웃박스 릴레이 잠금도 단일 행으로 관리한다. 릴레이는 이 행을 SKIP LOCKED로 잠가 한 인스턴스에서만 발행한다.
+INSERT INTO p_hub_outbox_relay_lock (id)
+SELECT 1
+WHERE NOT EXISTS (SELECT 1 FROM p_hub_outbox_relay_lock WHERE id = 1);
@@ -0,0 +1,31 @@
+package com.athenhub.hubservice.global.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class LruCacheTest {
+
+  @Test
+  void putEvictsLeastRecentlyUsed() {
+    LruCache<String, Integer> cache = new LruCache<>(2);
+    cache.put("a", 1);
+    cache.put("b", 2);
+    cache.get("a");
+
+    cache.put("c", 3);
+
+    assertThat(cache.get("a")).contains(1);
+    assertThat(cache.get("b")).isEmpty();
+    assertThat(cache.get("c")).contains(3);
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.evictionCount()).isEqualTo(1);
+  }
+
+  @Test
+  void createWithInvalidSize() {
+    assertThatThrownBy(() -> new LruCache<String, Integer>(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
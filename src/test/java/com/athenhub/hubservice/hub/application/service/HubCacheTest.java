@@ -0,0 +1,98 @@
+package com.athenhub.hubservice.hub.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.athenhub.hubservice.hub.HubFixture;
+import com.athenhub.hubservice.hub.domain.dto.HubSummary;
+import com.athenhub.hubservice.hub.domain.service.MemberExistenceChecker;
+import com.athenhub.hubservice.hub.domain.service.PermissionChecker;
+import com.athenhub.hubservice.hub.domain.vo.HubId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HubCacheTest {
+
+  SimpleMeterRegistry meterRegistry;
+  HubCache hubCache;
+  AtomicInteger loads;
+  HubSummary hub;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    HubCacheProperties properties = new HubCacheProperties();
+    properties.setMaxSize(1);
+    hubCache = new HubCache(properties, meterRegistry);
+    loads = new AtomicInteger();
+    hub =
+        HubSummary.from(
+            HubFixture.create(mock(PermissionChecker.class), mock(MemberExistenceChecker.class)));
+  }
+
+  @Test
+  void getServesRepeatedCallsFromMemory() {
+    HubSummary first = hubCache.get(hubId(), this::load);
+    HubSummary second = hubCache.get(hubId(), this::load);
+
+    assertThat(second).isSameAs(first);
+    assertThat(loads).hasValue(1);
+    assertThat(requests("hit")).isEqualTo(1);
+    assertThat(requests("miss")).isEqualTo(1);
+    assertThat(meterRegistry.get("hub.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+  }
+
+  @Test
+  void evictReloadsHub() {
+    hubCache.get(hubId(), this::load);
+
+    hubCache.evict(hubId());
+    hubCache.get(hubId(), this::load);
+
+    assertThat(loads).hasValue(2);
+    assertThat(meterRegistry.get("hub.cache.invalidations").functionCounter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void getDoesNotCacheHubLoadedDuringInvalidation() {
+    hubCache.get(
+        hubId(),
+        () -> {
+          hubCache.evict(hubId());
+          return load();
+        });
+    hubCache.get(hubId(), this::load);
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void getEvictsLeastRecentlyUsedHub() {
+    HubSummary other =
+        HubSummary.from(
+            HubFixture.create(mock(PermissionChecker.class), mock(MemberExistenceChecker.class)));
+
+    hubCache.get(hubId(), this::load);
+    hubCache.get(HubId.of(other.hubId()), () -> other);
+
+    assertThat(meterRegistry.get("hub.cache.size").gauge().value()).isEqualTo(1);
+    assertThat(meterRegistry.get("hub.cache.evictions").functionCounter().count())
+        .isEqualTo(1);
+  }
+
+  private HubId hubId() {
+    return HubId.of(hub.hubId());
+  }
+
+  private HubSummary load() {
+    loads.incrementAndGet();
+    return hub;
+  }
+
+  private double requests(String result) {
+    return meterRegistry.get("hub.cache.requests").tag("result", result).counter().count();
+  }
+}
@@ -0,0 +1,126 @@
+package com.athenhub.hubservice.hub.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.hubservice.hub.domain.Hub;
+import com.athenhub.hubservice.hub.domain.dto.HubCursor;
+import com.athenhub.hubservice.hub.domain.dto.HubCursorOrder;
+import com.athenhub.hubservice.hub.domain.dto.HubSearchCondition;
+import com.athenhub.hubservice.hub.domain.dto.HubSummary;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 허브 100,000건에서 1,000번째 페이지 조회 시 OFFSET 페이징과 커서 페이징의 소요 시간 비교.
+ *
+ * <p>{@code ./gradlew benchmark}로 실행한다. OFFSET 페이징은 앞선 20,000건을 건너뛰고 전체 개수도 조회하지만, 커서 페이징은
+ * (name, id) 인덱스를 커서 위치부터 읽는다. 커서는 OFFSET 결과의 직전 허브로 만들어 같은 페이지를 조회하도록 한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HubCursorPaginationBenchmark {
+
+  private static final int HUB_COUNT = 100_000;
+  private static final int PAGE = 1_000;
+  private static final int PAGE_SIZE = 20;
+  private static final int ITERATIONS = 100;
+  private static final String MARKER = "BENCH-";
+
+  private final HubFinder hubFinder;
+  private final JdbcTemplate jdbcTemplate;
+
+  HubCursorPaginationBenchmark(HubFinder hubFinder, JdbcTemplate jdbcTemplate) {
+    this.hubFinder = hubFinder;
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @BeforeAll
+  void insertHubs() {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<Object[]> rows = new ArrayList<>(HUB_COUNT);
+    for (int i = 0; i < HUB_COUNT; i++) {
+      rows.add(
+          new Object[] {
+            UUID.randomUUID(),
+            MARKER + "%06d".formatted(i),
+            "테스트 광역시 " + i,
+            "",
+            37.0,
+            127.0,
+            UUID.randomUUID(),
+            now,
+            now,
+            "benchmark",
+            "benchmark"
+          });
+    }
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO p_hub (id, name, street_address, detail_address, latitude, longitude,"
+            + " manager_id, created_at, updated_at, created_by, updated_by)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+        rows);
+  }
+
+  @AfterAll
+  void deleteHubs() {
+    jdbcTemplate.update("DELETE FROM p_hub WHERE name LIKE ?", MARKER + "%");
+  }
+
+  @Test
+  void comparePage1000() {
+    HubSearchCondition condition = HubSearchCondition.of(null, true);
+    PageRequest previous = PageRequest.of(PAGE - 1, PAGE_SIZE, Direction.ASC, "name", "id.id");
+    PageRequest target = PageRequest.of(PAGE, PAGE_SIZE, Direction.ASC, "name", "id.id");
+
+    Page<Hub> before = hubFinder.search(condition, previous);
+    String cursor =
+        HubCursor.of(HubCursorOrder.NAME, HubSummary.from(before.getContent().getLast())).encode();
+
+    List<UUID> offsetIds =
+        hubFinder.search(condition, target).map(hub -> hub.getId().toUuid()).getContent();
+    List<UUID> cursorIds =
+        hubFinder
+            .searchByCursor(condition, HubCursorOrder.NAME, cursor, PAGE_SIZE)
+            .content()
+            .stream()
+            .map(HubSummary::hubId)
+            .toList();
+    assertThat(cursorIds).isEqualTo(offsetIds);
+
+    long offsetMicros = averageMicros(() -> hubFinder.search(condition, target));
+    long cursorMicros =
+        averageMicros(
+            () -> hubFinder.searchByCursor(condition, HubCursorOrder.NAME, cursor, PAGE_SIZE));
+
+    System.out.printf(
+        "hubs=%d page=%d size=%d offset: avg=%,dus | cursor: avg=%,dus%n",
+        HUB_COUNT, PAGE, PAGE_SIZE, offsetMicros, cursorMicros);
+  }
+
+  private long averageMicros(Supplier<?> search) {
+    for (int i = 0; i < ITERATIONS; i++) {
+      search.get(); // 워밍업
+    }
+
+    long startedAt = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      search.get();
+    }
+    return (System.nanoTime() - startedAt) / 1_000 / ITERATIONS;
+  }
+}
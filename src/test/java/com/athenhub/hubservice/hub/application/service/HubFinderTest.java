@@ -2,20 +2,36 @@ package com.athenhub.hubservice.hub.application.service;
 
 import static com.athenhub.hubservice.hub.HubFixture.createRegisterRequest;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
+import com.athenhub.hubservice.hub.application.service.HubSearchProperties.Mode;
 import com.athenhub.hubservice.hub.domain.Hub;
+import com.athenhub.hubservice.hub.domain.dto.HubCursorOrder;
+import com.athenhub.hubservice.hub.domain.dto.HubCursorPage;
 import com.athenhub.hubservice.hub.domain.dto.HubSearchCondition;
+import com.athenhub.hubservice.hub.domain.dto.HubSummary;
 import com.athenhub.hubservice.hub.domain.service.MemberExistenceChecker;
 import com.athenhub.hubservice.hub.domain.service.PermissionChecker;
+import com.athenhub.hubservice.hub.domain.vo.HubId;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.UUID;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
@@ -26,7 +42,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.transaction.annotation.Transactional;
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @RecordApplicationEvents
 @Transactional
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -40,6 +56,14 @@ class HubFinderTest {
 
   @Autowired private EntityManager entityManager;
 
+  @Autowired private HubSearchProperties searchProperties;
+
+  @Autowired private HubSearchIndexService hubSearchIndexService;
+
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+
   @MockitoBean private PermissionChecker permissionChecker;
 
   @MockitoBean private MemberExistenceChecker memberExistenceChecker;
@@ -74,6 +98,10 @@ class HubFinderTest {
 
     hubManager.delete(hub1.getId().toUuid(), "test", UUID.randomUUID(), "testUser");
     hubManager.delete(hub2.getId().toUuid(), "test", UUID.randomUUID(), "testUser");
+
+    // 메모리 모드 검색이 등록 이벤트의 비동기 색인 갱신을 기다리지 않도록 색인을 다시 구성한다.
+    hubSearchIndexService.rebuild();
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
   }
 
   @BeforeEach
@@ -82,9 +110,17 @@ class HubFinderTest {
     entityManager.clear();
   }
 
-  @Test
+  @AfterEach
+  void tearDown() {
+    searchProperties.setMode(Mode.LIKE);
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = Mode.class, names = {"LIKE", "TRIGRAM"})
   @DisplayName("미삭제 필터 테스트")
-  void findHubsByNotDeleted() {
+  void findHubsByNotDeleted(Mode mode) {
+    searchProperties.setMode(mode);
+
     HubSearchCondition condition = HubSearchCondition.of(null, false);
     Pageable pageable = PageRequest.of(0, 10);
 
@@ -94,9 +130,12 @@ class HubFinderTest {
         .containsExactlyInAnyOrder(hub3, hub4, hub5, hub6, hub7, hub8, hub9, hub10);
   }
 
-  @Test
+  @ParameterizedTest
+  @EnumSource(value = Mode.class, names = {"LIKE", "TRIGRAM"})
   @DisplayName("이름 검색 테스트")
-  void findHubsByName() {
+  void findHubsByName(Mode mode) {
+    searchProperties.setMode(mode);
+
     HubSearchCondition condition = HubSearchCondition.of("아테네", true);
     Pageable pageable = PageRequest.of(0, 10);
 
@@ -105,9 +144,12 @@ class HubFinderTest {
     assertThat(hubs.getContent()).containsExactlyInAnyOrder(hub4, hub5);
   }
 
-  @Test
+  @ParameterizedTest
+  @EnumSource(value = Mode.class, names = {"LIKE", "TRIGRAM"})
   @DisplayName("기본주소 검색 테스트")
-  void findHubsByStreetAddress() {
+  void findHubsByStreetAddress(Mode mode) {
+    searchProperties.setMode(mode);
+
     HubSearchCondition condition = HubSearchCondition.of("인천", true);
     Pageable pageable = PageRequest.of(0, 10);
 
@@ -116,9 +158,12 @@ class HubFinderTest {
     assertThat(hubs.getContent()).containsExactlyInAnyOrder(hub3, hub5, hub6);
   }
 
-  @Test
+  @ParameterizedTest
+  @EnumSource(value = Mode.class, names = {"LIKE", "TRIGRAM"})
   @DisplayName("상세주소 검색 테스트")
-  void findHubsByDetailAddress() {
+  void findHubsByDetailAddress(Mode mode) {
+    searchProperties.setMode(mode);
+
     HubSearchCondition condition = HubSearchCondition.of("A", true);
     Pageable pageable = PageRequest.of(0, 10);
 
@@ -127,9 +172,12 @@ class HubFinderTest {
     assertThat(hubs.getContent()).containsExactlyInAnyOrder(hub7, hub8, hub9, hub10);
   }
 
-  @Test
+  @ParameterizedTest
+  @EnumSource(value = Mode.class, names = {"LIKE", "TRIGRAM"})
   @DisplayName("정렬 테스트")
-  void findHubsWithOrder() {
+  void findHubsWithOrder(Mode mode) {
+    searchProperties.setMode(mode);
+
     HubSearchCondition condition = HubSearchCondition.of(null, true);
     Pageable pageable = PageRequest.of(0, 10, Direction.DESC, "name");
 
@@ -139,9 +187,12 @@ class HubFinderTest {
         .containsExactly(hub9, hub8, hub7, hub6, hub3, hub2, hub10, hub1, hub5, hub4);
   }
 
-  @Test
+  @ParameterizedTest
+  @EnumSource(value = Mode.class, names = {"LIKE", "TRIGRAM"})
   @DisplayName("페이징 테스트")
-  void findHubsWithPaging() {
+  void findHubsWithPaging(Mode mode) {
+    searchProperties.setMode(mode);
+
     HubSearchCondition condition = HubSearchCondition.of(null, true);
     Pageable pageable = PageRequest.of(1, 2, Direction.DESC, "name");
 
@@ -152,9 +203,12 @@ class HubFinderTest {
     assertThat(hubs.getTotalPages()).isEqualTo(5);
   }
 
-  @Test
+  @ParameterizedTest
+  @EnumSource(value = Mode.class, names = {"LIKE", "TRIGRAM"})
   @DisplayName("검색 결과가 없는 경우")
-  void findHubsWhenNoMatch() {
+  void findHubsWhenNoMatch(Mode mode) {
+    searchProperties.setMode(mode);
+
     HubSearchCondition condition = HubSearchCondition.of("없는 이름", true);
     Pageable pageable = PageRequest.of(0, 10);
 
@@ -163,9 +217,12 @@ class HubFinderTest {
     assertThat(hubs.getContent()).isEmpty();
   }
 
-  @Test
+  @ParameterizedTest
+  @EnumSource(value = Mode.class, names = {"LIKE", "TRIGRAM"})
   @DisplayName("검색어 대소문자 테스트")
-  void findHubsByLetterCase() {
+  void findHubsByLetterCase(Mode mode) {
+    searchProperties.setMode(mode);
+
     HubSearchCondition condition = HubSearchCondition.of("a", true);
     Pageable pageable = PageRequest.of(0, 10);
 
@@ -174,6 +231,136 @@ class HubFinderTest {
     assertThat(hubs.getContent()).containsExactlyInAnyOrder(hub7, hub8, hub9, hub10);
   }
 
+  @ParameterizedTest
+  @EnumSource(Mode.class)
+  @DisplayName("프로젝션 검색 테스트")
+  void searchSummaries(Mode mode) {
+    searchProperties.setMode(mode);
+
+    HubSearchCondition condition = HubSearchCondition.of("테스트", false);
+    Pageable pageable = PageRequest.of(0, 3, Direction.DESC, "name");
+
+    Page<HubSummary> hubs = hubFinder.searchSummaries(condition, pageable);
+
+    assertThat(hubs.getContent())
+        .extracting(HubSummary::hubId)
+        .containsExactly(hub9.getId().toUuid(), hub8.getId().toUuid(), hub7.getId().toUuid());
+    assertThat(hubs.getTotalElements()).isEqualTo(8);
+    assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("메모리 모드 검색은 데이터베이스를 조회하지 않는다")
+  void searchSummariesInMemoryMode() {
+    searchProperties.setMode(Mode.MEMORY);
+    statistics.clear();
+
+    Page<HubSummary> hubs =
+        hubFinder.searchSummaries(HubSearchCondition.of("ㅇㅌㄴ", true), PageRequest.of(0, 10));
+
+    assertThat(hubs.getContent())
+        .extracting(HubSummary::hubId)
+        .containsExactlyInAnyOrder(hub4.getId().toUuid(), hub5.getId().toUuid());
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("자동 완성 - 응답용 단건 조회만 사용 점수에 반영")
+  void suggestRanksBySummaryLookups() {
+    for (int i = 0; i < 3; i++) {
+      hubFinder.find(hub5.getId().toUuid());
+    }
+
+    assertThat(hubFinder.suggest("아테네", 2))
+        .extracting(HubSummary::hubId)
+        .containsExactly(hub4.getId().toUuid(), hub5.getId().toUuid());
+
+    hubFinder.findSummary(hub5.getId().toUuid());
+
+    assertThat(hubFinder.suggest("아테네", 2))
+        .extracting(HubSummary::hubId)
+        .containsExactly(hub5.getId().toUuid(), hub4.getId().toUuid());
+  }
+
+  @ParameterizedTest
+  @EnumSource(Mode.class)
+  @DisplayName("커서 검색 - 허브명 순")
+  void searchByCursorOrderedByName(Mode mode) {
+    searchProperties.setMode(mode);
+
+    List<HubSummary> hubs =
+        searchAllByCursor(HubSearchCondition.of(null, true), HubCursorOrder.NAME);
+
+    assertThat(hubs)
+        .extracting(hub -> HubId.of(hub.hubId()))
+        .containsExactly(
+            hub4.getId(),
+            hub5.getId(),
+            hub1.getId(),
+            hub10.getId(),
+            hub2.getId(),
+            hub3.getId(),
+            hub6.getId(),
+            hub7.getId(),
+            hub8.getId(),
+            hub9.getId());
+  }
+
+  @ParameterizedTest
+  @EnumSource(Mode.class)
+  @DisplayName("커서 검색 - 최신 생성 순과 검색 조건")
+  void searchByCursorOrderedByCreatedAt(Mode mode) {
+    searchProperties.setMode(mode);
+
+    List<HubSummary> hubs =
+        searchAllByCursor(HubSearchCondition.of("서울", false), HubCursorOrder.CREATED_AT);
+
+    assertThat(hubs)
+        .extracting(hub -> HubId.of(hub.hubId()))
+        .containsExactlyInAnyOrder(
+            hub4.getId(), hub7.getId(), hub8.getId(), hub9.getId(), hub10.getId());
+    assertThat(hubs)
+        .extracting(HubSummary::createdAt)
+        .isSortedAccordingTo(Comparator.reverseOrder());
+  }
+
+  @ParameterizedTest
+  @EnumSource(Mode.class)
+  @DisplayName("커서 검색 - 삭제된 허브 제외 키워드 검색")
+  void searchByCursorWithKeywordExcludingDeleted(Mode mode) {
+    searchProperties.setMode(mode);
+
+    List<HubSummary> hubs =
+        searchAllByCursor(HubSearchCondition.of("테스트", false), HubCursorOrder.NAME);
+
+    assertThat(hubs)
+        .extracting(hub -> HubId.of(hub.hubId()))
+        .containsExactly(
+            hub10.getId(), hub3.getId(), hub6.getId(), hub7.getId(), hub8.getId(), hub9.getId());
+  }
+
+  @Test
+  @DisplayName("커서 검색 - 올바르지 않은 커서")
+  void searchByCursorWithInvalidCursor() {
+    assertThatThrownBy(
+            () ->
+                hubFinder.searchByCursor(
+                    HubSearchCondition.of(null, true), HubCursorOrder.NAME, "invalid", 3))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private List<HubSummary> searchAllByCursor(HubSearchCondition condition, HubCursorOrder order) {
+    List<HubSummary> hubs = new ArrayList<>();
+    String cursor = null;
+    do {
+      HubCursorPage page = hubFinder.searchByCursor(condition, order, cursor, 3);
+      assertThat(page.content()).hasSizeLessThanOrEqualTo(3);
+      hubs.addAll(page.content());
+      cursor = page.nextCursor();
+    } while (cursor != null);
+    return hubs;
+  }
+
   private Hub registerHub(String name, String streetAddress, String detailAddress) {
     when(permissionChecker.hasManagePermission(any(UUID.class))).thenReturn(true);
     when(memberExistenceChecker.hasMember(any(UUID.class))).thenReturn(true);
@@ -76,6 +76,7 @@ class HubManagerTest {
         .hasSize(1)
         .anySatisfy(
             event -> {
+              assertThat(event.hubId()).isEqualTo(hub.getId().toUuid());
               assertThat(event.hubName()).isEqualTo(hub.getName());
               assertThat(event.hubManagerId()).isEqualTo(hub.getManagerId().toUuid());
               assertThat(event.requestUsername()).isEqualTo(requestUser);
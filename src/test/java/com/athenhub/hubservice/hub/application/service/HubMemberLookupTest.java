@@ -0,0 +1,82 @@
+package com.athenhub.hubservice.hub.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.athenhub.hubservice.hub.HubFixture;
+import com.athenhub.hubservice.hub.domain.Hub;
+import com.athenhub.hubservice.hub.domain.HubRepository;
+import com.athenhub.hubservice.hub.domain.service.MemberExistenceChecker;
+import com.athenhub.hubservice.hub.domain.service.PermissionChecker;
+import com.athenhub.hubservice.hub.infrastructure.MemberRole;
+import com.athenhub.hubservice.hub.infrastructure.MemberStatus;
+import com.athenhub.hubservice.hub.infrastructure.client.MemberServiceClient;
+import com.athenhub.hubservice.hub.infrastructure.dto.MemberInfo;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 허브 쓰기 작업 한 번에 회원 서비스 호출이 회원마다 한 번만 일어나는지 검증한다.
+ *
+ * <p>회원 정보 캐시의 TTL을 0으로 두어, 호출 횟수가 줄어든 것이 요청/트랜잭션 범위 조회 결과 재사용 때문임을 확인한다.
+ */
+@SpringBootTest(properties = "member.cache.ttl=0s")
+@Transactional
+class HubMemberLookupTest {
+
+  @Autowired HubRegister hubRegister;
+
+  @Autowired HubManager hubManager;
+
+  @Autowired HubRepository hubRepository;
+
+  @MockitoBean MemberServiceClient memberServiceClient;
+
+  private final UUID requestId = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    given(memberServiceClient.getMemberInfo(requestId))
+        .willReturn(
+            new MemberInfo(
+                requestId,
+                "테스트 회원",
+                "testMember",
+                "testSlackId",
+                MemberRole.MASTER_MANAGER,
+                MemberStatus.ACTIVATED,
+                "서울 물류",
+                "HUB",
+                true));
+  }
+
+  @Test
+  void registerFetchesRequesterOnce() {
+    hubRegister.register(HubFixture.createRegisterRequest(), requestId, "requestUser");
+
+    verify(memberServiceClient, times(1)).getMemberInfo(requestId);
+    verify(memberServiceClient, times(1)).getMemberInfo(any(UUID.class));
+  }
+
+  @Test
+  void changeManagerFetchesRequesterOnce() {
+    Hub hub =
+        hubRepository.save(
+            HubFixture.create(mock(PermissionChecker.class), mock(MemberExistenceChecker.class)));
+    UUID newManagerId = UUID.randomUUID();
+
+    hubManager.changeManager(hub.getId().toUuid(), newManagerId, requestId, "requestUser");
+
+    assertThat(hub.getManagerId().toUuid()).isEqualTo(newManagerId);
+    verify(memberServiceClient, times(1)).getMemberInfo(any(UUID.class));
+  }
+}
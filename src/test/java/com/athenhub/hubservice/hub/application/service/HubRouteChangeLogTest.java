@@ -0,0 +1,100 @@
+package com.athenhub.hubservice.hub.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.athenhub.hubservice.hub.domain.HubRoute;
+import com.athenhub.hubservice.hub.domain.HubRouteRepository;
+import com.athenhub.hubservice.hub.domain.dto.HubRouteChangeSummary;
+import com.athenhub.hubservice.hub.domain.dto.HubRouteChanges;
+import com.athenhub.hubservice.hub.domain.dto.HubRouteSummary;
+import com.athenhub.hubservice.hub.domain.vo.HubId;
+import com.athenhub.hubservice.hub.domain.vo.HubRouteChangeType;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = "route.changes.retained-versions=2")
+@Transactional
+class HubRouteChangeLogTest {
+
+  private final HubRouteChangeLog hubRouteChangeLog;
+  private final HubRouteRepository hubRouteRepository;
+
+  HubRouteChangeLogTest(
+      HubRouteChangeLog hubRouteChangeLog, HubRouteRepository hubRouteRepository) {
+    this.hubRouteChangeLog = hubRouteChangeLog;
+    this.hubRouteRepository = hubRouteRepository;
+  }
+
+  @Test
+  void findSinceReturnsLatestChangePerSection() {
+    HubRoute seoulToBusan = route(325.5, 240);
+    HubRoute busanToSeoul = route(330.0, 245);
+    long start = hubRouteChangeLog.currentVersion();
+
+    long added = hubRouteChangeLog.nextVersion();
+    hubRouteChangeLog.recordUpserts(added, List.of(seoulToBusan, busanToSeoul));
+    long deleted = hubRouteChangeLog.nextVersion();
+    hubRouteChangeLog.recordDeletes(deleted, List.of(summary(seoulToBusan)));
+
+    HubRouteChanges changes = hubRouteChangeLog.findSince(start);
+
+    assertThat(changes.version()).isEqualTo(deleted);
+    assertThat(changes.snapshot()).isFalse();
+    assertThat(changes.changes())
+        .extracting(HubRouteChangeSummary::targetHubId, HubRouteChangeSummary::type)
+        .containsExactly(
+            tuple(busanToSeoul.getTargetHubId().toUuid(), HubRouteChangeType.UPSERT),
+            tuple(seoulToBusan.getTargetHubId().toUuid(), HubRouteChangeType.DELETE));
+    assertThat(hubRouteChangeLog.findSince(added).changes())
+        .singleElement()
+        .extracting(HubRouteChangeSummary::type)
+        .isEqualTo(HubRouteChangeType.DELETE);
+    assertThat(hubRouteChangeLog.findSince(deleted).changes()).isEmpty();
+  }
+
+  @Test
+  void findSinceReturnsSnapshotWhenVersionIsCompacted() {
+    HubRoute active = hubRouteRepository.save(route(325.5, 240));
+    long start = hubRouteChangeLog.currentVersion();
+
+    for (int i = 0; i < 3; i++) {
+      long version = hubRouteChangeLog.nextVersion();
+      hubRouteChangeLog.recordUpserts(version, List.of(route(10.0 + i, 15)));
+    }
+
+    HubRouteChanges changes = hubRouteChangeLog.findSince(start);
+
+    assertThat(changes.snapshot()).isTrue();
+    assertThat(changes.version()).isEqualTo(start + 3);
+    assertThat(changes.changes())
+        .contains(HubRouteChangeSummary.upsert(summary(active)))
+        .allMatch(change -> change.type() == HubRouteChangeType.UPSERT);
+    assertThat(hubRouteChangeLog.findSince(start + 2).snapshot()).isFalse();
+  }
+
+  @Test
+  void findSinceReturnsSnapshotForUnknownVersion() {
+    long current = hubRouteChangeLog.currentVersion();
+
+    assertThat(hubRouteChangeLog.findSince(-1).snapshot()).isTrue();
+    assertThat(hubRouteChangeLog.findSince(current + 1).snapshot()).isTrue();
+  }
+
+  private HubRoute route(double distanceKm, int durationMinutes) {
+    return HubRoute.create(
+        HubId.of(UUID.randomUUID()), HubId.of(UUID.randomUUID()), distanceKm, durationMinutes);
+  }
+
+  private HubRouteSummary summary(HubRoute route) {
+    return new HubRouteSummary(
+        route.getSourceHubId().toUuid(),
+        route.getTargetHubId().toUuid(),
+        route.getDistanceKm(),
+        route.getDurationMinutes(),
+        route.isProvisional());
+  }
+}
@@ -0,0 +1,55 @@
+package com.athenhub.hubservice.hub.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.athenhub.hubservice.hub.domain.HubRouteRepository;
+import com.athenhub.hubservice.hub.domain.dto.HubRouteSummary;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+class HubRouteGraphServiceTest {
+
+  HubRouteRepository hubRouteRepository;
+  HubRouteChangeLog hubRouteChangeLog;
+  HubRouteGraphService hubRouteGraphService;
+
+  @BeforeEach
+  void setUp() {
+    hubRouteRepository = mock(HubRouteRepository.class);
+    hubRouteChangeLog = mock(HubRouteChangeLog.class);
+    hubRouteGraphService =
+        new HubRouteGraphService(
+            hubRouteRepository, hubRouteChangeLog, mock(ApplicationEventPublisher.class));
+  }
+
+  @Test
+  void refreshIfBehindSkipsVersionAlreadyInSnapshot() {
+    when(hubRouteChangeLog.currentVersion()).thenReturn(3L);
+    when(hubRouteRepository.findAllActiveSummaries()).thenReturn(List.of());
+    hubRouteGraphService.refresh();
+
+    assertThat(hubRouteGraphService.refreshIfBehind(3)).isFalse();
+    verify(hubRouteRepository, times(1)).findAllActiveSummaries();
+  }
+
+  @Test
+  void refreshIfBehindRebuildsSnapshotForNewerVersion() {
+    UUID source = UUID.randomUUID();
+    UUID target = UUID.randomUUID();
+    when(hubRouteChangeLog.currentVersion()).thenReturn(3L, 4L);
+    when(hubRouteRepository.findAllActiveSummaries())
+        .thenReturn(List.of())
+        .thenReturn(List.of(new HubRouteSummary(source, target, 10.0, 15, false)));
+    hubRouteGraphService.refresh();
+
+    assertThat(hubRouteGraphService.refreshIfBehind(4)).isTrue();
+    assertThat(hubRouteGraphService.findAllSourceBy(source)).hasSize(1);
+  }
+}
@@ -2,8 +2,12 @@ package com.athenhub.hubservice.hub.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -13,11 +17,13 @@ import com.athenhub.hubservice.hub.domain.HubRepository;
 import com.athenhub.hubservice.hub.domain.HubRoute;
 import com.athenhub.hubservice.hub.domain.HubRouteRepository;
 import com.athenhub.hubservice.hub.domain.dto.RouteResponse;
+import com.athenhub.hubservice.hub.domain.event.HubRouteDelta;
 import com.athenhub.hubservice.hub.domain.event.HubRouteUpdated;
 import com.athenhub.hubservice.hub.domain.service.MemberExistenceChecker;
 import com.athenhub.hubservice.hub.domain.service.PermissionChecker;
 import com.athenhub.hubservice.hub.domain.service.RouteCalculator;
 import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,17 +31,24 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.transaction.annotation.Transactional;
 
 @SpringBootTest
+@RecordApplicationEvents
 @Transactional
 class HubRouteServiceTest {
 
   @Autowired private HubRouteService hubRouteService;
-  @Autowired private HubFinder hubFinder;
+  @MockitoSpyBean private HubFinder hubFinder;
   @Autowired private HubRepository hubRepository;
   @Autowired private HubRouteRepository hubRouteRepository;
+  @Autowired private HubRouteChangeLog hubRouteChangeLog;
+  @Autowired private RoutePipelineProperties pipelineProperties;
   @Autowired private EntityManager entityManager;
+  @Autowired private ApplicationEvents events;
 
   @MockitoBean private RouteCalculator routeCalculator;
   @MockitoBean private HubMessagePublisher hubMessagePublisher;
@@ -92,17 +105,190 @@ class HubRouteServiceTest {
   }
 
   @Test
-  void findAllSourceBy_returnsOnlySourceRoutes() {
-    HubRoute route1 = HubRoute.create(hub1.getId(), hub2.getId(), 5.0, 10);
-    HubRoute route2 = HubRoute.create(hub2.getId(), hub1.getId(), 5.0, 10);
-    hubRouteRepository.saveAll(List.of(route1, route2));
+  void createProvisionalRoutes_thenCalculateRoutesConfirmsThem() {
+    when(routeCalculator.getRoute(any(), any())).thenReturn(new RouteResponse(10.0, 15));
+    doNothing().when(hubMessagePublisher).publish(any(HubRouteUpdated.class));
+
+    Hub newHub =
+        hubRepository.save(
+            Hub.register(
+                HubFixture.createRegisterRequest(),
+                permissionChecker(),
+                memberExistenceChecker(),
+                UUID.randomUUID()));
+    entityManager.flush();
+    entityManager.clear();
+
+    hubRouteService.createProvisionalRoutes(newHub.getId().toUuid());
+    entityManager.flush();
+    entityManager.clear();
+
+    assertThat(hubRouteRepository.findAll())
+        .hasSize(4)
+        .allSatisfy(route -> assertThat(route.isProvisional()).isTrue());
+
+    hubRouteService.calculateRoutesForNewHub(newHub.getId().toUuid());
+    entityManager.flush();
+    entityManager.clear();
+
+    List<HubRoute> routes = hubRouteRepository.findAll();
+    assertThat(routes).hasSize(4);
+    assertThat(routes).allSatisfy(route -> assertThat(route.isProvisional()).isFalse());
+    assertThat(routes).allSatisfy(route -> assertThat(route.getDistanceKm()).isEqualTo(10.0));
+    verify(hubMessagePublisher, times(2)).publish(any(HubRouteUpdated.class));
+  }
+
+  @Test
+  void calculateRoutesForNewHub_publishesCommittedBatchesWhenBatchFails() {
+    when(routeCalculator.getRoute(any(), any())).thenReturn(new RouteResponse(10.0, 15));
+    // 4개 경로를 1개씩 저장하며 두 번째 배치의 메시지 기록이 실패한다.
+    doNothing()
+        .doThrow(new IllegalStateException("outbox unavailable"))
+        .doNothing()
+        .when(hubMessagePublisher)
+        .publish(any(HubRouteUpdated.class));
+
+    Hub newHub =
+        hubRepository.save(
+            Hub.register(
+                HubFixture.createRegisterRequest(),
+                permissionChecker(),
+                memberExistenceChecker(),
+                UUID.randomUUID()));
+    entityManager.flush();
+    entityManager.clear();
+
+    int batchSize = pipelineProperties.getPersistBatchSize();
+    pipelineProperties.setPersistBatchSize(1);
+    try {
+      hubRouteService.calculateRoutesForNewHub(newHub.getId().toUuid());
+    } finally {
+      pipelineProperties.setPersistBatchSize(batchSize);
+    }
+
+    verify(hubMessagePublisher, times(4)).publish(any(HubRouteUpdated.class));
+    assertThat(events.stream(HubRouteUpdated.class))
+        .singleElement()
+        .satisfies(
+            event -> {
+              assertThat(event.inserted()).hasSize(3);
+              assertThat(event.version()).isEqualTo(hubRouteChangeLog.currentVersion());
+            });
+  }
+
+  @Test
+  void calculateRoutesForNewHub_skipsProvisionalRoutesDeactivatedMeanwhile() {
+    when(routeCalculator.getRoute(any(), any())).thenReturn(new RouteResponse(10.0, 15));
+    Hub newHub =
+        hubRepository.save(
+            Hub.register(
+                HubFixture.createRegisterRequest(),
+                permissionChecker(),
+                memberExistenceChecker(),
+                UUID.randomUUID()));
+    entityManager.flush();
+    entityManager.clear();
+    hubRouteService.createProvisionalRoutes(newHub.getId().toUuid());
     entityManager.flush();
     entityManager.clear();
 
-    List<HubRoute> routes = hubRouteService.findAllSourceBy(hub1.getId().toUuid());
+    // 조회 단계 이후 허브 삭제로 임시 경로가 비활성화된 상황을 저장 단계의 활성 허브 조회 시점에 재현한다.
+    doCallRealMethod()
+        .doAnswer(
+            invocation -> {
+              hubRouteService.deactivateRoutesForHub(newHub.getId().toUuid(), "deletedByUser");
+              return invocation.callRealMethod();
+            })
+        .doCallRealMethod()
+        .when(hubFinder)
+        .findAllActiveSummaries();
 
-    assertThat(routes).hasSize(1);
-    assertThat(routes.getFirst().getSourceHubId()).isEqualTo(hub1.getId());
+    hubRouteService.calculateRoutesForNewHub(newHub.getId().toUuid());
+    entityManager.flush();
+    entityManager.clear();
+
+    assertThat(hubRouteRepository.findAllByHubId(newHub.getId())).isEmpty();
+    assertThat(hubRouteRepository.findAll()).hasSize(4);
+  }
+
+  @Test
+  void calculateRoutesForNewHub_skipsBatchesWhenNewHubIsNoLongerActive() {
+    when(routeCalculator.getRoute(any(), any())).thenReturn(new RouteResponse(10.0, 15));
+    Hub newHub =
+        hubRepository.save(
+            Hub.register(
+                HubFixture.createRegisterRequest(),
+                permissionChecker(),
+                memberExistenceChecker(),
+                UUID.randomUUID()));
+    entityManager.flush();
+    entityManager.clear();
+
+    // 조회 단계 이후 신규 허브가 삭제되어 저장 단계에서는 활성 허브가 아니다.
+    doCallRealMethod()
+        .doAnswer(
+            invocation ->
+                hubRepository.findAllActiveSummaries().stream()
+                    .filter(hub -> !hub.hubId().equals(newHub.getId().toUuid()))
+                    .toList())
+        .when(hubFinder)
+        .findAllActiveSummaries();
+
+    hubRouteService.calculateRoutesForNewHub(newHub.getId().toUuid());
+    entityManager.flush();
+    entityManager.clear();
+
+    assertThat(hubRouteRepository.findAll()).isEmpty();
+    verify(hubMessagePublisher, never()).publish(any(HubRouteUpdated.class));
+    assertThat(events.stream(HubRouteUpdated.class))
+        .singleElement()
+        .satisfies(event -> assertThat(event.inserted()).isEmpty());
+  }
+
+  @Test
+  void confirmProvisionalRoutes_confirmsStaleProvisionalRoutes() {
+    when(routeCalculator.getRoute(any(), any())).thenReturn(new RouteResponse(10.0, 15));
+    doNothing().when(hubMessagePublisher).publish(any(HubRouteUpdated.class));
+    HubRoute provisional = HubRoute.createProvisional(hub1.getId(), hub2.getId(), 5.0, 10);
+    HubRoute confirmed = HubRoute.create(hub2.getId(), hub1.getId(), 5.0, 10);
+    hubRouteRepository.saveAll(List.of(provisional, confirmed));
+    entityManager.flush();
+    entityManager.clear();
+
+    int count = hubRouteService.confirmProvisionalRoutes(LocalDateTime.now().plusMinutes(1), 10);
+    entityManager.flush();
+    entityManager.clear();
+
+    assertThat(count).isEqualTo(1);
+    assertThat(hubRouteRepository.findAll())
+        .hasSize(2)
+        .allSatisfy(route -> assertThat(route.isProvisional()).isFalse());
+    assertThat(hubRouteRepository.findById(provisional.getId()))
+        .hasValueSatisfying(route -> assertThat(route.getDistanceKm()).isEqualTo(10.0));
+    verify(hubMessagePublisher).publish(any(HubRouteUpdated.class));
+    assertThat(events.stream(HubRouteUpdated.class))
+        .singleElement()
+        .satisfies(
+            event -> {
+              assertThat(event.requestId()).isNull();
+              assertThat(event.inserted()).hasSize(1);
+              assertThat(event.changesConfirmedRoutes()).isTrue();
+            });
+  }
+
+  @Test
+  void confirmProvisionalRoutes_skipsRecentProvisionalRoutes() {
+    hubRouteRepository.save(HubRoute.createProvisional(hub1.getId(), hub2.getId(), 5.0, 10));
+    entityManager.flush();
+    entityManager.clear();
+
+    int count = hubRouteService.confirmProvisionalRoutes(LocalDateTime.now().minusMinutes(30), 10);
+
+    assertThat(count).isZero();
+    assertThat(hubRouteRepository.findAll())
+        .singleElement()
+        .satisfies(route -> assertThat(route.isProvisional()).isTrue());
+    verify(hubMessagePublisher, never()).publish(any(HubRouteUpdated.class));
   }
 
   @Test
@@ -120,7 +306,41 @@ class HubRouteServiceTest {
     HubRoute route = hubRouteRepository.findById(route1.getId()).orElseThrow();
     assertThat(route.getDeletedBy()).isEqualTo("deletedByUser");
     assertThat(route.getDeletedAt()).isNotNull();
-    verify(hubMessagePublisher).publish(any(HubRouteUpdated.class));
+    verify(hubMessagePublisher)
+        .publish(
+            HubRouteUpdated.of(
+                hub1.getId().toUuid(),
+                hubRouteChangeLog.currentVersion(),
+                List.of(),
+                List.of(delta(hub1, hub2))));
+  }
+
+  @Test
+  void deactivateRoutesForHub_skipsAlreadyDeletedRoutes() {
+    HubRoute active = HubRoute.create(hub2.getId(), hub1.getId(), 5.0, 10);
+    HubRoute deleted = HubRoute.create(hub1.getId(), hub2.getId(), 5.0, 10);
+    deleted.delete("previousUser");
+    hubRouteRepository.saveAll(List.of(active, deleted));
+    entityManager.flush();
+    entityManager.clear();
+
+    hubRouteService.deactivateRoutesForHub(hub1.getId().toUuid(), null);
+
+    assertThat(hubRouteRepository.findById(active.getId()).orElseThrow().getDeletedBy())
+        .isEqualTo("SYSTEM");
+    assertThat(hubRouteRepository.findById(deleted.getId()).orElseThrow().getDeletedBy())
+        .isEqualTo("previousUser");
+    verify(hubMessagePublisher)
+        .publish(
+            HubRouteUpdated.of(
+                hub1.getId().toUuid(),
+                hubRouteChangeLog.currentVersion(),
+                List.of(),
+                List.of(delta(hub2, hub1))));
+  }
+
+  private HubRouteDelta delta(Hub source, Hub target) {
+    return new HubRouteDelta(source.getId().toUuid(), target.getId().toUuid(), 5.0, 10, false);
   }
 
   private PermissionChecker permissionChecker() {
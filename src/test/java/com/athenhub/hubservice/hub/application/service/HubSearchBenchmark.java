@@ -0,0 +1,134 @@
+package com.athenhub.hubservice.hub.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.hubservice.hub.domain.dto.HubSearchCondition;
+import com.athenhub.hubservice.hub.domain.dto.HubSummary;
+import com.athenhub.hubservice.hub.infrastructure.HubSearchIndexInitializer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 허브 100,000건에서 LIKE, 트라이그램, 메모리 모드의 키워드 검색 소요 시간 비교.
+ *
+ * <p>{@code ./gradlew benchmark}로 실행한다. 검색 API와 같은 {@link HubFinder#searchSummaries} 경로를 측정하므로 메모리
+ * 모드는 데이터베이스를 조회하지 않고 메모리 색인만 사용한다. PostgreSQL에서 실행하면 트라이그램 모드가 GIN 인덱스를 사용하며, H2에서는 LIKE, 트라이그램 모드
+ * 모두 전체 탐색이므로 비슷한 결과가 나온다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HubSearchBenchmark {
+
+  private static final int HUB_COUNT = 100_000;
+  private static final int ITERATIONS = 50;
+  private static final String MARKER = "BENCH-";
+  private static final List<String> KEYWORDS = List.of("허브 777", "광역시 12", "동 4321호");
+
+  private final HubFinder hubFinder;
+  private final HubSearchProperties searchProperties;
+  private final HubSearchIndexInitializer indexInitializer;
+  private final HubSearchIndexService hubSearchIndexService;
+  private final JdbcTemplate jdbcTemplate;
+
+  HubSearchBenchmark(
+      HubFinder hubFinder,
+      HubSearchProperties searchProperties,
+      HubSearchIndexInitializer indexInitializer,
+      HubSearchIndexService hubSearchIndexService,
+      JdbcTemplate jdbcTemplate) {
+    this.hubFinder = hubFinder;
+    this.searchProperties = searchProperties;
+    this.indexInitializer = indexInitializer;
+    this.hubSearchIndexService = hubSearchIndexService;
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @BeforeAll
+  void insertHubs() {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<Object[]> rows = new ArrayList<>(HUB_COUNT);
+    for (int i = 0; i < HUB_COUNT; i++) {
+      rows.add(
+          new Object[] {
+            UUID.randomUUID(),
+            MARKER + "허브 " + i,
+            "테스트 광역시 " + (i % 500) + "로 " + i,
+            "테스트 동 " + i + "호",
+            37.0 + (i % 1000) * 0.001,
+            127.0 + (i / 1000) * 0.001,
+            UUID.randomUUID(),
+            now,
+            now,
+            "benchmark",
+            "benchmark"
+          });
+    }
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO p_hub (id, name, street_address, detail_address, latitude, longitude,"
+            + " manager_id, created_at, updated_at, created_by, updated_by)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+        rows);
+    indexInitializer.createIndexes();
+    // 직접 추가한 행은 등록 이벤트를 발행하지 않으므로 메모리 색인을 다시 구성한다.
+    hubSearchIndexService.rebuild();
+  }
+
+  @AfterAll
+  void deleteHubs() {
+    jdbcTemplate.update("DELETE FROM p_hub WHERE name LIKE ?", MARKER + "%");
+    hubSearchIndexService.rebuild();
+    searchProperties.setMode(HubSearchProperties.Mode.LIKE);
+  }
+
+  @Test
+  void compareSearchModes() {
+    Long expected = null;
+    for (HubSearchProperties.Mode mode : HubSearchProperties.Mode.values()) {
+      searchProperties.setMode(mode);
+      run(); // 워밍업
+
+      long startedAt = System.nanoTime();
+      long matched = run();
+      long elapsedMicros = (System.nanoTime() - startedAt) / 1_000;
+
+      System.out.printf(
+          "hubs=%d mode=%s searches=%d matched=%,d avg=%,dus%n",
+          HUB_COUNT,
+          mode,
+          ITERATIONS * KEYWORDS.size(),
+          matched,
+          elapsedMicros / (ITERATIONS * KEYWORDS.size()));
+      assertThat(matched).isPositive();
+      // 모드마다 같은 결과를 반환해야 소요 시간 비교가 의미 있다.
+      if (expected == null) {
+        expected = matched;
+      }
+      assertThat(matched).isEqualTo(expected);
+    }
+  }
+
+  private long run() {
+    long matched = 0;
+    for (int i = 0; i < ITERATIONS; i++) {
+      for (String keyword : KEYWORDS) {
+        Page<HubSummary> page =
+            hubFinder.searchSummaries(HubSearchCondition.of(keyword, false), PageRequest.of(0, 20));
+        matched += page.getTotalElements();
+      }
+    }
+    return matched;
+  }
+}
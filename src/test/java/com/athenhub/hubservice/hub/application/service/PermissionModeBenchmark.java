@@ -0,0 +1,167 @@
+package com.athenhub.hubservice.hub.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import com.athenhub.hubservice.hub.HubFixture;
+import com.athenhub.hubservice.hub.infrastructure.GatewayClaimsVerifier;
+import com.athenhub.hubservice.hub.infrastructure.MemberRole;
+import com.athenhub.hubservice.hub.infrastructure.MemberStatus;
+import com.athenhub.hubservice.hub.infrastructure.PermissionProperties;
+import com.athenhub.hubservice.hub.infrastructure.client.MemberServiceClient;
+import com.athenhub.hubservice.hub.infrastructure.dto.MemberInfo;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 허브 등록 쓰기 경로에서 권한 검증 방식({@code remote}, {@code local})에 따른 지연 시간 비교.
+ *
+ * <p>{@code ./gradlew benchmark}로 실행한다. 회원 서비스 호출은 {@code MEMBER_SERVICE_LATENCY_MILLIS}만큼
+ * 지연되는 목으로 대체하고, 회원 정보 캐시 TTL을 0으로 두어 요청마다 회원 서비스를 호출하는 상황을 재현한다. 각 등록은 게이트웨이가 서명한 클레임
+ * 헤더를 가진 요청 안에서 실행되며 트랜잭션은 롤백된다.
+ */
+@Tag("benchmark")
+@SpringBootTest(
+    properties = {
+      "member.cache.ttl=0s",
+      "hub.permission.claim-secret=" + PermissionModeBenchmark.SECRET
+    })
+class PermissionModeBenchmark {
+
+  static final String SECRET = "benchmark-gateway-secret";
+
+  private static final int ITERATIONS = 200;
+  private static final long MEMBER_SERVICE_LATENCY_MILLIS = 5;
+
+  private final HubRegister hubRegister;
+  private final PermissionProperties permissionProperties;
+  private final TransactionTemplate transactionTemplate;
+  private final AtomicInteger remoteCalls = new AtomicInteger();
+
+  @MockitoBean MemberServiceClient memberServiceClient;
+
+  PermissionModeBenchmark(
+      HubRegister hubRegister,
+      PermissionProperties permissionProperties,
+      PlatformTransactionManager transactionManager) {
+    this.hubRegister = hubRegister;
+    this.permissionProperties = permissionProperties;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @AfterEach
+  void tearDown() {
+    permissionProperties.setMode(PermissionProperties.Mode.REMOTE);
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void compareRegisterLatency() {
+    UUID requestId = UUID.randomUUID();
+    given(memberServiceClient.getMemberInfo(any(UUID.class)))
+        .willAnswer(
+            invocation -> {
+              remoteCalls.incrementAndGet();
+              Thread.sleep(MEMBER_SERVICE_LATENCY_MILLIS);
+              return masterManager(invocation.getArgument(0));
+            });
+
+    register(PermissionProperties.Mode.REMOTE, requestId); // 워밍업
+    register(PermissionProperties.Mode.LOCAL, requestId); // 워밍업
+
+    Result remote = register(PermissionProperties.Mode.REMOTE, requestId);
+    Result local = register(PermissionProperties.Mode.LOCAL, requestId);
+
+    System.out.printf(
+        "registers=%d remote: p50=%,dus p99=%,dus calls=%d | local: p50=%,dus p99=%,dus"
+            + " calls=%d%n",
+        ITERATIONS,
+        remote.p50Micros(),
+        remote.p99Micros(),
+        remote.remoteCalls(),
+        local.p50Micros(),
+        local.p99Micros(),
+        local.remoteCalls());
+
+    assertThat(remote.remoteCalls()).isEqualTo(ITERATIONS);
+    assertThat(local.remoteCalls()).isZero();
+  }
+
+  /**
+   * 지정한 권한 검증 방식으로 허브를 반복 등록하고 등록 한 건의 지연 시간 분포를 측정한다.
+   *
+   * @param mode 권한 검증 방식
+   * @param requestId 요청자 식별자
+   */
+  private Result register(PermissionProperties.Mode mode, UUID requestId) {
+    permissionProperties.setMode(mode);
+    remoteCalls.set(0);
+
+    long[] elapsed = new long[ITERATIONS];
+    for (int i = 0; i < ITERATIONS; i++) {
+      RequestContextHolder.setRequestAttributes(
+          new ServletRequestAttributes(signedRequest(requestId)));
+
+      long startedAt = System.nanoTime();
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            hubRegister.register(HubFixture.createRegisterRequest(), requestId, "benchmark");
+            status.setRollbackOnly();
+          });
+      elapsed[i] = (System.nanoTime() - startedAt) / 1_000;
+
+      RequestContextHolder.resetRequestAttributes();
+    }
+
+    Arrays.sort(elapsed);
+    return new Result(
+        elapsed[ITERATIONS / 2], elapsed[ITERATIONS * 99 / 100], remoteCalls.get());
+  }
+
+  private static MockHttpServletRequest signedRequest(UUID requestId) {
+    String roles = MemberRole.MASTER_MANAGER.name();
+    String status = MemberStatus.ACTIVATED.name();
+    String issuedAt = String.valueOf(System.currentTimeMillis());
+    GatewayClaimsVerifier verifier =
+        new GatewayClaimsVerifier(SECRET, Duration.ofSeconds(30), Clock.systemUTC());
+
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("X-User-Id", requestId.toString());
+    request.addHeader("X-User-Roles", roles);
+    request.addHeader("X-User-Status", status);
+    request.addHeader("X-Claims-Issued-At", issuedAt);
+    request.addHeader(
+        "X-Claims-Signature",
+        verifier.signature(String.join("|", requestId.toString(), roles, status, issuedAt)));
+    return request;
+  }
+
+  private static MemberInfo masterManager(UUID memberId) {
+    return new MemberInfo(
+        memberId,
+        "벤치마크 회원",
+        "benchmark",
+        "benchmarkSlackId",
+        MemberRole.MASTER_MANAGER,
+        MemberStatus.ACTIVATED,
+        "서울 물류",
+        "HUB",
+        true);
+  }
+
+  private record Result(long p50Micros, long p99Micros, int remoteCalls) {}
+}
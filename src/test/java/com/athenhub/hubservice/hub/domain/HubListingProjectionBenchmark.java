@@ -0,0 +1,144 @@
+package com.athenhub.hubservice.hub.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.hubservice.hub.domain.dto.HubSummary;
+import jakarta.persistence.EntityManager;
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 활성 허브 10,000건을 엔티티로 조회할 때와 {@link HubSummary} 프로젝션으로 조회할 때의 할당량과 소요 시간 비교.
+ *
+ * <p>{@code ./gradlew benchmark}로 실행한다. 두 경우 모두 읽기 전용 트랜잭션에서 조회하며, 할당량은 조회 스레드가 할당한 바이트 수로 측정한다.
+ * 엔티티 조회는 영속성 컨텍스트에 엔티티와 엔티티 키를 적재하지만, 프로젝션 조회는 아무것도 적재하지 않는다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HubListingProjectionBenchmark {
+
+  private static final int HUB_COUNT = 10_000;
+  private static final int ITERATIONS = 20;
+  private static final String MARKER = "BENCH-";
+
+  private final HubRepository hubRepository;
+  private final EntityManager entityManager;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate readOnlyTransaction;
+
+  HubListingProjectionBenchmark(
+      HubRepository hubRepository,
+      EntityManager entityManager,
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager) {
+    this.hubRepository = hubRepository;
+    this.entityManager = entityManager;
+    this.jdbcTemplate = jdbcTemplate;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+  }
+
+  @BeforeAll
+  void insertHubs() {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<Object[]> rows = new ArrayList<>(HUB_COUNT);
+    for (int i = 0; i < HUB_COUNT; i++) {
+      rows.add(
+          new Object[] {
+            UUID.randomUUID(),
+            MARKER + i,
+            "테스트 광역시 " + i,
+            "",
+            37.0,
+            127.0,
+            UUID.randomUUID(),
+            now,
+            now,
+            "benchmark",
+            "benchmark"
+          });
+    }
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO p_hub (id, name, street_address, detail_address, latitude, longitude,"
+            + " manager_id, created_at, updated_at, created_by, updated_by)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+        rows);
+  }
+
+  @AfterAll
+  void deleteHubs() {
+    jdbcTemplate.update("DELETE FROM p_hub WHERE name LIKE ?", MARKER + "%");
+  }
+
+  @Test
+  void compareEntityAndProjection() {
+    Result entities =
+        measure(() -> hubRepository.findAllByDeletedAtIsNull().stream().map(HubSummary::from));
+    Result projections = measure(() -> hubRepository.findAllActiveSummaries().stream());
+
+    System.out.printf(
+        "hubs=%d entity: avg=%,dus allocated=%,dB managed=%d | projection: avg=%,dus"
+            + " allocated=%,dB managed=%d%n",
+        HUB_COUNT,
+        entities.elapsedMicros(),
+        entities.allocatedBytes(),
+        entities.managedEntities(),
+        projections.elapsedMicros(),
+        projections.allocatedBytes(),
+        projections.managedEntities());
+
+    assertThat(entities.managedEntities()).isGreaterThanOrEqualTo(HUB_COUNT);
+    assertThat(projections.managedEntities()).isZero();
+  }
+
+  /**
+   * 읽기 전용 트랜잭션에서 허브 목록을 조회해 응답 형태로 변환하는 데 걸린 평균 시간과 할당량을 측정한다.
+   *
+   * @param listing 허브 목록 조회
+   */
+  private Result measure(Supplier<Stream<HubSummary>> listing) {
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().threadId();
+
+    readOnlyTransaction.execute(status -> listing.get().toList()); // 워밍업
+
+    long managed = 0;
+    long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+    long startedAt = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      managed =
+          readOnlyTransaction.execute(
+              status -> {
+                List<HubSummary> hubs = listing.get().toList();
+                assertThat(hubs).hasSizeGreaterThanOrEqualTo(HUB_COUNT);
+                return (long)
+                    entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+              });
+    }
+    long elapsedMicros = (System.nanoTime() - startedAt) / 1_000 / ITERATIONS;
+    long allocatedBytes =
+        (threads.getThreadAllocatedBytes(threadId) - allocatedBefore) / ITERATIONS;
+
+    return new Result(elapsedMicros, allocatedBytes, managed);
+  }
+
+  private record Result(long elapsedMicros, long allocatedBytes, long managedEntities) {}
+}
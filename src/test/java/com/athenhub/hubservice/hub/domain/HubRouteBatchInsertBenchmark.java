@@ -0,0 +1,100 @@
+package com.athenhub.hubservice.hub.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.hubservice.hub.domain.vo.HubId;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@link HubRoute} 10,000건 저장 시 JDBC 배치 적용 여부에 따른 문장 수와 소요 시간 비교.
+ *
+ * <p>{@code ./gradlew benchmark}로 실행한다. 배치를 끈 경우({@code jdbcBatchSize = 1})는 IDENTITY 전략처럼 행마다
+ * INSERT를 한 번씩 실행하는 상황에 해당하며, 시퀀스 조회 횟수는 두 경우 모두 pooled optimizer에 의해 {@code allocationSize}마다 한
+ * 번이다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class HubRouteBatchInsertBenchmark {
+
+  private static final int ROUTE_COUNT = 10_000;
+
+  private final HubRouteRepository hubRouteRepository;
+  private final EntityManager entityManager;
+  private final Statistics statistics;
+  private final TransactionTemplate transactionTemplate;
+
+  HubRouteBatchInsertBenchmark(
+      HubRouteRepository hubRouteRepository,
+      EntityManager entityManager,
+      EntityManagerFactory entityManagerFactory,
+      PlatformTransactionManager transactionManager) {
+    this.hubRouteRepository = hubRouteRepository;
+    this.entityManager = entityManager;
+    this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @Test
+  void compareRoundTrips() {
+    insert(1); // 워밍업
+
+    Result unbatched = insert(1);
+    Result batched = insert(null);
+
+    System.out.printf(
+        "routes=%d unbatched: statements=%,d elapsed=%,dms | batched: statements=%,d"
+            + " elapsed=%,dms%n",
+        ROUTE_COUNT,
+        unbatched.statements(),
+        unbatched.elapsedMillis(),
+        batched.statements(),
+        batched.elapsedMillis());
+
+    assertThat(unbatched.statements()).isGreaterThanOrEqualTo(ROUTE_COUNT);
+    assertThat(batched.statements()).isLessThan(ROUTE_COUNT / 10);
+  }
+
+  /**
+   * 경로를 한 트랜잭션에서 저장하고 실행된 JDBC 문장 수를 측정한다.
+   *
+   * @param jdbcBatchSize 세션 배치 크기, {@code null}이면 설정값 사용
+   */
+  private Result insert(Integer jdbcBatchSize) {
+    List<HubRoute> routes = createRoutes();
+    statistics.clear();
+
+    long startedAt = System.nanoTime();
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+          hubRouteRepository.saveAll(routes);
+        });
+    long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+    assertThat(statistics.getEntityInsertCount()).isEqualTo(ROUTE_COUNT);
+    return new Result(statistics.getPrepareStatementCount(), elapsedMillis);
+  }
+
+  private List<HubRoute> createRoutes() {
+    HubId source = HubId.of(UUID.randomUUID());
+    List<HubRoute> routes = new ArrayList<>(ROUTE_COUNT);
+    for (int i = 0; i < ROUTE_COUNT; i++) {
+      routes.add(HubRoute.create(source, HubId.of(UUID.randomUUID()), i * 0.5, i));
+    }
+    return routes;
+  }
+
+  private record Result(long statements, long elapsedMillis) {}
+}
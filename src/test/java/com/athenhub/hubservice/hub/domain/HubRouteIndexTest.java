@@ -0,0 +1,84 @@
+package com.athenhub.hubservice.hub.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.athenhub.hubservice.hub.domain.vo.HubId;
+import java.sql.DatabaseMetaData;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 허브 경로 조회 쿼리가 활성 경로 인덱스를 사용하는지 실행 계획으로 검증한다.
+ *
+ * <p>직접 작성한 SQL이 아니라 Hibernate가 리포지토리 메서드에 대해 실제로 생성한 SQL을 {@link StatementInspector}로 가로채 실행 계획을
+ * 확인한다. 출발/도착 허브 OR 조건은 PostgreSQL에서 두 부분 인덱스의 BitmapOr로 처리되어야 한다. H2는 부분 인덱스가 없고 서로 다른 컬럼의 OR
+ * 조건에 인덱스를 사용하지 않으므로 PostgreSQL에서만 검증한다. PostgreSQL은 행 수가 적으면 순차 탐색을 선택하므로 순차 탐색을 끄고 확인한다.
+ */
+@SpringBootTest(
+    properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "com.athenhub.hubservice.hub.domain.HubRouteIndexTest$CapturingStatementInspector")
+@Transactional
+class HubRouteIndexTest {
+
+  private final HubRouteRepository hubRouteRepository;
+  private final JdbcTemplate jdbcTemplate;
+
+  HubRouteIndexTest(HubRouteRepository hubRouteRepository, JdbcTemplate jdbcTemplate) {
+    this.hubRouteRepository = hubRouteRepository;
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Test
+  void activeSummariesByHubIdUsesSourceAndTargetIndexes() {
+    assumeTrue(isPostgreSql(), "부분 인덱스는 PostgreSQL에서만 생성된다.");
+    UUID hubId = UUID.randomUUID();
+
+    CapturingStatementInspector.STATEMENTS.clear();
+    hubRouteRepository.findAllActiveSummariesByHubId(HubId.of(hubId));
+    String sql = CapturingStatementInspector.STATEMENTS.getLast();
+
+    assertThat(explain(sql, hubId))
+        .containsIgnoringCase("idx_hub_route_source_active")
+        .containsIgnoringCase("idx_hub_route_target_active");
+  }
+
+  private String explain(String sql, UUID hubId) {
+    jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    // 출발/도착 허브 조건에 같은 허브 식별자가 바인딩된다.
+    Object[] parameters = {hubId, hubId};
+    List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters);
+    return String.join("\n", plan);
+  }
+
+  private boolean isPostgreSql() {
+    try {
+      String product =
+          JdbcUtils.extractDatabaseMetaData(
+              jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName);
+      return product.toLowerCase().contains("postgresql");
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  /** Hibernate가 실행하는 SQL을 기록하는 {@link StatementInspector}. */
+  public static class CapturingStatementInspector implements StatementInspector {
+
+    static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+      STATEMENTS.add(sql);
+      return sql;
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package com.athenhub.hubservice.hub.domain.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.athenhub.hubservice.hub.domain.HubRoute;
+import com.athenhub.hubservice.hub.domain.dto.HubRouteSummary;
+import com.athenhub.hubservice.hub.domain.vo.HubId;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class HubRouteUpdatedTest {
+
+  UUID requestId = UUID.randomUUID();
+
+  @Test
+  void chunksReturnsSameEventWhenWithinLimit() {
+    HubRouteUpdated event = HubRouteUpdated.of(requestId, 7, deltas(2), deltas(1));
+
+    assertThat(event.chunks(3)).containsExactly(event);
+    assertThat(event.affectedRoutes()).isEqualTo(3);
+    assertThat(event.chunk()).isZero();
+    assertThat(event.chunkCount()).isEqualTo(1);
+  }
+
+  @Test
+  void chunksSplitsInsertedThenDeactivatedRoutes() {
+    List<HubRouteDelta> inserted = deltas(3);
+    List<HubRouteDelta> deactivated = deltas(2);
+    HubRouteUpdated event = HubRouteUpdated.of(requestId, 7, inserted, deactivated);
+
+    List<HubRouteUpdated> chunks = event.chunks(2);
+
+    assertThat(chunks).hasSize(3);
+    assertThat(chunks)
+        .allSatisfy(
+            chunk -> {
+              assertThat(chunk.requestId()).isEqualTo(requestId);
+              assertThat(chunk.version()).isEqualTo(7);
+              assertThat(chunk.affectedRoutes()).isEqualTo(5);
+              assertThat(chunk.chunkCount()).isEqualTo(3);
+            });
+    assertThat(chunks).extracting(HubRouteUpdated::chunk).containsExactly(0, 1, 2);
+    assertThat(chunks.get(0).inserted()).isEqualTo(inserted.subList(0, 2));
+    assertThat(chunks.get(0).deactivated()).isEmpty();
+    assertThat(chunks.get(1).inserted()).containsExactly(inserted.get(2));
+    assertThat(chunks.get(1).deactivated()).containsExactly(deactivated.get(0));
+    assertThat(chunks.get(2).inserted()).isEmpty();
+    assertThat(chunks.get(2).deactivated()).containsExactly(deactivated.get(1));
+  }
+
+  @Test
+  void chunksReturnsSameEventWhenNoRoutesChanged() {
+    HubRouteUpdated event = HubRouteUpdated.of(requestId, 7, List.of(), List.of());
+
+    assertThat(event.chunks(1)).containsExactly(event);
+  }
+
+  @Test
+  void chunksRejectsNonPositiveSize() {
+    HubRouteUpdated event = HubRouteUpdated.of(requestId, 7, deltas(1), List.of());
+
+    assertThatThrownBy(() -> event.chunks(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void deltaCarriesProvisionalFlag() {
+    HubRoute provisional =
+        HubRoute.createProvisional(
+            HubId.of(UUID.randomUUID()), HubId.of(UUID.randomUUID()), 8.0, 12);
+    HubRouteSummary confirmed =
+        new HubRouteSummary(UUID.randomUUID(), UUID.randomUUID(), 10.0, 15, false);
+
+    assertThat(HubRouteDelta.from(provisional).provisional()).isTrue();
+    assertThat(HubRouteDelta.from(confirmed).provisional()).isFalse();
+  }
+
+  @Test
+  void changesConfirmedRoutesIgnoresProvisionalOnlyChanges() {
+    HubRouteDelta provisional =
+        new HubRouteDelta(UUID.randomUUID(), UUID.randomUUID(), 8.0, 12, true);
+
+    assertThat(HubRouteUpdated.of(requestId, 7, List.of(provisional), List.of(provisional)))
+        .returns(false, HubRouteUpdated::changesConfirmedRoutes);
+    assertThat(HubRouteUpdated.of(requestId, 7, deltas(1), List.of()))
+        .returns(true, HubRouteUpdated::changesConfirmedRoutes);
+    assertThat(HubRouteUpdated.of(requestId, 7, List.of(), deltas(1)))
+        .returns(true, HubRouteUpdated::changesConfirmedRoutes);
+  }
+
+  private List<HubRouteDelta> deltas(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(
+            i -> new HubRouteDelta(UUID.randomUUID(), UUID.randomUUID(), 10.0 + i, 15 + i, false))
+        .toList();
+  }
+}
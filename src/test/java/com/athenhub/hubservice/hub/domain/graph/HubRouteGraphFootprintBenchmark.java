@@ -0,0 +1,84 @@
+package com.athenhub.hubservice.hub.domain.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.hubservice.hub.domain.HubRoute;
+import com.athenhub.hubservice.hub.domain.vo.HubId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link HubRoute} 엔티티 목록과 CSR 기반 {@link HubRouteGraph}의 힙 사용량 비교.
+ *
+ * <p>{@code ./gradlew benchmark}로 실행한다. 엔티티 목록은 감사(audit) 필드와 영속성 컨텍스트 스냅샷이 비어 있는 상태로 측정하므로, 실제 조회된
+ * 엔티티 대비 하한값에 해당한다.
+ */
+@Tag("benchmark")
+class HubRouteGraphFootprintBenchmark {
+
+  private static final int HUB_COUNT = 500;
+
+  @Test
+  void compareFootprint() {
+    long baseline = usedMemory();
+    List<HubRoute> routes = createRoutes();
+    int edgeCount = routes.size();
+    long entityBytes = usedMemory() - baseline;
+
+    HubRouteGraph graph = HubRouteGraph.from(routes);
+    routes = null;
+    long graphBytes = usedMemory() - baseline;
+
+    System.out.printf(
+        "hubs=%d edges=%d entityList=%,d bytes (%.1f B/edge) graph=%,d bytes (%.1f B/edge),"
+            + " csrArrays=%,d bytes%n",
+        HUB_COUNT,
+        edgeCount,
+        entityBytes,
+        (double) entityBytes / edgeCount,
+        graphBytes,
+        (double) graphBytes / edgeCount,
+        graph.footprintBytes());
+
+    assertThat(graph.edgeCount()).isEqualTo(edgeCount);
+    assertThat(graph.footprintBytes()).isLessThan(entityBytes / 5);
+  }
+
+  private List<HubRoute> createRoutes() {
+    List<UUID> hubIds = new ArrayList<>(HUB_COUNT);
+    for (int i = 0; i < HUB_COUNT; i++) {
+      hubIds.add(UUID.randomUUID());
+    }
+
+    List<HubRoute> routes = new ArrayList<>(HUB_COUNT * (HUB_COUNT - 1));
+    for (UUID source : hubIds) {
+      for (UUID target : hubIds) {
+        if (!source.equals(target)) {
+          // 데이터베이스에서 조회한 엔티티처럼 행마다 별도의 식별자 인스턴스를 가진다.
+          routes.add(
+              HubRoute.create(
+                  HubId.of(copyOf(source)),
+                  HubId.of(copyOf(target)),
+                  Math.random() * 400,
+                  (int) (Math.random() * 300)));
+        }
+      }
+    }
+    return routes;
+  }
+
+  private static UUID copyOf(UUID id) {
+    return new UUID(id.getMostSignificantBits(), id.getLeastSignificantBits());
+  }
+
+  private static long usedMemory() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
@@ -0,0 +1,128 @@
+package com.athenhub.hubservice.hub.domain.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.hubservice.hub.domain.HubRoute;
+import com.athenhub.hubservice.hub.domain.vo.HubId;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HubRouteGraphTest {
+
+  HubId seoul = HubId.of(UUID.randomUUID());
+  HubId daejeon = HubId.of(UUID.randomUUID());
+  HubId daegu = HubId.of(UUID.randomUUID());
+  HubId busan = HubId.of(UUID.randomUUID());
+
+  HubRouteGraph graph;
+
+  @BeforeEach
+  void setUp() {
+    graph =
+        HubRouteGraph.from(
+            List.of(
+                HubRoute.create(seoul, daejeon, 150.0, 100),
+                HubRoute.create(daejeon, daegu, 120.0, 80),
+                HubRoute.create(daegu, busan, 90.0, 60),
+                HubRoute.create(seoul, busan, 320.0, 300),
+                HubRoute.create(daejeon, busan, 200.0, 250)));
+  }
+
+  @Test
+  void from() {
+    assertThat(graph.hubCount()).isEqualTo(4);
+    assertThat(graph.edgeCount()).isEqualTo(5);
+  }
+
+  @Test
+  void outgoing() {
+    List<HubRouteEdge> edges = graph.outgoing(daejeon);
+
+    assertThat(edges)
+        .containsExactlyInAnyOrder(
+            new HubRouteEdge(daejeon, daegu, 120.0, 80),
+            new HubRouteEdge(daejeon, busan, 200.0, 250));
+    assertThat(graph.outgoing(busan)).isEmpty();
+    assertThat(graph.outgoing(HubId.of(UUID.randomUUID()))).isEmpty();
+  }
+
+  @Test
+  void edgesKeepDistancePrecision() {
+    HubRouteGraph graph = HubRouteGraph.from(List.of(HubRoute.create(seoul, busan, 36.237, 35)));
+
+    assertThat(graph.edges()).containsExactly(new HubRouteEdge(seoul, busan, 36.237, 35));
+  }
+
+  @Test
+  void edgesKeepProvisionalFlag() {
+    HubRouteGraph graph =
+        HubRouteGraph.from(
+            List.of(
+                HubRoute.createProvisional(seoul, busan, 400.0, 320),
+                HubRoute.create(busan, seoul, 330.0, 250)));
+
+    assertThat(graph.outgoing(seoul))
+        .containsExactly(new HubRouteEdge(seoul, busan, 400.0, 320, true));
+    assertThat(graph.outgoing(busan))
+        .containsExactly(new HubRouteEdge(busan, seoul, 330.0, 250, false));
+  }
+
+  @Test
+  void findShortestPathByDuration() {
+    HubRoutePath path = graph.findShortestPath(seoul, busan, RouteMetric.DURATION).orElseThrow();
+
+    assertThat(path.hubIds()).containsExactly(seoul, daejeon, daegu, busan);
+    assertThat(path.totalDurationMinutes()).isEqualTo(240);
+    assertThat(path.totalDistanceKm()).isEqualTo(360.0);
+  }
+
+  @Test
+  void findShortestPathByDistance() {
+    HubRoutePath path = graph.findShortestPath(seoul, busan, RouteMetric.DISTANCE).orElseThrow();
+
+    assertThat(path.hubIds()).containsExactly(seoul, busan);
+    assertThat(path.totalDistanceKm()).isEqualTo(320.0);
+  }
+
+  @Test
+  void findShortestPathToSelf() {
+    HubRoutePath path = graph.findShortestPath(seoul, seoul, RouteMetric.DURATION).orElseThrow();
+
+    assertThat(path.legs()).isEmpty();
+    assertThat(path.hubIds()).containsExactly(seoul);
+  }
+
+  @Test
+  void findShortestPathWhenUnreachable() {
+    Optional<HubRoutePath> path = graph.findShortestPath(busan, seoul, RouteMetric.DURATION);
+
+    assertThat(path).isEmpty();
+  }
+
+  @Test
+  void findShortestPathWhenHubNotInGraph() {
+    Optional<HubRoutePath> path =
+        graph.findShortestPath(seoul, HubId.of(UUID.randomUUID()), RouteMetric.DISTANCE);
+
+    assertThat(path).isEmpty();
+  }
+
+  @Test
+  void toMatrix() {
+    HubRouteMatrix matrix = graph.toMatrix();
+    int seoulIndex = graph.registry().indexOf(seoul);
+    int busanIndex = graph.registry().indexOf(busan);
+
+    assertThat(matrix.hubCount()).isEqualTo(4);
+    assertThat(matrix.hubIdAt(seoulIndex)).isEqualTo(seoul);
+    assertThat(matrix.distanceKm(seoulIndex, busanIndex)).isEqualTo(320.0f);
+    assertThat(matrix.durationMinutes(seoulIndex, busanIndex)).isEqualTo(300);
+    assertThat(matrix.distanceKm(busanIndex, seoulIndex)).isEqualTo(HubRouteMatrix.NO_ROUTE);
+    assertThat(matrix.durationMinutes(busanIndex, seoulIndex)).isEqualTo(HubRouteMatrix.NO_ROUTE);
+    assertThat(matrix.durationMinutes(seoulIndex, seoulIndex)).isZero();
+    assertThat(matrix.distances()).hasSize(16);
+  }
+}
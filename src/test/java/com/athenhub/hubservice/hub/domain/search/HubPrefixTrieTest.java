@@ -0,0 +1,84 @@
+package com.athenhub.hubservice.hub.domain.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HubPrefixTrieTest {
+
+  HubPrefixTrie trie;
+
+  UUID seoul = UUID.randomUUID();
+  UUID seocho = UUID.randomUUID();
+  UUID busan = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    trie = new HubPrefixTrie();
+    trie.put(seoul, List.of("서울특별시 센터", "서울특별시 송파구 송파대로 55"));
+    trie.put(seocho, List.of("서초 센터", "서울특별시 서초구 반포대로 58"));
+    trie.put(busan, List.of("Busan center", "부산 동구 중앙대로 206"));
+  }
+
+  @Test
+  void findByPrefixMatchesSharedAndSplitPrefixes() {
+    assertThat(trie.findByPrefix("서")).containsExactlyInAnyOrder(seoul, seocho);
+    assertThat(trie.findByPrefix("서울특별시")).containsExactlyInAnyOrder(seoul, seocho);
+    assertThat(trie.findByPrefix("서초")).containsExactly(seocho);
+    assertThat(trie.findByPrefix("서울특별시 송")).containsExactly(seoul);
+  }
+
+  @Test
+  void findByPrefixMatchesWordsInsideText() {
+    assertThat(trie.findByPrefix("송파")).containsExactly(seoul);
+    assertThat(trie.findByPrefix("센터")).containsExactlyInAnyOrder(seoul, seocho);
+    assertThat(trie.findByPrefix("대로")).isEmpty();
+  }
+
+  @Test
+  void findByPrefixIgnoresCase() {
+    assertThat(trie.findByPrefix("bus")).containsExactly(busan);
+    assertThat(trie.findByPrefix("CENTER")).containsExactly(busan);
+  }
+
+  @Test
+  void findByPrefixReturnsEmptyForUnknownOrBlankPrefix() {
+    assertThat(trie.findByPrefix("인천")).isEmpty();
+    assertThat(trie.findByPrefix("서울특별시 센터 1층")).isEmpty();
+    assertThat(trie.findByPrefix(" ")).isEmpty();
+  }
+
+  @Test
+  void putReplacesPreviousKeys() {
+    trie.put(seocho, List.of("강남 센터"));
+
+    assertThat(trie.findByPrefix("서초")).isEmpty();
+    assertThat(trie.findByPrefix("서울특별시")).containsExactly(seoul);
+    assertThat(trie.findByPrefix("강남")).containsExactly(seocho);
+    assertThat(trie.size()).isEqualTo(3);
+  }
+
+  @Test
+  void removeKeepsRemainingKeysReachable() {
+    trie.remove(seoul);
+
+    assertThat(trie.findByPrefix("송파")).isEmpty();
+    assertThat(trie.findByPrefix("서")).containsExactly(seocho);
+    assertThat(trie.findByPrefix("서울특별시 서초구")).containsExactly(seocho);
+    assertThat(trie.size()).isEqualTo(2);
+
+    trie.put(seoul, List.of("서울 센터"));
+    assertThat(trie.findByPrefix("서울")).containsExactlyInAnyOrder(seoul, seocho);
+  }
+
+  @Test
+  void putIgnoresMissingText() {
+    trie.put(busan, Arrays.asList("부산 센터", null));
+
+    assertThat(trie.findByPrefix("부산")).containsExactly(busan);
+  }
+}
@@ -0,0 +1,145 @@
+package com.athenhub.hubservice.hub.domain.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.athenhub.hubservice.hub.domain.dto.HubSummary;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort.Direction;
+
+class HubSearchIndexTest {
+
+  HubSearchIndex index;
+
+  HubSummary seoul = hub("서울특별시 센터", "서울특별시 송파구 송파대로 55", "A동");
+  HubSummary incheon = hub("인천광역시 센터", "인천 남동구 정각로 29", "1층");
+  HubSummary busan = hub("부산광역시 센터", "부산 동구 중앙대로 206", "b동");
+
+  @BeforeEach
+  void setUp() {
+    index = new HubSearchIndex();
+    index.replaceAll(List.of(seoul, incheon, busan));
+  }
+
+  @Test
+  void searchMatchesNameAndAddresses() {
+    assertThat(search("광역시")).containsExactlyInAnyOrder(incheon, busan);
+    assertThat(search("송파대로")).containsExactly(seoul);
+    assertThat(search("1층")).containsExactly(incheon);
+  }
+
+  @Test
+  void searchMatchesSingleCharacterAndIgnoresCase() {
+    assertThat(search("B")).containsExactly(busan);
+    assertThat(search("a")).containsExactly(seoul);
+    assertThat(search("울")).containsExactly(seoul);
+  }
+
+  @Test
+  void searchRequiresContiguousMatch() {
+    assertThat(search("서울센터")).isEmpty();
+    assertThat(search("없는 허브")).isEmpty();
+  }
+
+  @Test
+  void searchMatchesChosung() {
+    assertThat(search("ㅅㅇ")).containsExactly(seoul);
+    assertThat(search("ㄱㅇㅅ ㅅㅌ")).containsExactlyInAnyOrder(incheon, busan);
+    assertThat(search("ㅈㄱㄹ")).containsExactly(incheon);
+  }
+
+  @Test
+  void putReplacesPreviousPostings() {
+    HubSummary renamed =
+        new HubSummary(
+            seoul.hubId(),
+            "수원 센터",
+            "경기도 수원시",
+            null,
+            seoul.latitude(),
+            seoul.longitude(),
+            seoul.managerId(),
+            seoul.createdAt(),
+            null);
+
+    index.put(renamed);
+
+    assertThat(search("서울")).isEmpty();
+    assertThat(search("ㅅㅇ")).containsExactly(renamed);
+    assertThat(index.size()).isEqualTo(3);
+  }
+
+  @Test
+  void searchExcludesDeletedUnlessRequested() {
+    HubSummary deleted =
+        new HubSummary(
+            busan.hubId(),
+            busan.name(),
+            busan.streetAddress(),
+            busan.detailAddress(),
+            busan.latitude(),
+            busan.longitude(),
+            busan.managerId(),
+            busan.createdAt(),
+            LocalDateTime.now());
+    index.put(deleted);
+
+    assertThat(index.search("광역시", false, Pageable.unpaged()).getContent())
+        .containsExactly(incheon);
+    assertThat(index.search("광역시", true, Pageable.unpaged()).getContent())
+        .containsExactlyInAnyOrder(incheon, deleted);
+  }
+
+  @Test
+  void removeDropsHub() {
+    index.remove(incheon.hubId());
+
+    assertThat(search("인천")).isEmpty();
+    assertThat(index.size()).isEqualTo(2);
+  }
+
+  @Test
+  void searchSortsAndPages() {
+    Page<HubSummary> page =
+        index.search(null, false, PageRequest.of(1, 1, Direction.DESC, "name"));
+
+    assertThat(page.getContent()).containsExactly(seoul);
+    assertThat(page.getTotalElements()).isEqualTo(3);
+    assertThat(page.getTotalPages()).isEqualTo(3);
+
+    assertThat(index.search(null, false, PageRequest.of(0, 10)).getContent())
+        .containsExactly(busan, seoul, incheon);
+    assertThat(index.search(null, false, PageRequest.of(5, 10)).getContent()).isEmpty();
+  }
+
+  @Test
+  void searchRejectsUnknownSortProperty() {
+    assertThatThrownBy(
+            () -> index.search(null, false, PageRequest.of(0, 10, Direction.ASC, "managerId")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private List<HubSummary> search(String keyword) {
+    return index.search(keyword, true, Pageable.unpaged()).getContent();
+  }
+
+  private static HubSummary hub(String name, String streetAddress, String detailAddress) {
+    return new HubSummary(
+        UUID.randomUUID(),
+        name,
+        streetAddress,
+        detailAddress,
+        37.0,
+        127.0,
+        UUID.randomUUID(),
+        LocalDateTime.now(),
+        null);
+  }
+}
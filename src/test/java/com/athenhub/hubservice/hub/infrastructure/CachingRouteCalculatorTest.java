@@ -0,0 +1,159 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.athenhub.hubservice.hub.domain.dto.RouteResponse;
+import com.athenhub.hubservice.hub.domain.service.RouteCalculator;
+import com.athenhub.hubservice.hub.domain.vo.Coordinate;
+import com.athenhub.hubservice.hub.infrastructure.cache.RouteCacheEntry;
+import com.athenhub.hubservice.hub.infrastructure.cache.RouteCacheEntryRepository;
+import com.athenhub.hubservice.hub.infrastructure.cache.RouteCacheKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingRouteCalculatorTest {
+
+  Coordinate seoul = Coordinate.of(37.5665, 126.9780);
+  Coordinate busan = Coordinate.of(35.1796, 129.0756);
+
+  RouteCacheEntryRepository repository;
+  SimpleMeterRegistry meterRegistry;
+  AtomicInteger remoteCalls;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(RouteCacheEntryRepository.class);
+    given(repository.findById(anyString())).willReturn(Optional.empty());
+    meterRegistry = new SimpleMeterRegistry();
+    remoteCalls = new AtomicInteger();
+  }
+
+  @Test
+  void getRouteServesRepeatedCallsFromMemory() {
+    CachingRouteCalculator calculator = calculator(remote(), Duration.ofDays(1));
+
+    RouteResponse first = calculator.getRoute(seoul, busan);
+    RouteResponse second = calculator.getRoute(seoul, busan);
+
+    assertThat(second).isEqualTo(first);
+    assertThat(remoteCalls).hasValue(1);
+    verify(repository).save(any(RouteCacheEntry.class));
+    assertThat(count("memory", "hit")).isEqualTo(1);
+    assertThat(count("memory", "miss")).isEqualTo(1);
+  }
+
+  @Test
+  void getRouteSnapsCoordinatesToGrid() {
+    CachingRouteCalculator calculator = calculator(remote(), Duration.ofDays(1));
+
+    calculator.getRoute(seoul, busan);
+    calculator.getRoute(Coordinate.of(37.56652, 126.97801), busan);
+
+    assertThat(remoteCalls).hasValue(1);
+  }
+
+  @Test
+  void getRouteServesFreshDatabaseEntry() {
+    given(repository.findById(anyString()))
+        .willReturn(Optional.of(entry(new RouteResponse(400.0, 300), LocalDateTime.now())));
+    CachingRouteCalculator calculator = calculator(remote(), Duration.ofDays(1));
+
+    RouteResponse route = calculator.getRoute(seoul, busan);
+
+    assertThat(route).isEqualTo(new RouteResponse(400.0, 300));
+    assertThat(remoteCalls).hasValue(0);
+    assertThat(count("database", "hit")).isEqualTo(1);
+  }
+
+  @Test
+  void getRouteRefreshesExpiredEntry() {
+    given(repository.findById(anyString()))
+        .willReturn(
+            Optional.of(
+                entry(new RouteResponse(400.0, 300), LocalDateTime.now().minusDays(2))));
+    CachingRouteCalculator calculator = calculator(remote(), Duration.ofDays(1));
+
+    RouteResponse route = calculator.getRoute(seoul, busan);
+
+    assertThat(route).isEqualTo(new RouteResponse(325.0, 240));
+    assertThat(remoteCalls).hasValue(1);
+    assertThat(refreshes("success")).isEqualTo(1);
+  }
+
+  @Test
+  void getRouteReturnsStaleEntryWhenRefreshFails() {
+    given(repository.findById(anyString()))
+        .willReturn(
+            Optional.of(
+                entry(new RouteResponse(400.0, 300), LocalDateTime.now().minusDays(2))));
+    RouteCalculator failing =
+        (source, target) -> {
+          throw new IllegalStateException("quota exceeded");
+        };
+    CachingRouteCalculator calculator = calculator(failing, Duration.ofDays(1));
+
+    RouteResponse route = calculator.getRoute(seoul, busan);
+
+    assertThat(route).isEqualTo(new RouteResponse(400.0, 300));
+    verify(repository, never()).save(any(RouteCacheEntry.class));
+    assertThat(refreshes("failure")).isEqualTo(1);
+  }
+
+  @Test
+  void getRouteDoesNotCacheMissingRoute() {
+    CachingRouteCalculator calculator =
+        calculator(
+            (source, target) -> {
+              remoteCalls.incrementAndGet();
+              return new RouteResponse(null, null);
+            },
+            Duration.ofDays(1));
+
+    calculator.getRoute(seoul, busan);
+    calculator.getRoute(seoul, busan);
+
+    assertThat(remoteCalls).hasValue(2);
+    verify(repository, never()).save(any(RouteCacheEntry.class));
+  }
+
+  private RouteCalculator remote() {
+    return (source, target) -> {
+      remoteCalls.incrementAndGet();
+      return new RouteResponse(325.0, 240);
+    };
+  }
+
+  private RouteCacheEntry entry(RouteResponse route, LocalDateTime fetchedAt) {
+    return RouteCacheEntry.of(RouteCacheKey.of(seoul, busan, 0.0001), route, fetchedAt);
+  }
+
+  private double count(String tier, String result) {
+    return meterRegistry
+        .get("route.cache.requests")
+        .tag("tier", tier)
+        .tag("result", result)
+        .counter()
+        .count();
+  }
+
+  private double refreshes(String result) {
+    return meterRegistry.get("route.cache.refreshes").tag("result", result).counter().count();
+  }
+
+  private CachingRouteCalculator calculator(RouteCalculator delegate, Duration ttl) {
+    RouteCacheProperties properties = new RouteCacheProperties();
+    properties.setTtl(ttl);
+    return new CachingRouteCalculator(delegate, repository, properties, meterRegistry);
+  }
+}
@@ -0,0 +1,88 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.athenhub.hubservice.hub.domain.dto.RouteQuery;
+import com.athenhub.hubservice.hub.domain.dto.RouteResponse;
+import com.athenhub.hubservice.hub.domain.service.RouteCalculator;
+import com.athenhub.hubservice.hub.domain.vo.Coordinate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentRouteCalculatorTest {
+
+  @Test
+  void getRoutesKeepsRequestOrder() {
+    RouteCalculator routeCalculator =
+        (source, target) ->
+            new RouteResponse(target.getLatitude(), target.getLatitude().intValue());
+    ConcurrentRouteCalculator calculator =
+        new ConcurrentRouteCalculator(routeCalculator, properties(4, 1000, 1000));
+
+    List<RouteQuery> queries =
+        IntStream.range(0, 50)
+            .mapToObj(i -> RouteQuery.of(Coordinate.of(0.0, 0.0), Coordinate.of((double) i, 0.0)))
+            .toList();
+
+    List<RouteResponse> routes = calculator.getRoutes(queries);
+
+    assertThat(routes)
+        .containsExactlyElementsOf(
+            IntStream.range(0, 50).mapToObj(i -> new RouteResponse((double) i, i)).toList());
+  }
+
+  @Test
+  void getRoutesRespectsMaxInFlight() {
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxObserved = new AtomicInteger();
+    RouteCalculator routeCalculator =
+        (source, target) -> {
+          maxObserved.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+          try {
+            Thread.sleep(10);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          inFlight.decrementAndGet();
+          return new RouteResponse(1.0, 1);
+        };
+    ConcurrentRouteCalculator calculator =
+        new ConcurrentRouteCalculator(routeCalculator, properties(3, 1000, 1000));
+
+    calculator.getRoutes(queries(30));
+
+    assertThat(maxObserved.get()).isLessThanOrEqualTo(3);
+  }
+
+  @Test
+  void getRoutesPropagatesFailure() {
+    ConcurrentRouteCalculator calculator =
+        new ConcurrentRouteCalculator(
+            (source, target) -> {
+              throw new IllegalStateException("quota exceeded");
+            },
+            properties(2, 1000, 1000));
+
+    assertThatThrownBy(() -> calculator.getRoutes(queries(5)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("quota exceeded");
+  }
+
+  private List<RouteQuery> queries(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> RouteQuery.of(Coordinate.of(0.0, 0.0), Coordinate.of(1.0, 1.0)))
+        .toList();
+  }
+
+  private RouteComputationProperties properties(
+      int maxInFlight, double permitsPerSecond, int burst) {
+    RouteComputationProperties properties = new RouteComputationProperties();
+    properties.setMaxInFlight(maxInFlight);
+    properties.setPermitsPerSecond(permitsPerSecond);
+    properties.setBurst(burst);
+    return properties;
+  }
+}
@@ -0,0 +1,68 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.athenhub.hubservice.hub.domain.HubRouteRepository;
+import com.athenhub.hubservice.hub.domain.dto.RouteCalibrationSample;
+import com.athenhub.hubservice.hub.domain.dto.RouteResponse;
+import com.athenhub.hubservice.hub.domain.vo.Coordinate;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+class HaversineRouteCalculatorTest {
+
+  Coordinate seoul = Coordinate.of(37.5665, 126.9780);
+  Coordinate busan = Coordinate.of(35.1796, 129.0756);
+
+  HubRouteRepository hubRouteRepository;
+  HaversineRouteCalculator calculator;
+
+  @BeforeEach
+  void setUp() {
+    hubRouteRepository = mock(HubRouteRepository.class);
+    calculator = new HaversineRouteCalculator(hubRouteRepository, new ProvisionalRouteProperties());
+  }
+
+  @Test
+  void greatCircleKm() {
+    assertThat(HaversineRouteCalculator.greatCircleKm(seoul, busan)).isCloseTo(325.0, within(1.0));
+  }
+
+  @Test
+  void getRouteUsesDefaultModelWithoutSamples() {
+    given(hubRouteRepository.findCalibrationSamples(any(Limit.class))).willReturn(List.of());
+
+    RouteResponse route = calculator.getRoute(seoul, busan);
+
+    double expectedKm = HaversineRouteCalculator.greatCircleKm(seoul, busan) * 1.3;
+    assertThat(route.distanceKm()).isCloseTo(expectedKm, within(0.001));
+    assertThat(route.durationMinutes()).isEqualTo((int) Math.ceil(expectedKm));
+  }
+
+  @Test
+  void getRouteUsesCalibratedModel() {
+    double straightKm = HaversineRouteCalculator.greatCircleKm(seoul, busan);
+    RouteCalibrationSample sample =
+        new RouteCalibrationSample(
+            seoul.getLatitude(),
+            seoul.getLongitude(),
+            busan.getLatitude(),
+            busan.getLongitude(),
+            straightKm * 1.2,
+            (int) Math.round(straightKm * 1.2 / 80 * 60));
+    given(hubRouteRepository.findCalibrationSamples(any(Limit.class)))
+        .willReturn(Collections.nCopies(10, sample));
+
+    RouteResponse route = calculator.getRoute(busan, seoul);
+
+    assertThat(route.distanceKm()).isCloseTo(straightKm * 1.2, within(0.01));
+    assertThat(route.durationMinutes()).isCloseTo((int) (straightKm * 1.2 / 80 * 60), within(2));
+  }
+}
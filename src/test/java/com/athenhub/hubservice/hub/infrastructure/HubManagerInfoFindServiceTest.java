@@ -0,0 +1,160 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.hubservice.hub.domain.vo.HubManagerId;
+import com.athenhub.hubservice.hub.domain.vo.HubManagerInfo;
+import com.athenhub.hubservice.hub.infrastructure.dto.MemberInfo;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class HubManagerInfoFindServiceTest {
+
+  Map<UUID, AtomicInteger> calls;
+  AtomicInteger inFlight;
+  AtomicInteger maxInFlight;
+  MemberCacheProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    calls = new ConcurrentHashMap<>();
+    inFlight = new AtomicInteger();
+    maxInFlight = new AtomicInteger();
+    properties = new MemberCacheProperties();
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void findAllLoadsEachDistinctManagerOnce() {
+    HubManagerId first = HubManagerId.of(UUID.randomUUID());
+    HubManagerId second = HubManagerId.of(UUID.randomUUID());
+    HubManagerInfoFindService service = service(this::member);
+
+    Map<HubManagerId, HubManagerInfo> managers =
+        service.findAll(List.of(first, second, first, second, first));
+
+    assertThat(managers).containsOnlyKeys(first, second);
+    assertThat(managers.get(first).username()).isEqualTo(first.toString());
+    assertThat(calls).hasSize(2);
+    assertThat(calls.values()).allSatisfy(count -> assertThat(count).hasValue(1));
+  }
+
+  @Test
+  void findAllLimitsConcurrentLookups() {
+    properties.setMaxConcurrency(3);
+    List<HubManagerId> managerIds =
+        IntStream.range(0, 20).mapToObj(i -> HubManagerId.of(UUID.randomUUID())).toList();
+    HubManagerInfoFindService service =
+        service(
+            memberId -> {
+              sleep(20);
+              return member(memberId);
+            });
+
+    Map<HubManagerId, HubManagerInfo> managers = service.findAll(managerIds);
+
+    assertThat(managers).hasSize(20);
+    assertThat(maxInFlight.get()).isBetween(1, 3);
+  }
+
+  @Test
+  void findAllOmitsMissingAndFailedManagers() {
+    HubManagerId found = HubManagerId.of(UUID.randomUUID());
+    HubManagerId missing = HubManagerId.of(UUID.randomUUID());
+    HubManagerId failing = HubManagerId.of(UUID.randomUUID());
+    HubManagerInfoFindService service =
+        service(
+            memberId -> {
+              if (memberId.equals(missing.toUuid())) {
+                return Optional.empty();
+              }
+              if (memberId.equals(failing.toUuid())) {
+                throw new IllegalStateException("member-service unavailable");
+              }
+              return member(memberId);
+            });
+
+    Map<HubManagerId, HubManagerInfo> managers = service.findAll(List.of(found, missing, failing));
+
+    assertThat(managers).containsOnlyKeys(found);
+  }
+
+  @Test
+  void findAllPropagatesRequestAttributesToLookups() {
+    ServletRequestAttributes attributes =
+        new ServletRequestAttributes(new MockHttpServletRequest());
+    RequestContextHolder.setRequestAttributes(attributes);
+    List<Object> seen = new CopyOnWriteArrayList<>();
+    HubManagerInfoFindService service =
+        service(
+            memberId -> {
+              seen.add(RequestContextHolder.getRequestAttributes());
+              return member(memberId);
+            });
+
+    service.findAll(
+        List.of(HubManagerId.of(UUID.randomUUID()), HubManagerId.of(UUID.randomUUID())));
+
+    assertThat(seen).hasSize(2).containsOnly(attributes);
+  }
+
+  @Test
+  void findAllReturnsEmptyForNoManagers() {
+    HubManagerInfoFindService service = service(this::member);
+
+    assertThat(service.findAll(List.of())).isEmpty();
+    assertThat(calls).isEmpty();
+  }
+
+  private HubManagerInfoFindService service(MemberInfoLoader loader) {
+    MemberInfoLoader counting =
+        memberId -> {
+          calls.computeIfAbsent(memberId, id -> new AtomicInteger()).incrementAndGet();
+          maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+          try {
+            return loader.find(memberId);
+          } finally {
+            inFlight.decrementAndGet();
+          }
+        };
+    return new HubManagerInfoFindService(counting, properties);
+  }
+
+  private Optional<MemberInfo> member(UUID memberId) {
+    return Optional.of(
+        new MemberInfo(
+            memberId,
+            "허브 관리자",
+            memberId.toString(),
+            "managerSlackId",
+            MemberRole.HUB_MANAGER,
+            MemberStatus.ACTIVATED,
+            "서울 물류",
+            "HUB",
+            true));
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
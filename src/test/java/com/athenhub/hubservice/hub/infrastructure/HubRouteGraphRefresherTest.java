@@ -0,0 +1,64 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.athenhub.hubservice.hub.application.service.HubRouteGraphService;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HubRouteGraphRefresherTest {
+
+  private HubRouteGraphService hubRouteGraphService;
+  private HubRouteGraphRefresher refresher;
+
+  @BeforeEach
+  void setUp() {
+    hubRouteGraphService = mock(HubRouteGraphService.class);
+    RouteGraphProperties properties = new RouteGraphProperties();
+    properties.setRefreshDelay(Duration.ofMillis(100));
+    refresher = new HubRouteGraphRefresher(hubRouteGraphService, properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    refresher.shutdown();
+  }
+
+  @Test
+  void coalescesRequestsIntoOneRefreshOfLatestVersion() {
+    refresher.request(3);
+    refresher.request(5);
+    refresher.request(4);
+
+    verify(hubRouteGraphService, timeout(1000)).refreshIfBehind(5);
+    verify(hubRouteGraphService, after(300).times(1)).refreshIfBehind(anyLong());
+  }
+
+  @Test
+  void requestAfterRefreshSchedulesAnotherRefresh() {
+    refresher.request(3);
+    verify(hubRouteGraphService, timeout(1000)).refreshIfBehind(3);
+
+    refresher.request(4);
+    verify(hubRouteGraphService, timeout(1000)).refreshIfBehind(4);
+  }
+
+  @Test
+  void retriesFailedRefresh() {
+    when(hubRouteGraphService.refreshIfBehind(3))
+        .thenThrow(new IllegalStateException("db down"))
+        .thenReturn(true);
+
+    refresher.request(3);
+
+    verify(hubRouteGraphService, timeout(1000).times(2)).refreshIfBehind(3);
+  }
+}
@@ -0,0 +1,126 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.athenhub.hubservice.hub.application.service.HubRouteGraphService;
+import com.athenhub.hubservice.hub.domain.event.HubRouteDelta;
+import com.athenhub.hubservice.hub.domain.event.HubRouteUpdated;
+import com.rabbitmq.client.Channel;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.AsyncConsumerStartedEvent;
+import org.springframework.amqp.rabbit.listener.ListenerContainerConsumerFailedEvent;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareMessageListener;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest
+class HubRouteUpdateListenerTest {
+
+  private final RabbitListenerEndpointRegistry rabbitListenerEndpointRegistry;
+  private final RabbitTemplate rabbitTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @MockitoBean private HubRouteGraphService hubRouteGraphService;
+
+  HubRouteUpdateListenerTest(
+      RabbitListenerEndpointRegistry rabbitListenerEndpointRegistry,
+      RabbitTemplate rabbitTemplate,
+      ApplicationEventPublisher eventPublisher) {
+    this.rabbitListenerEndpointRegistry = rabbitListenerEndpointRegistry;
+    this.rabbitTemplate = rabbitTemplate;
+    this.eventPublisher = eventPublisher;
+  }
+
+  @BeforeEach
+  void setUp() {
+    // 기동 시 그래프 구성 호출은 검증 대상이 아니다.
+    clearInvocations(hubRouteGraphService);
+  }
+
+  @Test
+  void routeUpdatedMessageRefreshesGraph() throws Exception {
+    deliver(HubRouteUpdated.of(UUID.randomUUID(), 7, List.of(delta()), List.of()));
+
+    verify(hubRouteGraphService, timeout(1000)).refreshIfBehind(7);
+  }
+
+  @Test
+  void coalescesConsecutiveRouteUpdates() throws Exception {
+    deliver(HubRouteUpdated.of(UUID.randomUUID(), 7, List.of(delta()), List.of()));
+    deliver(HubRouteUpdated.of(UUID.randomUUID(), 8, List.of(delta()), List.of()));
+    deliver(HubRouteUpdated.of(UUID.randomUUID(), 9, List.of(delta()), List.of()));
+
+    verify(hubRouteGraphService, timeout(1000)).refreshIfBehind(9);
+    verify(hubRouteGraphService, never()).refreshIfBehind(7);
+    verify(hubRouteGraphService, never()).refreshIfBehind(8);
+  }
+
+  @Test
+  void refreshesGraphOnlyOnLastChunk() throws Exception {
+    List<HubRouteUpdated> chunks =
+        HubRouteUpdated.of(UUID.randomUUID(), 7, List.of(delta(), delta()), List.of()).chunks(1);
+
+    deliver(chunks.getFirst());
+    Thread.sleep(500);
+    verify(hubRouteGraphService, never()).refreshIfBehind(anyLong());
+
+    deliver(chunks.getLast());
+    verify(hubRouteGraphService, timeout(1000)).refreshIfBehind(7);
+  }
+
+  @Test
+  void consumerRecoveryRefreshesGraphOnce() {
+    Object container =
+        rabbitListenerEndpointRegistry.getListenerContainer("hubRouteUpdateListener");
+
+    eventPublisher.publishEvent(
+        new ListenerContainerConsumerFailedEvent(container, "connection lost", null, false));
+    eventPublisher.publishEvent(
+        new ListenerContainerConsumerFailedEvent(container, "connection lost", null, false));
+    verify(hubRouteGraphService, never()).refresh();
+
+    eventPublisher.publishEvent(new AsyncConsumerStartedEvent(container, new Object()));
+    eventPublisher.publishEvent(new AsyncConsumerStartedEvent(container, new Object()));
+    verify(hubRouteGraphService).refresh();
+  }
+
+  @Test
+  void otherContainerFailureDoesNotRefreshGraph() {
+    Object other = new Object();
+
+    eventPublisher.publishEvent(
+        new ListenerContainerConsumerFailedEvent(other, "connection lost", null, false));
+    eventPublisher.publishEvent(new AsyncConsumerStartedEvent(other, new Object()));
+
+    verify(hubRouteGraphService, never()).refresh();
+  }
+
+  /** 브로커가 경로 변경 Queue에 메시지를 전달한 것처럼 리스너 컨테이너에 메시지를 넘긴다. */
+  private void deliver(HubRouteUpdated event) throws Exception {
+    Message message =
+        rabbitTemplate.getMessageConverter().toMessage(event, new MessageProperties());
+    AbstractMessageListenerContainer container =
+        (AbstractMessageListenerContainer)
+            rabbitListenerEndpointRegistry.getListenerContainer("hubRouteUpdateListener");
+    ((ChannelAwareMessageListener) container.getMessageListener())
+        .onMessage(message, mock(Channel.class));
+  }
+
+  private HubRouteDelta delta() {
+    return new HubRouteDelta(UUID.randomUUID(), UUID.randomUUID(), 10.0, 15, false);
+  }
+}
@@ -0,0 +1,56 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.hubservice.hub.domain.HubRoute;
+import com.athenhub.hubservice.hub.domain.HubRouteRepository;
+import com.athenhub.hubservice.hub.domain.dto.HubRouteSummary;
+import com.athenhub.hubservice.hub.domain.vo.HubId;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = "route.stream.fetch-size=2")
+@Transactional
+class JdbcHubRouteStreamReaderTest {
+
+  private final JdbcHubRouteStreamReader reader;
+  private final HubRouteRepository hubRouteRepository;
+  private final EntityManager entityManager;
+
+  JdbcHubRouteStreamReaderTest(
+      JdbcHubRouteStreamReader reader,
+      HubRouteRepository hubRouteRepository,
+      EntityManager entityManager) {
+    this.reader = reader;
+    this.hubRouteRepository = hubRouteRepository;
+    this.entityManager = entityManager;
+  }
+
+  @Test
+  void readAllActiveSkipsDeletedRoutes() {
+    HubId source = HubId.of(UUID.randomUUID());
+    HubRoute confirmed = HubRoute.create(source, HubId.of(UUID.randomUUID()), 36.2, 35);
+    HubRoute provisional =
+        HubRoute.createProvisional(source, HubId.of(UUID.randomUUID()), 412.0, 330);
+    HubRoute deleted = HubRoute.create(source, HubId.of(UUID.randomUUID()), 10.0, 10);
+    deleted.delete("test");
+    hubRouteRepository.saveAll(List.of(confirmed, provisional, deleted));
+    entityManager.flush();
+
+    List<HubRouteSummary> routes = new ArrayList<>();
+    reader.readAllActive(routes::add);
+
+    assertThat(routes)
+        .filteredOn(route -> route.sourceHubId().equals(source.toUuid()))
+        .containsExactlyInAnyOrder(
+            new HubRouteSummary(
+                source.toUuid(), confirmed.getTargetHubId().toUuid(), 36.2, 35, false),
+            new HubRouteSummary(
+                source.toUuid(), provisional.getTargetHubId().toUuid(), 412.0, 330, true));
+  }
+}
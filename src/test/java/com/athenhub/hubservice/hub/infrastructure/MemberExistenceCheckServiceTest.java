@@ -5,11 +5,12 @@ import static org.mockito.Mockito.when;
 
 import com.athenhub.hubservice.hub.infrastructure.client.MemberServiceClient;
 import com.athenhub.hubservice.hub.infrastructure.dto.MemberInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -17,7 +18,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class MemberExistenceCheckServiceTest {
   @Mock MemberServiceClient memberServiceClient;
 
-  @InjectMocks MemberExistenceCheckService memberExistenceCheckService;
+  MemberExistenceCheckService memberExistenceCheckService;
+
+  @BeforeEach
+  void setUp() {
+    MemberInfoCache memberInfoCache =
+        new MemberInfoCache(
+            memberServiceClient, new MemberCacheProperties(), new SimpleMeterRegistry());
+    memberExistenceCheckService =
+        new MemberExistenceCheckService(
+            memberInfoCache, new RequesterClaimsResolver(new PermissionProperties()));
+  }
 
   @Test
   void memberExistsReturnTrue() {
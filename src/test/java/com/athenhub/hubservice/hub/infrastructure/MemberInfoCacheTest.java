@@ -0,0 +1,156 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.athenhub.hubservice.hub.infrastructure.client.MemberServiceClient;
+import com.athenhub.hubservice.hub.infrastructure.dto.MemberInfo;
+import feign.FeignException;
+import feign.Request;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MemberInfoCacheTest {
+
+  UUID memberId = UUID.randomUUID();
+  MemberInfo member =
+      new MemberInfo(
+          memberId,
+          "테스트 회원",
+          "testMember",
+          "testSlackId",
+          MemberRole.MASTER_MANAGER,
+          MemberStatus.ACTIVATED,
+          "서울 물류",
+          "HUB",
+          true);
+
+  MemberServiceClient memberServiceClient;
+  MemberCacheProperties properties;
+  SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    memberServiceClient = mock(MemberServiceClient.class);
+    properties = new MemberCacheProperties();
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  void findServesRepeatedCallsFromMemory() {
+    given(memberServiceClient.getMemberInfo(memberId)).willReturn(member);
+    MemberInfoCache cache = cache();
+
+    assertThat(cache.find(memberId)).contains(member);
+    assertThat(cache.find(memberId)).contains(member);
+
+    verify(memberServiceClient, times(1)).getMemberInfo(memberId);
+    assertThat(requests("hit")).isEqualTo(1);
+    assertThat(requests("miss")).isEqualTo(1);
+  }
+
+  @Test
+  void findReloadsExpiredMember() {
+    properties.setTtl(Duration.ZERO);
+    given(memberServiceClient.getMemberInfo(memberId)).willReturn(member);
+    MemberInfoCache cache = cache();
+
+    cache.find(memberId);
+    cache.find(memberId);
+
+    verify(memberServiceClient, times(2)).getMemberInfo(memberId);
+  }
+
+  @Test
+  void findCachesMissingMember() {
+    given(memberServiceClient.getMemberInfo(memberId)).willThrow(notFound());
+    MemberInfoCache cache = cache();
+
+    assertThat(cache.find(memberId)).isEmpty();
+    assertThat(cache.find(memberId)).isEmpty();
+
+    verify(memberServiceClient, times(1)).getMemberInfo(memberId);
+  }
+
+  @Test
+  void findDoesNotCacheFailure() {
+    given(memberServiceClient.getMemberInfo(memberId))
+        .willThrow(new IllegalStateException("member-service unavailable"))
+        .willReturn(member);
+    MemberInfoCache cache = cache();
+
+    assertThatThrownBy(() -> cache.find(memberId)).isInstanceOf(IllegalStateException.class);
+    assertThat(cache.find(memberId)).contains(member);
+  }
+
+  @Test
+  void evictReloadsMember() {
+    given(memberServiceClient.getMemberInfo(memberId)).willReturn(member);
+    MemberInfoCache cache = cache();
+
+    cache.find(memberId);
+    cache.evict(memberId);
+    cache.find(memberId);
+
+    verify(memberServiceClient, times(2)).getMemberInfo(memberId);
+  }
+
+  @Test
+  void findCoalescesConcurrentLookups() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    given(memberServiceClient.getMemberInfo(any(UUID.class)))
+        .willAnswer(
+            invocation -> {
+              started.countDown();
+              release.await(5, TimeUnit.SECONDS);
+              return member;
+            });
+    MemberInfoCache cache = cache();
+
+    try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+      Future<Optional<MemberInfo>> leader = executor.submit(() -> cache.find(memberId));
+      started.await(5, TimeUnit.SECONDS);
+      Future<Optional<MemberInfo>> follower = executor.submit(() -> cache.find(memberId));
+      while (requests("coalesced") < 1) {
+        Thread.onSpinWait();
+      }
+      release.countDown();
+
+      assertThat(leader.get(5, TimeUnit.SECONDS)).contains(member);
+      assertThat(follower.get(5, TimeUnit.SECONDS)).contains(member);
+    }
+    verify(memberServiceClient, times(1)).getMemberInfo(memberId);
+  }
+
+  private MemberInfoCache cache() {
+    return new MemberInfoCache(memberServiceClient, properties, meterRegistry);
+  }
+
+  private double requests(String result) {
+    return meterRegistry.get("member.cache.requests").tag("result", result).counter().count();
+  }
+
+  private static FeignException notFound() {
+    Request request =
+        Request.create(
+            Request.HttpMethod.GET, "/profile", Map.of(), null, StandardCharsets.UTF_8, null);
+    return new FeignException.NotFound("not found", request, null, Map.of());
+  }
+}
@@ -1,24 +1,55 @@
 package com.athenhub.hubservice.hub.infrastructure;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.athenhub.hubservice.hub.infrastructure.client.MemberServiceClient;
 import com.athenhub.hubservice.hub.infrastructure.dto.MemberInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 @ExtendWith(MockitoExtension.class)
 class PermissionCheckServiceTest {
 
+  private static final String SECRET = "test-gateway-secret";
+
   @Mock MemberServiceClient memberServiceClient;
 
-  @InjectMocks PermissionCheckService permissionCheckService;
+  MemberInfoCache memberInfoCache;
+
+  PermissionCheckService permissionCheckService;
+
+  @BeforeEach
+  void setUp() {
+    memberInfoCache =
+        new MemberInfoCache(
+            memberServiceClient, new MemberCacheProperties(), new SimpleMeterRegistry());
+    permissionCheckService =
+        new PermissionCheckService(
+            memberInfoCache, new RequesterClaimsResolver(new PermissionProperties()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
 
   @Test
   void ifActiveMasterManagerReturnTrue() {
@@ -53,6 +84,102 @@ class PermissionCheckServiceTest {
     assertThat(permissionCheckService.hasManagePermission(memberInfo.id())).isFalse();
   }
 
+  @Test
+  void localModeTrustsSignedClaims() {
+    UUID requestId = UUID.randomUUID();
+    bindRequest(signedRequest(requestId, "MASTER_MANAGER", "ACTIVATED", Instant.now()));
+
+    assertThat(localService().hasManagePermission(requestId)).isTrue();
+    verify(memberServiceClient, never()).getMemberInfo(any());
+  }
+
+  @Test
+  void localModeRejectsSignedInactiveClaims() {
+    UUID requestId = UUID.randomUUID();
+    bindRequest(signedRequest(requestId, "MASTER_MANAGER", "DEACTIVATED", Instant.now()));
+
+    assertThat(localService().hasManagePermission(requestId)).isFalse();
+    verify(memberServiceClient, never()).getMemberInfo(any());
+  }
+
+  @Test
+  void localModeFallsBackWhenSignatureIsInvalid() {
+    MemberInfo memberInfo =
+        createMemberInfo(
+            UUID.randomUUID(), MemberRole.HUB_MANAGER, MemberStatus.ACTIVATED, null, true);
+    MockHttpServletRequest request =
+        signedRequest(memberInfo.id(), "HUB_MANAGER", "ACTIVATED", Instant.now());
+    request.removeHeader(GatewayClaimsVerifier.HEADER_ROLES);
+    request.addHeader(GatewayClaimsVerifier.HEADER_ROLES, "MASTER_MANAGER");
+    bindRequest(request);
+    when(memberServiceClient.getMemberInfo(memberInfo.id())).thenReturn(memberInfo);
+
+    assertThat(localService().hasManagePermission(memberInfo.id())).isFalse();
+    verify(memberServiceClient).getMemberInfo(memberInfo.id());
+  }
+
+  @Test
+  void localModeFallsBackWhenClaimsAreStale() {
+    MemberInfo memberInfo =
+        createMemberInfo(
+            UUID.randomUUID(), MemberRole.MASTER_MANAGER, MemberStatus.ACTIVATED, null, true);
+    bindRequest(
+        signedRequest(
+            memberInfo.id(), "MASTER_MANAGER", "ACTIVATED", Instant.now().minusSeconds(60)));
+    when(memberServiceClient.getMemberInfo(memberInfo.id())).thenReturn(memberInfo);
+
+    assertThat(localService().hasManagePermission(memberInfo.id())).isTrue();
+    verify(memberServiceClient).getMemberInfo(memberInfo.id());
+  }
+
+  @Test
+  void localModeFallsBackForOtherMember() {
+    MemberInfo memberInfo =
+        createMemberInfo(
+            UUID.randomUUID(), MemberRole.HUB_MANAGER, MemberStatus.ACTIVATED, null, true);
+    bindRequest(signedRequest(UUID.randomUUID(), "MASTER_MANAGER", "ACTIVATED", Instant.now()));
+    when(memberServiceClient.getMemberInfo(memberInfo.id())).thenReturn(memberInfo);
+
+    assertThat(localService().hasManagePermission(memberInfo.id())).isFalse();
+    verify(memberServiceClient).getMemberInfo(memberInfo.id());
+  }
+
+  @Test
+  void localModeRequiresSecret() {
+    PermissionProperties properties = new PermissionProperties();
+    properties.setMode(PermissionProperties.Mode.LOCAL);
+
+    assertThatThrownBy(() -> new RequesterClaimsResolver(properties))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private PermissionCheckService localService() {
+    PermissionProperties properties = new PermissionProperties();
+    properties.setMode(PermissionProperties.Mode.LOCAL);
+    properties.setClaimSecret(SECRET);
+    return new PermissionCheckService(memberInfoCache, new RequesterClaimsResolver(properties));
+  }
+
+  private static MockHttpServletRequest signedRequest(
+      UUID userId, String roles, String status, Instant issuedAt) {
+    String issuedAtMillis = String.valueOf(issuedAt.toEpochMilli());
+    GatewayClaimsVerifier verifier =
+        new GatewayClaimsVerifier(SECRET, Duration.ofSeconds(30), Clock.systemUTC());
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(GatewayClaimsVerifier.HEADER_USER_ID, userId.toString());
+    request.addHeader(GatewayClaimsVerifier.HEADER_ROLES, roles);
+    request.addHeader(GatewayClaimsVerifier.HEADER_STATUS, status);
+    request.addHeader(GatewayClaimsVerifier.HEADER_ISSUED_AT, issuedAtMillis);
+    request.addHeader(
+        GatewayClaimsVerifier.HEADER_SIGNATURE,
+        verifier.signature(String.join("|", userId.toString(), roles, status, issuedAtMillis)));
+    return request;
+  }
+
+  private static void bindRequest(MockHttpServletRequest request) {
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+  }
+
   private static MemberInfo createMemberInfo(
       UUID memberId,
       MemberRole role,
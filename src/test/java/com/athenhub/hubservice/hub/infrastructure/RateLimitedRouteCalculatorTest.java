@@ -0,0 +1,70 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.athenhub.hubservice.hub.domain.dto.RouteQuery;
+import com.athenhub.hubservice.hub.domain.dto.RouteResponse;
+import com.athenhub.hubservice.hub.domain.vo.Coordinate;
+import com.athenhub.hubservice.hub.infrastructure.cache.RouteCacheEntryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class RateLimitedRouteCalculatorTest {
+
+  Coordinate seoul = Coordinate.of(37.5665, 126.9780);
+  Coordinate busan = Coordinate.of(35.1796, 129.0756);
+
+  @Test
+  void getRouteRespectsRateLimit() {
+    RateLimitedRouteCalculator calculator =
+        new RateLimitedRouteCalculator(
+            (source, target) -> new RouteResponse(1.0, 1), properties(20, 1));
+
+    long startedAt = System.nanoTime();
+    for (int i = 0; i < 11; i++) {
+      calculator.getRoute(seoul, busan);
+    }
+    long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+    // 첫 호출 이후 10건은 초당 20건 속도로 제한되므로 최소 약 500ms가 걸린다.
+    assertThat(elapsedMillis).isGreaterThanOrEqualTo(450);
+  }
+
+  @Test
+  void cachedRoutesAreNotRateLimited() {
+    RouteCacheEntryRepository repository = mock(RouteCacheEntryRepository.class);
+    given(repository.findById(anyString())).willReturn(Optional.empty());
+    CachingRouteCalculator caching =
+        new CachingRouteCalculator(
+            new RateLimitedRouteCalculator(
+                (source, target) -> new RouteResponse(325.0, 240), properties(1, 1)),
+            repository,
+            new RouteCacheProperties(),
+            new SimpleMeterRegistry());
+    ConcurrentRouteCalculator calculator =
+        new ConcurrentRouteCalculator(caching, properties(1, 1));
+    List<RouteQuery> queries =
+        IntStream.range(0, 100).mapToObj(i -> RouteQuery.of(seoul, busan)).toList();
+
+    long startedAt = System.nanoTime();
+    calculator.getRoutes(queries);
+    long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+    // 첫 조회만 외부 API를 호출하고 나머지 99건은 캐시에서 응답하므로 토큰을 기다리지 않는다.
+    assertThat(elapsedMillis).isLessThan(900);
+  }
+
+  private RouteComputationProperties properties(double permitsPerSecond, int burst) {
+    RouteComputationProperties properties = new RouteComputationProperties();
+    properties.setMaxInFlight(1);
+    properties.setPermitsPerSecond(permitsPerSecond);
+    properties.setBurst(burst);
+    return properties;
+  }
+}
@@ -0,0 +1,106 @@
+package com.athenhub.hubservice.hub.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.athenhub.hubservice.hub.infrastructure.dto.MemberInfo;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class RequestScopedMemberInfoLoaderTest {
+
+  UUID memberId = UUID.randomUUID();
+  MemberInfo member =
+      new MemberInfo(
+          memberId,
+          "테스트 회원",
+          "testMember",
+          "testSlackId",
+          MemberRole.HUB_MANAGER,
+          MemberStatus.ACTIVATED,
+          "서울 물류",
+          "HUB",
+          true);
+
+  MemberInfoLoader delegate;
+  RequestScopedMemberInfoLoader loader;
+
+  @BeforeEach
+  void setUp() {
+    delegate = mock(MemberInfoLoader.class);
+    given(delegate.find(memberId)).willReturn(Optional.of(member));
+    loader = new RequestScopedMemberInfoLoader(delegate);
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void findFetchesOncePerRequest() {
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+
+    assertThat(loader.find(memberId)).contains(member);
+    assertThat(loader.find(memberId)).contains(member);
+
+    verify(delegate, times(1)).find(memberId);
+  }
+
+  @Test
+  void findFetchesAgainInNextRequest() {
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+    loader.find(memberId);
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+    loader.find(memberId);
+
+    verify(delegate, times(2)).find(memberId);
+  }
+
+  @Test
+  void findFetchesOncePerTransaction() {
+    TransactionSynchronizationManager.initSynchronization();
+    loader.find(memberId);
+    loader.find(memberId);
+    completeTransaction();
+
+    TransactionSynchronizationManager.initSynchronization();
+    loader.find(memberId);
+    completeTransaction();
+
+    verify(delegate, times(2)).find(memberId);
+  }
+
+  @Test
+  void findDelegatesOutsideRequestAndTransaction() {
+    loader.find(memberId);
+    loader.find(memberId);
+
+    verify(delegate, times(2)).find(memberId);
+  }
+
+  private static void completeTransaction() {
+    TransactionSynchronizationUtils.invokeAfterCompletion(
+        TransactionSynchronizationManager.getSynchronizations(),
+        TransactionSynchronization.STATUS_COMMITTED);
+    TransactionSynchronizationManager.clearSynchronization();
+  }
+}
@@ -0,0 +1,63 @@
+package com.athenhub.hubservice.hub.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.athenhub.hubservice.hub.application.service.HubMessagePublisher;
+import com.athenhub.hubservice.hub.domain.event.HubDeleted;
+import com.athenhub.hubservice.hub.domain.event.HubRouteDelta;
+import com.athenhub.hubservice.hub.domain.event.HubRouteUpdated;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = "rabbit.hub.route-delta-chunk-size=2")
+@Transactional
+class HubOutboxPublisherTest {
+
+  private final HubMessagePublisher hubMessagePublisher;
+  private final HubOutboxMessageRepository hubOutboxMessageRepository;
+
+  HubOutboxPublisherTest(
+      HubMessagePublisher hubMessagePublisher,
+      HubOutboxMessageRepository hubOutboxMessageRepository) {
+    this.hubMessagePublisher = hubMessagePublisher;
+    this.hubOutboxMessageRepository = hubOutboxMessageRepository;
+  }
+
+  @Test
+  void publishAppendsMessagesInOrder() {
+    UUID hubId = UUID.randomUUID();
+    hubMessagePublisher.publish(new HubDeleted(hubId, UUID.randomUUID(), "tester"));
+    hubMessagePublisher.publish(
+        HubRouteUpdated.of(hubId, 3, List.of(delta(), delta(), delta()), List.of()));
+
+    List<HubOutboxMessage> messages = hubOutboxMessageRepository.findBatchForUpdate(Limit.of(10));
+
+    assertThat(messages)
+        .extracting(HubOutboxMessage::getRoutingKey)
+        .containsExactly("deleted", "routeUpdated", "routeUpdated");
+    assertThat(messages.getFirst().getTypeId()).isEqualTo(HubDeleted.class.getName());
+    assertThat(messages.getFirst().getPayload()).contains(hubId.toString());
+    assertThat(messages.get(2).getTypeId()).isEqualTo(HubRouteUpdated.class.getName());
+    assertThat(messages.get(2).getPayload()).contains("\"chunk\":1", "\"chunkCount\":2");
+  }
+
+  @Test
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  void publishRequiresTransaction() {
+    HubDeleted event = new HubDeleted(UUID.randomUUID(), UUID.randomUUID(), "tester");
+
+    assertThatThrownBy(() -> hubMessagePublisher.publish(event))
+        .isInstanceOf(IllegalTransactionStateException.class);
+  }
+
+  private HubRouteDelta delta() {
+    return new HubRouteDelta(UUID.randomUUID(), UUID.randomUUID(), 10.0, 15, false);
+  }
+}
@@ -0,0 +1,164 @@
+package com.athenhub.hubservice.hub.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.athenhub.hubservice.global.infrastructure.message.RabbitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+class HubOutboxRelayTest {
+
+  HubOutboxMessageRepository repository;
+  HubOutboxRelayLockRepository lockRepository;
+  RabbitTemplate rabbitTemplate;
+  RabbitOperations operations;
+  PlatformTransactionManager transactionManager;
+  SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(HubOutboxMessageRepository.class);
+    lockRepository = mock(HubOutboxRelayLockRepository.class);
+    given(lockRepository.tryLock(HubOutboxRelayLock.SINGLETON_ID))
+        .willReturn(Optional.of(mock(HubOutboxRelayLock.class)));
+    rabbitTemplate = mock(RabbitTemplate.class);
+    operations = mock(RabbitOperations.class);
+    given(rabbitTemplate.invoke(any()))
+        .willAnswer(
+            invocation ->
+                invocation
+                    .<RabbitOperations.OperationsCallback<?>>getArgument(0)
+                    .doInRabbit(operations));
+    transactionManager = mock(PlatformTransactionManager.class);
+    given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  void relayPublishesBatchInOrderAndDeletesIt() {
+    HubOutboxMessage registered = message("registered", LocalDateTime.now().minusSeconds(10));
+    HubOutboxMessage routeUpdated = message("routeUpdated", LocalDateTime.now());
+    given(repository.findBatchForUpdate(any(Limit.class)))
+        .willReturn(List.of(registered, routeUpdated));
+
+    relay(3).relay();
+
+    ArgumentCaptor<Message> sent = ArgumentCaptor.forClass(Message.class);
+    InOrder inOrder = inOrder(operations, repository);
+    inOrder.verify(operations).send(eq("hub.exchange"), eq("registered"), sent.capture());
+    inOrder.verify(operations).send(eq("hub.exchange"), eq("routeUpdated"), sent.capture());
+    inOrder.verify(operations).waitForConfirmsOrDie(5000);
+    inOrder.verify(repository).deleteAllByIdIn(anyCollection());
+    assertThat(new String(sent.getValue().getBody(), StandardCharsets.UTF_8))
+        .isEqualTo("{\"hubId\":\"routeUpdated\"}");
+    assertThat(
+            sent.getValue()
+                .getMessageProperties()
+                .<String>getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME))
+        .isEqualTo("com.athenhub.Event");
+    assertThat(meterRegistry.get("hub.outbox.relay.published").counter().count()).isEqualTo(2);
+    assertThat(meterRegistry.get("hub.outbox.relay.delay").timer().count()).isEqualTo(2);
+    assertThat(
+            meterRegistry
+                .get("hub.outbox.relay.oldest.age")
+                .timeGauge()
+                .value(TimeUnit.SECONDS))
+        .isGreaterThanOrEqualTo(10);
+  }
+
+  @Test
+  void relayDrainsFullBatches() {
+    given(repository.findBatchForUpdate(any(Limit.class)))
+        .willReturn(List.of(message("updated", LocalDateTime.now())))
+        .willReturn(List.of(message("deleted", LocalDateTime.now())))
+        .willReturn(List.of());
+
+    relay(1).relay();
+
+    verify(repository, times(3)).findBatchForUpdate(any(Limit.class));
+    verify(operations, times(2)).send(anyString(), anyString(), any(Message.class));
+    verify(operations, times(2)).waitForConfirmsOrDie(anyLong());
+    assertThat(meterRegistry.get("hub.outbox.relay.published").counter().count()).isEqualTo(2);
+    assertThat(
+            meterRegistry
+                .get("hub.outbox.relay.oldest.age")
+                .timeGauge()
+                .value(TimeUnit.SECONDS))
+        .isZero();
+  }
+
+  @Test
+  void relayKeepsMessagesWhenConfirmFails() {
+    given(repository.findBatchForUpdate(any(Limit.class)))
+        .willReturn(List.of(message("registered", LocalDateTime.now())));
+    willThrow(new AmqpTimeoutException("confirm timeout"))
+        .given(operations)
+        .waitForConfirmsOrDie(anyLong());
+
+    relay(10).relay();
+
+    verify(repository, never()).deleteAllByIdIn(anyCollection());
+    verify(transactionManager).rollback(any());
+    assertThat(meterRegistry.get("hub.outbox.relay.failures").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("hub.outbox.relay.published").counter().count()).isZero();
+  }
+
+  @Test
+  void relaySkipsWhenAnotherInstanceHoldsLock() {
+    given(lockRepository.tryLock(HubOutboxRelayLock.SINGLETON_ID)).willReturn(Optional.empty());
+
+    relay(10).relay();
+
+    verify(repository, never()).findBatchForUpdate(any(Limit.class));
+    verify(rabbitTemplate, never()).invoke(any());
+    assertThat(meterRegistry.get("hub.outbox.relay.failures").counter().count()).isZero();
+  }
+
+  private HubOutboxMessage message(String routingKey, LocalDateTime createdAt) {
+    return HubOutboxMessage.of(
+        routingKey, "com.athenhub.Event", "{\"hubId\":\"" + routingKey + "\"}", createdAt);
+  }
+
+  private HubOutboxRelay relay(int batchSize) {
+    RabbitProperties rabbitProperties = new RabbitProperties();
+    rabbitProperties.setExchange("hub.exchange");
+    HubOutboxProperties properties = new HubOutboxProperties();
+    properties.setBatchSize(batchSize);
+    return new HubOutboxRelay(
+        repository,
+        lockRepository,
+        rabbitTemplate,
+        rabbitProperties,
+        properties,
+        transactionManager,
+        meterRegistry);
+  }
+}
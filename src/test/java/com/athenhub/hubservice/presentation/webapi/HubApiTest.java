@@ -1,11 +1,15 @@
 package com.athenhub.hubservice.presentation.webapi;
 
 import static com.athenhub.hubservice.AssertThatUtils.isEqualTo;
+import static com.athenhub.hubservice.AssertThatUtils.isNull;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
 
 import com.athenhub.hubservice.MockUser;
 import com.athenhub.hubservice.hub.HubFixture;
@@ -13,7 +17,10 @@ import com.athenhub.hubservice.hub.application.service.HubFinder;
 import com.athenhub.hubservice.hub.application.service.HubManager;
 import com.athenhub.hubservice.hub.application.service.HubRegister;
 import com.athenhub.hubservice.hub.domain.Hub;
+import com.athenhub.hubservice.hub.domain.dto.HubCursorOrder;
+import com.athenhub.hubservice.hub.domain.dto.HubCursorPage;
 import com.athenhub.hubservice.hub.domain.dto.HubRegisterRequest;
+import com.athenhub.hubservice.hub.domain.dto.HubSummary;
 import com.athenhub.hubservice.hub.domain.dto.HubUpdateRequest;
 import com.athenhub.hubservice.hub.domain.service.MemberExistenceChecker;
 import com.athenhub.hubservice.hub.domain.service.PermissionChecker;
@@ -21,12 +28,15 @@ import com.athenhub.hubservice.hub.domain.vo.HubManagerInfo;
 import com.athenhub.hubservice.hub.webapi.dto.HubManagerChangeRequest;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -105,7 +115,7 @@ class HubApiTest {
   @MockUser(roles = "MASTER_MANAGER")
   void find() {
     Hub hub = HubFixture.create(permissionChecker, memberExistenceChecker);
-    given(hubFinder.find(any())).willReturn(hub);
+    given(hubFinder.findSummary(any())).willReturn(HubSummary.from(hub));
 
     MvcTestResult result =
         mvcTester.get().uri("/v1/hubs/{hubId}", hub.getId().toString()).exchange();
@@ -116,6 +126,126 @@ class HubApiTest {
         .hasPathSatisfying("$.hubId", isEqualTo(hub.getId().toString()));
   }
 
+  @Test
+  @MockUser(roles = "HUB_MANAGER")
+  void searchWithManager() {
+    Hub managed = HubFixture.create(permissionChecker, memberExistenceChecker);
+    Hub unmanaged = HubFixture.create(permissionChecker, memberExistenceChecker);
+    HubManagerInfo manager = HubFixture.getManager(managed.getManagerId());
+    given(hubFinder.searchSummaries(any(), any()))
+        .willReturn(
+            new PageImpl<>(
+                List.of(
+                    HubSummary.from(managed),
+                    HubSummary.from(managed),
+                    HubSummary.from(unmanaged))));
+    given(hubFinder.findManagers(any()))
+        .willReturn(Map.of(managed.getManagerId().toUuid(), manager));
+
+    MvcTestResult result =
+        mvcTester.get().uri("/v1/hubs").param("includeManager", "true").exchange();
+
+    assertThat(result)
+        .hasStatusOk()
+        .bodyJson()
+        .hasPathSatisfying("$.content[0].hubId", isEqualTo(managed.getId().toString()))
+        .hasPathSatisfying("$.content[0].manager.id", isEqualTo(manager.id().toString()))
+        .hasPathSatisfying("$.content[0].manager.name", isEqualTo(manager.name()))
+        .hasPathSatisfying("$.content[2].manager", isNull());
+    verify(hubFinder)
+        .findManagers(
+            List.of(managed.getManagerId().toUuid(), unmanaged.getManagerId().toUuid()));
+  }
+
+  @Test
+  @MockUser(roles = "HUB_MANAGER")
+  void searchByCursor() {
+    Hub hub = HubFixture.create(permissionChecker, memberExistenceChecker);
+    given(hubFinder.searchByCursor(any(), any(), any(), anyInt()))
+        .willReturn(new HubCursorPage(List.of(HubSummary.from(hub)), "next"));
+
+    MvcTestResult result = mvcTester.get().uri("/v1/hubs").param("cursor", "").exchange();
+
+    assertThat(result)
+        .hasStatusOk()
+        .bodyJson()
+        .hasPathSatisfying("$.content[0].hubId", isEqualTo(hub.getId().toString()))
+        .hasPathSatisfying("$.nextCursor", isEqualTo("next"));
+    verify(hubFinder).searchByCursor(any(), eq(HubCursorOrder.NAME), eq(""), eq(20));
+  }
+
+  @Test
+  @MockUser(roles = "HUB_MANAGER")
+  void searchByCursorWithManager() {
+    Hub managed = HubFixture.create(permissionChecker, memberExistenceChecker);
+    Hub unmanaged = HubFixture.create(permissionChecker, memberExistenceChecker);
+    HubManagerInfo manager = HubFixture.getManager(managed.getManagerId());
+    given(hubFinder.searchByCursor(any(), any(), any(), anyInt()))
+        .willReturn(
+            new HubCursorPage(
+                List.of(
+                    HubSummary.from(managed),
+                    HubSummary.from(managed),
+                    HubSummary.from(unmanaged)),
+                "next"));
+    given(hubFinder.findManagers(any()))
+        .willReturn(Map.of(managed.getManagerId().toUuid(), manager));
+
+    MvcTestResult result =
+        mvcTester
+            .get()
+            .uri("/v1/hubs")
+            .param("cursor", "")
+            .param("includeManager", "true")
+            .exchange();
+
+    assertThat(result)
+        .hasStatusOk()
+        .bodyJson()
+        .hasPathSatisfying("$.content[0].hubId", isEqualTo(managed.getId().toString()))
+        .hasPathSatisfying("$.content[0].manager.id", isEqualTo(manager.id().toString()))
+        .hasPathSatisfying("$.content[2].manager", isNull())
+        .hasPathSatisfying("$.nextCursor", isEqualTo("next"));
+    verify(hubFinder).searchByCursor(any(), eq(HubCursorOrder.NAME), eq(""), eq(20));
+    verify(hubFinder)
+        .findManagers(
+            List.of(managed.getManagerId().toUuid(), unmanaged.getManagerId().toUuid()));
+  }
+
+  @Test
+  @MockUser(roles = "HUB_MANAGER")
+  void searchByCursorWithLowerCaseOrder() {
+    given(hubFinder.searchByCursor(any(), any(), any(), anyInt()))
+        .willReturn(new HubCursorPage(List.of(), null));
+
+    MvcTestResult result =
+        mvcTester
+            .get()
+            .uri("/v1/hubs")
+            .param("cursor", "")
+            .param("order", "created_at")
+            .exchange();
+
+    assertThat(result).hasStatusOk();
+    verify(hubFinder).searchByCursor(any(), eq(HubCursorOrder.CREATED_AT), eq(""), eq(20));
+  }
+
+  @Test
+  @MockUser(roles = "VENDOR_AGENT")
+  void suggest() {
+    Hub hub = HubFixture.create(permissionChecker, memberExistenceChecker);
+    given(hubFinder.suggest(eq("서울"), anyInt())).willReturn(List.of(HubSummary.from(hub)));
+
+    MvcTestResult result =
+        mvcTester.get().uri("/v1/hubs/suggest").param("prefix", "서울").exchange();
+
+    assertThat(result)
+        .hasStatusOk()
+        .bodyJson()
+        .hasPathSatisfying("$[0].hubId", isEqualTo(hub.getId().toString()))
+        .hasPathSatisfying("$[0].name", isEqualTo(hub.getName()));
+  }
+
   @Test
   @MockUser(roles = "MASTER_MANAGER")
   void update() throws JsonProcessingException {
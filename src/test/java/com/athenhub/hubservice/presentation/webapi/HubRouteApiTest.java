@@ -3,22 +3,48 @@ package com.athenhub.hubservice.presentation.webapi;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 
 import com.athenhub.hubservice.MockUser;
-import com.athenhub.hubservice.hub.application.service.HubRouteService;
+import com.athenhub.hubservice.hub.application.service.HubRouteChangeLog;
+import com.athenhub.hubservice.hub.application.service.HubRouteGraphRefreshed;
+import com.athenhub.hubservice.hub.application.service.HubRouteGraphService;
 import com.athenhub.hubservice.hub.domain.HubRoute;
+import com.athenhub.hubservice.hub.domain.dto.HubRouteChangeSummary;
+import com.athenhub.hubservice.hub.domain.dto.HubRouteChanges;
+import com.athenhub.hubservice.hub.domain.dto.HubRouteSummary;
+import com.athenhub.hubservice.hub.domain.graph.HubRouteEdge;
+import com.athenhub.hubservice.hub.domain.graph.HubRouteGraph;
+import com.athenhub.hubservice.hub.domain.graph.HubRouteMatrix;
+import com.athenhub.hubservice.hub.domain.service.HubRouteStreamReader;
 import com.athenhub.hubservice.hub.domain.vo.HubId;
+import com.athenhub.hubservice.hub.domain.vo.HubRouteChangeType;
+import com.athenhub.hubservice.hub.webapi.HubRouteMatrixCache;
+import com.athenhub.hubservice.hub.webapi.dto.HubRouteChangesResponse;
+import com.athenhub.hubservice.hub.webapi.dto.HubRouteMatrixBinary;
+import com.athenhub.hubservice.hub.webapi.dto.HubRouteMatrixResponse;
 import com.athenhub.hubservice.hub.webapi.dto.HubRouteResponse;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.assertj.MockMvcTester;
 import org.springframework.test.web.servlet.assertj.MvcTestResult;
@@ -29,10 +55,18 @@ class HubRouteApiTest {
 
   @Autowired MockMvcTester mvcTester;
 
-  @MockitoBean HubRouteService hubRouteService;
+  @MockitoBean HubRouteGraphService hubRouteGraphService;
+
+  @MockitoBean HubRouteStreamReader hubRouteStreamReader;
+
+  @MockitoBean HubRouteChangeLog hubRouteChangeLog;
 
   @Autowired ObjectMapper objectMapper;
 
+  @Autowired ApplicationEventPublisher eventPublisher;
+
+  @Autowired HubRouteMatrixCache hubRouteMatrixCache;
+
   @Test
   @MockUser(roles = "MASTER_MANAGER")
   void findAll() throws JsonProcessingException, UnsupportedEncodingException {
@@ -42,7 +76,8 @@ class HubRouteApiTest {
     HubRoute route3 = HubRoute.create(sourceId, HubId.of(UUID.randomUUID()), 60.2, 60);
 
     List<HubRoute> routes = List.of(route, route2, route3);
-    given(hubRouteService.findAllSourceBy(any(UUID.class))).willReturn(routes);
+    given(hubRouteGraphService.findAllSourceBy(any(UUID.class)))
+        .willReturn(routes.stream().map(HubRouteEdge::from).toList());
 
     MvcTestResult result =
         mvcTester.get().uri("/v1/hubs/{hubId}/routes", sourceId.toString()).exchange();
@@ -56,4 +91,237 @@ class HubRouteApiTest {
 
     assertThat(actualResponses).containsExactlyInAnyOrderElementsOf(expectedResponses);
   }
+
+  @Test
+  @MockUser(roles = "HUB_MANAGER")
+  void findMatrixAsJson() throws JsonProcessingException, UnsupportedEncodingException {
+    HubId seoul = HubId.of(UUID.randomUUID());
+    HubId busan = HubId.of(UUID.randomUUID());
+    given(hubRouteGraphService.getMatrix())
+        .willReturn(
+            HubRouteGraph.from(List.of(HubRoute.create(seoul, busan, 325.5, 240))).toMatrix());
+
+    MvcTestResult result = mvcTester.get().uri("/v1/routes/matrix").exchange();
+
+    assertThat(result).hasStatusOk().hasContentType(MediaType.APPLICATION_JSON);
+    HubRouteMatrixResponse response =
+        objectMapper.readValue(
+            result.getResponse().getContentAsString(), HubRouteMatrixResponse.class);
+    assertThat(response.hubIds()).containsExactly(seoul.toUuid(), busan.toUuid());
+    assertThat(response.distanceKm()).containsExactly(0f, 325.5f, -1f, 0f);
+    assertThat(response.durationMinutes()).containsExactly(0, 240, -1, 0);
+  }
+
+  @Test
+  @MockUser(roles = "HUB_MANAGER")
+  void findMatrixAsBinary() {
+    HubId seoul = HubId.of(UUID.randomUUID());
+    HubId busan = HubId.of(UUID.randomUUID());
+    given(hubRouteGraphService.getMatrix())
+        .willReturn(
+            HubRouteGraph.from(List.of(HubRoute.create(seoul, busan, 325.5, 240))).toMatrix());
+
+    MvcTestResult result =
+        mvcTester.get().uri("/v1/routes/matrix").accept(HubRouteMatrixBinary.MEDIA_TYPE).exchange();
+
+    assertThat(result).hasStatusOk().hasContentType(HubRouteMatrixBinary.MEDIA_TYPE);
+    ByteBuffer body =
+        ByteBuffer.wrap(result.getResponse().getContentAsByteArray())
+            .order(ByteOrder.LITTLE_ENDIAN);
+    assertThat(body.getInt()).isEqualTo(HubRouteMatrixBinary.VERSION);
+    assertThat(body.getInt()).isEqualTo(2);
+    assertThat(new UUID(body.getLong(), body.getLong())).isEqualTo(seoul.toUuid());
+    assertThat(new UUID(body.getLong(), body.getLong())).isEqualTo(busan.toUuid());
+    assertThat(new float[] {body.getFloat(), body.getFloat(), body.getFloat(), body.getFloat()})
+        .containsExactly(0f, 325.5f, -1f, 0f);
+    assertThat(new int[] {body.getInt(), body.getInt(), body.getInt(), body.getInt()})
+        .containsExactly(0, 240, -1, 0);
+    assertThat(body.hasRemaining()).isFalse();
+  }
+
+  @Test
+  void matrixCacheReusesResponseUntilMatrixChanges() {
+    HubId seoul = HubId.of(UUID.randomUUID());
+    HubId busan = HubId.of(UUID.randomUUID());
+    HubRouteGraph graph = HubRouteGraph.from(List.of(HubRoute.create(seoul, busan, 325.5, 240)));
+    HubRouteMatrix matrix = graph.toMatrix();
+    given(hubRouteGraphService.getMatrix()).willReturn(matrix);
+
+    HubRouteMatrixCache.Payload first = hubRouteMatrixCache.get();
+
+    assertThat(hubRouteMatrixCache.get()).isSameAs(first);
+    assertThat(hubRouteMatrixCache.binaryOf(first.response())).isSameAs(first.binary());
+
+    HubRouteMatrix refreshed = graph.toMatrix();
+    given(hubRouteGraphService.getMatrix()).willReturn(refreshed);
+    eventPublisher.publishEvent(new HubRouteGraphRefreshed(graph, refreshed));
+
+    HubRouteMatrixCache.Payload second = hubRouteMatrixCache.get();
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.matrix()).isSameAs(refreshed);
+  }
+
+  @Test
+  @MockUser(roles = "SHIPPING_AGENT")
+  void streamAll() throws JsonProcessingException, UnsupportedEncodingException {
+    UUID sourceId = UUID.randomUUID();
+    List<HubRouteSummary> routes =
+        List.of(
+            new HubRouteSummary(sourceId, UUID.randomUUID(), 36.2, 35, false),
+            new HubRouteSummary(sourceId, UUID.randomUUID(), 412.0, 330, true));
+    willAnswer(
+            invocation -> {
+              Consumer<HubRouteSummary> consumer = invocation.getArgument(0);
+              routes.forEach(consumer);
+              return null;
+            })
+        .given(hubRouteStreamReader)
+        .readAllActive(any());
+
+    MvcTestResult result = mvcTester.get().uri("/v1/routes").param("stream", "true").exchange();
+
+    assertThat(result).hasStatusOk().hasContentType(MediaType.APPLICATION_JSON);
+    assertThat(result.getRequest().getAsyncContext().getTimeout())
+        .isEqualTo(Duration.ofMinutes(10).toMillis());
+    List<HubRouteResponse> actualResponses =
+        objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {});
+    assertThat(actualResponses)
+        .containsExactlyElementsOf(routes.stream().map(HubRouteResponse::from).toList());
+  }
+
+  @Test
+  @MockUser(roles = "SHIPPING_AGENT")
+  void streamAllUsesGraphDistancePrecision()
+      throws JsonProcessingException, UnsupportedEncodingException {
+    HubId sourceId = HubId.of(UUID.randomUUID());
+    HubId targetId = HubId.of(UUID.randomUUID());
+    HubRouteSummary route =
+        new HubRouteSummary(sourceId.toUuid(), targetId.toUuid(), 123.456789, 90, false);
+    willAnswer(
+            invocation -> {
+              Consumer<HubRouteSummary> consumer = invocation.getArgument(0);
+              consumer.accept(route);
+              return null;
+            })
+        .given(hubRouteStreamReader)
+        .readAllActive(any());
+
+    MvcTestResult result = mvcTester.get().uri("/v1/routes").param("stream", "true").exchange();
+
+    List<HubRouteResponse> actualResponses =
+        objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {});
+    HubRouteEdge graphEdge =
+        HubRouteGraph.from(List.of(HubRoute.create(sourceId, targetId, 123.456789, 90)))
+            .edges()
+            .getFirst();
+    assertThat(actualResponses)
+        .singleElement()
+        .satisfies(
+            response -> {
+              assertThat(response.distanceKm()).isEqualTo(123.457);
+              assertThat(response.distanceKm()).isEqualTo(graphEdge.distanceKm());
+            });
+  }
+
+  @Test
+  @MockUser(roles = "VENDOR_AGENT")
+  void findChanges() throws JsonProcessingException, UnsupportedEncodingException {
+    HubRouteChangeSummary change =
+        new HubRouteChangeSummary(
+            UUID.randomUUID(), UUID.randomUUID(), 36.2, 35, false, HubRouteChangeType.DELETE);
+    given(hubRouteChangeLog.findSince(41))
+        .willReturn(new HubRouteChanges(42, false, List.of(change)));
+
+    MvcTestResult result =
+        mvcTester.get().uri("/v1/routes/changes").param("since", "41").exchange();
+
+    assertThat(result).hasStatusOk();
+    HubRouteChangesResponse response =
+        objectMapper.readValue(
+            result.getResponse().getContentAsString(), HubRouteChangesResponse.class);
+    assertThat(response.version()).isEqualTo(42);
+    assertThat(response.snapshot()).isFalse();
+    assertThat(response.changes())
+        .singleElement()
+        .satisfies(
+            actual -> {
+              assertThat(actual.sourceHubId()).isEqualTo(change.sourceHubId());
+              assertThat(actual.type()).isEqualTo(HubRouteChangeType.DELETE);
+            });
+  }
+
+  @Test
+  @MockUser(roles = "HUB_MANAGER")
+  void findAllServesPrecomputedPayloadWithEtag() throws IOException {
+    List<HubRoute> routes = publishRoutes();
+
+    MvcTestResult result = mvcTester.get().uri("/v1/routes").exchange();
+
+    assertThat(result).hasStatusOk();
+    assertThat(result.getResponse().getHeaders(HttpHeaders.VARY))
+        .anySatisfy(vary -> assertThat(vary).contains(HttpHeaders.ACCEPT_ENCODING));
+    String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+    assertThat(etag).startsWith("\"").doesNotStartWith("W/");
+    List<HubRouteResponse> actualResponses =
+        objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {});
+    assertThat(actualResponses)
+        .containsExactlyInAnyOrderElementsOf(routes.stream().map(HubRouteResponse::from).toList());
+
+    MvcTestResult revalidated =
+        mvcTester.get().uri("/v1/routes").header(HttpHeaders.IF_NONE_MATCH, etag).exchange();
+
+    assertThat(revalidated).hasStatus(HttpStatus.NOT_MODIFIED);
+    assertThat(revalidated.getResponse().getContentAsByteArray()).isEmpty();
+  }
+
+  @Test
+  @MockUser(roles = "HUB_MANAGER")
+  void findAllServesGzipPayload() throws IOException {
+    List<HubRoute> routes = publishRoutes();
+
+    MvcTestResult result =
+        mvcTester
+            .get()
+            .uri("/v1/routes")
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+            .exchange();
+
+    assertThat(result).hasStatusOk();
+    assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).endsWith("-gzip\"");
+    byte[] compressed = result.getResponse().getContentAsByteArray();
+    try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+      List<HubRouteResponse> actualResponses =
+          objectMapper.readValue(body, new TypeReference<>() {});
+      assertThat(actualResponses)
+          .containsExactlyInAnyOrderElementsOf(
+              routes.stream().map(HubRouteResponse::from).toList());
+    }
+  }
+
+  @Test
+  @MockUser(roles = "HUB_MANAGER")
+  void findAllChangesEtagWhenRoutesChange() {
+    publishRoutes();
+    String before =
+        mvcTester.get().uri("/v1/routes").exchange().getResponse().getHeader(HttpHeaders.ETAG);
+
+    publishRoutes();
+    MvcTestResult result =
+        mvcTester.get().uri("/v1/routes").header(HttpHeaders.IF_NONE_MATCH, before).exchange();
+
+    assertThat(result).hasStatusOk();
+    assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(before);
+  }
+
+  private List<HubRoute> publishRoutes() {
+    HubId sourceId = HubId.of(UUID.randomUUID());
+    List<HubRoute> routes =
+        List.of(
+            HubRoute.create(sourceId, HubId.of(UUID.randomUUID()), 36.2, 35),
+            HubRoute.create(sourceId, HubId.of(UUID.randomUUID()), 32.2, 30));
+    HubRouteGraph graph = HubRouteGraph.from(routes);
+    eventPublisher.publishEvent(new HubRouteGraphRefreshed(graph, graph.toMatrix()));
+    return routes;
+  }
 }